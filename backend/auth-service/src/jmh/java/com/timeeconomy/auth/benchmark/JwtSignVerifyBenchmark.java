@@ -0,0 +1,60 @@
+package com.timeeconomy.auth.benchmark;
+
+import com.timeeconomy.auth.adapter.out.token.JwtSigningKeys;
+import com.timeeconomy.auth.adapter.out.token.JwtTokenAdapter;
+import com.timeeconomy.auth.config.JwtEs256Properties;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * access token 서명(auth-service) vs 검증(gateway / downstream) 비용 비교.
+ *
+ * HS256 은 서명/검증 모두 HMAC 1회, ES256 은 서명이 검증보다 싸고 둘 다 HS256 보다 비싸다.
+ * 검증은 요청마다, 서명은 login / refresh 때만 일어나므로 검증 쪽 수치가 중요하다.
+ *
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+public class JwtSignVerifyBenchmark {
+
+    private static final String ISSUER = "timeeconomy-auth";
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    @Param({"HS256", "ES256"})
+    public String alg;
+
+    private JwtTokenAdapter tokenAdapter;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        // ES256: jwt.es256.keys 미설정 → ephemeral key (운영 경로와 동일한 서명 코드)
+        JwtSigningKeys keys = JwtSigningKeys.load(alg, SECRET, new JwtEs256Properties(null, List.of(), true));
+        tokenAdapter = new JwtTokenAdapter(keys, 900, ISSUER);
+
+        var parserBuilder = Jwts.parser().requireIssuer(ISSUER);
+        parser = (keys.alg() == JwtSigningKeys.Alg.ES256)
+                ? parserBuilder.verifyWith(keys.publicKeys().get(keys.activeKid())).build()
+                : parserBuilder.verifyWith(keys.hmacKey()).build();
+
+        token = tokenAdapter.generateAccessToken(42L);
+    }
+
+    @Benchmark
+    public String sign() {
+        return tokenAdapter.generateAccessToken(42L);
+    }
+
+    @Benchmark
+    public Object verify() {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+}
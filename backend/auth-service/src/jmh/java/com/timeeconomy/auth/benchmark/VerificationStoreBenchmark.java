@@ -0,0 +1,134 @@
+package com.timeeconomy.auth.benchmark;
+
+import com.timeeconomy.auth.adapter.out.inmemory.InMemorySignupSessionAdapter;
+import com.timeeconomy.auth.adapter.out.inmemory.InMemoryVerificationChallengeAdapter;
+import com.timeeconomy.auth.adapter.out.inmemory.TimerWheel;
+import com.timeeconomy.auth.adapter.out.redis.signupsession.RedisSignupSessionAdapter;
+import com.timeeconomy.auth.adapter.out.redis.verification.RedisVerificationChallengeAdapter;
+import com.timeeconomy.auth.domain.signupsession.model.SignupSession;
+import com.timeeconomy.auth.domain.signupsession.port.out.SignupSessionStorePort;
+import com.timeeconomy.auth.domain.verification.model.VerificationAttemptResult;
+import com.timeeconomy.auth.domain.verification.model.VerificationChallenge;
+import com.timeeconomy.auth.domain.verification.model.VerificationChannel;
+import com.timeeconomy.auth.domain.verification.model.VerificationPurpose;
+import com.timeeconomy.auth.domain.verification.model.VerificationSubjectType;
+import com.timeeconomy.auth.domain.verification.port.out.VerificationChallengeRepositoryPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * verification challenge / signup session 저장소: in-memory-store profile vs Redis (localhost:6379).
+ *
+ * 같은 challenge / session 을 계속 덮어쓰므로 (OTP 재전송, session 단계 저장과 같은 경로) 크기는 일정.
+ * redis 쪽은 round-trip 이 대부분이라 수치 차이 = 로컬 Redis 왕복 비용.
+ *
+ * docker compose -f infra/docker-compose.yml up -d redis
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+public class VerificationStoreBenchmark {
+
+    private static final String DESTINATION = "bench@example.com";
+    private static final String CODE_HASH = "code-hash";
+
+    @Param({"in-memory", "redis"})
+    public String store;
+
+    private final Clock clock = Clock.systemUTC();
+
+    private TimerWheel timers;
+    private LettuceConnectionFactory connectionFactory;
+
+    private VerificationChallengeRepositoryPort challenges;
+    private SignupSessionStorePort sessions;
+
+    private VerificationChallenge challenge;
+    private SignupSession session;
+
+    @Setup
+    public void setUp() {
+        if ("redis".equals(store)) {
+            connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+            StringRedisTemplate redis = new StringRedisTemplate(connectionFactory);
+
+            challenges = new RedisVerificationChallengeAdapter(redis, clock);
+            sessions = new RedisSignupSessionAdapter(redis, clock);
+        } else {
+            timers = new TimerWheel(clock, Duration.ofMillis(100), 4096);
+
+            challenges = new InMemoryVerificationChallengeAdapter(timers, clock);
+            sessions = new InMemorySignupSessionAdapter(timers, clock);
+        }
+
+        Instant now = Instant.now(clock);
+        Instant expiresAt = now.plus(Duration.ofMinutes(10));
+
+        session = SignupSession.createNew(now, now.plus(Duration.ofHours(1)));
+        session.setDraftEmail(DESTINATION, now);
+        sessions.save(session);
+
+        // 틀린 코드만 넣으므로 시도 횟수 제한에 걸리지 않게
+        challenge = VerificationChallenge.createOtpPending(
+                VerificationPurpose.SIGNUP_EMAIL,
+                VerificationChannel.EMAIL,
+                VerificationSubjectType.SIGNUP_SESSION,
+                session.getId().toString(),
+                DESTINATION,
+                DESTINATION,
+                CODE_HASH,
+                expiresAt,
+                Integer.MAX_VALUE,
+                now,
+                "127.0.0.1",
+                "jmh");
+        challenges.save(challenge);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (timers != null) timers.close();
+        if (connectionFactory != null) connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public Optional<VerificationChallenge> challengeSaveAndFindPending() {
+        challenges.save(challenge);
+        return challenges.findActivePending(
+                VerificationSubjectType.SIGNUP_SESSION,
+                challenge.getSubjectId(),
+                VerificationPurpose.SIGNUP_EMAIL,
+                VerificationChannel.EMAIL);
+    }
+
+    @Benchmark
+    public VerificationAttemptResult otpAttemptMismatch() {
+        return challenges.verifyOtpAttempt(
+                VerificationSubjectType.SIGNUP_SESSION,
+                challenge.getSubjectId(),
+                VerificationPurpose.SIGNUP_EMAIL,
+                VerificationChannel.EMAIL,
+                DESTINATION,
+                "wrong-hash",
+                Instant.now(clock));
+    }
+
+    @Benchmark
+    public Optional<SignupSession> signupSessionSaveAndFind() {
+        sessions.save(session);
+        return sessions.findById(session.getId());
+    }
+}
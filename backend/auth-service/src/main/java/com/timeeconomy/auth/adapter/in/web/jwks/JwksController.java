@@ -0,0 +1,28 @@
+package com.timeeconomy.auth.adapter.in.web.jwks;
+
+import com.timeeconomy.auth.domain.auth.port.in.GetJwksUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final GetJwksUseCase getJwksUseCase;
+
+    // ✅ public key 만 공개 (인증 불필요). 검증 측은 주기적으로 다시 읽어 key rotation 을 반영
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        GetJwksUseCase.JwksResult result = getJwksUseCase.getJwks();
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(Map.of("keys", result.keys()));
+    }
+}
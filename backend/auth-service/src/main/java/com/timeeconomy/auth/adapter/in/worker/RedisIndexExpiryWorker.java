@@ -0,0 +1,170 @@
+package com.timeeconomy.auth.adapter.in.worker;
+
+import com.timeeconomy.auth.config.RedisExpiryProperties;
+import com.timeeconomy.auth.domain.common.expiry.port.ExpiredIndexSweepPort;
+import com.timeeconomy.auth.domain.common.expiry.port.ExpiredIndexSweepPort.SweepResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 만료된 verification challenge / signup session 의 보조 인덱스를 batch 로 정리.
+ *
+ * keyspace notification (expired 이벤트) 대신 저장소가 같이 적어 두는 expiry ZSET 을 훑음:
+ * pub/sub 라 연결이 끊긴 동안의 이벤트는 유실되고, 서버 설정(notify-keyspace-events)도 필요해서.
+ *
+ * metrics (store = verification | signup-session):
+ * - auth.redis.expiry.swept{store}                : 정리한 만료 레코드 수
+ * - auth.redis.expiry.orphans.removed{store,index}: 만료 레코드를 아직 가리키던 인덱스 키 수
+ * - auth.redis.expiry.backlog{store}              : 만료됐지만 아직 정리 안 된 레코드 수
+ * - auth.redis.expiry.tracked{store}              : expiry index 크기
+ */
+@Slf4j
+@Component
+public class RedisIndexExpiryWorker implements SmartLifecycle {
+
+    private final List<ExpiredIndexSweepPort> sweepers;
+    private final RedisExpiryProperties props;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Map<String, StoreMeters> meters = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> scheduled;
+
+    public RedisIndexExpiryWorker(
+            List<ExpiredIndexSweepPort> sweepers,
+            RedisExpiryProperties props,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        this.sweepers = sweepers;
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    @Override public boolean isAutoStartup() { return props.enabled(); }
+    @Override public int getPhase() { return Integer.MAX_VALUE; }
+    @Override public boolean isRunning() { return running.get(); }
+
+    @Override
+    public void start() {
+        if (!running.compareAndSet(false, true)) return;
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "redis-index-expiry-worker");
+            t.setDaemon(true);
+            return t;
+        });
+        // fixed delay: 한 번 돌 때 밀린 만큼 batch 를 반복하므로 겹칠 일 없음
+        this.scheduled = scheduler.scheduleWithFixedDelay(
+                this::tickSafe, 0, props.interval().toMillis(), TimeUnit.MILLISECONDS);
+
+        log.info("[REDIS-EXPIRY] worker started stores={} interval={} batchSize={}",
+                sweepers.stream().map(ExpiredIndexSweepPort::store).toList(), props.interval(), props.batchSize());
+    }
+
+    private void tickSafe() {
+        for (ExpiredIndexSweepPort sweeper : sweepers) {
+            if (!running.get()) return;
+            try {
+                drain(sweeper);
+            } catch (Throwable t) {
+                log.error("[REDIS-EXPIRY] sweep error store={}", sweeper.store(), t);
+            }
+        }
+    }
+
+    // batch 를 꽉 채우는 동안은 바로 이어서 (churn 이 몰릴 때 backlog 가 interval 에 묶이지 않게)
+    private void drain(ExpiredIndexSweepPort sweeper) {
+        StoreMeters m = meters.computeIfAbsent(sweeper.store(), StoreMeters::new);
+        SweepResult r;
+        do {
+            r = sweeper.sweepExpired(Instant.now(clock), props.batchSize());
+            m.record(r);
+        } while (running.get() && r.swept() >= props.batchSize() && r.backlog() > 0);
+
+        if (r.swept() > 0 || !r.orphansRemoved().isEmpty()) {
+            log.debug("[REDIS-EXPIRY] store={} swept={} orphans={} backlog={} tracked={}",
+                    sweeper.store(), r.swept(), r.orphansRemoved(), r.backlog(), r.tracked());
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (!running.compareAndSet(true, false)) return;
+
+        try {
+            if (scheduled != null) scheduled.cancel(true);
+        } catch (Exception ignored) {}
+
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            try {
+                scheduler.awaitTermination(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        log.info("[REDIS-EXPIRY] worker stopped");
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        stop();
+        callback.run();
+    }
+
+    private final class StoreMeters {
+
+        private final String store;
+        private final Counter swept;
+        private final Map<String, Counter> orphans = new ConcurrentHashMap<>();
+        private final AtomicLong backlog = new AtomicLong();
+        private final AtomicLong tracked = new AtomicLong();
+
+        private StoreMeters(String store) {
+            this.store = store;
+            this.swept = Counter.builder("auth.redis.expiry.swept")
+                    .tag("store", store)
+                    .register(meterRegistry);
+            Gauge.builder("auth.redis.expiry.backlog", backlog, AtomicLong::get)
+                    .tag("store", store)
+                    .register(meterRegistry);
+            Gauge.builder("auth.redis.expiry.tracked", tracked, AtomicLong::get)
+                    .tag("store", store)
+                    .register(meterRegistry);
+        }
+
+        void record(SweepResult r) {
+            swept.increment(r.swept());
+            r.orphansRemoved().forEach((index, n) -> orphans.computeIfAbsent(index, i ->
+                    Counter.builder("auth.redis.expiry.orphans.removed")
+                            .tag("store", store)
+                            .tag("index", i)
+                            .register(meterRegistry)
+            ).increment(n));
+            backlog.set(r.backlog());
+            tracked.set(r.tracked());
+        }
+    }
+}
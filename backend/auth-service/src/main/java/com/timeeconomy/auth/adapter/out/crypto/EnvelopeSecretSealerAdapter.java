@@ -0,0 +1,63 @@
+package com.timeeconomy.auth.adapter.out.crypto;
+
+import com.timeeconomy.auth.domain.verification.model.SealedSecret;
+import com.timeeconomy.auth.domain.verification.port.out.VerificationSecretSealerPort;
+import com.timeeconomy.contracts.crypto.EnvelopeCrypto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * OTP / link URL 을 공유 KEK 로 envelope 암호화 (포맷은 event-contracts 의 EnvelopeCrypto).
+ *
+ * rotation: notification 쪽 keys 에 새 kid 를 먼저 추가 → 여기 active-kid/key 전환
+ *           → 옛 kid 는 이벤트 TTL(최대 OTP/link TTL)이 지난 뒤 notification 에서 제거
+ */
+@Component
+public class EnvelopeSecretSealerAdapter implements VerificationSecretSealerPort {
+
+    private final boolean embedInEvent;
+    private final String keyId;
+    private final SecretKey kek;
+
+    public EnvelopeSecretSealerAdapter(
+            @Value("${app.verification.delivery.embed-secret:false}") boolean embedInEvent,
+            @Value("${app.verification.delivery.envelope.active-kid:}") String keyId,
+            @Value("${app.verification.delivery.envelope.active-key:}") String keyBase64
+    ) {
+        this.embedInEvent = embedInEvent;
+        this.keyId = keyId;
+
+        if (!embedInEvent) {
+            this.kek = null;
+            return;
+        }
+        if (keyId == null || keyId.isBlank() || keyBase64 == null || keyBase64.isBlank()) {
+            throw new IllegalStateException(
+                    "app.verification.delivery.envelope.active-kid/active-key required when embed-secret=true");
+        }
+        this.kek = EnvelopeCrypto.kekFromBase64(keyBase64);
+    }
+
+    @Override
+    public boolean embedInEvent() {
+        return embedInEvent;
+    }
+
+    @Override
+    public SealedSecret seal(String secret, String associatedData) {
+        if (kek == null) {
+            throw new IllegalStateException("secret sealing disabled (app.verification.delivery.embed-secret=false)");
+        }
+
+        EnvelopeCrypto.Sealed s = EnvelopeCrypto.seal(
+                keyId,
+                kek,
+                secret.getBytes(StandardCharsets.UTF_8),
+                associatedData.getBytes(StandardCharsets.UTF_8)
+        );
+        return new SealedSecret(s.keyId(), s.alg(), s.wrappedKey(), s.iv(), s.ciphertext());
+    }
+}
@@ -0,0 +1,178 @@
+package com.timeeconomy.auth.adapter.out.inmemory;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.timeeconomy.auth.adapter.out.redis.signupsession.SignupSessionSnapshot;
+import com.timeeconomy.auth.adapter.out.redis.signupsession.SignupSessionSnapshotMapper;
+import com.timeeconomy.auth.config.InMemoryStoreConfig;
+import com.timeeconomy.auth.domain.signupsession.model.SignupSession;
+import com.timeeconomy.auth.domain.signupsession.model.SignupSessionState;
+import com.timeeconomy.auth.domain.signupsession.port.out.SignupSessionStorePort;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * RedisSignupSessionAdapter 의 in-process 판.
+ *
+ * - session 은 snapshot 으로 보관, TTL 정책 (expiresAt 없으면 24h, 지났으면 1s) 은 Redis 쪽과 같음
+ * - email index = email → (session id → createdAt 초), 최신순 후보 25 개에서 고르고 죽은 후보는 정리
+ * - 만료는 TimerWheel: deadline 에 session 과 email index 항목을 같이 지움 (expiry ZSET sweep 불필요)
+ */
+@Primary
+@Component
+@Profile(InMemoryStoreConfig.PROFILE)
+@RequiredArgsConstructor
+public class InMemorySignupSessionAdapter implements SignupSessionStorePort {
+
+    private static final int LATEST_CANDIDATES = 25;
+
+    private record Stored(SignupSessionSnapshot snap, String emailNorm, long deadlineMs) {}
+
+    private final ConcurrentHashMap<UUID, Stored> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<UUID, Long>> emailIndex = new ConcurrentHashMap<>();
+
+    private final TimerWheel timers;
+    private final Clock clock;
+
+    @Override
+    public SignupSession save(SignupSession session) {
+        UUID id = session.getId();
+        Instant now = Instant.now(clock);
+
+        long deadline = now.plus(ttlFrom(session.getExpiresAt(), now)).toEpochMilli();
+        String newEmailNorm = normalizeEmail(session.getEmail());
+        Stored cur = new Stored(SignupSessionSnapshotMapper.toSnapshot(session), newEmailNorm, deadline);
+
+        Stored old = sessions.put(id, cur);
+        if (old != null && old.emailNorm() != null && !old.emailNorm().equals(newEmailNorm)) {
+            unindex(old.emailNorm(), id);
+        }
+        if (newEmailNorm != null) {
+            long score = (session.getCreatedAt() != null ? session.getCreatedAt() : now).getEpochSecond();
+            emailIndex.compute(newEmailNorm, (k, m) -> {
+                ConcurrentHashMap<UUID, Long> ids = (m != null) ? m : new ConcurrentHashMap<>();
+                ids.put(id, score);
+                return ids;
+            });
+        }
+
+        // expiresAt 이 그대로면 (단계 저장) 이미 걸린 예약이 처리
+        if (old == null || old.deadlineMs() != deadline) {
+            timers.schedule(deadline, () -> expire(id, deadline));
+        }
+        return session;
+    }
+
+    @Override
+    public Optional<SignupSession> findById(UUID id) {
+        Instant now = Instant.now(clock);
+        Stored s = sessions.get(id);
+        if (s == null || s.deadlineMs() <= now.toEpochMilli()) return Optional.empty();
+
+        SignupSession session = SignupSessionSnapshotMapper.toDomain(s.snap());
+
+        // extra guard: expiresAt 지남 → 지우고 empty (Redis adapter 와 동일)
+        if (session.getExpiresAt() != null && !session.getExpiresAt().isAfter(now)) {
+            if (sessions.remove(id, s) && s.emailNorm() != null) unindex(s.emailNorm(), id);
+            return Optional.empty();
+        }
+        return Optional.of(session);
+    }
+
+    @Override
+    public Optional<SignupSession> findLatestActiveByEmail(String email, Instant now) {
+        String emailNorm = normalizeEmail(email);
+        if (emailNorm == null) return Optional.empty();
+
+        Map<UUID, Long> ids = emailIndex.get(emailNorm);
+        if (ids == null || ids.isEmpty()) return Optional.empty();
+
+        // createdAt desc 상위 N 개 (ZREVRANGE 0 N-1)
+        List<UUID> candidates = ids.entrySet().stream()
+                .sorted(Map.Entry.<UUID, Long>comparingByValue().reversed())
+                .limit(LATEST_CANDIDATES)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        for (UUID sid : candidates) {
+            Optional<SignupSession> opt = findById(sid);
+            if (opt.isEmpty()) {
+                unindex(emailNorm, sid);
+                continue;
+            }
+
+            SignupSession s = opt.get();
+
+            // expiresAtAfter(now) AND state != COMPLETED
+            if (s.getExpiresAt() == null || !s.getExpiresAt().isAfter(now)
+                    || s.getState() == SignupSessionState.COMPLETED) {
+                unindex(emailNorm, sid);
+                continue;
+            }
+
+            return Optional.of(s);
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * session 이 살아 있으면 그 session 의 잠금 안에서 step 을 실행하고, true 면 replacement 로 바꿈
+     * (HSET 만 하고 TTL 은 그대로 두는 Redis script 와 같게 deadline 유지).
+     *
+     * @return session 이 있었는지 (false 면 step 도 실행하지 않음)
+     */
+    boolean replaceIf(UUID id, SignupSession replacement, BooleanSupplier step) {
+        long nowMs = clock.millis();
+        boolean[] present = {false};
+
+        sessions.computeIfPresent(id, (k, s) -> {
+            if (s.deadlineMs() <= nowMs) return s;
+            present[0] = true;
+            if (!step.getAsBoolean()) return s;
+            return new Stored(SignupSessionSnapshotMapper.toSnapshot(replacement), s.emailNorm(), s.deadlineMs());
+        });
+        return present[0];
+    }
+
+    // timer: 그 사이 다시 저장돼서 deadline 이 늦춰졌으면 건너뜀
+    private void expire(UUID id, long deadline) {
+        Stored[] removed = {null};
+        sessions.computeIfPresent(id, (k, s) -> {
+            if (s.deadlineMs() > deadline) return s;
+            removed[0] = s;
+            return null;
+        });
+        if (removed[0] != null && removed[0].emailNorm() != null) {
+            unindex(removed[0].emailNorm(), id);
+        }
+    }
+
+    private void unindex(String emailNorm, UUID id) {
+        emailIndex.computeIfPresent(emailNorm, (k, m) -> {
+            m.remove(id);
+            return m.isEmpty() ? null : m;
+        });
+    }
+
+    private static Duration ttlFrom(Instant expiresAt, Instant now) {
+        if (expiresAt == null) return Duration.ofHours(24);
+
+        Duration d = Duration.between(now, expiresAt);
+        return (d.isNegative() || d.isZero()) ? Duration.ofSeconds(1) : d;
+    }
+
+    static String normalizeEmail(String email) {
+        if (email == null) return null;
+        String e = email.trim().toLowerCase(Locale.ROOT);
+        return e.isBlank() ? null : e;
+    }
+}
@@ -0,0 +1,91 @@
+package com.timeeconomy.auth.adapter.out.inmemory;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.timeeconomy.auth.adapter.out.redis.signupsession.SignupSessionSnapshotMapper;
+import com.timeeconomy.auth.config.InMemoryStoreConfig;
+import com.timeeconomy.auth.domain.signupsession.model.SignupSession;
+import com.timeeconomy.auth.domain.signupsession.port.out.SignupStateStorePort;
+import com.timeeconomy.auth.domain.verification.model.VerificationAttemptResult;
+import com.timeeconomy.auth.domain.verification.model.VerificationChannel;
+import com.timeeconomy.auth.domain.verification.model.VerificationPurpose;
+import com.timeeconomy.auth.domain.verification.model.VerificationSubjectType;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * RedisSignupStateAdapter 의 in-process 판.
+ * 검증 시도를 session 잠금 안에서 실행해서 "VERIFIED 일 때만 session 전진" 을 한 덩어리로
+ * (잠금 순서는 항상 session → challenge).
+ */
+@Component
+@Profile(InMemoryStoreConfig.PROFILE)
+@RequiredArgsConstructor
+public class InMemorySignupStateAdapter implements SignupStateStorePort {
+
+    private static final VerificationSubjectType SUBJECT = VerificationSubjectType.SIGNUP_SESSION;
+
+    private final InMemorySignupSessionAdapter sessions;
+    private final InMemoryVerificationChallengeAdapter challenges;
+
+    @Override
+    public Optional<SignupState> load(UUID sessionId, VerificationPurpose purpose, VerificationChannel channel) {
+        return sessions.findById(sessionId).map(session -> new SignupState(
+                session,
+                purpose,
+                channel,
+                challenges.pendingId(SUBJECT, sessionId.toString(), purpose, channel).orElse(null)));
+    }
+
+    @Override
+    public OtpStepResult verifyOtpStep(
+            SignupState state,
+            String destinationNorm,
+            String codeHash,
+            Consumer<SignupSession> onVerified,
+            Instant now
+    ) {
+        SignupSession current = state.session();
+        String challengeId = state.activeChallengeId();
+        if (challengeId == null) {
+            return new OtpStepResult(VerificationAttemptResult.notFound(), current);
+        }
+
+        // 검증 결과를 모르는 채로 전진 상태를 미리 계산 → 원본은 그대로 둠
+        SignupSession advanced = SignupSessionSnapshotMapper.toDomain(SignupSessionSnapshotMapper.toSnapshot(current));
+        onVerified.accept(advanced);
+
+        String dest = destinationNorm == null ? "" : destinationNorm;
+        VerificationAttemptResult[] attempt = {null};
+        boolean present = sessions.replaceIf(current.getId(), advanced, () -> {
+            attempt[0] = challenges.attempt(challengeId, false, codeHash, dest, now);
+            return attempt[0].verified();
+        });
+        if (!present) {
+            // session 은 없어도 challenge 시도 횟수 / 상태는 Redis 쪽처럼 반영
+            attempt[0] = challenges.attempt(challengeId, false, codeHash, dest, now);
+        }
+
+        if (!attempt[0].verified()) {
+            return new OtpStepResult(attempt[0], current);
+        }
+        if (!present) {
+            return new OtpStepResult(attempt[0], null); // 그 사이 session 이 만료로 사라짐
+        }
+
+        // email / 만료 시각이 바뀌면 email index · timer 도 손봐야 함 → 일반 save 경로로
+        if (!Objects.equals(InMemorySignupSessionAdapter.normalizeEmail(current.getEmail()),
+                InMemorySignupSessionAdapter.normalizeEmail(advanced.getEmail()))
+                || !Objects.equals(current.getExpiresAt(), advanced.getExpiresAt())) {
+            sessions.save(advanced);
+        }
+
+        return new OtpStepResult(attempt[0], advanced);
+    }
+}
@@ -0,0 +1,396 @@
+package com.timeeconomy.auth.adapter.out.inmemory;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.timeeconomy.auth.adapter.out.redis.verification.VerificationChallengeSnapshot;
+import com.timeeconomy.auth.adapter.out.redis.verification.VerificationChallengeSnapshotMapper;
+import com.timeeconomy.auth.config.InMemoryStoreConfig;
+import com.timeeconomy.auth.domain.verification.model.*;
+import com.timeeconomy.auth.domain.verification.port.out.VerificationChallengeRepositoryPort;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RedisVerificationChallengeAdapter 의 in-process 판.
+ *
+ * - challenge 는 snapshot 으로 보관 (읽을 때마다 새 domain 객체 → Redis 와 같은 복사 semantics)
+ * - pending / otp / link / linkpub / latest pointer 와 TTL, compare-and-delete 규칙은 Redis 쪽과 같음
+ * - 검증 시도는 ConcurrentHashMap.compute 안에서 (Redis Lua script 와 같은 원자성, 같은 판정 순서)
+ * - 만료는 TimerWheel: deadline 에 challenge 와 그 challenge 를 가리키던 pointer 를 정리
+ */
+@Primary
+@Component
+@Profile(InMemoryStoreConfig.PROFILE)
+@RequiredArgsConstructor
+public class InMemoryVerificationChallengeAdapter implements VerificationChallengeRepositoryPort {
+
+    private interface IndexKey {}
+
+    private record PendingKey(VerificationSubjectType st, String sid, VerificationPurpose p, VerificationChannel c)
+            implements IndexKey {}
+
+    private record OtpKey(VerificationSubjectType st, String sid, VerificationPurpose p, VerificationChannel c,
+                          String destinationNorm, String codeHash) implements IndexKey {}
+
+    private record LinkKey(VerificationSubjectType st, String sid, VerificationPurpose p, VerificationChannel c,
+                           String tokenHash) implements IndexKey {}
+
+    private record LinkPubKey(VerificationPurpose p, VerificationChannel c, String tokenHash) implements IndexKey {}
+
+    private record LatestKey(String destinationNorm, VerificationPurpose p, VerificationChannel c) implements IndexKey {}
+
+    // keys: 이 challenge 를 가리키도록 써 둔 pointer 들 (vc:keys 처럼 저장할 때마다 누적)
+    private record Stored(VerificationChallengeSnapshot snap, long deadlineMs, Set<IndexKey> keys) {}
+
+    private record Pointer(String id, long deadlineMs) {}
+
+    private record Secret(String value, long deadlineMs) {}
+
+    private final ConcurrentHashMap<String, Stored> challenges = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<IndexKey, Pointer> index = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Secret> rawOtps = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Secret> rawLinks = new ConcurrentHashMap<>();
+
+    private final TimerWheel timers;
+    private final Clock clock;
+
+    @Override
+    public VerificationChallenge save(VerificationChallenge challenge) {
+        Instant now = Instant.now(clock);
+
+        String id = challenge.getId();
+        if (id == null || id.isBlank()) {
+            id = UUID.randomUUID().toString();
+            challenge.setId(id);
+        }
+
+        challenge.expireIfNeeded(now);
+
+        long deadline = now.plus(ttlFrom(challenge, now)).toEpochMilli();
+        Pointer pointer = new Pointer(id, deadline);
+
+        Set<IndexKey> keys = new HashSet<>();
+        keys.add(latestKey(challenge));
+        keys.add(pendingKey(challenge));
+        otpKey(challenge).ifPresent(keys::add);
+        linkKeys(challenge).forEach(keys::add);
+
+        VerificationChallengeSnapshot snap = VerificationChallengeSnapshotMapper.toSnapshot(challenge);
+        boolean[] scheduled = {false};
+        challenges.merge(id, new Stored(snap, deadline, keys), (old, cur) -> {
+            scheduled[0] = old.deadlineMs() == cur.deadlineMs();
+            Set<IndexKey> all = new HashSet<>(old.keys());
+            all.addAll(cur.keys());
+            return new Stored(cur.snap(), cur.deadlineMs(), Set.copyOf(all));
+        });
+
+        index.put(latestKey(challenge), pointer);
+        if (challenge.getStatus() == VerificationStatus.PENDING) {
+            index.put(pendingKey(challenge), pointer);
+            otpKey(challenge).ifPresent(k -> index.put(k, pointer));
+            linkKeys(challenge).forEach(k -> index.put(k, pointer));
+        } else {
+            cleanupIndexesForNonPending(snap, id);
+        }
+
+        // expiresAt 이 그대로면 (재전송 등) 이미 걸린 예약이 처리
+        if (!scheduled[0]) {
+            String savedId = id;
+            timers.schedule(deadline, () -> expire(savedId, deadline));
+        }
+        return challenge;
+    }
+
+    @Override
+    public Optional<VerificationChallenge> findById(String id) {
+        Instant now = Instant.now(clock);
+        Stored s = live(id, now.toEpochMilli());
+        if (s == null) return Optional.empty();
+
+        VerificationChallenge c = VerificationChallengeSnapshotMapper.toDomain(s.snap());
+
+        // extra guard: expired pending → 지우고 empty (Redis adapter 와 동일)
+        if (c.getStatus() == VerificationStatus.PENDING && c.isExpired(now)) {
+            if (challenges.remove(id, s)) dropIndexes(id, s.keys());
+            return Optional.empty();
+        }
+        return Optional.of(c);
+    }
+
+    @Override
+    public Optional<VerificationChallenge> findActivePending(
+            VerificationSubjectType subjectType,
+            String subjectId,
+            VerificationPurpose purpose,
+            VerificationChannel channel
+    ) {
+        return pointer(new PendingKey(subjectType, subjectId, purpose, channel))
+                .flatMap(this::findById)
+                .filter(c -> c.getStatus() == VerificationStatus.PENDING);
+    }
+
+    @Override
+    public Optional<VerificationChallenge> findPendingByCodeHash(
+            VerificationSubjectType subjectType,
+            String subjectId,
+            VerificationPurpose purpose,
+            VerificationChannel channel,
+            String destinationNorm,
+            String codeHash
+    ) {
+        return pointer(new OtpKey(subjectType, subjectId, purpose, channel, destinationNorm, codeHash))
+                .flatMap(this::findById)
+                .filter(c -> c.getStatus() == VerificationStatus.PENDING)
+                .filter(c -> Objects.equals(c.getDestinationNorm(), destinationNorm))
+                .filter(c -> Objects.equals(c.getCodeHash(), codeHash));
+    }
+
+    @Override
+    public Optional<VerificationChallenge> findPendingByTokenHash(
+            VerificationSubjectType subjectType,
+            String subjectId,
+            VerificationPurpose purpose,
+            VerificationChannel channel,
+            String tokenHash
+    ) {
+        return pointer(new LinkKey(subjectType, subjectId, purpose, channel, tokenHash))
+                .flatMap(this::findById)
+                .filter(c -> c.getStatus() == VerificationStatus.PENDING)
+                .filter(c -> Objects.equals(c.getTokenHash(), tokenHash));
+    }
+
+    @Override
+    public Optional<VerificationChallenge> findActivePendingByTokenHash(
+            VerificationPurpose purpose,
+            VerificationChannel channel,
+            String tokenHash
+    ) {
+        return pointer(new LinkPubKey(purpose, channel, tokenHash))
+                .flatMap(this::findById)
+                .filter(c -> c.getStatus() == VerificationStatus.PENDING)
+                .filter(c -> Objects.equals(c.getTokenHash(), tokenHash));
+    }
+
+    @Override
+    public Optional<VerificationChallenge> findLatestByDestinationNormAndPurpose(
+            String destinationNorm,
+            VerificationPurpose purpose,
+            VerificationChannel channel
+    ) {
+        return pointer(new LatestKey(destinationNorm, purpose, channel)).flatMap(this::findById);
+    }
+
+    @Override
+    public VerificationAttemptResult verifyOtpAttempt(
+            VerificationSubjectType subjectType,
+            String subjectId,
+            VerificationPurpose purpose,
+            VerificationChannel channel,
+            String destinationNorm,
+            String codeHash,
+            Instant now
+    ) {
+        return pointer(new PendingKey(subjectType, subjectId, purpose, channel))
+                .map(id -> attempt(id, false, codeHash, n(destinationNorm), now))
+                .orElseGet(VerificationAttemptResult::notFound);
+    }
+
+    @Override
+    public VerificationAttemptResult verifyLinkAttempt(
+            VerificationPurpose purpose,
+            VerificationChannel channel,
+            String tokenHash,
+            Instant now
+    ) {
+        return pointer(new LinkPubKey(purpose, channel, tokenHash))
+                .map(id -> attempt(id, true, tokenHash, "", now))
+                .orElseGet(VerificationAttemptResult::notFound);
+    }
+
+    // signup 단계 (InMemorySignupStateAdapter) 용
+    Optional<String> pendingId(VerificationSubjectType st, String sid, VerificationPurpose p, VerificationChannel c) {
+        return pointer(new PendingKey(st, sid, p, c));
+    }
+
+    /**
+     * 검증 시도 한 번. 판정 순서는 VerificationRedisScripts.VERIFY_ATTEMPT_FN 과 같음:
+     * destination → status → 만료 → 시도 횟수 → hash 비교.
+     */
+    VerificationAttemptResult attempt(String id, boolean token, String hash, String destinationNorm, Instant now) {
+        long nowMs = now.toEpochMilli();
+        VerificationAttemptResult.Outcome[] outcome = {VerificationAttemptResult.Outcome.NOT_FOUND};
+        String[] verifiedDestination = {null};
+
+        Stored after = challenges.computeIfPresent(id, (k, st) -> {
+            if (st.deadlineMs() <= nowMs) return st; // TTL 지남 = Redis 에서는 이미 없는 키
+
+            VerificationChallengeSnapshot s = st.snap();
+            if (!destinationNorm.isEmpty() && !destinationNorm.equals(s.destinationNorm())) {
+                outcome[0] = VerificationAttemptResult.Outcome.DESTINATION_MISMATCH;
+                return st;
+            }
+            if (!VerificationStatus.PENDING.name().equals(s.status())) {
+                outcome[0] = VerificationAttemptResult.Outcome.NOT_PENDING;
+                return st;
+            }
+            if (s.expiresAtEpochMillis() != null && nowMs > s.expiresAtEpochMillis()) {
+                outcome[0] = VerificationAttemptResult.Outcome.EXPIRED;
+                return with(st, s.toBuilder().status(VerificationStatus.EXPIRED.name()).updatedAtEpochMillis(nowMs));
+            }
+            if (s.attemptCount() >= s.maxAttempts()) {
+                outcome[0] = VerificationAttemptResult.Outcome.TOO_MANY_ATTEMPTS;
+                return with(st, s.toBuilder().status(VerificationStatus.CANCELED.name()).updatedAtEpochMillis(nowMs));
+            }
+
+            int attempts = s.attemptCount() + 1;
+            if (!Objects.equals(token ? s.tokenHash() : s.codeHash(), hash)) {
+                outcome[0] = VerificationAttemptResult.Outcome.MISMATCH;
+                return with(st, s.toBuilder().attemptCount(attempts).updatedAtEpochMillis(nowMs));
+            }
+
+            outcome[0] = VerificationAttemptResult.Outcome.VERIFIED;
+            verifiedDestination[0] = s.destinationNorm();
+            return with(st, s.toBuilder()
+                    .attemptCount(attempts)
+                    .status(VerificationStatus.VERIFIED.name())
+                    .verifiedAtEpochMillis(nowMs)
+                    .updatedAtEpochMillis(nowMs));
+        });
+
+        VerificationAttemptResult result = new VerificationAttemptResult(outcome[0], id, verifiedDestination[0]);
+        if (result.leftPending() && after != null) {
+            cleanupIndexesForNonPending(after.snap(), id);
+        }
+        return result;
+    }
+
+    // -------------------------
+    // Raw OTP / link token (one-time read)
+    // -------------------------
+
+    @Override
+    public void put(String challengeId, String rawCode, Duration ttl) {
+        putSecret(rawOtps, challengeId, rawCode, ttl);
+    }
+
+    @Override
+    public void putLinkToken(String challengeId, String rawToken, Duration ttl) {
+        putSecret(rawLinks, challengeId, rawToken, ttl);
+    }
+
+    @Override
+    public Optional<String> getAndDelete(String challengeId) {
+        return takeSecret(rawOtps, challengeId);
+    }
+
+    @Override
+    public Optional<String> getAndDeleteLinkToken(String challengeId) {
+        return takeSecret(rawLinks, challengeId);
+    }
+
+    private void putSecret(ConcurrentHashMap<String, Secret> store, String id, String value, Duration ttl) {
+        long deadline = Instant.now(clock).plus(ttl).toEpochMilli();
+        Secret secret = new Secret(value, deadline);
+        store.put(id, secret);
+        timers.schedule(deadline, () -> store.remove(id, secret));
+    }
+
+    private Optional<String> takeSecret(ConcurrentHashMap<String, Secret> store, String id) {
+        Secret s = store.remove(id);
+        return (s != null && s.deadlineMs() > clock.millis()) ? Optional.of(s.value()) : Optional.empty();
+    }
+
+    // -------------------------
+    // Expiry / index helpers
+    // -------------------------
+
+    // timer: 그 사이 다시 저장돼서 deadline 이 늦춰졌으면 (뒤의 예약이 처리) 건너뜀
+    private void expire(String id, long deadline) {
+        Stored[] removed = {null};
+        challenges.computeIfPresent(id, (k, s) -> {
+            if (s.deadlineMs() > deadline) return s;
+            removed[0] = s;
+            return null;
+        });
+        if (removed[0] != null) {
+            dropIndexes(id, removed[0].keys());
+            rawOtps.remove(id);
+            rawLinks.remove(id);
+        }
+    }
+
+    // 다른 challenge 가 같은 pointer 를 차지했으면 건드리지 않음 (compare-and-delete)
+    private void dropIndexes(String id, Set<IndexKey> keys) {
+        for (IndexKey k : keys) {
+            index.computeIfPresent(k, (kk, p) -> p.id().equals(id) ? null : p);
+        }
+    }
+
+    private void cleanupIndexesForNonPending(VerificationChallengeSnapshot s, String id) {
+        VerificationChallenge c = VerificationChallengeSnapshotMapper.toDomain(s);
+
+        // pending pointer: compare-and-delete
+        index.computeIfPresent(pendingKey(c), (k, p) -> p.id().equals(id) ? null : p);
+
+        // verify index: 이 record 의 키만 (Redis 처럼 값 비교 없이)
+        otpKey(c).ifPresent(index::remove);
+        linkKeys(c).forEach(index::remove);
+    }
+
+    private Stored live(String id, long nowMs) {
+        Stored s = challenges.get(id);
+        return (s == null || s.deadlineMs() <= nowMs) ? null : s;
+    }
+
+    private Optional<String> pointer(IndexKey key) {
+        Pointer p = index.get(key);
+        return (p == null || p.deadlineMs() <= clock.millis()) ? Optional.empty() : Optional.of(p.id());
+    }
+
+    private static Stored with(Stored st, VerificationChallengeSnapshot.VerificationChallengeSnapshotBuilder b) {
+        return new Stored(b.build(), st.deadlineMs(), st.keys());
+    }
+
+    private static PendingKey pendingKey(VerificationChallenge c) {
+        return new PendingKey(c.getSubjectType(), c.getSubjectId(), c.getPurpose(), c.getChannel());
+    }
+
+    private static LatestKey latestKey(VerificationChallenge c) {
+        return new LatestKey(c.getDestinationNorm(), c.getPurpose(), c.getChannel());
+    }
+
+    private static Optional<IndexKey> otpKey(VerificationChallenge c) {
+        if (!notBlank(c.getCodeHash())) return Optional.empty();
+        return Optional.of(new OtpKey(c.getSubjectType(), c.getSubjectId(), c.getPurpose(), c.getChannel(),
+                c.getDestinationNorm(), c.getCodeHash()));
+    }
+
+    private static List<IndexKey> linkKeys(VerificationChallenge c) {
+        if (!notBlank(c.getTokenHash())) return List.of();
+        return List.of(
+                new LinkKey(c.getSubjectType(), c.getSubjectId(), c.getPurpose(), c.getChannel(), c.getTokenHash()),
+                new LinkPubKey(c.getPurpose(), c.getChannel(), c.getTokenHash()));
+    }
+
+    // RedisVerificationChallengeAdapter 와 같은 TTL 정책
+    private static Duration ttlFrom(VerificationChallenge c, Instant now) {
+        Instant exp = c.getExpiresAt();
+        if (exp == null) return Duration.ofHours(24);
+
+        Duration d = Duration.between(now, exp);
+        return (d.isNegative() || d.isZero()) ? Duration.ofSeconds(1) : d;
+    }
+
+    private static boolean notBlank(String s) {
+        return s != null && !s.isBlank();
+    }
+
+    private static String n(String s) { return s == null ? "" : s; }
+}
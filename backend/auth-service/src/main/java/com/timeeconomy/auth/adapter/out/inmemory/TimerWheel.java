@@ -0,0 +1,100 @@
+package com.timeeconomy.auth.adapter.out.inmemory;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * hashed timer wheel: tick 단위 bucket 배열, 예약 O(1), tick 마다 해당 bucket 만 훑음.
+ * 한 바퀴보다 먼 예약은 bucket 에 남아 있다가 deadline 이 지난 바퀴에서 실행됨.
+ *
+ * 취소는 없음: 다시 저장돼서 무효가 된 예약은 task 가 deadline 을 비교해서 무시
+ * (Redis expiry ZSET 을 sweeper 가 PTTL 로 다시 확인하는 것과 같은 규칙).
+ * task 는 ticker 스레드 하나에서 실행되므로 짧게 (map 정리 정도).
+ */
+@Slf4j
+public final class TimerWheel implements AutoCloseable {
+
+    private record Timeout(long deadlineMs, Runnable task) {}
+
+    private final Clock clock;
+    private final long tickMs;
+    private final int mask;
+    private final ConcurrentLinkedQueue<Timeout>[] buckets;
+    private final long startMs;
+    private final ScheduledExecutorService ticker;
+
+    // 여기까지 처리한 tick (ticker 스레드만 씀)
+    private volatile long processedTick;
+
+    @SuppressWarnings("unchecked")
+    public TimerWheel(Clock clock, Duration tick, int wheelSize) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+        this.clock = clock;
+        this.tickMs = Math.max(1, tick.toMillis());
+        this.mask = wheelSize - 1;
+        this.buckets = new ConcurrentLinkedQueue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) buckets[i] = new ConcurrentLinkedQueue<>();
+        this.startMs = clock.millis();
+
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "inmemory-store-timer-wheel");
+            t.setDaemon(true);
+            return t;
+        });
+        ticker.scheduleAtFixedRate(this::advanceSafe, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void schedule(long deadlineMs, Runnable task) {
+        // 이미 처리한 tick 에 넣으면 한 바퀴 뒤에야 돌므로 최소 다음 tick
+        long tick = Math.max(tickOf(deadlineMs), processedTick + 1);
+        buckets[(int) (tick & mask)].add(new Timeout(deadlineMs, task));
+    }
+
+    private void advanceSafe() {
+        try {
+            advance();
+        } catch (Throwable t) {
+            log.error("[TIMER-WHEEL] advance error", t);
+        }
+    }
+
+    private void advance() {
+        long nowMs = clock.millis();
+        long target = tickOf(nowMs);
+
+        // 한 바퀴 넘게 밀렸으면 (GC / 시계 점프) bucket 전체를 한 번씩만 보면 충분
+        long from = Math.max(processedTick + 1, target - mask);
+        for (long tick = from; tick <= target; tick++) {
+            Iterator<Timeout> it = buckets[(int) (tick & mask)].iterator();
+            while (it.hasNext()) {
+                Timeout t = it.next();
+                if (t.deadlineMs() > nowMs) continue; // 다음 바퀴
+                it.remove();
+                try {
+                    t.task().run();
+                } catch (Throwable e) {
+                    log.error("[TIMER-WHEEL] task error", e);
+                }
+            }
+        }
+        processedTick = target;
+    }
+
+    private long tickOf(long epochMs) {
+        return Math.max(0, (epochMs - startMs) / tickMs);
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+}
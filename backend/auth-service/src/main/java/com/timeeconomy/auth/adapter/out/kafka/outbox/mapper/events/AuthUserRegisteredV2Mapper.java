@@ -0,0 +1,40 @@
+package com.timeeconomy.auth.adapter.out.kafka.outbox.mapper.events;
+
+import com.timeeconomy.auth.adapter.out.kafka.outbox.mapper.EventTypeAvroMapper;
+import com.timeeconomy.auth.adapter.out.kafka.outbox.mapper.JacksonPayloadReader;
+import com.timeeconomy.auth.domain.auth.model.payload.AuthUserRegisteredPayload;
+import com.timeeconomy.auth.domain.outbox.model.OutboxEvent;
+import com.timeeconomy.contracts.auth.v2.AuthUserRegisteredV2;
+import lombok.RequiredArgsConstructor;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AuthUserRegisteredV2Mapper implements EventTypeAvroMapper {
+
+    private final JacksonPayloadReader reader;
+
+    @Override
+    public String eventType() {
+        return "AuthUserRegistered.v2";
+    }
+
+    @Override
+    public SpecificRecord toAvro(OutboxEvent event) {
+        AuthUserRegisteredPayload p = reader.read(event.getPayload(), AuthUserRegisteredPayload.class);
+
+        // 가입 시점 프로필을 그대로 실어서 consumer 가 signup session 을 다시 조회하지 않게 함
+        return AuthUserRegisteredV2.newBuilder()
+                .setEventId(event.getId().toString())
+                .setOccurredAtEpochMillis(event.getOccurredAt().toEpochMilli())
+                .setUserId(p.userId().toString())
+                .setSignupSessionId(p.signupSessionId().toString())
+                .setEmail(p.email())
+                .setPhoneNumber(p.phoneNumber())
+                .setName(p.name())
+                .setGender(p.gender())
+                .setBirthDate(p.birthDate() == null ? null : p.birthDate().toString())
+                .build();
+    }
+}
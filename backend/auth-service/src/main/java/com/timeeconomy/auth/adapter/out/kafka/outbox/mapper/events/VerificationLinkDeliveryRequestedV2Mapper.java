@@ -0,0 +1,54 @@
+package com.timeeconomy.auth.adapter.out.kafka.outbox.mapper.events;
+
+import com.timeeconomy.auth.adapter.out.kafka.outbox.mapper.EventTypeAvroMapper;
+import com.timeeconomy.auth.adapter.out.kafka.outbox.mapper.JacksonPayloadReader;
+import com.timeeconomy.auth.domain.outbox.model.OutboxEvent;
+import com.timeeconomy.auth.domain.verification.model.SealedSecret;
+import com.timeeconomy.auth.domain.verification.model.payload.VerificationLinkDeliveryRequestedV2Payload;
+import com.timeeconomy.contracts.auth.v2.EncryptedSecret;
+import com.timeeconomy.contracts.auth.v2.VerificationLinkDeliveryRequestedV2;
+import lombok.RequiredArgsConstructor;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+
+@Component
+@RequiredArgsConstructor
+public class VerificationLinkDeliveryRequestedV2Mapper implements EventTypeAvroMapper {
+
+    private final JacksonPayloadReader reader;
+
+    @Override
+    public String eventType() {
+        return "VerificationLinkDeliveryRequested.v2";
+    }
+
+    @Override
+    public SpecificRecord toAvro(OutboxEvent event) {
+        VerificationLinkDeliveryRequestedV2Payload p =
+                reader.read(event.getPayload(), VerificationLinkDeliveryRequestedV2Payload.class);
+
+        // outbox payload 에는 이미 암호화된 값만 저장됨 → 그대로 옮겨 담기만 함
+        SealedSecret s = p.encryptedLinkUrl();
+
+        return VerificationLinkDeliveryRequestedV2.newBuilder()
+                .setEventId(event.getId().toString())
+                .setOccurredAtEpochMillis(event.getOccurredAt().toEpochMilli())
+                .setVerificationChallengeId(p.verificationChallengeId().toString())
+                .setPurpose(p.purpose())
+                .setChannel(p.channel())
+                .setSubjectType(p.subjectType())
+                .setSubjectId(p.subjectId())
+                .setDestinationNorm(p.destinationNorm())
+                .setTtlSeconds(p.ttlSeconds())
+                .setEncryptedLinkUrl(EncryptedSecret.newBuilder()
+                        .setKeyId(s.keyId())
+                        .setAlg(s.alg())
+                        .setWrappedKey(ByteBuffer.wrap(s.wrappedKey()))
+                        .setIv(ByteBuffer.wrap(s.iv()))
+                        .setCiphertext(ByteBuffer.wrap(s.ciphertext()))
+                        .build())
+                .build();
+    }
+}
@@ -1,5 +1,9 @@
 package com.timeeconomy.auth.adapter.out.redis.changeemail;
 
+/**
+ * hash tag 없음: request hash 와 active pointer 는 항상 단일 키 명령으로만 다룸 (cluster 에서도 그대로 동작).
+ * findById(id) 처럼 userId 없이 찾는 경로가 있어서 userId 로 묶으려면 별도 pointer 가 필요 → 이득이 없음.
+ */
 public final class EmailChangeRedisKeys {
     private EmailChangeRedisKeys() {}
 
@@ -0,0 +1,89 @@
+package com.timeeconomy.auth.adapter.out.redis.expiry;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * expiry index (vc:exp / signup:exp) 를 SHARDS 개 ZSET 으로 나눔.
+ * 하나면 모든 save 의 ZADD 와 sweeper 가 한 키 (cluster 에서는 한 노드) 에 몰림 → 레코드 id 로 shard 를 고름.
+ *
+ * SHARDS 를 바꾸면 이미 들어간 항목이 계산되지 않는 shard 에 남음 → 모든 pod 가 같은 값이어야 해서 설정이 아니라 상수.
+ * sweeper 는 shard 전부 + 나누기 전 키 (옛 버전 pod 가 쓴 항목, 비면 비용 거의 없음) 를 돎.
+ */
+public final class RedisExpiryShards {
+    private RedisExpiryShards() {}
+
+    public static final int SHARDS = 16;
+
+    // "<base>:<shard>"
+    public static String key(String base, String id) {
+        return base + ":" + Math.floorMod(id.hashCode(), SHARDS);
+    }
+
+    // sweeper 가 도는 키: shard 전부 + 나누기 전 base
+    public static List<String> keys(String base) {
+        List<String> keys = new ArrayList<>(SHARDS + 1);
+        for (int n = 0; n < SHARDS; n++) keys.add(base + ":" + n);
+        keys.add(base);
+        return List.copyOf(keys);
+    }
+
+    /**
+     * 만료된 member 를 최대 limit 개, keys[start] 부터 돌아가며 (매번 같은 shard 만 먼저 비우지 않게).
+     * 읽기는 pipeline 한 번 (shard 마다 ZRANGEBYSCORE ... LIMIT 0 limit).
+     *
+     * @return member → 그 member 가 들어 있던 키 (꺼낸 순서)
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, String> due(StringRedisTemplate redis, List<String> keys, int start, long nowMs, int limit) {
+        List<String> order = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            order.add(keys.get(Math.floorMod(start + i, keys.size())));
+        }
+
+        List<Object> ranges = redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection c = (StringRedisConnection) connection;
+            order.forEach(k -> c.zRangeByScore(k, Double.NEGATIVE_INFINITY, nowMs, 0, limit));
+            return null;
+        });
+
+        Map<String, String> due = new LinkedHashMap<>();
+        for (int i = 0; i < order.size() && due.size() < limit; i++) {
+            if (!(ranges.get(i) instanceof Set<?> members)) continue;
+            for (String m : (Set<String>) members) {
+                if (due.size() >= limit) break;
+                due.putIfAbsent(m, order.get(i));
+            }
+        }
+        return due;
+    }
+
+    /**
+     * @return {backlog (now 이전 만료 수), tracked (전체 크기)} 의 shard 합
+     */
+    public static long[] sizes(StringRedisTemplate redis, List<String> keys, long nowMs) {
+        List<Object> sizes = redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection c = (StringRedisConnection) connection;
+            for (String k : keys) {
+                c.zCount(k, Double.NEGATIVE_INFINITY, nowMs);
+                c.zCard(k);
+            }
+            return null;
+        });
+
+        long backlog = 0;
+        long tracked = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            if (sizes.get(2 * i) instanceof Long n) backlog += n;
+            if (sizes.get(2 * i + 1) instanceof Long n) tracked += n;
+        }
+        return new long[] {backlog, tracked};
+    }
+}
@@ -0,0 +1,238 @@
+package com.timeeconomy.auth.adapter.out.redis.migration;
+
+import com.timeeconomy.auth.adapter.out.redis.signupsession.SignupSessionRedisKeys;
+import com.timeeconomy.auth.adapter.out.redis.verification.VerificationRedisKeys;
+import com.timeeconomy.auth.config.RedisKeyMigrationProperties;
+import com.timeeconomy.auth.domain.verification.model.VerificationSubjectType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * hash tag 도입 전 이름의 키를 새 이름으로 옮김 (VerificationRedisKeys / SignupSessionRedisKeys 주석 참고).
+ *
+ * rollout 순서는 RedisKeyMigrationProperties. 새 이름으로 쓰는 단계 (write-tagged=true) 에서만 돎
+ * (옛 이름으로 쓰는 pod 가 있으면 옮겨도 다시 생김).
+ *
+ * RENAME 은 TTL 을 그대로 옮기고, 새 이름이 이미 있으면 (새 버전이 쓴 최신 값) 옛 키만 지움.
+ *
+ * metrics: auth.redis.key.migration.moved{kind} (kind = ch | keys | raw | ref | pending | otp | link | sess)
+ */
+@Slf4j
+@Component
+public class RedisLegacyKeyMigrationJob implements SmartLifecycle {
+
+    private static final List<String> PATTERNS = List.of("vc:*", "signup:sess:*");
+
+    // RedisVerificationChallengeAdapter 의 vc:keys / vc:ref 유예와 같게
+    private static final Duration REF_GRACE = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate redis;
+    private final RedisKeyMigrationProperties props;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Map<String, Counter> moved = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> scheduled;
+
+    public RedisLegacyKeyMigrationJob(
+            StringRedisTemplate redis,
+            RedisKeyMigrationProperties props,
+            MeterRegistry meterRegistry
+    ) {
+        this.redis = redis;
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override public boolean isAutoStartup() { return props.enabled(); }
+    @Override public int getPhase() { return Integer.MAX_VALUE; }
+    @Override public boolean isRunning() { return running.get(); }
+
+    @Override
+    public void start() {
+        if (!running.compareAndSet(false, true)) return;
+
+        if (!VerificationRedisKeys.writesTaggedNames()) {
+            log.warn("[REDIS-KEY-MIGRATION] write-tagged=false → skipped (switch writes to tagged names first)");
+            return;
+        }
+        if (redis.getConnectionFactory() instanceof LettuceConnectionFactory cf && cf.isClusterAware()) {
+            log.warn("[REDIS-KEY-MIGRATION] cluster connection → skipped (run it on the standalone primary before switching)");
+            return;
+        }
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "redis-key-migration");
+            t.setDaemon(true);
+            return t;
+        });
+        this.scheduled = scheduler.scheduleWithFixedDelay(
+                this::passSafe, 0, props.interval().toMillis(), TimeUnit.MILLISECONDS);
+
+        log.info("[REDIS-KEY-MIGRATION] started patterns={} interval={} scanCount={}",
+                PATTERNS, props.interval(), props.scanCount());
+    }
+
+    private void passSafe() {
+        try {
+            pass();
+        } catch (Throwable t) {
+            log.error("[REDIS-KEY-MIGRATION] pass error", t);
+        }
+    }
+
+    private void pass() {
+        Map<String, Long> counts = new TreeMap<>();
+
+        for (String pattern : PATTERNS) {
+            ScanOptions options = ScanOptions.scanOptions().match(pattern).count(props.scanCount()).build();
+            try (Cursor<String> cursor = redis.scan(options)) {
+                while (running.get() && cursor.hasNext()) {
+                    String key = cursor.next();
+                    try {
+                        String kind = migrate(key);
+                        if (kind != null) counts.merge(kind, 1L, Long::sum);
+                    } catch (DataAccessException e) {
+                        // SCAN 과 RENAME 사이에 만료된 키 등
+                        log.debug("[REDIS-KEY-MIGRATION] skip key={} cause={}", key, e.getMessage());
+                    }
+                }
+            }
+        }
+
+        counts.forEach((kind, n) -> moved.computeIfAbsent(kind, k ->
+                Counter.builder("auth.redis.key.migration.moved")
+                        .tag("kind", k)
+                        .register(meterRegistry)
+        ).increment(n));
+
+        if (counts.isEmpty()) {
+            log.info("[REDIS-KEY-MIGRATION] no legacy keys left (safe to disable)");
+        } else {
+            log.info("[REDIS-KEY-MIGRATION] moved={}", counts);
+        }
+    }
+
+    /**
+     * @return 옮긴 키 종류 (null = 대상 아님)
+     */
+    private String migrate(String key) {
+        String chId = VerificationRedisKeys.legacyChId(key);
+        if (chId != null) {
+            return migrateChallenge(key, chId) ? "ch" : null;
+        }
+
+        String target = VerificationRedisKeys.fromLegacy(key);
+        if (target != null && key.startsWith("vc:keys:")) {
+            return migrateIndexKeys(key, target) ? "keys" : null;
+        }
+        if (target == null) target = SignupSessionRedisKeys.fromLegacy(key);
+        if (target == null) return null;
+
+        move(key, target);
+        return VerificationRedisKeys.indexKind(key);
+    }
+
+    // 새 이름에 subject 가 들어갈 수 있어서 (signup challenge) hash 에서 읽음
+    private boolean migrateChallenge(String key, String id) {
+        List<Object> h = redis.opsForHash().multiGet(key, List.of("subjectType", "subjectId"));
+        if (h == null || h.size() < 2 || h.get(0) == null || h.get(1) == null) return false; // 깨진 hash: TTL 에 맡김
+
+        VerificationSubjectType subjectType;
+        try {
+            subjectType = VerificationSubjectType.valueOf(String.valueOf(h.get(0)));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+
+        String slot = VerificationRedisKeys.slot(subjectType, String.valueOf(h.get(1)));
+        String target = VerificationRedisKeys.ch(slot, id);
+        move(key, target);
+
+        if (!slot.isEmpty()) {
+            Long pttl = redis.getExpire(target, TimeUnit.MILLISECONDS);
+            long ttlMs = (pttl != null && pttl > 0 ? pttl : 0) + REF_GRACE.toMillis();
+            redis.opsForValue().set(VerificationRedisKeys.ref(id), slot, Duration.ofMillis(ttlMs));
+        }
+        return true;
+    }
+
+    // vc:keys 는 member 도 키 이름이라 같이 바꿔서 새 SET 으로
+    private boolean migrateIndexKeys(String key, String target) {
+        Set<String> members = redis.opsForSet().members(key);
+        Long pttl = redis.getExpire(key, TimeUnit.MILLISECONDS);
+        if (members == null || members.isEmpty()) return false;
+
+        String[] mapped = members.stream()
+                .map(m -> {
+                    String t = VerificationRedisKeys.fromLegacy(m);
+                    return t == null ? m : t;
+                })
+                .toArray(String[]::new);
+
+        redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection c = (StringRedisConnection) connection;
+            c.sAdd(target, mapped);
+            if (pttl != null && pttl > 0) c.pExpire(target, pttl);
+            c.del(key);
+            return null;
+        });
+        return true;
+    }
+
+    private void move(String from, String to) {
+        if (!Boolean.TRUE.equals(redis.renameIfAbsent(from, to))) {
+            redis.delete(from);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (!running.compareAndSet(true, false)) return;
+
+        try {
+            if (scheduled != null) scheduled.cancel(true);
+        } catch (Exception ignored) {}
+
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            try {
+                scheduler.awaitTermination(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        log.info("[REDIS-KEY-MIGRATION] stopped");
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        stop();
+        callback.run();
+    }
+}
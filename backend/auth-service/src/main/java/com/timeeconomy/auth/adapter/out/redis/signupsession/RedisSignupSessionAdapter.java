@@ -2,9 +2,16 @@ package com.timeeconomy.auth.adapter.out.redis.signupsession;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+import com.timeeconomy.auth.adapter.out.redis.expiry.RedisExpiryShards;
+import com.timeeconomy.auth.adapter.out.redis.verification.VerificationRedisKeys;
+import com.timeeconomy.auth.config.InMemoryStoreConfig;
+import com.timeeconomy.auth.domain.common.expiry.port.ExpiredIndexSweepPort;
 import com.timeeconomy.auth.domain.signupsession.model.SignupSession;
 import com.timeeconomy.auth.domain.signupsession.model.SignupSessionState;
 import com.timeeconomy.auth.domain.signupsession.port.out.SignupSessionStorePort;
@@ -13,33 +20,49 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Primary
 @Component
+@Profile("!" + InMemoryStoreConfig.PROFILE)
 @RequiredArgsConstructor
-public class RedisSignupSessionAdapter implements SignupSessionStorePort {
+public class RedisSignupSessionAdapter implements SignupSessionStorePort, ExpiredIndexSweepPort {
 
     private final StringRedisTemplate redis;
     private final Clock clock;
 
+    // sweep 을 시작할 expiry shard (호출마다 하나씩 밀어서 앞 shard 만 먼저 비우지 않게)
+    private final AtomicInteger nextShard = new AtomicInteger();
+
     @Override
     public SignupSession save(SignupSession session) {
         UUID id = session.getId();
-        String sk = SignupSessionRedisKeys.sessionKey(id);
+        List<String> names = VerificationRedisKeys.readOrder(t -> SignupSessionRedisKeys.sessionKey(t, id));
+        String sk = names.getFirst();
 
         // old email for index maintenance
         String oldEmailNorm = null;
-        Map<Object, Object> existing = redis.opsForHash().entries(sk);
-        if (existing != null && !existing.isEmpty()) {
-            oldEmailNorm = normalizeEmail(get(existing, "email"));
+        String storedAt = null;
+        for (String name : names) {
+            Map<Object, Object> existing = redis.opsForHash().entries(name);
+            if (existing != null && !existing.isEmpty()) {
+                oldEmailNorm = normalizeEmail(get(existing, "email"));
+                storedAt = name;
+                break;
+            }
         }
 
         // write hash
         SignupSessionSnapshot snap = SignupSessionSnapshotMapper.toSnapshot(session);
         redis.opsForHash().putAll(sk, toHash(snap));
+        // 다른 쪽 이름에 있던 session (쓰기 이름을 바꾸는 중): 옛 사본이 남으면 그쪽을 먼저 읽는 pod 가 지난 값을 봄
+        if (storedAt != null && !storedAt.equals(sk)) {
+            redis.delete(storedAt);
+        }
 
         // TTL
-        redis.expire(sk, ttlFrom(session.getExpiresAt(), clock));
+        Duration ttl = ttlFrom(session.getExpiresAt(), clock);
+        redis.expire(sk, ttl);
 
         // update email index (createdAt DESC semantics)
         String newEmailNorm = normalizeEmail(session.getEmail());
@@ -57,14 +80,27 @@ public class RedisSignupSessionAdapter implements SignupSessionStorePort {
             redis.expire(newIdx, Duration.ofDays(2));
         }
 
+        // expiry index: 만료 후 sweeper 가 email index 에서 이 session 을 뺌
+        if (oldEmailNorm != null && !oldEmailNorm.equals(newEmailNorm)) {
+            redis.opsForZSet().remove(SignupSessionRedisKeys.expiryKey(id), SignupSessionRedisKeys.expiryMember(id, oldEmailNorm));
+        }
+        redis.opsForZSet().add(
+                SignupSessionRedisKeys.expiryKey(id),
+                SignupSessionRedisKeys.expiryMember(id, newEmailNorm),
+                Instant.now(clock).plus(ttl).toEpochMilli());
+
         return session;
     }
 
     @Override
     public Optional<SignupSession> findById(UUID id) {
-        String sk = SignupSessionRedisKeys.sessionKey(id);
-
-        Map<Object, Object> raw = redis.opsForHash().entries(sk);
+        String sk = null;
+        Map<Object, Object> raw = null;
+        for (String name : VerificationRedisKeys.readOrder(t -> SignupSessionRedisKeys.sessionKey(t, id))) {
+            raw = redis.opsForHash().entries(name);
+            sk = name;
+            if (raw != null && !raw.isEmpty()) break;
+        }
         if (raw == null || raw.isEmpty()) return Optional.empty();
 
         // no old data -> no upgrade step
@@ -75,6 +111,11 @@ public class RedisSignupSessionAdapter implements SignupSessionStorePort {
         Instant now = Instant.now(clock);
         if (session.getExpiresAt() != null && !session.getExpiresAt().isAfter(now)) {
             redis.delete(sk);
+            // email index 정리는 sweeper 에게 (바로 due)
+            redis.opsForZSet().add(
+                    SignupSessionRedisKeys.expiryKey(id),
+                    SignupSessionRedisKeys.expiryMember(id, normalizeEmail(session.getEmail())),
+                    0);
             return Optional.empty();
         }
 
@@ -126,11 +167,90 @@ public class RedisSignupSessionAdapter implements SignupSessionStorePort {
         return Optional.empty();
     }
 
+    // ------------------------
+    // Expiry sweep (ExpiredIndexSweepPort)
+    // ------------------------
+
+    @Override
+    public String store() {
+        return "signup-session";
+    }
+
+    /**
+     * 1) pipeline: shard 마다 ZRANGEBYSCORE → 만료된 member 를 합쳐 limit 개 (RedisExpiryShards)
+     * 2) pipeline: ZREM (1 을 받은 인스턴스만 처리) + session PTTL
+     *    - session 이 아직 살아있으면 (그 사이 다시 저장됨) 남은 TTL 로 다시 등록하고 건너뜀
+     * 3) pipeline: signup:idx:email:{email} 에서 ZREM
+     */
+    @Override
+    public SweepResult sweepExpired(Instant now, int limit) {
+        List<String> expiryKeys = SignupSessionRedisKeys.expiryKeys();
+        long nowMs = now.toEpochMilli();
+        long emailOrphans = 0;
+        int swept = 0;
+
+        // member → 들어 있던 shard
+        Map<String, String> due = RedisExpiryShards.due(redis, expiryKeys, nextShard.getAndIncrement(), nowMs, limit);
+        if (!due.isEmpty()) {
+            List<String> members = List.copyOf(due.keySet());
+
+            // session 은 두 rollout 단계 이름 중 어디에 있을지 모름 (VerificationRedisKeys.readOrder) → 둘 다 PTTL
+            List<Object> claimed = redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection c = (StringRedisConnection) connection;
+                for (String m : members) {
+                    UUID id = SignupSessionRedisKeys.expiryMemberId(m);
+                    c.zRem(due.get(m), m);
+                    c.pTtl(SignupSessionRedisKeys.sessionKey(true, id));
+                    c.pTtl(SignupSessionRedisKeys.sessionKey(false, id));
+                }
+                return null;
+            });
+
+            List<String> expired = new ArrayList<>();
+            Map<String, Long> requeue = new LinkedHashMap<>();
+            for (int i = 0; i < members.size(); i++) {
+                if (!Long.valueOf(1L).equals(claimed.get(3 * i))) continue; // 다른 인스턴스가 가져감
+
+                long pttl = Math.max(toLong(claimed.get(3 * i + 1)), toLong(claimed.get(3 * i + 2)));
+                if (pttl > 0) requeue.put(members.get(i), nowMs + pttl);
+                else expired.add(members.get(i));
+            }
+
+            List<String> withEmail = expired.stream()
+                    .filter(m -> SignupSessionRedisKeys.expiryMemberEmail(m) != null)
+                    .toList();
+            List<Object> removed = redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection c = (StringRedisConnection) connection;
+                for (String m : withEmail) {
+                    c.zRem(SignupSessionRedisKeys.emailIndexKey(SignupSessionRedisKeys.expiryMemberEmail(m)),
+                            SignupSessionRedisKeys.expiryMemberId(m).toString());
+                }
+                // 나누기 전 키에서 꺼낸 것도 id 의 shard 로
+                requeue.forEach((m, score) ->
+                        c.zAdd(SignupSessionRedisKeys.expiryKey(SignupSessionRedisKeys.expiryMemberId(m)), score, m));
+                return null;
+            });
+
+            for (int i = 0; i < withEmail.size(); i++) {
+                if (removed.get(i) instanceof Long n) emailOrphans += n;
+            }
+            swept = expired.size();
+        }
+
+        long[] sizes = RedisExpiryShards.sizes(redis, expiryKeys, nowMs);
+
+        return new SweepResult(
+                swept,
+                emailOrphans == 0 ? Map.of() : Map.of("email", emailOrphans),
+                sizes[0],
+                sizes[1]);
+    }
+
     // ------------------------
     // Snapshot <-> Hash mapping
     // ------------------------
 
-    private static Map<String, String> toHash(SignupSessionSnapshot s) {
+    static Map<String, String> toHash(SignupSessionSnapshot s) {
         Map<String, String> m = new HashMap<>();
 
         m.put("schemaVersion", Integer.toString(s.schemaVersion()));
@@ -154,7 +274,7 @@ public class RedisSignupSessionAdapter implements SignupSessionStorePort {
         return m;
     }
 
-    private static SignupSessionSnapshot fromHash(UUID id, Map<Object, Object> raw) {
+    static SignupSessionSnapshot fromHash(UUID id, Map<Object, Object> raw) {
         return SignupSessionSnapshot.builder()
                 .schemaVersion(parseInt(get(raw, "schemaVersion"), 1))
                 .id(hasText(get(raw, "id")) ? get(raw, "id") : id.toString())
@@ -176,6 +296,10 @@ public class RedisSignupSessionAdapter implements SignupSessionStorePort {
                 .build();
     }
 
+    private static long toLong(Object v) {
+        return (v instanceof Long n) ? n : 0L;
+    }
+
     private static Duration ttlFrom(Instant expiresAt, Clock clock) {
         if (expiresAt == null) return Duration.ofHours(24);
 
@@ -189,7 +313,7 @@ public class RedisSignupSessionAdapter implements SignupSessionStorePort {
         return t.getEpochSecond();
     }
 
-    private static String normalizeEmail(String email) {
+    static String normalizeEmail(String email) {
         if (email == null) return null;
         String e = email.trim().toLowerCase(Locale.ROOT);
         return e.isBlank() ? null : e;
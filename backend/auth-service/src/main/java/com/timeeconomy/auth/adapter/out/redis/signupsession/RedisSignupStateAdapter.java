@@ -0,0 +1,199 @@
+package com.timeeconomy.auth.adapter.out.redis.signupsession;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.timeeconomy.auth.adapter.out.redis.verification.VerificationRedisKeys;
+import com.timeeconomy.auth.adapter.out.redis.verification.VerificationRedisScripts;
+import com.timeeconomy.auth.config.InMemoryStoreConfig;
+import com.timeeconomy.auth.domain.signupsession.model.SignupSession;
+import com.timeeconomy.auth.domain.signupsession.port.out.SignupSessionStorePort;
+import com.timeeconomy.auth.domain.signupsession.port.out.SignupStateStorePort;
+import com.timeeconomy.auth.domain.verification.model.VerificationAttemptResult;
+import com.timeeconomy.auth.domain.verification.model.VerificationChannel;
+import com.timeeconomy.auth.domain.verification.model.VerificationPurpose;
+import com.timeeconomy.auth.domain.verification.model.VerificationSubjectType;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * signup 한 단계 = 읽기 pipeline 1 번 + script 1 번.
+ * session hash 와 SIGNUP_SESSION challenge 키 (ch / pending / otp) 는 모두 {SIGNUP_SESSION:<uuid>} tag 라
+ * 같은 slot → cluster 에서도 pipeline / script 가 한 노드로 감 (tag 이름으로 쓰는 단계, VerificationRedisKeys).
+ */
+@Component
+@Profile("!" + InMemoryStoreConfig.PROFILE)
+@RequiredArgsConstructor
+public class RedisSignupStateAdapter implements SignupStateStorePort {
+
+    private static final VerificationSubjectType SUBJECT = VerificationSubjectType.SIGNUP_SESSION;
+
+    /**
+     * KEYS: 1=challenge hash, 2=session hash, 3=pending pointer, 4=otp index
+     * ARGV: 1=now millis, 2=codeHash, 3=destinationNorm, 4=challengeId, 5..=VERIFIED 일 때 쓸 session field/value
+     * return {outcome, destinationNorm, session 저장 여부 (1/0), tokenHash (끝난 challenge 에 link 가 걸려 있었으면)}
+     *
+     * 끝난 challenge (VERIFIED / EXPIRED / TOO_MANY_ATTEMPTS) 의 pointer 정리는 cleanupIndexesForTerminalOrNonPending 과 같은 범위.
+     * pending / otp 는 여기서, link / linkpub 은 키 이름에 tokenHash 가 들어가 (linkpub 은 tag 도 없음)
+     * script 가 돌려준 tokenHash 로 끝난 뒤 clearLinkPointers 에서 단일 키 명령으로.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> VERIFY_OTP_STEP = new DefaultRedisScript<>(
+            VerificationRedisScripts.VERIFY_ATTEMPT_FN + """
+            local r = verify_attempt(KEYS[1], ARGV[1], 'codeHash', ARGV[2], ARGV[3])
+            local outcome = r[1]
+            local th = ''
+            if outcome == 'VERIFIED' or outcome == 'EXPIRED' or outcome == 'TOO_MANY_ATTEMPTS' then
+              if redis.call('GET', KEYS[3]) == ARGV[4] then redis.call('DEL', KEYS[3]) end
+              th = redis.call('HGET', KEYS[1], 'tokenHash') or ''
+            end
+            if outcome ~= 'VERIFIED' then return {outcome, '', 0, th} end
+
+            redis.call('DEL', KEYS[4])
+            if redis.call('EXISTS', KEYS[2]) == 0 then return {outcome, r[2], 0, th} end
+            redis.call('HSET', KEYS[2], unpack(ARGV, 5))
+            return {outcome, r[2], 1, th}
+            """, List.class);
+
+    private final StringRedisTemplate redis;
+    private final SignupSessionStorePort sessions;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<SignupState> load(UUID sessionId, VerificationPurpose purpose, VerificationChannel channel) {
+        String sid = sessionId.toString();
+        // pending pointer 는 두 이름 다 (쓰기 이름을 바꾸는 동안 다른 pod 가 다른 쪽 이름으로 썼을 수 있음)
+        List<String> pendingKeys = VerificationRedisKeys.readOrder(t -> VerificationRedisKeys.pending(t, SUBJECT, sid, purpose, channel));
+
+        List<Object> r = redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.hGetAll(SignupSessionRedisKeys.sessionKey(sessionId));
+            pendingKeys.forEach(conn::get);
+            return null;
+        });
+
+        Map<Object, Object> raw = (Map<Object, Object>) r.get(0);
+        String challengeId = r.subList(1, r.size()).stream()
+                .filter(v -> v instanceof String s && !s.isBlank())
+                .map(String.class::cast)
+                .findFirst()
+                .orElse(null);
+
+        SignupSession session;
+        if (raw != null && !raw.isEmpty()) {
+            session = SignupSessionSnapshotMapper.toDomain(RedisSignupSessionAdapter.fromHash(sessionId, raw));
+        } else {
+            // 다른 쪽 이름의 session: 지금 쓰는 이름으로 한 번 옮겨 두면 다음부터는 위 경로 (script 의 KEYS[2])
+            Optional<SignupSession> other = sessions.findById(sessionId);
+            if (other.isEmpty()) return Optional.empty();
+            session = sessions.save(other.get());
+        }
+
+        return Optional.of(new SignupState(session, purpose, channel, challengeId));
+    }
+
+    @Override
+    public OtpStepResult verifyOtpStep(
+            SignupState state,
+            String destinationNorm,
+            String codeHash,
+            Consumer<SignupSession> onVerified,
+            Instant now
+    ) {
+        SignupSession current = state.session();
+        String challengeId = state.activeChallengeId();
+        if (challengeId == null) {
+            return new OtpStepResult(VerificationAttemptResult.notFound(), current);
+        }
+
+        // 검증 결과를 모르는 채로 전진 상태를 미리 계산 → 원본은 그대로 둠
+        SignupSession advanced = SignupSessionSnapshotMapper.toDomain(SignupSessionSnapshotMapper.toSnapshot(current));
+        onVerified.accept(advanced);
+
+        UUID id = current.getId();
+        String sid = id.toString();
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(now.toEpochMilli()));
+        args.add(codeHash);
+        args.add(destinationNorm);
+        args.add(challengeId);
+        RedisSignupSessionAdapter.toHash(SignupSessionSnapshotMapper.toSnapshot(advanced)).forEach((k, v) -> {
+            args.add(k);
+            args.add(v);
+        });
+
+        boolean tagged = VerificationRedisKeys.writesTaggedNames();
+        List<?> r = redis.execute(VERIFY_OTP_STEP,
+                stepKeys(tagged, state, id, challengeId, destinationNorm, codeHash), args.toArray());
+
+        // 쓰기 이름을 바꾸기 전에 만들어진 challenge: 다른 쪽 이름으로 한 번 더.
+        // 그 ch 가 있을 때만 (cluster 에서는 옛 이름이 다 옮겨진 뒤라 여기 안 옴 → slot 이 다른 키를 script 에 넣지 않음)
+        if ("NOT_FOUND".equals(String.valueOf(r.get(0)))
+                && Boolean.TRUE.equals(redis.hasKey(VerificationRedisKeys.ch(!tagged, SUBJECT, sid, challengeId)))) {
+            r = redis.execute(VERIFY_OTP_STEP,
+                    stepKeys(!tagged, state, id, challengeId, destinationNorm, codeHash), args.toArray());
+        }
+
+        VerificationAttemptResult attempt = new VerificationAttemptResult(
+                VerificationAttemptResult.Outcome.valueOf(String.valueOf(r.get(0))),
+                challengeId,
+                blankToNull(String.valueOf(r.get(1))));
+
+        String tokenHash = blankToNull(String.valueOf(r.get(3)));
+        if (tokenHash != null) {
+            clearLinkPointers(state, sid, challengeId, tokenHash);
+        }
+
+        if (!attempt.verified()) {
+            return new OtpStepResult(attempt, current);
+        }
+        if (!Long.valueOf(1L).equals(r.get(2))) {
+            return new OtpStepResult(attempt, null); // 그 사이 session 이 만료로 사라짐
+        }
+
+        // email / 만료 시각이 바뀌면 email index · expiry index 도 손봐야 함 → 일반 save 경로로
+        if (!Objects.equals(RedisSignupSessionAdapter.normalizeEmail(current.getEmail()),
+                RedisSignupSessionAdapter.normalizeEmail(advanced.getEmail()))
+                || !Objects.equals(current.getExpiresAt(), advanced.getExpiresAt())) {
+            sessions.save(advanced);
+        }
+
+        return new OtpStepResult(attempt, advanced);
+    }
+
+    // challenge 쪽 키는 그 challenge 가 저장된 이름으로, session 은 load 에서 지금 쓰는 이름으로 옮겨 둔 것
+    private static List<String> stepKeys(boolean tagged, SignupState state, UUID id, String challengeId,
+                                         String destinationNorm, String codeHash) {
+        String sid = id.toString();
+        return List.of(
+                VerificationRedisKeys.ch(tagged, SUBJECT, sid, challengeId),
+                SignupSessionRedisKeys.sessionKey(id),
+                VerificationRedisKeys.pending(tagged, SUBJECT, sid, state.purpose(), state.channel()),
+                VerificationRedisKeys.otp(tagged, SUBJECT, sid, state.purpose(), state.channel(), destinationNorm, codeHash)
+        );
+    }
+
+    // 다른 challenge 가 그 사이 같은 pointer 를 잡았으면 건드리지 않음 (compare-and-delete)
+    private void clearLinkPointers(SignupState state, String sid, String challengeId, String tokenHash) {
+        VerificationRedisKeys.readOrder(t -> VerificationRedisKeys.link(t, SUBJECT, sid, state.purpose(), state.channel(), tokenHash))
+                .forEach(k -> deleteIfValueMatches(k, challengeId));
+        deleteIfValueMatches(VerificationRedisKeys.linkPub(state.purpose(), state.channel(), tokenHash), challengeId);
+    }
+
+    private void deleteIfValueMatches(String key, String expectedValue) {
+        if (expectedValue.equals(redis.opsForValue().get(key))) {
+            redis.delete(key);
+        }
+    }
+
+    private static String blankToNull(String s) { return (s == null || s.isBlank()) ? null : s; }
+}
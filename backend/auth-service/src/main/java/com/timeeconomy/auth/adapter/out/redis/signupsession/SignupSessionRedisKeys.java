@@ -1,15 +1,68 @@
 package com.timeeconomy.auth.adapter.out.redis.signupsession;
 
+import java.util.List;
 import java.util.UUID;
 
+import com.timeeconomy.auth.adapter.out.redis.expiry.RedisExpiryShards;
+import com.timeeconomy.auth.adapter.out.redis.verification.VerificationRedisKeys;
+import com.timeeconomy.auth.domain.verification.model.VerificationSubjectType;
+
 public final class SignupSessionRedisKeys {
     private SignupSessionRedisKeys() {}
 
+    private static final int UUID_LENGTH = 36;
+
+    // {SIGNUP_SESSION:<uuid>}: 이 session 을 subject 로 하는 challenge 키들과 같은 slot
+    public static String slot(UUID id) {
+        return VerificationRedisKeys.slot(VerificationSubjectType.SIGNUP_SESSION, id.toString());
+    }
+
+    // 쓰기 이름은 VerificationRedisKeys.writesTaggedNames 를 따름 (challenge 키와 같은 단계여야 script 가 같은 slot)
     public static String sessionKey(UUID id) {
-        return "signup:sess:" + id;
+        return sessionKey(VerificationRedisKeys.writesTaggedNames(), id);
+    }
+
+    // false = tag 도입 전 키
+    public static String sessionKey(boolean tagged, UUID id) {
+        return "signup:sess:" + (tagged ? slot(id) : id.toString());
+    }
+
+    // "signup:sess:<uuid>" → sessionKey (null = 옮길 대상 아님). email index / signup:exp 는 단일 키 명령만 써서 이름 그대로
+    public static String fromLegacy(String key) {
+        if (!key.startsWith("signup:sess:") || key.indexOf('{') >= 0) return null;
+        try {
+            return sessionKey(true, UUID.fromString(key.substring("signup:sess:".length())));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 
     public static String emailIndexKey(String emailNorm) {
         return "signup:idx:email:" + emailNorm;
     }
+
+    private static final List<String> EXPIRY_KEYS = RedisExpiryShards.keys("signup:exp");
+
+    // ZSET member=expiryMember, score=만료 epoch millis (ExpiredIndexSweepPort). session id 로 고른 shard (RedisExpiryShards)
+    public static String expiryKey(UUID id) {
+        return RedisExpiryShards.key("signup:exp", id.toString());
+    }
+
+    // sweeper 가 도는 키: shard 전부 + 나누기 전 signup:exp
+    public static List<String> expiryKeys() {
+        return EXPIRY_KEYS;
+    }
+
+    // "{uuid} {emailNorm}" → session hash 가 사라진 뒤에도 어느 email index 에서 빼야 하는지 알 수 있음
+    public static String expiryMember(UUID id, String emailNorm) {
+        return emailNorm == null ? id.toString() : id + " " + emailNorm;
+    }
+
+    public static UUID expiryMemberId(String member) {
+        return UUID.fromString(member.substring(0, UUID_LENGTH));
+    }
+
+    public static String expiryMemberEmail(String member) {
+        return member.length() > UUID_LENGTH + 1 ? member.substring(UUID_LENGTH + 1) : null;
+    }
 }
\ No newline at end of file
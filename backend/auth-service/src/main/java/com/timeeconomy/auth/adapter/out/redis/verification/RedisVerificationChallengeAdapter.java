@@ -2,9 +2,18 @@ package com.timeeconomy.auth.adapter.out.redis.verification;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import com.timeeconomy.auth.adapter.out.redis.expiry.RedisExpiryShards;
+import com.timeeconomy.auth.config.InMemoryStoreConfig;
+import com.timeeconomy.auth.domain.common.expiry.port.ExpiredIndexSweepPort;
 import com.timeeconomy.auth.domain.verification.model.*;
 import com.timeeconomy.auth.domain.verification.port.out.VerificationChallengeRepositoryPort;
 
@@ -13,6 +22,7 @@ import static com.timeeconomy.auth.adapter.out.redis.verification.VerificationRe
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.time.Clock;
 
 import lombok.extern.slf4j.Slf4j;
@@ -20,12 +30,38 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Primary
 @Component
+@Profile("!" + InMemoryStoreConfig.PROFILE)
 @RequiredArgsConstructor
-public class RedisVerificationChallengeAdapter implements VerificationChallengeRepositoryPort {
+public class RedisVerificationChallengeAdapter implements VerificationChallengeRepositoryPort, ExpiredIndexSweepPort {
+
+    // vc:keys:{id} 는 ch 보다 조금 더 오래 남겨야 sweeper 가 읽을 수 있음
+    private static final Duration INDEX_KEYS_GRACE = Duration.ofMinutes(10);
+
+    // 그 사이 다른 challenge 가 같은 인덱스 키를 차지했으면 건드리지 않음
+    private static final String COMPARE_AND_DELETE = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """;
+
+    /**
+     * 검증 시도 한 번 (KEYS[1] = challenge hash 하나만 건드림).
+     * ARGV: 1=now millis, 2=비교할 필드 (codeHash | tokenHash), 3=입력 hash, 4=기대 destinationNorm ("" = 확인 안 함)
+     * return {outcome, destinationNorm}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> VERIFY_ATTEMPT = new DefaultRedisScript<>(
+            VerificationRedisScripts.VERIFY_ATTEMPT_FN
+                    + "return verify_attempt(KEYS[1], ARGV[1], ARGV[2], ARGV[3], ARGV[4])\n",
+            List.class);
 
     private final StringRedisTemplate redis;
     private final Clock clock;
 
+    // sweep 을 시작할 expiry shard (호출마다 하나씩 밀어서 앞 shard 만 먼저 비우지 않게)
+    private final AtomicInteger nextShard = new AtomicInteger();
+
     @Override
     public VerificationChallenge save(VerificationChallenge challenge) {
         Instant now = Instant.now(clock);
@@ -42,10 +78,11 @@ public class RedisVerificationChallengeAdapter implements VerificationChallengeR
         Duration ttl = ttlFrom(challenge, now);
 
         // 1) store main hash
-        String chKey = ch(id);
+        String chKey = ch(challenge.getSubjectType(), challenge.getSubjectId(), id);
         Map<String, String> fields = toHash(VerificationChallengeSnapshotMapper.toSnapshot(challenge));
         redis.opsForHash().putAll(chKey, fields);
         redis.expire(chKey, ttl);
+        dropOtherLayoutCopy(challenge, id);
 
         // 2) maintain "latest" pointer (polling/status)
         indexLatest(challenge, id, ttl);
@@ -57,12 +94,51 @@ public class RedisVerificationChallengeAdapter implements VerificationChallengeR
             cleanupIndexesForTerminalOrNonPending(challenge, id);
         }
 
+        // 4) expiry index: 만료 후 sweeper 가 위 인덱스 키들을 한 번에 정리
+        trackExpiry(challenge, id, ttl, now);
+
         return challenge;
     }
 
+    /**
+     * 쓰기 이름을 바꾸는 중 (VerificationRedisKeys.writeTaggedNames): 다른 쪽 이름에 남은 사본을 지움.
+     * 남겨 두면 findById 가 그쪽을 먼저 읽어 지난 상태를 돌려줄 수 있음. 단일 키 DEL 만 (cluster 에서 slot 이 달라도 됨)
+     */
+    private void dropOtherLayoutCopy(VerificationChallenge c, String id) {
+        boolean tagged = writesTaggedNames();
+        redis.delete(ch(!tagged, c.getSubjectType(), c.getSubjectId(), id));
+        if (!tagged) redis.delete(ref(id));
+    }
+
+    /**
+     * id 만 아는 조회: ref + {id} hash + tag 도입 전 hash 를 pipeline 으로 한 번에.
+     * ref 가 있으면 (signup challenge) session slot 의 hash 를 한 번 더 읽음. 없으면 나머지 둘 중 있는 쪽.
+     */
     @Override
+    @SuppressWarnings("unchecked")
     public Optional<VerificationChallenge> findById(String id) {
-        Map<Object, Object> raw = redis.opsForHash().entries(ch(id));
+        List<Object> r = redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.get(ref(id));
+            conn.hGetAll(ch("", id));
+            conn.hGetAll(legacyCh(id));
+            return null;
+        });
+
+        String chKey = null;
+        Map<Object, Object> raw = null;
+        if (r.get(0) instanceof String slot && !slot.isEmpty()) {
+            chKey = ch(slot, id);
+            raw = redis.opsForHash().entries(chKey);
+        }
+        if (raw == null || raw.isEmpty()) {
+            chKey = ch("", id);
+            raw = (Map<Object, Object>) r.get(1);
+        }
+        if ((raw == null || raw.isEmpty()) && r.get(2) instanceof Map<?, ?> legacy && !legacy.isEmpty()) {
+            chKey = legacyCh(id);
+            raw = (Map<Object, Object>) legacy;
+        }
         if (raw == null || raw.isEmpty()) return Optional.empty();
 
         VerificationChallengeSnapshot snap = VerificationChallengeSnapshotMapper.upgradeIfNeeded(fromHash(raw));
@@ -71,7 +147,8 @@ public class RedisVerificationChallengeAdapter implements VerificationChallengeR
         // extra guard: if expired pending, delete and return empty
         Instant now = Instant.now(clock);
         if (c.getStatus() == VerificationStatus.PENDING && c.isExpired(now)) {
-            redis.delete(ch(id));
+            redis.delete(chKey);
+            redis.opsForZSet().add(expiry(id), id, 0); // 인덱스 정리는 sweeper 에게 (바로 due)
             return Optional.empty();
         }
 
@@ -85,7 +162,7 @@ public class RedisVerificationChallengeAdapter implements VerificationChallengeR
             VerificationPurpose purpose,
             VerificationChannel channel
     ) {
-        String pid = redis.opsForValue().get(pending(subjectType, subjectId, purpose, channel));
+        String pid = getFirst(readOrder(t -> pending(t, subjectType, subjectId, purpose, channel)));
         if (pid == null || pid.isBlank()) return Optional.empty();
 
         return findById(pid)
@@ -101,7 +178,7 @@ public class RedisVerificationChallengeAdapter implements VerificationChallengeR
             String destinationNorm,
             String codeHash
     ) {
-        String id = redis.opsForValue().get(otp(subjectType, subjectId, purpose, channel, destinationNorm, codeHash));
+        String id = getFirst(readOrder(t -> otp(t, subjectType, subjectId, purpose, channel, destinationNorm, codeHash)));
         if (id == null || id.isBlank()) return Optional.empty();
 
         return findById(id)
@@ -118,7 +195,7 @@ public class RedisVerificationChallengeAdapter implements VerificationChallengeR
             VerificationChannel channel,
             String tokenHash
     ) {
-        String id = redis.opsForValue().get(link(subjectType, subjectId, purpose, channel, tokenHash));
+        String id = getFirst(readOrder(t -> link(t, subjectType, subjectId, purpose, channel, tokenHash)));
         if (id == null || id.isBlank()) return Optional.empty();
 
         return findById(id)
@@ -151,6 +228,72 @@ public class RedisVerificationChallengeAdapter implements VerificationChallengeR
         return findById(id);
     }
 
+    @Override
+    public VerificationAttemptResult verifyOtpAttempt(
+            VerificationSubjectType subjectType,
+            String subjectId,
+            VerificationPurpose purpose,
+            VerificationChannel channel,
+            String destinationNorm,
+            String codeHash,
+            Instant now
+    ) {
+        String id = getFirst(readOrder(t -> pending(t, subjectType, subjectId, purpose, channel)));
+        if (id == null || id.isBlank()) return VerificationAttemptResult.notFound();
+        return verifyAttempt(readOrder(t -> ch(t, subjectType, subjectId, id)), id,
+                "codeHash", codeHash, n(destinationNorm), now);
+    }
+
+    @Override
+    public VerificationAttemptResult verifyLinkAttempt(
+            VerificationPurpose purpose,
+            VerificationChannel channel,
+            String tokenHash,
+            Instant now
+    ) {
+        String id = redis.opsForValue().get(linkPub(purpose, channel, tokenHash));
+        if (id == null || id.isBlank()) return VerificationAttemptResult.notFound();
+        return verifyAttempt(List.of(resolveCh(id), legacyCh(id)), id, "tokenHash", tokenHash, "", now);
+    }
+
+    /**
+     * pointer GET 1 번 + script 1 번 (상태 전환은 script 안에서 원자적으로).
+     * PENDING 을 벗어난 경우에만 save() 와 같은 인덱스 정리를 한 번 더 (드묾: challenge 당 한 번).
+     *
+     * chKeys: 먼저 볼 이름부터. 다른 쪽 이름으로 저장된 challenge (migration 전 / 쓰기 이름을 바꾸는 중) 는 NOT_FOUND 뒤 다음 이름으로
+     */
+    private VerificationAttemptResult verifyAttempt(List<String> chKeys, String id, String hashField, String hash,
+                                                    String destinationNorm, Instant now) {
+        String chKey = null;
+        List<?> r = null;
+        for (String k : chKeys) {
+            chKey = k;
+            r = redis.execute(VERIFY_ATTEMPT, List.of(chKey),
+                    String.valueOf(now.toEpochMilli()), hashField, n(hash), destinationNorm);
+            if (!"NOT_FOUND".equals(String.valueOf(r.get(0)))) break;
+        }
+
+        VerificationAttemptResult.Outcome outcome = VerificationAttemptResult.Outcome.valueOf(String.valueOf(r.get(0)));
+        String verifiedDestination = blankToNull(String.valueOf(r.get(1)));
+        VerificationAttemptResult result = new VerificationAttemptResult(outcome, id, verifiedDestination);
+
+        if (result.leftPending()) {
+            Map<Object, Object> raw = redis.opsForHash().entries(chKey);
+            if (raw != null && !raw.isEmpty()) {
+                VerificationChallenge c = VerificationChallengeSnapshotMapper.toDomain(
+                        VerificationChallengeSnapshotMapper.upgradeIfNeeded(fromHash(raw)));
+                cleanupIndexesForTerminalOrNonPending(c, id);
+            }
+        }
+        return result;
+    }
+
+    // subject 를 모르는 경로 (link public pointer) 에서 challenge hash 키 찾기
+    private String resolveCh(String id) {
+        String slot = redis.opsForValue().get(ref(id));
+        return ch(slot == null ? "" : slot, id);
+    }
+
     @Override
     public void put(String challengeId, String rawCode, Duration ttl) {
         redis.opsForValue().set(rawOtp(challengeId), rawCode, ttl);
@@ -158,14 +301,13 @@ public class RedisVerificationChallengeAdapter implements VerificationChallengeR
 
     @Override
     public Optional<String> getAndDelete(String challengeId) {
-        String v = redis.opsForValue().getAndDelete(rawOtp(challengeId));
-        return Optional.ofNullable(v);
+        return Optional.ofNullable(getAndDeleteFirst(readOrder(t -> rawOtp(t, challengeId))));
     }
 
     @Override
     public Optional<String> getAndDeleteLinkToken(String challengeId) {
         String key = rawLink(challengeId);
-        String v = redis.opsForValue().getAndDelete(key);
+        String v = getAndDeleteFirst(readOrder(t -> rawLink(t, challengeId)));
         log.warn("[REDIS] getAndDeleteLinkToken key={} hit={}", key, (v != null));
         return Optional.ofNullable(v);
     }
@@ -178,6 +320,135 @@ public class RedisVerificationChallengeAdapter implements VerificationChallengeR
                 key, ttl.toSeconds(), rawToken.length());
     }
 
+    // 두 rollout 단계 이름 중 먼저 찾은 값 (VerificationRedisKeys.readOrder)
+    private String getFirst(List<String> keys) {
+        for (String k : keys) {
+            String v = redis.opsForValue().get(k);
+            if (v != null && !v.isBlank()) return v;
+        }
+        return null;
+    }
+
+    private String getAndDeleteFirst(List<String> keys) {
+        for (String k : keys) {
+            String v = redis.opsForValue().getAndDelete(k);
+            if (v != null) return v;
+        }
+        return null;
+    }
+
+    // -------------------------
+    // Expiry sweep (ExpiredIndexSweepPort)
+    // -------------------------
+
+    @Override
+    public String store() {
+        return "verification";
+    }
+
+    /**
+     * 1) pipeline: shard 마다 ZRANGEBYSCORE → 만료된 id 를 합쳐 limit 개 (RedisExpiryShards)
+     * 2) pipeline: ZREM (1 을 받은 인스턴스만 처리) + ref + SMEMBERS vc:keys (두 rollout 단계 이름 다)
+     * 3) pipeline: ch PTTL (tag 이름 / 옛 이름 둘 다, 긴 쪽)
+     *    - ch 가 아직 살아있으면 (그 사이 다시 저장됨) 남은 TTL 로 다시 등록하고 건너뜀
+     * 4) pipeline: 인덱스 키마다 compare-and-delete, raw OTP/link, ref 와 vc:keys 삭제
+     *    - 옛 이름은 tag 가 없어 slot 이 제각각 → 키 하나씩 DEL
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public SweepResult sweepExpired(Instant now, int limit) {
+        long nowMs = now.toEpochMilli();
+        Map<String, Long> orphans = new TreeMap<>();
+        int swept = 0;
+
+        // id → 들어 있던 shard
+        Map<String, String> due = RedisExpiryShards.due(redis, expiryKeys(), nextShard.getAndIncrement(), nowMs, limit);
+        if (!due.isEmpty()) {
+            List<String> ids = List.copyOf(due.keySet());
+
+            List<Object> claimed = redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection c = (StringRedisConnection) connection;
+                for (String id : ids) {
+                    c.zRem(due.get(id), id);
+                    c.get(ref(id));
+                    c.sMembers(indexKeys(true, id));
+                    c.sMembers(indexKeys(false, id));
+                }
+                return null;
+            });
+
+            Map<String, String> chKeys = new LinkedHashMap<>();
+            Map<String, Set<String>> indexed = new HashMap<>();
+            for (int i = 0; i < ids.size(); i++) {
+                if (!Long.valueOf(1L).equals(claimed.get(4 * i))) continue; // 다른 인스턴스가 가져감
+
+                String slot = (claimed.get(4 * i + 1) instanceof String s) ? s : "";
+                chKeys.put(ids.get(i), ch(slot, ids.get(i)));
+                Set<String> keys = new HashSet<>();
+                if (claimed.get(4 * i + 2) instanceof Set<?> tagged) keys.addAll((Set<String>) tagged);
+                if (claimed.get(4 * i + 3) instanceof Set<?> legacy) keys.addAll((Set<String>) legacy);
+                indexed.put(ids.get(i), keys);
+            }
+
+            List<Object> pttls = chKeys.isEmpty() ? List.of() : redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection c = (StringRedisConnection) connection;
+                chKeys.forEach((id, chKey) -> {
+                    c.pTtl(chKey);
+                    c.pTtl(legacyCh(id));
+                });
+                return null;
+            });
+
+            Map<String, Set<String>> expired = new LinkedHashMap<>();
+            Map<String, Long> requeue = new LinkedHashMap<>();
+            int j = 0;
+            for (String id : chKeys.keySet()) {
+                long pttl = Math.max(toLong(pttls.get(j)), toLong(pttls.get(j + 1)));
+                j += 2;
+                if (pttl > 0) requeue.put(id, nowMs + pttl);
+                else expired.put(id, indexed.get(id));
+            }
+
+            // pipeline 결과와 같은 순서로 "무슨 키였는지" (null = 집계 안 함)
+            List<String> kinds = new ArrayList<>();
+            List<Object> deleted = redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection c = (StringRedisConnection) connection;
+                expired.forEach((id, keys) -> {
+                    for (String k : keys) {
+                        kinds.add(indexKind(k));
+                        c.eval(COMPARE_AND_DELETE, ReturnType.INTEGER, 1, k, id);
+                    }
+                    kinds.add("raw");
+                    c.del(rawOtp(true, id), rawLink(true, id));
+                    kinds.add("raw");
+                    c.del(rawOtp(false, id));
+                    kinds.add("raw");
+                    c.del(rawLink(false, id));
+                    kinds.add(null);
+                    c.del(indexKeys(true, id), ref(id));
+                    kinds.add(null);
+                    c.del(indexKeys(false, id));
+                });
+                // 나누기 전 키에서 꺼낸 것도 id 의 shard 로
+                requeue.forEach((id, score) -> {
+                    kinds.add(null);
+                    c.zAdd(expiry(id), score, id);
+                });
+                return null;
+            });
+
+            for (int i = 0; i < kinds.size(); i++) {
+                if (kinds.get(i) != null && deleted.get(i) instanceof Long removed && removed > 0) {
+                    orphans.merge(kinds.get(i), removed, Long::sum);
+                }
+            }
+            swept = expired.size();
+        }
+
+        long[] sizes = RedisExpiryShards.sizes(redis, expiryKeys(), nowMs);
+        return new SweepResult(swept, orphans, sizes[0], sizes[1]);
+    }
+
     // -------------------------
     // Index helpers
     // -------------------------
@@ -213,25 +484,25 @@ public class RedisVerificationChallengeAdapter implements VerificationChallengeR
     }
 
     private void cleanupIndexesForTerminalOrNonPending(VerificationChallenge c, String id) {
-        // SAFE pending-pointer cleanup (compare-and-delete)
-        String pk = pending(c.getSubjectType(), c.getSubjectId(), c.getPurpose(), c.getChannel());
-        deleteIfValueMatches(pk, id);
+        // SAFE pending-pointer cleanup (compare-and-delete). pointer 는 challenge 가 저장된 쪽 이름이라 둘 다
+        readOrder(t -> pending(t, c.getSubjectType(), c.getSubjectId(), c.getPurpose(), c.getChannel()))
+                .forEach(pk -> deleteIfValueMatches(pk, id));
 
         // Optional cleanup: delete verify index keys for this exact record
         if (notBlank(c.getCodeHash())) {
-            redis.delete(otp(
-                    c.getSubjectType(), c.getSubjectId(),
+            readOrder(t -> otp(
+                    t, c.getSubjectType(), c.getSubjectId(),
                     c.getPurpose(), c.getChannel(),
                     c.getDestinationNorm(), c.getCodeHash()
-            ));
+            )).forEach(redis::delete);
         }
 
         if (notBlank(c.getTokenHash())) {
-            redis.delete(link(
-                    c.getSubjectType(), c.getSubjectId(),
+            readOrder(t -> link(
+                    t, c.getSubjectType(), c.getSubjectId(),
                     c.getPurpose(), c.getChannel(),
                     c.getTokenHash()
-            ));
+            )).forEach(redis::delete);
             redis.delete(linkPub(c.getPurpose(), c.getChannel(), c.getTokenHash()));
         }
     }
@@ -243,6 +514,39 @@ public class RedisVerificationChallengeAdapter implements VerificationChallengeR
         }
     }
 
+    private void trackExpiry(VerificationChallenge c, String id, Duration ttl, Instant now) {
+        List<String> keys = new ArrayList<>(5);
+        keys.add(latest(c.getDestinationNorm(), c.getPurpose(), c.getChannel()));
+        keys.add(pending(c.getSubjectType(), c.getSubjectId(), c.getPurpose(), c.getChannel()));
+        if (notBlank(c.getCodeHash())) {
+            keys.add(otp(c.getSubjectType(), c.getSubjectId(), c.getPurpose(), c.getChannel(),
+                    c.getDestinationNorm(), c.getCodeHash()));
+        }
+        if (notBlank(c.getTokenHash())) {
+            keys.add(link(c.getSubjectType(), c.getSubjectId(), c.getPurpose(), c.getChannel(), c.getTokenHash()));
+            keys.add(linkPub(c.getPurpose(), c.getChannel(), c.getTokenHash()));
+        }
+
+        String keysKey = indexKeys(id);
+        // ref 는 tag 이름으로 쓰는 단계에서만 (옛 이름의 ch 는 id 만으로 찾음)
+        String slot = writesTaggedNames() ? slot(c.getSubjectType(), c.getSubjectId()) : "";
+        long deadline = now.plus(ttl).toEpochMilli();
+        redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.sAdd(keysKey, keys.toArray(String[]::new));
+            conn.pExpire(keysKey, ttl.plus(INDEX_KEYS_GRACE).toMillis());
+            if (!slot.isEmpty()) {
+                conn.pSetEx(ref(id), ttl.plus(INDEX_KEYS_GRACE).toMillis(), slot);
+            }
+            conn.zAdd(expiry(id), deadline, id);
+            return null;
+        });
+    }
+
+    private static long toLong(Object v) {
+        return (v instanceof Long n) ? n : 0L;
+    }
+
     private static boolean notBlank(String s) {
         return s != null && !s.isBlank();
     }
@@ -2,7 +2,7 @@ package com.timeeconomy.auth.adapter.out.redis.verification;
 
 import lombok.Builder;
 
-@Builder
+@Builder(toBuilder = true)
 public record VerificationChallengeSnapshot(
         int schemaVersion,
         String id,
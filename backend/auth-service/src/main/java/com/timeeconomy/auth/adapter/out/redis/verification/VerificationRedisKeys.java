@@ -1,27 +1,102 @@
 package com.timeeconomy.auth.adapter.out.redis.verification;
 
+import com.timeeconomy.auth.adapter.out.redis.expiry.RedisExpiryShards;
 import com.timeeconomy.auth.domain.verification.model.*;
 
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Redis Cluster 기준 key 설계: 한 명령 / script 에 같이 들어가는 키끼리만 같은 hash tag.
+ *
+ * - {<challengeId>}        : ch (signup 제외), raw OTP/link, keys, ref → DEL 여러 키 / 이후 script 확장 가능
+ * - {SIGNUP_SESSION:<uuid>}: signup challenge 의 ch / pending / otp / link + signup:sess (RedisSignupStateAdapter script)
+ * - tag 없음               : latest, linkpub, 다른 subject 의 pending / otp / link, vc:exp:<shard> → 항상 단일 키 명령
+ *
+ * tag 도입 전 이름은 fromLegacy / legacyChId 로 새 이름을 계산 (RedisLegacyKeyMigrationJob).
+ *
+ * 쓰기는 writeTaggedNames 로 고른 한쪽 이름만, 읽기는 항상 두 이름 다 (readOrder).
+ * → 옛 버전 pod 와 섞여 도는 동안에도, 쓰기 이름을 바꾸는 rolling restart 동안에도 서로 쓴 키를 찾음
+ *   (rollout 순서는 RedisKeyMigrationProperties).
+ */
 public final class VerificationRedisKeys {
     private VerificationRedisKeys() {}
 
-    public static String ch(String id) {
-        return "vc:ch:" + id;
+    // false = tag 도입 전 이름으로 씀. RedisKeyMigrationConfig 가 기동 시 app.redis.key-migration.write-tagged 로 설정
+    private static volatile boolean writeTagged = false;
+
+    public static void writeTaggedNames(boolean tagged) {
+        writeTagged = tagged;
+    }
+
+    public static boolean writesTaggedNames() {
+        return writeTagged;
+    }
+
+    /**
+     * 읽을 이름 순서: 지금 쓰는 이름 → 다른 쪽 이름 (둘이 같으면 하나).
+     * 예) readOrder(t -> pending(t, st, sid, p, c))
+     */
+    public static List<String> readOrder(Function<Boolean, String> name) {
+        String current = name.apply(writeTagged);
+        String other = name.apply(!writeTagged);
+        return current.equals(other) ? List.of(current) : List.of(current, other);
+    }
+
+    /**
+     * subject 단위 hash tag ("" = tag 없음).
+     * 지금은 signup session 만: {SIGNUP_SESSION:<uuid>} → signup:sess 와 같은 slot 이라
+     * session + 그 단계의 challenge 를 script 하나로 다룰 수 있음 (SignupSessionRedisKeys 참고).
+     */
+    public static String slot(VerificationSubjectType st, String sid) {
+        return st == VerificationSubjectType.SIGNUP_SESSION ? "{" + st.name() + ":" + sid + "}" : "";
+    }
+
+    public static String ch(String slot, String id) {
+        return slot.isEmpty() ? "vc:ch:" + tag(id) : "vc:ch:" + slot + ":" + id;
+    }
+
+    public static String ch(VerificationSubjectType st, String sid, String id) {
+        return ch(writeTagged, st, sid, id);
+    }
+
+    public static String ch(boolean tagged, VerificationSubjectType st, String sid, String id) {
+        return tagged ? ch(slot(st, sid), id) : legacyCh(id);
+    }
+
+    // STRING: challengeId → slot (tag 가 붙은 challenge 만). id 만 아는 조회 (findById / sweeper) 용
+    public static String ref(String id) {
+        return "vc:ref:" + tag(id);
     }
 
     public static String pending(VerificationSubjectType st, String sid, VerificationPurpose p, VerificationChannel c) {
-        return "vc:pending:" + st.name() + ":" + sid + ":" + p.name() + ":" + c.name();
+        return pending(writeTagged, st, sid, p, c);
+    }
+
+    public static String pending(boolean tagged, VerificationSubjectType st, String sid, VerificationPurpose p,
+                                 VerificationChannel c) {
+        return "vc:pending:" + subject(tagged, st, sid) + ":" + p.name() + ":" + c.name();
     }
 
     public static String otp(VerificationSubjectType st, String sid, VerificationPurpose p, VerificationChannel c,
                              String destinationNorm, String codeHash) {
-        return "vc:otp:" + st.name() + ":" + sid + ":" + p.name() + ":" + c.name()
+        return otp(writeTagged, st, sid, p, c, destinationNorm, codeHash);
+    }
+
+    public static String otp(boolean tagged, VerificationSubjectType st, String sid, VerificationPurpose p,
+                             VerificationChannel c, String destinationNorm, String codeHash) {
+        return "vc:otp:" + subject(tagged, st, sid) + ":" + p.name() + ":" + c.name()
                 + ":" + destinationNorm + ":" + codeHash;
     }
 
     public static String link(VerificationSubjectType st, String sid, VerificationPurpose p, VerificationChannel c,
                               String tokenHash) {
-        return "vc:link:" + st.name() + ":" + sid + ":" + p.name() + ":" + c.name()
+        return link(writeTagged, st, sid, p, c, tokenHash);
+    }
+
+    public static String link(boolean tagged, VerificationSubjectType st, String sid, VerificationPurpose p,
+                              VerificationChannel c, String tokenHash) {
+        return "vc:link:" + subject(tagged, st, sid) + ":" + p.name() + ":" + c.name()
                 + ":" + tokenHash;
     }
 
@@ -34,10 +109,89 @@ public final class VerificationRedisKeys {
     }
 
     public static String rawOtp(String id) {
-        return "vc:raw:otp:" + id;
+        return rawOtp(writeTagged, id);
+    }
+
+    public static String rawOtp(boolean tagged, String id) {
+        return "vc:raw:otp:" + (tagged ? tag(id) : id);
     }
 
     public static String rawLink(String id) {
-        return "vc:raw:link:" + id;
+        return rawLink(writeTagged, id);
+    }
+
+    public static String rawLink(boolean tagged, String id) {
+        return "vc:raw:link:" + (tagged ? tag(id) : id);
+    }
+
+    private static final List<String> EXPIRY_KEYS = RedisExpiryShards.keys("vc:exp");
+
+    // ZSET member=challengeId, score=만료 epoch millis (ExpiredIndexSweepPort). id 로 고른 shard (RedisExpiryShards)
+    public static String expiry(String id) {
+        return RedisExpiryShards.key("vc:exp", id);
+    }
+
+    // sweeper 가 도는 키: shard 전부 + 나누기 전 vc:exp
+    public static List<String> expiryKeys() {
+        return EXPIRY_KEYS;
+    }
+
+    // SET: 이 challenge 를 가리키도록 써 둔 인덱스 키들 (ch 가 사라진 뒤에도 정리할 수 있게)
+    public static String indexKeys(String id) {
+        return indexKeys(writeTagged, id);
+    }
+
+    public static String indexKeys(boolean tagged, String id) {
+        return "vc:keys:" + (tagged ? tag(id) : id);
+    }
+
+    // -------------------------
+    // tag 도입 전 이름 (migration / read fallback)
+    // -------------------------
+
+    public static String legacyCh(String id) {
+        return "vc:ch:" + id;
+    }
+
+    // "vc:ch:<id>" (tag 없음) → id. 새 ch 키는 subject 를 hash 에서 읽어야 계산 가능해서 따로
+    public static String legacyChId(String key) {
+        return key.startsWith("vc:ch:") && key.indexOf('{') < 0 ? key.substring("vc:ch:".length()) : null;
+    }
+
+    /**
+     * 이름만으로 계산되는 옛 키 → 새 키 (null = 옮길 대상 아님: 이미 새 이름이거나 이름이 안 바뀐 키)
+     */
+    public static String fromLegacy(String key) {
+        if (key.indexOf('{') >= 0) return null;
+
+        if (key.startsWith("vc:raw:otp:")) return rawOtp(true, key.substring("vc:raw:otp:".length()));
+        if (key.startsWith("vc:raw:link:")) return rawLink(true, key.substring("vc:raw:link:".length()));
+        if (key.startsWith("vc:keys:")) return indexKeys(true, key.substring("vc:keys:".length()));
+        if (key.startsWith("vc:ref:")) return ref(key.substring("vc:ref:".length()));
+
+        // signup subject 의 pointer: vc:{pending|otp|link}:SIGNUP_SESSION:<uuid>:...
+        String[] p = key.split(":", 5);
+        if (p.length == 5
+                && (p[1].equals("pending") || p[1].equals("otp") || p[1].equals("link"))
+                && p[2].equals(VerificationSubjectType.SIGNUP_SESSION.name())) {
+            return "vc:" + p[1] + ":" + subject(true, VerificationSubjectType.SIGNUP_SESSION, p[3]) + ":" + p[4];
+        }
+        return null;
+    }
+
+    private static String tag(String id) {
+        return "{" + id + "}";
+    }
+
+    private static String subject(boolean tagged, VerificationSubjectType st, String sid) {
+        String slot = tagged ? slot(st, sid) : "";
+        return slot.isEmpty() ? st.name() + ":" + sid : slot;
+    }
+
+    // "vc:pending:..." → "pending" (metrics tag)
+    public static String indexKind(String key) {
+        int start = key.indexOf(':') + 1;
+        int end = key.indexOf(':', start);
+        return (start <= 0 || end < 0) ? "unknown" : key.substring(start, end);
     }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.timeeconomy.auth.adapter.out.redis.verification;
+
+/**
+ * 검증 시도 Lua 조각. challenge 단독 script (RedisVerificationChallengeAdapter) 와
+ * signup 단계 script (RedisSignupStateAdapter) 가 같은 규칙을 쓰도록 함수로 정의만 해 둠.
+ */
+public final class VerificationRedisScripts {
+    private VerificationRedisScripts() {}
+
+    /**
+     * verify_attempt(key, now, field, hash, dest) → {outcome, destinationNorm}
+     * key = challenge hash, field = 비교할 필드 (codeHash | tokenHash), dest = 기대 destinationNorm ("" = 확인 안 함)
+     */
+    public static final String VERIFY_ATTEMPT_FN = """
+            local function verify_attempt(key, now, field, hash, dest)
+              local h = redis.call('HMGET', key, 'status', 'expiresAtEpochMillis', 'attemptCount', 'maxAttempts',
+                                   field, 'destinationNorm')
+              if not h[1] then return {'NOT_FOUND', ''} end
+              if dest ~= '' and h[6] ~= dest then return {'DESTINATION_MISMATCH', ''} end
+              if h[1] ~= 'PENDING' then return {'NOT_PENDING', ''} end
+
+              local exp = tonumber(h[2])
+              if exp and tonumber(now) > exp then
+                redis.call('HSET', key, 'status', 'EXPIRED', 'updatedAtEpochMillis', now)
+                return {'EXPIRED', ''}
+              end
+
+              local attempts = tonumber(h[3]) or 0
+              local max = tonumber(h[4]) or 5
+              if attempts >= max then
+                redis.call('HSET', key, 'status', 'CANCELED', 'updatedAtEpochMillis', now)
+                return {'TOO_MANY_ATTEMPTS', ''}
+              end
+
+              attempts = attempts + 1
+              if h[5] ~= hash then
+                redis.call('HSET', key, 'attemptCount', attempts, 'updatedAtEpochMillis', now)
+                return {'MISMATCH', ''}
+              end
+
+              redis.call('HSET', key, 'attemptCount', attempts, 'status', 'VERIFIED',
+                         'verifiedAtEpochMillis', now, 'updatedAtEpochMillis', now)
+              return {'VERIFIED', h[6]}
+            end
+            """;
+}
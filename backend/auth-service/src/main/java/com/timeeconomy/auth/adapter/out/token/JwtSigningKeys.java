@@ -0,0 +1,136 @@
+package com.timeeconomy.auth.adapter.out.token;
+
+import com.timeeconomy.auth.config.JwtEs256Properties;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * access token 서명 키 묶음.
+ *
+ * - HS256 : jwt.secret (공유 비밀키, 검증하는 쪽도 같은 비밀키 필요)
+ * - ES256 : active kid 의 EC(P-256) private key 로 서명, public key 들은 JWKS 로 공개
+ */
+@Slf4j
+public final class JwtSigningKeys {
+
+    public enum Alg { HS256, ES256 }
+
+    private final Alg alg;
+    private final SecretKey hmacKey;                     // HS256
+    private final String activeKid;                      // ES256
+    private final PrivateKey activePrivateKey;           // ES256
+    private final Map<String, ECPublicKey> publicKeys;   // ES256 (kid → key), JWKS 공개 대상
+
+    private JwtSigningKeys(Alg alg, SecretKey hmacKey, String activeKid, PrivateKey activePrivateKey,
+                           Map<String, ECPublicKey> publicKeys) {
+        this.alg = alg;
+        this.hmacKey = hmacKey;
+        this.activeKid = activeKid;
+        this.activePrivateKey = activePrivateKey;
+        this.publicKeys = publicKeys;
+    }
+
+    public static JwtSigningKeys load(String signingAlg, String secret, JwtEs256Properties es256) {
+        Alg alg = Alg.valueOf(signingAlg.trim().toUpperCase());
+
+        if (alg == Alg.HS256) {
+            if (secret == null || secret.isBlank()) {
+                throw new IllegalStateException("jwt.secret is required for HS256");
+            }
+            // JJWT 0.12+ expects binary key for HMAC
+            return new JwtSigningKeys(alg, Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)),
+                    null, null, Map.of());
+        }
+
+        if (es256.keys().isEmpty()) {
+            // replica 가 여럿이거나 재시작하면 다른 인스턴스가 발급한 토큰은 전부 검증 실패 → 명시적으로 허용할 때만
+            if (!es256.allowEphemeralKey()) {
+                throw new IllegalStateException(
+                        "jwt.es256.keys is empty. Configure ES256 keys, or set jwt.es256.allow-ephemeral-key=true (local single instance only)");
+            }
+            // ✅ 로컬 개발용: 기동마다 새 키 (재시작하면 기존 토큰은 모두 무효)
+            KeyPair kp = generateEcKeyPair();
+            String kid = "ephemeral-" + UUID.randomUUID();
+            log.warn("[JWT] ES256 selected but no jwt.es256.keys configured. Using ephemeral key kid={}", kid);
+            return new JwtSigningKeys(alg, null, kid, kp.getPrivate(), Map.of(kid, (ECPublicKey) kp.getPublic()));
+        }
+
+        Map<String, ECPublicKey> pubs = new LinkedHashMap<>();
+        PrivateKey activePrivate = null;
+
+        for (JwtEs256Properties.Key k : es256.keys()) {
+            pubs.put(k.kid(), (ECPublicKey) parsePublicKey(k.publicKey()));
+            if (k.kid().equals(es256.activeKid())) {
+                if (k.privateKey() == null || k.privateKey().isBlank()) {
+                    throw new IllegalStateException("active ES256 key has no private key. kid=" + k.kid());
+                }
+                activePrivate = parsePrivateKey(k.privateKey());
+            }
+        }
+
+        if (activePrivate == null) {
+            throw new IllegalStateException("jwt.es256.active-kid not found in jwt.es256.keys: " + es256.activeKid());
+        }
+
+        log.info("[JWT] ES256 signing. activeKid={} publishedKids={}", es256.activeKid(), pubs.keySet());
+        return new JwtSigningKeys(alg, null, es256.activeKid(), activePrivate, Collections.unmodifiableMap(pubs));
+    }
+
+    public Alg alg() { return alg; }
+    public SecretKey hmacKey() { return hmacKey; }
+    public String activeKid() { return activeKid; }
+    public PrivateKey activePrivateKey() { return activePrivateKey; }
+    public Map<String, ECPublicKey> publicKeys() { return publicKeys; }
+
+    // -----------------------
+    // PEM helpers
+    // -----------------------
+
+    private static PrivateKey parsePrivateKey(String pem) {
+        try {
+            return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(pemBody(pem)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid ES256 private key", e);
+        }
+    }
+
+    private static java.security.PublicKey parsePublicKey(String pem) {
+        try {
+            return KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(pemBody(pem)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid ES256 public key", e);
+        }
+    }
+
+    private static byte[] pemBody(String pem) {
+        String body = pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(body);
+    }
+
+    private static KeyPair generateEcKeyPair() {
+        try {
+            KeyPairGenerator g = KeyPairGenerator.getInstance("EC");
+            g.initialize(new ECGenParameterSpec("secp256r1"));
+            return g.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("EC key generation failed", e);
+        }
+    }
+}
@@ -1,40 +1,37 @@
 package com.timeeconomy.auth.adapter.out.token;
 
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.MacAlgorithm;
-import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.timeeconomy.auth.domain.auth.port.out.JwtPublicKeySetPort;
 import com.timeeconomy.auth.domain.auth.port.out.JwtTokenPort;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.math.BigInteger;
+import java.security.interfaces.ECPublicKey;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Component
-public class JwtTokenAdapter implements JwtTokenPort {
+public class JwtTokenAdapter implements JwtTokenPort, JwtPublicKeySetPort {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final JwtSigningKeys keys;
+    private final long accessTokenExpSeconds;
+    private final String issuer;
 
-    @Value("${jwt.access-token-exp-seconds}")
-    private long accessTokenExpSeconds;
-
-    @Value("${jwt.issuer}")
-    private String issuer;
-
-    private SecretKey key;
-    private MacAlgorithm alg;
-
-    @PostConstruct
-    public void init() {
-        // HS256 algorithm
-        this.alg = Jwts.SIG.HS256;
-
-        // JJWT 0.12+ expects binary key for HMAC
-        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    public JwtTokenAdapter(
+            JwtSigningKeys keys,
+            @Value("${jwt.access-token-exp-seconds}") long accessTokenExpSeconds,
+            @Value("${jwt.issuer}") String issuer
+    ) {
+        this.keys = keys;
+        this.accessTokenExpSeconds = accessTokenExpSeconds;
+        this.issuer = issuer;
     }
 
     @Override
@@ -43,12 +40,51 @@ public class JwtTokenAdapter implements JwtTokenPort {
         Date now = new Date();
         Date exp = new Date(now.getTime() + accessTokenExpSeconds * 1000);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(String.valueOf(userId))
                 .issuer(issuer)
                 .issuedAt(now)
-                .expiration(exp)
-                .signWith(key, alg)
+                .expiration(exp);
+
+        if (keys.alg() == JwtSigningKeys.Alg.ES256) {
+            // kid → 검증 측(JWKS)이 어떤 public key 로 검증할지 결정
+            return builder
+                    .header().keyId(keys.activeKid()).and()
+                    .signWith(keys.activePrivateKey(), Jwts.SIG.ES256)
+                    .compact();
+        }
+
+        return builder
+                .signWith(keys.hmacKey(), Jwts.SIG.HS256)
                 .compact();
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Map<String, Object>> publicJwks() {
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        keys.publicKeys().forEach((kid, key) -> jwks.add(toJwk(kid, key)));
+        return jwks;
+    }
+
+    // RFC 7518 §6.2.1 (EC P-256)
+    private static Map<String, Object> toJwk(String kid, ECPublicKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", "ES256");
+        jwk.put("x", base64Url(key.getW().getAffineX()));
+        jwk.put("y", base64Url(key.getW().getAffineY()));
+        return jwk;
+    }
+
+    private static String base64Url(BigInteger coordinate) {
+        // unsigned, left-padded to 32 bytes
+        byte[] raw = coordinate.toByteArray();
+        byte[] out = new byte[32];
+        int copy = Math.min(raw.length, 32);
+        System.arraycopy(raw, raw.length - copy, out, 32 - copy, copy);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(out);
+    }
+}
@@ -0,0 +1,33 @@
+package com.timeeconomy.auth.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import com.timeeconomy.auth.adapter.out.inmemory.TimerWheel;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * verification challenge / signup session 을 Redis 대신 프로세스 메모리에 (부하 테스트, 단일 노드 설치).
+ * SPRING_PROFILES_ACTIVE=in-memory-store → Redis*Adapter 대신 InMemory*Adapter.
+ *
+ * 인스턴스끼리 공유되지 않으므로 replica 1 개일 때만 (재시작하면 진행 중 signup / OTP 는 사라짐).
+ * email change request 캐시는 계속 Redis 를 씀.
+ */
+@Configuration
+@Profile(InMemoryStoreConfig.PROFILE)
+public class InMemoryStoreConfig {
+
+    public static final String PROFILE = "in-memory-store";
+
+    // 100ms x 4096 ≈ 7 분 한 바퀴 (OTP 10 분 / session 24 시간은 몇 바퀴 돌다가 실행)
+    private static final Duration TICK = Duration.ofMillis(100);
+    private static final int WHEEL_SIZE = 4096;
+
+    @Bean(destroyMethod = "close")
+    public TimerWheel inMemoryStoreTimerWheel(Clock clock) {
+        return new TimerWheel(clock, TICK, WHEEL_SIZE);
+    }
+}
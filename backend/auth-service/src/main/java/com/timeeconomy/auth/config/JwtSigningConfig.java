@@ -0,0 +1,21 @@
+package com.timeeconomy.auth.config;
+
+import com.timeeconomy.auth.adapter.out.token.JwtSigningKeys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(JwtEs256Properties.class)
+public class JwtSigningConfig {
+
+    @Bean
+    public JwtSigningKeys jwtSigningKeys(
+            @Value("${jwt.signing-alg:HS256}") String signingAlg,
+            @Value("${jwt.secret:}") String secret,
+            JwtEs256Properties es256
+    ) {
+        return JwtSigningKeys.load(signingAlg, secret, es256);
+    }
+}
@@ -0,0 +1,9 @@
+package com.timeeconomy.auth.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RedisExpiryProperties.class)
+public class RedisExpiryConfig {
+}
@@ -0,0 +1,23 @@
+package com.timeeconomy.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Redis 보조 인덱스 만료 정리 (RedisIndexExpiryWorker).
+ *
+ * - interval   : 밀린 게 없을 때 sweep 간격 (batch 를 꽉 채웠으면 바로 다음 sweep)
+ * - batch-size : sweep 한 번에 저장소별 최대 처리 레코드 수
+ */
+@ConfigurationProperties(prefix = "app.redis.expiry")
+public record RedisExpiryProperties(
+        boolean enabled,
+        Duration interval,
+        int batchSize
+) {
+    public RedisExpiryProperties {
+        if (interval == null) interval = Duration.ofSeconds(1);
+        if (batchSize <= 0) batchSize = 500;
+    }
+}
@@ -0,0 +1,29 @@
+package com.timeeconomy.auth.config;
+
+import com.timeeconomy.auth.adapter.out.redis.verification.VerificationRedisKeys;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+/**
+ * 쓰기 이름 단계를 기동 시 한 번 정함 (RedisKeyMigrationProperties rollout 순서).
+ * 옛 이름은 tag 가 없어 signup script 의 키들이 slot 을 넘음 → cluster 에서는 새 이름으로만.
+ */
+@Configuration
+@EnableConfigurationProperties(RedisKeyMigrationProperties.class)
+public class RedisKeyMigrationConfig {
+
+    public RedisKeyMigrationConfig(
+            RedisKeyMigrationProperties props,
+            ObjectProvider<RedisConnectionFactory> connectionFactory
+    ) {
+        if (!props.writeTagged()
+                && connectionFactory.getIfAvailable() instanceof LettuceConnectionFactory cf && cf.isClusterAware()) {
+            throw new IllegalStateException(
+                    "app.redis.key-migration.write-tagged=false on a cluster connection (legacy key names span slots)");
+        }
+        VerificationRedisKeys.writeTaggedNames(props.writeTagged());
+    }
+}
@@ -0,0 +1,36 @@
+package com.timeeconomy.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * hash tag 도입 전 이름 → 새 이름 전환 (VerificationRedisKeys / SignupSessionRedisKeys).
+ *
+ * - write-tagged : 새 이름으로 쓰기. false 면 옛 이름으로 씀. 읽기는 어느 쪽이든 두 이름 다
+ * - enabled      : 옛 이름의 키를 새 이름으로 옮기는 job (RedisLegacyKeyMigrationJob). write-tagged=true 일 때만 돎
+ * - interval     : pass 간격
+ * - scan-count   : SCAN COUNT 힌트
+ *
+ * rollout 순서 (단계마다 따로 배포, 앞 단계 rollout 이 끝난 뒤 다음 단계):
+ * 1) 새 버전 배포, write-tagged=false
+ *    - 읽기만 두 이름 다, 쓰기는 옛 이름 그대로 → 아직 남은 옛 버전 pod (옛 이름만 읽음) 와 섞여도 서로 쓴 키를 찾음
+ * 2) 옛 버전 pod 가 하나도 없을 때 write-tagged=true
+ *    - rolling restart 동안 두 설정이 섞여도 양쪽 다 두 이름을 읽으므로 안전
+ * 3) 그 다음 enabled=true → 한 pass 가 moved=0 이면 끄기
+ * 4) 그 다음에 cluster 로 전환 (redis-cluster profile, write-tagged=true 아니면 기동 실패)
+ *
+ * job 은 단일 primary 에서만 동작 (SCAN / RENAME 이 cluster 에서는 노드·slot 을 넘지 못함) → cluster 전환 전에 끝낼 것.
+ */
+@ConfigurationProperties(prefix = "app.redis.key-migration")
+public record RedisKeyMigrationProperties(
+        boolean writeTagged,
+        boolean enabled,
+        Duration interval,
+        int scanCount
+) {
+    public RedisKeyMigrationProperties {
+        if (interval == null) interval = Duration.ofSeconds(10);
+        if (scanCount <= 0) scanCount = 1000;
+    }
+}
@@ -1,8 +1,17 @@
 package com.timeeconomy.auth.domain.auth.model.payload;
 
+import java.time.LocalDate;
 import java.util.UUID;
 
+/**
+ * v1 mapper 는 userId / signupSessionId 만, v2 mapper 는 프로필 필드까지 이벤트에 싣는다.
+ */
 public record AuthUserRegisteredPayload(
         Long userId,
-        UUID signupSessionId
-) {}
\ No newline at end of file
+        UUID signupSessionId,
+        String email,
+        String phoneNumber,
+        String name,
+        String gender,
+        LocalDate birthDate
+) {}
@@ -0,0 +1,15 @@
+package com.timeeconomy.auth.domain.auth.port.in;
+
+import java.util.List;
+import java.util.Map;
+
+public interface GetJwksUseCase {
+
+    /**
+     * access token 검증용 public key 목록 (JWKS).
+     * gateway / downstream 서비스가 공유 비밀키 없이 토큰을 직접 검증할 때 사용.
+     */
+    JwksResult getJwks();
+
+    record JwksResult(List<Map<String, Object>> keys) { }
+}
@@ -0,0 +1,13 @@
+package com.timeeconomy.auth.domain.auth.port.out;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Port for publishing the public keys that verify access tokens (JWK format).
+ * Empty when tokens are signed with a shared secret.
+ */
+public interface JwtPublicKeySetPort {
+
+    List<Map<String, Object>> publicJwks();
+}
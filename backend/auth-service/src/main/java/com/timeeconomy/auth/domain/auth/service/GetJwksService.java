@@ -0,0 +1,19 @@
+package com.timeeconomy.auth.domain.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import com.timeeconomy.auth.domain.auth.port.in.GetJwksUseCase;
+import com.timeeconomy.auth.domain.auth.port.out.JwtPublicKeySetPort;
+
+@Service
+@RequiredArgsConstructor
+public class GetJwksService implements GetJwksUseCase {
+
+    private final JwtPublicKeySetPort jwtPublicKeySetPort;
+
+    @Override
+    public JwksResult getJwks() {
+        return new JwksResult(jwtPublicKeySetPort.publicJwks());
+    }
+}
@@ -16,6 +16,7 @@ import com.timeeconomy.auth.domain.signupsession.model.SignupSession;
 import com.timeeconomy.auth.domain.signupsession.port.out.SignupSessionStorePort;
 import com.timeeconomy.auth.domain.auth.model.payload.AuthUserRegisteredPayload;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,6 +41,11 @@ public class RegisterService implements RegisterUseCase {
 
     private final Clock clock;
 
+    // true: AuthUserRegistered.v2 (프로필 포함) → consumer 가 internal signup session 콜백 없이 처리
+    // consumer(user/notification) 가 v2 topic 을 구독한 뒤에 켬
+    @Value("${app.auth.registered-event.embed-profile:false}")
+    private boolean embedProfile;
+
     @Override
     @Transactional
     public RegisterResult register(RegisterCommand command) {
@@ -93,13 +99,18 @@ public class RegisterService implements RegisterUseCase {
         // ✅ OUTBOX EVENT APPEND (for CDC / Debezium)
         String payloadJson = outboxPayloadSerializerPort.serialize(new AuthUserRegisteredPayload(
                 saved.getId(),
-                command.signupSessionId()
+                command.signupSessionId(),
+                saved.getEmail(),
+                saved.getPhoneNumber(),
+                session.getName(),
+                session.getGender(),
+                session.getBirthDate()
         ));
 
         OutboxEvent event = OutboxEvent.newPending(
                 "auth_user",               // aggregateType
                 saved.getId().toString(),   // aggregateId
-                "AuthUserRegistered.v1",    // eventType
+                embedProfile ? "AuthUserRegistered.v2" : "AuthUserRegistered.v1", // eventType
                 payloadJson,
                 now
         );
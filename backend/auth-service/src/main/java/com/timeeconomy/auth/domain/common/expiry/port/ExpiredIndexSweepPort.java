@@ -0,0 +1,30 @@
+package com.timeeconomy.auth.domain.common.expiry.port;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * TTL 로 사라지는 레코드(verification challenge, signup session)의 보조 인덱스 정리.
+ *
+ * 저장소는 레코드마다 "논리적 만료 시각"을 시간순 expiry index 에 같이 적어 두고,
+ * sweeper 가 만료된 것부터 batch 로 꺼내 그 레코드를 가리키던 인덱스 키를 한 번에 지운다.
+ * (인덱스 키가 자기 TTL 까지 남아 메모리를 차지하는 것 방지)
+ */
+public interface ExpiredIndexSweepPort {
+
+    // metrics tag (예: "verification", "signup-session")
+    String store();
+
+    /**
+     * now 이전에 만료된 레코드 최대 limit 개 처리. 여러 인스턴스가 동시에 돌아도 레코드당 한 번만 처리.
+     */
+    SweepResult sweepExpired(Instant now, int limit);
+
+    /**
+     * @param swept          이번에 처리한 만료 레코드 수
+     * @param orphansRemoved 인덱스 종류별로 "아직 만료된 레코드를 가리키고 있던" 키 수 (= 정리 안 했으면 남았을 orphan)
+     * @param backlog        처리 후에도 남은 만료 레코드 수
+     * @param tracked        expiry index 전체 크기
+     */
+    record SweepResult(int swept, Map<String, Long> orphansRemoved, long backlog, long tracked) {}
+}
@@ -0,0 +1,52 @@
+package com.timeeconomy.auth.domain.signupsession.port.out;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.timeeconomy.auth.domain.signupsession.model.SignupSession;
+import com.timeeconomy.auth.domain.verification.model.VerificationAttemptResult;
+import com.timeeconomy.auth.domain.verification.model.VerificationChannel;
+import com.timeeconomy.auth.domain.verification.model.VerificationPurpose;
+
+/**
+ * signup session + 그 session 을 subject 로 하는 active challenge 를 한 덩어리로 다루는 저장소.
+ * (SignupSessionStorePort + VerificationChallengeRepositoryPort 를 따로 부르면 한 단계에 왕복이 여러 번)
+ */
+public interface SignupStateStorePort {
+
+    /**
+     * session 과 (purpose, channel) 의 pending challenge id 를 한 번에 읽음.
+     * 만료/종료 여부는 보지 않음 (호출 쪽에서 판단).
+     */
+    Optional<SignupState> load(UUID sessionId, VerificationPurpose purpose, VerificationChannel channel);
+
+    /**
+     * OTP 검증 시도 + VERIFIED 일 때만 session 전진 (onVerified 적용 결과 저장) 을 원자적으로.
+     * 반환되는 session 은 VERIFIED 면 전진한 상태 (그 사이 session 이 만료로 사라졌으면 null),
+     * 아니면 state.session() 그대로.
+     */
+    OtpStepResult verifyOtpStep(
+            SignupState state,
+            String destinationNorm,
+            String codeHash,
+            Consumer<SignupSession> onVerified,
+            Instant now
+    );
+
+    /**
+     * @param activeChallengeId pending challenge 가 없으면 null
+     */
+    record SignupState(
+            SignupSession session,
+            VerificationPurpose purpose,
+            VerificationChannel channel,
+            String activeChallengeId
+    ) {}
+
+    record OtpStepResult(
+            VerificationAttemptResult attempt,
+            SignupSession session
+    ) {}
+}
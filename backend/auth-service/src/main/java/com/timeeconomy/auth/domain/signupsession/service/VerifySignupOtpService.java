@@ -3,7 +3,6 @@ package com.timeeconomy.auth.domain.signupsession.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.timeeconomy.auth.domain.exception.SignupSessionNotFoundException;
 import com.timeeconomy.auth.domain.signupsession.exception.SignupSessionInvalidStateException;
@@ -12,14 +11,15 @@ import com.timeeconomy.auth.domain.signupsession.model.SignupSessionState;
 import com.timeeconomy.auth.domain.signupsession.model.SignupVerificationTarget;
 import com.timeeconomy.auth.domain.signupsession.port.in.VerifySignupOtpUseCase;
 import com.timeeconomy.auth.domain.signupsession.port.out.SignupSessionStorePort;
+import com.timeeconomy.auth.domain.signupsession.port.out.SignupStateStorePort;
 import com.timeeconomy.auth.domain.verification.model.VerificationChannel;
 import com.timeeconomy.auth.domain.verification.model.VerificationPurpose;
-import com.timeeconomy.auth.domain.verification.model.VerificationSubjectType;
-import com.timeeconomy.auth.domain.verification.port.in.VerifyOtpUseCase;
+import com.timeeconomy.auth.domain.verification.port.out.VerificationTokenHasherPort;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -27,95 +27,78 @@ import java.util.UUID;
 public class VerifySignupOtpService implements VerifySignupOtpUseCase {
 
     private final SignupSessionStorePort signupSessionStorePort;
-    private final VerifyOtpUseCase verifyOtpUseCase;
+    private final SignupStateStorePort signupStateStorePort;
+    private final VerificationTokenHasherPort hasher;
     private final Clock clock;
 
+    /**
+     * session + pending challenge 읽기 1 번, 검증 + session 전진 1 번 (SignupStateStorePort).
+     * (예전: session 읽기 → challenge pointer/script → session 다시 읽고 쓰고 index 갱신 … 왕복 10 번 가까이)
+     */
     @Override
-    @Transactional
     public Result verify(Command command) {
         final Instant now = Instant.now(clock);
         final UUID sessionId = command.sessionId();
+        final boolean email = command.target() == SignupVerificationTarget.EMAIL;
 
-        SignupSession session = signupSessionStorePort
-                .findActiveById(sessionId, now)
+        SignupStateStorePort.SignupState state = signupStateStorePort
+                .load(sessionId,
+                        email ? VerificationPurpose.SIGNUP_EMAIL : VerificationPurpose.SIGNUP_PHONE,
+                        email ? VerificationChannel.EMAIL : VerificationChannel.SMS)
+                .filter(s -> !s.session().isTerminal())
                 .orElseThrow(() -> new SignupSessionNotFoundException(sessionId));
 
+        SignupSession session = state.session();
+
         // materialize expiry (if your store can return non-expired only, this is optional)
         if (session.expireIfNeeded(now)) {
             signupSessionStorePort.save(session);
             throw new SignupSessionNotFoundException(sessionId);
         }
 
-        if (command.target() == SignupVerificationTarget.EMAIL) {
-            return verifyEmailOtp(command, session, now);
-        }
-
-        return verifyPhoneOtp(command, session, now);
-    }
-
-    private Result verifyEmailOtp(Command command, SignupSession session, Instant now) {
-        // ✅ allow email verify only after EMAIL_OTP_SENT
-        if (session.getState() != SignupSessionState.EMAIL_OTP_SENT) {
-            throw new SignupSessionInvalidStateException("verify EMAIL otp", session.getState());
-        }
-
-        String destination = session.getEmail();
-        if (destination == null || destination.isBlank()) {
-            throw new SignupSessionInvalidStateException("verify EMAIL otp (email missing)", session.getState());
-        }
-
-        boolean ok = verifyOtpUseCase.verifyOtp(
-                new VerifyOtpUseCase.VerifyOtpCommand(
-                        VerificationSubjectType.SIGNUP_SESSION,
-                        session.getId().toString(),
-                        VerificationPurpose.SIGNUP_EMAIL,
-                        VerificationChannel.EMAIL,
-                        destination,
-                        command.code()
-                )
-        ).success();
-
-        if (!ok) {
-            // wrong code is NOT exceptional
-            return fail(session);
+        if (email) {
+            // ✅ allow email verify only after EMAIL_OTP_SENT
+            if (session.getState() != SignupSessionState.EMAIL_OTP_SENT) {
+                throw new SignupSessionInvalidStateException("verify EMAIL otp", session.getState());
+            }
+            String destination = session.getEmail();
+            if (destination == null || destination.isBlank()) {
+                throw new SignupSessionInvalidStateException("verify EMAIL otp (email missing)", session.getState());
+            }
+            return verifyStep(state, VerificationChannel.EMAIL.normalizeDestination(destination), command.code(),
+                    s -> s.markEmailVerified(now), now);
         }
 
-        session.markEmailVerified(now);
-        signupSessionStorePort.save(session);
-
-        return success(session);
-    }
-
-    private Result verifyPhoneOtp(Command command, SignupSession session, Instant now) {
         // ✅ allow phone verify only after PHONE_OTP_SENT
         if (session.getState() != SignupSessionState.PHONE_OTP_SENT) {
             throw new SignupSessionInvalidStateException("verify PHONE otp", session.getState());
         }
-
         String destination = session.getPhoneNumber();
         if (destination == null || destination.isBlank()) {
             throw new SignupSessionInvalidStateException("verify PHONE otp (phone missing)", session.getState());
         }
+        return verifyStep(state, VerificationChannel.SMS.normalizeDestination(destination), command.code(),
+                s -> s.markPhoneVerified(now), now);
+    }
 
-        boolean ok = verifyOtpUseCase.verifyOtp(
-                new VerifyOtpUseCase.VerifyOtpCommand(
-                        VerificationSubjectType.SIGNUP_SESSION,
-                        session.getId().toString(),
-                        VerificationPurpose.SIGNUP_PHONE,
-                        VerificationChannel.SMS,
-                        destination,
-                        command.code()
-                )
-        ).success();
-
-        if (!ok) {
-            return fail(session);
+    private Result verifyStep(
+            SignupStateStorePort.SignupState state,
+            String destinationNorm,
+            String code,
+            Consumer<SignupSession> onVerified,
+            Instant now
+    ) {
+        SignupStateStorePort.OtpStepResult step = signupStateStorePort.verifyOtpStep(
+                state, destinationNorm, hasher.hash(code), onVerified, now);
+
+        if (!step.attempt().verified()) {
+            // wrong code is NOT exceptional
+            return fail(state.session());
         }
-
-        session.markPhoneVerified(now);
-        signupSessionStorePort.save(session);
-
-        return success(session);
+        if (step.session() == null) {
+            throw new SignupSessionNotFoundException(state.session().getId());
+        }
+        return success(step.session());
     }
 
     private Result success(SignupSession session) {
@@ -0,0 +1,13 @@
+package com.timeeconomy.auth.domain.verification.model;
+
+/**
+ * 이벤트에 실어 보내는 암호화된 OTP / link URL (envelope encryption 결과).
+ * notification-service 만 공유 KEK(keyId)로 열 수 있음.
+ */
+public record SealedSecret(
+        String keyId,
+        String alg,
+        byte[] wrappedKey,
+        byte[] iv,
+        byte[] ciphertext
+) {}
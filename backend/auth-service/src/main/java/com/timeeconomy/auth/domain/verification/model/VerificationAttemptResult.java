@@ -0,0 +1,37 @@
+package com.timeeconomy.auth.domain.verification.model;
+
+/**
+ * 검증 시도 한 번의 결과 (저장소가 상태 확인 → 시도 횟수 증가 → hash 비교 → VERIFIED 전환을 원자적으로 수행).
+ *
+ * @param challengeId     대상 challenge (NOT_FOUND 면 null)
+ * @param destinationNorm VERIFIED 일 때만 채움
+ */
+public record VerificationAttemptResult(
+        Outcome outcome,
+        String challengeId,
+        String destinationNorm
+) {
+
+    public enum Outcome {
+        VERIFIED,
+        MISMATCH,               // 시도 횟수만 증가
+        NOT_FOUND,
+        NOT_PENDING,            // 이미 VERIFIED / CONSUMED / CANCELED / EXPIRED
+        DESTINATION_MISMATCH,   // 시도 횟수 증가 안 함
+        EXPIRED,                // 이번 시도로 EXPIRED 전환
+        TOO_MANY_ATTEMPTS       // 이번 시도로 CANCELED 전환
+    }
+
+    public static VerificationAttemptResult notFound() {
+        return new VerificationAttemptResult(Outcome.NOT_FOUND, null, null);
+    }
+
+    public boolean verified() {
+        return outcome == Outcome.VERIFIED;
+    }
+
+    // PENDING → 다른 상태로 바뀐 결과 (인덱스 정리 대상)
+    public boolean leftPending() {
+        return outcome == Outcome.VERIFIED || outcome == Outcome.EXPIRED || outcome == Outcome.TOO_MANY_ATTEMPTS;
+    }
+}
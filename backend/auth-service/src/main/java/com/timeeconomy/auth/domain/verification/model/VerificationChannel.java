@@ -1,5 +1,19 @@
 package com.timeeconomy.auth.domain.verification.model;
 
+import java.util.Locale;
+
 public enum VerificationChannel {
-    EMAIL, SMS
-}
\ No newline at end of file
+    EMAIL, SMS;
+
+    /**
+     * challenge 의 destinationNorm 규칙 (생성 / 검증 양쪽이 같은 값을 써야 destination 비교가 맞음).
+     * EMAIL: trim + 소문자, SMS: trim
+     */
+    public String normalizeDestination(String destination) {
+        if (destination == null) return "";
+        String d = destination.trim();
+        if (this == EMAIL) return d.toLowerCase(Locale.ROOT);
+        // TODO: SMS normalize to E.164 later
+        return d;
+    }
+}
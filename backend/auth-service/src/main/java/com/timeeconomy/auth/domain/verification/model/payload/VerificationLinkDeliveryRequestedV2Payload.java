@@ -0,0 +1,16 @@
+package com.timeeconomy.auth.domain.verification.model.payload;
+
+import com.timeeconomy.auth.domain.verification.model.SealedSecret;
+
+import java.util.UUID;
+
+public record VerificationLinkDeliveryRequestedV2Payload(
+        UUID verificationChallengeId,
+        String purpose,
+        String channel,
+        String subjectType,
+        String subjectId,
+        String destinationNorm,
+        int ttlSeconds,
+        SealedSecret encryptedLinkUrl
+) {}
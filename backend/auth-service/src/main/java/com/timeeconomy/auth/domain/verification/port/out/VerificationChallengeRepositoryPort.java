@@ -2,6 +2,7 @@ package com.timeeconomy.auth.domain.verification.port.out;
 
 import java.util.Optional;
 import java.time.Duration;
+import java.time.Instant;
 import com.timeeconomy.auth.domain.verification.model.*;
 
 public interface VerificationChallengeRepositoryPort {
@@ -59,6 +60,30 @@ public interface VerificationChallengeRepositoryPort {
             String tokenHash
     );
 
+    /**
+     * OTP 검증 한 번을 원자적으로: 활성 PENDING 의 destination 확인 → 만료 / 시도 횟수 확인 →
+     * attemptCount 증가 → codeHash 비교 → VERIFIED 전환 (동시 시도가 maxAttempts 를 넘지 못함)
+     */
+    VerificationAttemptResult verifyOtpAttempt(
+            VerificationSubjectType subjectType,
+            String subjectId,
+            VerificationPurpose purpose,
+            VerificationChannel channel,
+            String destinationNorm,
+            String codeHash,
+            Instant now
+    );
+
+    /**
+     * public link 검증 한 번을 원자적으로 (destination 확인 없음, 나머지는 verifyOtpAttempt 와 동일)
+     */
+    VerificationAttemptResult verifyLinkAttempt(
+            VerificationPurpose purpose,
+            VerificationChannel channel,
+            String tokenHash,
+            Instant now
+    );
+
     /**
      * status/polling: 목적(purpose) 기준 최신 요청
      */
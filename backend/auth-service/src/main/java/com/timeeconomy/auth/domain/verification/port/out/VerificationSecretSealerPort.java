@@ -0,0 +1,17 @@
+package com.timeeconomy.auth.domain.verification.port.out;
+
+import com.timeeconomy.auth.domain.verification.model.SealedSecret;
+
+public interface VerificationSecretSealerPort {
+
+    /**
+     * true  = embedded 모드: 비밀값을 암호화해서 v2 이벤트에 직접 싣는다 (internal 콜백 없음)
+     * false = callback 모드: 비밀값은 Redis 에 두고 notification 이 internal API 로 1회 조회 (v1)
+     */
+    boolean embedInEvent();
+
+    /**
+     * @param associatedData 암호문을 특정 challenge 에 묶는 AAD (다른 이벤트로 옮겨 붙이기 방지)
+     */
+    SealedSecret seal(String secret, String associatedData);
+}
@@ -10,9 +10,12 @@ import com.timeeconomy.auth.domain.outbox.port.out.OutboxPayloadSerializerPort;
 import com.timeeconomy.auth.domain.verification.model.VerificationChallenge;
 import com.timeeconomy.auth.domain.verification.model.VerificationChannel;
 import com.timeeconomy.auth.domain.verification.model.payload.VerificationLinkDeliveryRequestedPayload;
+import com.timeeconomy.auth.domain.verification.model.payload.VerificationLinkDeliveryRequestedV2Payload;
 import com.timeeconomy.auth.domain.verification.port.in.CreateLinkUseCase;
 import com.timeeconomy.auth.domain.verification.port.out.VerificationChallengeRepositoryPort;
+import com.timeeconomy.auth.domain.verification.port.out.VerificationSecretSealerPort;
 import com.timeeconomy.auth.domain.verification.port.out.VerificationTokenHasherPort;
+import com.timeeconomy.auth.domain.verification.port.out.internal.VerificationLinkBuilderPort;
 
 import java.security.SecureRandom;
 import java.time.Instant;
@@ -27,6 +30,8 @@ public class CreateLinkService implements CreateLinkUseCase {
     private final VerificationTokenHasherPort hasher;
     private final OutboxEventRepositoryPort outboxEventRepositoryPort;
     private final OutboxPayloadSerializerPort outboxPayloadSerializerPort;
+    private final VerificationSecretSealerPort secretSealer;
+    private final VerificationLinkBuilderPort linkBuilder;
 
     private final java.time.Clock clock;
 
@@ -58,7 +63,7 @@ public class CreateLinkService implements CreateLinkUseCase {
                 command.subjectType(),
                 command.subjectId(),
                 command.destination(),
-                normalizeDestination(command.channel(), command.destination()),
+                command.channel().normalizeDestination(command.destination()),
                 tokenHash,
                 expiresAt,
                 // link usually doesn’t need “max attempts”, but keep it consistent
@@ -70,26 +75,51 @@ public class CreateLinkService implements CreateLinkUseCase {
 
         VerificationChallenge saved = repo.save(challenge);
 
-        repo.putLinkToken(saved.getId(), rawToken, command.ttl());
-
         int ttlSeconds = (int) Math.max(1, command.ttl().toSeconds());
-        
-        String payloadJson = outboxPayloadSerializerPort.serialize(
-                new VerificationLinkDeliveryRequestedPayload(
-                        UUID.fromString(saved.getId()), // saved.getId() is String -> UUID
-                        command.purpose().name(),
-                        command.channel().name(),
-                        command.subjectType().name(),
-                        command.subjectId(),
-                        normalizeDestination(command.channel(), command.destination()),
-                        ttlSeconds
-                )
-        );
+        UUID challengeId = UUID.fromString(saved.getId()); // saved.getId() is String -> UUID
+        String destinationNorm = command.channel().normalizeDestination(command.destination());
+
+        final String eventType;
+        final String payloadJson;
+
+        if (secretSealer.embedInEvent()) {
+            // embedded: 완성된 link URL 을 암호화해서 v2 이벤트에 직접 실음 (internal link-url 콜백 불필요)
+            String linkUrl = linkBuilder.buildLinkUrl(rawToken, command.purpose());
+
+            eventType = "VerificationLinkDeliveryRequested.v2";
+            payloadJson = outboxPayloadSerializerPort.serialize(
+                    new VerificationLinkDeliveryRequestedV2Payload(
+                            challengeId,
+                            command.purpose().name(),
+                            command.channel().name(),
+                            command.subjectType().name(),
+                            command.subjectId(),
+                            destinationNorm,
+                            ttlSeconds,
+                            secretSealer.seal(linkUrl, saved.getId())
+                    )
+            );
+        } else {
+            repo.putLinkToken(saved.getId(), rawToken, command.ttl());
+
+            eventType = "VerificationLinkDeliveryRequested.v1";
+            payloadJson = outboxPayloadSerializerPort.serialize(
+                    new VerificationLinkDeliveryRequestedPayload(
+                            challengeId,
+                            command.purpose().name(),
+                            command.channel().name(),
+                            command.subjectType().name(),
+                            command.subjectId(),
+                            destinationNorm,
+                            ttlSeconds
+                    )
+            );
+        }
 
         OutboxEvent event = OutboxEvent.newPending(
                 "verification_challenge",
                 saved.getId(),
-                "VerificationLinkDeliveryRequested.v1",
+                eventType,
                 payloadJson,
                 now
         );
@@ -110,14 +140,6 @@ public class CreateLinkService implements CreateLinkUseCase {
         return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 
-    private String normalizeDestination(VerificationChannel channel, String destination) {
-        if (destination == null) return "";
-        String d = destination.trim();
-        if (channel == VerificationChannel.EMAIL) return d.toLowerCase();
-        // TODO: SMS normalize to E.164 later
-        return d;
-    }
-
     private String maskDestination(VerificationChannel channel, String destination) {
         if (destination == null) return "***";
         if (channel == VerificationChannel.EMAIL) {
@@ -10,8 +10,10 @@ import com.timeeconomy.auth.domain.outbox.port.out.OutboxPayloadSerializerPort;
 import com.timeeconomy.auth.domain.verification.model.VerificationChallenge;
 import com.timeeconomy.auth.domain.verification.model.VerificationChannel;
 import com.timeeconomy.auth.domain.verification.model.payload.VerificationOtpDeliveryRequestedPayload;
+import com.timeeconomy.auth.domain.verification.model.payload.VerificationOtpDeliveryRequestedV2Payload;
 import com.timeeconomy.auth.domain.verification.port.in.CreateOtpUseCase;
 import com.timeeconomy.auth.domain.verification.port.out.VerificationChallengeRepositoryPort;
+import com.timeeconomy.auth.domain.verification.port.out.VerificationSecretSealerPort;
 import com.timeeconomy.auth.domain.verification.port.out.VerificationTokenHasherPort;
 
 import java.util.UUID;
@@ -28,6 +30,7 @@ public class CreateOtpService implements CreateOtpUseCase {
     private final VerificationTokenHasherPort hasher;
     private final OutboxEventRepositoryPort outboxEventRepositoryPort;
     private final OutboxPayloadSerializerPort outboxPayloadSerializerPort;
+    private final VerificationSecretSealerPort secretSealer;
     private final java.time.Clock clock;
 
     private final SecureRandom random = new SecureRandom();
@@ -61,7 +64,7 @@ public class CreateOtpService implements CreateOtpUseCase {
                 command.subjectType(),
                 command.subjectId(),
                 command.destination(),
-                normalizeDestination(command.channel(), command.destination()),
+                command.channel().normalizeDestination(command.destination()),
                 codeHash,
                 expiresAt,
                 command.maxAttempts(),
@@ -72,26 +75,50 @@ public class CreateOtpService implements CreateOtpUseCase {
 
         VerificationChallenge saved = repo.save(challenge);
         
-        repo.put(saved.getId(), rawCode, command.ttl());
-        
         int ttlSeconds = (int) Math.max(1, command.ttl().toSeconds());
-
-        String payloadJson = outboxPayloadSerializerPort.serialize(
-                new VerificationOtpDeliveryRequestedPayload(
-                        UUID.fromString(saved.getId()), // saved.getId() is String -> UUID
-                        command.purpose().name(),
-                        command.channel().name(),
-                        command.subjectType().name(),
-                        command.subjectId(),
-                        normalizeDestination(command.channel(), command.destination()),
-                        ttlSeconds
-                )
-        );
+        UUID challengeId = UUID.fromString(saved.getId()); // saved.getId() is String -> UUID
+        String destinationNorm = command.channel().normalizeDestination(command.destination());
+
+        final String eventType;
+        final String payloadJson;
+
+        if (secretSealer.embedInEvent()) {
+            // embedded: OTP 를 암호화해서 v2 이벤트에 직접 실음 → notification 의 internal 콜백(+Redis raw 키) 불필요
+            eventType = "VerificationOtpDeliveryRequested.v2";
+            payloadJson = outboxPayloadSerializerPort.serialize(
+                    new VerificationOtpDeliveryRequestedV2Payload(
+                            challengeId,
+                            command.purpose().name(),
+                            command.channel().name(),
+                            command.subjectType().name(),
+                            command.subjectId(),
+                            destinationNorm,
+                            ttlSeconds,
+                            secretSealer.seal(rawCode, saved.getId())
+                    )
+            );
+        } else {
+            // callback: raw OTP 는 Redis 에 두고 notification 이 internal API 로 1회 GETDEL
+            repo.put(saved.getId(), rawCode, command.ttl());
+
+            eventType = "VerificationOtpDeliveryRequested.v1";
+            payloadJson = outboxPayloadSerializerPort.serialize(
+                    new VerificationOtpDeliveryRequestedPayload(
+                            challengeId,
+                            command.purpose().name(),
+                            command.channel().name(),
+                            command.subjectType().name(),
+                            command.subjectId(),
+                            destinationNorm,
+                            ttlSeconds
+                    )
+            );
+        }
 
         OutboxEvent event = OutboxEvent.newPending(
                 "verification_challenge",
                 saved.getId(),
-                "VerificationOtpDeliveryRequested.v1",
+                eventType,
                 payloadJson,
                 now
         );
@@ -112,14 +139,6 @@ public class CreateOtpService implements CreateOtpUseCase {
         return String.format("%0" + OTP_LEN + "d", n);
     }
 
-    private String normalizeDestination(VerificationChannel channel, String destination) {
-        if (destination == null) return "";
-        String d = destination.trim();
-        if (channel == VerificationChannel.EMAIL) return d.toLowerCase();
-        // TODO: SMS normalize to E.164 later
-        return d;
-    }
-
     private String maskDestination(VerificationChannel channel, String destination) {
         if (destination == null) return "***";
         if (channel == VerificationChannel.EMAIL) {
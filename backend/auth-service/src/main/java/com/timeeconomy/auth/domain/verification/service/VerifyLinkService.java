@@ -2,10 +2,8 @@ package com.timeeconomy.auth.domain.verification.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.timeeconomy.auth.domain.verification.model.VerificationChallenge;
-import com.timeeconomy.auth.domain.verification.model.VerificationStatus;
+import com.timeeconomy.auth.domain.verification.model.VerificationAttemptResult;
 
 import com.timeeconomy.auth.domain.verification.port.in.VerifyLinkUseCase;
 import com.timeeconomy.auth.domain.verification.port.out.VerificationChallengeRepositoryPort;
@@ -24,51 +22,19 @@ public class VerifyLinkService implements VerifyLinkUseCase {
     private final VerificationTokenHasherPort hasher;
     private final java.time.Clock clock;
 
+    // 만료 / 시도 횟수 / hash 비교 / VERIFIED 전환은 저장소가 원자적으로 (VerifyOptService 와 동일)
     @Override
-    @Transactional
     public VerifyLinkResult verifyLink(VerifyLinkCommand command) {
         Instant now = Instant.now(clock);
 
-        String tokenHash = hasher.hash(command.token());
-
-        var pendingOpt = repo.findActivePendingByTokenHash(
+        VerificationAttemptResult result = repo.verifyLinkAttempt(
                 command.purpose(),
                 command.channel(),
-                tokenHash
+                hasher.hash(command.token()),
+                now
         );
-        if (pendingOpt.isEmpty()) return new VerifyLinkResult(false, null, null);
-
-        VerificationChallenge pending = pendingOpt.get();
-
-        pending.expireIfNeeded(now);
-        if (pending.getStatus() != VerificationStatus.PENDING) {
-            repo.save(pending);
-            return new VerifyLinkResult(false, null, null);
-        }
-
-        if (pending.getExpiresAt() != null && now.isAfter(pending.getExpiresAt())) {
-            pending.cancel(now);
-            repo.save(pending);
-            return new VerifyLinkResult(false, null, null);
-        }
-
-        if (pending.getAttemptCount() >= pending.getMaxAttempts()) {
-            pending.cancel(now);
-            repo.save(pending);
-            return new VerifyLinkResult(false, null, null);
-        }
-
-        pending.recordAttempt(now);
-
-        boolean ok = tokenHash.equals(pending.getTokenHash());
-        if (!ok) {
-            repo.save(pending);
-            return new VerifyLinkResult(false, null, null);
-        }
-
-        pending.markVerified(now);
-        repo.save(pending);
+        if (!result.verified()) return new VerifyLinkResult(false, null, null);
 
-        return new VerifyLinkResult(true, pending.getId(), pending.getDestinationNorm());
+        return new VerifyLinkResult(true, result.challengeId(), result.destinationNorm());
     }
-}
\ No newline at end of file
+}
@@ -2,11 +2,8 @@ package com.timeeconomy.auth.domain.verification.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.timeeconomy.auth.domain.verification.model.VerificationChallenge;
-import com.timeeconomy.auth.domain.verification.model.VerificationChannel;
-import com.timeeconomy.auth.domain.verification.model.VerificationStatus;
+import com.timeeconomy.auth.domain.verification.model.VerificationAttemptResult;
 import com.timeeconomy.auth.domain.verification.port.in.VerifyOtpUseCase;
 import com.timeeconomy.auth.domain.verification.port.out.VerificationChallengeRepositoryPort;
 import com.timeeconomy.auth.domain.verification.port.out.VerificationTokenHasherPort;
@@ -21,54 +18,23 @@ public class VerifyOptService implements VerifyOtpUseCase {
     private final VerificationTokenHasherPort hasher;
     private final java.time.Clock clock;
 
+    /**
+     * destination 확인 / 만료 / 시도 횟수 / hash 비교 / VERIFIED 전환을 저장소가 한 번에 원자적으로.
+     * (읽고 → Java 에서 바꾸고 → save 하던 방식은 동시 시도 시 attemptCount 가 덮어써져 maxAttempts 를 넘길 수 있었음)
+     */
     @Override
-    @Transactional
     public VerifyOtpResult verifyOtp(VerifyOtpCommand command) {
         Instant now = Instant.now(clock);
 
-        var pendingOpt = repo.findActivePending(command.subjectType(), command.subjectId(), command.purpose(), command.channel());
-        if (pendingOpt.isEmpty()) return new VerifyOtpResult(false);
-
-        VerificationChallenge pending = pendingOpt.get();
-
-        // bind destination
-        String norm = normalizeDestination(command.channel(), command.destination());
-        if (!pending.getDestinationNorm().equals(norm)) return new VerifyOtpResult(false);
-
-        // expiry
-        pending.expireIfNeeded(now);
-        if (pending.getStatus() != VerificationStatus.PENDING) {
-            repo.save(pending);
-            return new VerifyOtpResult(false);
-        }
-
-        // attempt limit
-        if (pending.getAttemptCount() >= pending.getMaxAttempts()) {
-            pending.cancel(now);
-            repo.save(pending);
-            return new VerifyOtpResult(false);
-        }
-
-        // verify
-        String codeHash = hasher.hash(command.code());
-        pending.recordAttempt(now);
-
-        boolean ok = codeHash.equals(pending.getCodeHash());
-        if (!ok) {
-            repo.save(pending);
-            return new VerifyOtpResult(false);
-        }
-
-        pending.markVerified(now);
-        repo.save(pending);
-        return new VerifyOtpResult(true);
-    }
-
-    private String normalizeDestination(VerificationChannel channel, String destination) {
-        if (destination == null) return "";
-        String d = destination.trim();
-        if (channel == VerificationChannel.EMAIL) return d.toLowerCase();
-        // TODO: SMS normalize to E.164 later
-        return d;
+        VerificationAttemptResult result = repo.verifyOtpAttempt(
+                command.subjectType(),
+                command.subjectId(),
+                command.purpose(),
+                command.channel(),
+                command.channel().normalizeDestination(command.destination()),
+                hasher.hash(command.code()),
+                now
+        );
+        return new VerifyOtpResult(result.verified());
     }
-}
\ No newline at end of file
+}
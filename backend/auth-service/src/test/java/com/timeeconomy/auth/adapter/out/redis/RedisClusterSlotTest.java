@@ -0,0 +1,181 @@
+package com.timeeconomy.auth.adapter.out.redis;
+
+import com.timeeconomy.auth.adapter.out.redis.signupsession.RedisSignupSessionAdapter;
+import com.timeeconomy.auth.adapter.out.redis.signupsession.RedisSignupStateAdapter;
+import com.timeeconomy.auth.adapter.out.redis.signupsession.SignupSessionRedisKeys;
+import com.timeeconomy.auth.adapter.out.redis.verification.RedisVerificationChallengeAdapter;
+import com.timeeconomy.auth.adapter.out.redis.verification.VerificationRedisKeys;
+import com.timeeconomy.auth.domain.common.expiry.port.ExpiredIndexSweepPort.SweepResult;
+import com.timeeconomy.auth.domain.signupsession.model.SignupSession;
+import com.timeeconomy.auth.domain.signupsession.port.out.SignupStateStorePort.OtpStepResult;
+import com.timeeconomy.auth.domain.signupsession.port.out.SignupStateStorePort.SignupState;
+import com.timeeconomy.auth.domain.verification.model.VerificationAttemptResult.Outcome;
+import com.timeeconomy.auth.domain.verification.model.VerificationChallenge;
+import com.timeeconomy.auth.domain.verification.model.VerificationChannel;
+import com.timeeconomy.auth.domain.verification.model.VerificationPurpose;
+import com.timeeconomy.auth.domain.verification.model.VerificationSubjectType;
+import io.lettuce.core.internal.HostAndPort;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DnsResolvers;
+import io.lettuce.core.resource.MappingSocketAddressResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * signup 단계 script / expiry sweep 이 Redis Cluster 에서 CROSSSLOT 없이 도는지
+ * (key 의 hash tag 가 빠지거나 script 가 다른 slot 키를 건드리면 여기서 실패).
+ *
+ * infra/docker-compose.redis-cluster.yml 의 3 primary + 3 replica 에 붙음:
+ *   docker compose -f infra/docker-compose.yml -f infra/docker-compose.redis-cluster.yml up -d
+ *   REDIS_CLUSTER_IT=true ./gradlew test --tests '*RedisClusterSlotTest'
+ *
+ * node 가 hostname (redis-node-N:6379) 으로 자기를 알리므로 host 에서는 publish 된 포트 (localhost:700N) 로 바꿔 붙음.
+ * (cluster-init 이 1..3 을 primary 로 만듦. failover 로 replica 가 primary 가 된 상태면 compose 를 다시 올릴 것)
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_CLUSTER_IT", matches = "true")
+class RedisClusterSlotTest {
+
+    private static final String CODE_HASH = "code-hash";
+
+    private final Clock clock = Clock.systemUTC();
+
+    private ClientResources clientResources;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redis;
+
+    private RedisSignupSessionAdapter sessions;
+    private RedisSignupStateAdapter signupState;
+    private RedisVerificationChallengeAdapter challenges;
+
+    @BeforeEach
+    void setUp() {
+        // cluster 는 새 이름으로 쓰는 단계에서만 (RedisKeyMigrationConfig)
+        VerificationRedisKeys.writeTaggedNames(true);
+
+        clientResources = ClientResources.builder()
+                .socketAddressResolver(MappingSocketAddressResolver.create(DnsResolvers.UNRESOLVED, RedisClusterSlotTest::published))
+                .build();
+
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisClusterConfiguration(List.of("localhost:7001", "localhost:7002", "localhost:7003")),
+                LettuceClientConfiguration.builder().clientResources(clientResources).build());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redis = new StringRedisTemplate(connectionFactory);
+
+        sessions = new RedisSignupSessionAdapter(redis, clock);
+        signupState = new RedisSignupStateAdapter(redis, sessions);
+        challenges = new RedisVerificationChallengeAdapter(redis, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+        clientResources.shutdown();
+        VerificationRedisKeys.writeTaggedNames(false);
+    }
+
+    @Test
+    void signupOtpStepRunsInTheSessionSlot() {
+        Instant now = Instant.now(clock);
+        String email = "cluster-" + UUID.randomUUID() + "@example.com";
+        SignupSession session = emailOtpSentSession(email, now, now.plus(Duration.ofMinutes(30)));
+        VerificationChallenge challenge = challenges.save(otpChallenge(session, email, now.plus(Duration.ofMinutes(10))));
+
+        SignupState state = signupState.load(session.getId(), VerificationPurpose.SIGNUP_EMAIL, VerificationChannel.EMAIL)
+                .orElseThrow();
+        assertThat(state.activeChallengeId()).isEqualTo(challenge.getId());
+
+        // 틀린 코드: 시도 횟수만 (challenge hash 단독)
+        OtpStepResult miss = signupState.verifyOtpStep(state, email, "wrong-hash", s -> s.markEmailVerified(now), now);
+        assertThat(miss.attempt().outcome()).isEqualTo(Outcome.MISMATCH);
+
+        // 맞는 코드: challenge + session + pending + otp 를 script 하나로
+        OtpStepResult hit = signupState.verifyOtpStep(state, email, CODE_HASH, s -> s.markEmailVerified(now), now);
+        assertThat(hit.attempt().outcome()).isEqualTo(Outcome.VERIFIED);
+        assertThat(hit.session().isEmailVerified()).isTrue();
+
+        assertThat(sessions.findById(session.getId())).get()
+                .satisfies(s -> assertThat(s.isEmailVerified()).isTrue());
+        assertThat(redis.hasKey(VerificationRedisKeys.pending(VerificationSubjectType.SIGNUP_SESSION,
+                session.getId().toString(), VerificationPurpose.SIGNUP_EMAIL, VerificationChannel.EMAIL))).isFalse();
+    }
+
+    @Test
+    void expirySweepsRunAcrossSlots() throws InterruptedException {
+        Instant now = Instant.now(clock);
+        String email = "cluster-" + UUID.randomUUID() + "@example.com";
+        SignupSession session = emailOtpSentSession(email, now, now.plus(Duration.ofSeconds(1)));
+        VerificationChallenge challenge = challenges.save(otpChallenge(session, email, now.plus(Duration.ofSeconds(1))));
+
+        // 두 레코드 TTL 이 지날 때까지
+        Thread.sleep(2_000);
+
+        int sessionsSwept = 0;
+        int challengesSwept = 0;
+        for (int i = 0; i < 5 && (sessionsSwept == 0 || challengesSwept == 0); i++) {
+            Instant sweepAt = Instant.now(clock);
+            SweepResult[] r = new SweepResult[2];
+            assertThatCode(() -> {
+                r[0] = sessions.sweepExpired(sweepAt, 1_000);
+                r[1] = challenges.sweepExpired(sweepAt, 1_000);
+            }).doesNotThrowAnyException();
+            sessionsSwept += r[0].swept();
+            challengesSwept += r[1].swept();
+        }
+        assertThat(sessionsSwept).isPositive();
+        assertThat(challengesSwept).isPositive();
+
+        String emailIndexKey = SignupSessionRedisKeys.emailIndexKey(email);
+        assertThat(redis.opsForZSet().score(emailIndexKey, session.getId().toString())).isNull();
+        assertThat(redis.hasKey(VerificationRedisKeys.indexKeys(challenge.getId()))).isFalse();
+        assertThat(redis.hasKey(VerificationRedisKeys.ref(challenge.getId()))).isFalse();
+    }
+
+    private SignupSession emailOtpSentSession(String email, Instant now, Instant expiresAt) {
+        SignupSession session = SignupSession.createNew(now, expiresAt);
+        session.setDraftEmail(email, now);
+        session.markEmailOtpSent(now);
+        return sessions.save(session);
+    }
+
+    private static VerificationChallenge otpChallenge(SignupSession session, String email, Instant expiresAt) {
+        return VerificationChallenge.createOtpPending(
+                VerificationPurpose.SIGNUP_EMAIL,
+                VerificationChannel.EMAIL,
+                VerificationSubjectType.SIGNUP_SESSION,
+                session.getId().toString(),
+                email,
+                email,
+                CODE_HASH,
+                expiresAt,
+                5,
+                session.getCreatedAt(),
+                "127.0.0.1",
+                "junit");
+    }
+
+    // redis-node-N:6379 → localhost:700N (docker-compose.redis-cluster.yml 의 ports)
+    private static HostAndPort published(HostAndPort node) {
+        String host = node.getHostText();
+        if (host.startsWith("redis-node-")) {
+            return HostAndPort.of("localhost", 7000 + Integer.parseInt(host.substring("redis-node-".length())));
+        }
+        return node;
+    }
+}
@@ -0,0 +1,83 @@
+package com.timeeconomy.contracts.crypto;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Envelope encryption shared by producer (auth) and consumer (notification)
+ * for secrets embedded in v2 delivery events (see EncryptedSecret.avsc).
+ *
+ * - per-event DEK: AES-256-GCM, 96-bit IV, 128-bit tag, caller-supplied AAD
+ * - DEK wrapped with the shared KEK using AESWrap (RFC 3394)
+ */
+public final class EnvelopeCrypto {
+
+    public static final String ALG = "A256KW+A256GCM";
+
+    private static final int IV_LEN = 12;
+    private static final int TAG_BITS = 128;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private EnvelopeCrypto() {}
+
+    public record Sealed(String keyId, String alg, byte[] wrappedKey, byte[] iv, byte[] ciphertext) {}
+
+    public static SecretKey kekFromBase64(String base64) {
+        byte[] raw = Base64.getDecoder().decode(base64);
+        if (raw.length != 32) {
+            throw new IllegalArgumentException("KEK must be 256 bits, got " + (raw.length * 8));
+        }
+        return new SecretKeySpec(raw, "AES");
+    }
+
+    public static Sealed seal(String keyId, SecretKey kek, byte[] plaintext, byte[] aad) {
+        try {
+            KeyGenerator gen = KeyGenerator.getInstance("AES");
+            gen.init(256, RANDOM);
+            SecretKey dek = gen.generateKey();
+
+            byte[] iv = new byte[IV_LEN];
+            RANDOM.nextBytes(iv);
+
+            Cipher gcm = Cipher.getInstance("AES/GCM/NoPadding");
+            gcm.init(Cipher.ENCRYPT_MODE, dek, new GCMParameterSpec(TAG_BITS, iv));
+            if (aad != null) gcm.updateAAD(aad);
+            byte[] ciphertext = gcm.doFinal(plaintext);
+
+            Cipher wrap = Cipher.getInstance("AESWrap");
+            wrap.init(Cipher.WRAP_MODE, kek);
+            byte[] wrappedKey = wrap.wrap(dek);
+
+            return new Sealed(keyId, ALG, wrappedKey, iv, ciphertext);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("envelope seal failed", e);
+        }
+    }
+
+    /**
+     * @throws IllegalStateException if the KEK is wrong or the ciphertext/AAD was tampered with
+     */
+    public static byte[] open(SecretKey kek, Sealed sealed, byte[] aad) {
+        if (!ALG.equals(sealed.alg())) {
+            throw new IllegalArgumentException("Unsupported envelope alg=" + sealed.alg());
+        }
+        try {
+            Cipher unwrap = Cipher.getInstance("AESWrap");
+            unwrap.init(Cipher.UNWRAP_MODE, kek);
+            SecretKey dek = (SecretKey) unwrap.unwrap(sealed.wrappedKey(), "AES", Cipher.SECRET_KEY);
+
+            Cipher gcm = Cipher.getInstance("AES/GCM/NoPadding");
+            gcm.init(Cipher.DECRYPT_MODE, dek, new GCMParameterSpec(TAG_BITS, sealed.iv()));
+            if (aad != null) gcm.updateAAD(aad);
+            return gcm.doFinal(sealed.ciphertext());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("envelope open failed keyId=" + sealed.keyId(), e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.timeeconomy.gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * 동시에 들어온 "동일한" GET 요청을 upstream 1회 호출로 합치는 대상 경로 (exact match).
+ *
+ * 응답 body 를 메모리에 통째로 버퍼링하므로 작은 JSON 응답 경로만 등록할 것.
+ */
+@ConfigurationProperties(prefix = "timeeconomy.gateway.coalescing")
+public record CoalescingProperties(
+        boolean enabled,
+        List<String> paths
+) {
+    public CoalescingProperties {
+        paths = (paths == null) ? List.of() : List.copyOf(paths);
+    }
+}
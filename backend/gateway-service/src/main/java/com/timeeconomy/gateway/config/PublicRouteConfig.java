@@ -0,0 +1,16 @@
+package com.timeeconomy.gateway.config;
+
+import com.timeeconomy.gateway.route.PublicRouteMatcher;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PublicRouteProperties.class)
+public class PublicRouteConfig {
+
+    @Bean
+    public PublicRouteMatcher publicRouteMatcher(PublicRouteProperties props) {
+        return PublicRouteMatcher.compile(props.exact(), props.prefixes());
+    }
+}
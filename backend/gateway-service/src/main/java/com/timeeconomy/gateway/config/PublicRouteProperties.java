@@ -0,0 +1,22 @@
+package com.timeeconomy.gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * JWT 검사 없이 통과시키는 공개 경로 목록.
+ *
+ * - exact    : path 가 정확히 일치해야 공개
+ * - prefixes : path 가 해당 문자열로 시작하면 공개 (String#startsWith 와 동일한 의미)
+ */
+@ConfigurationProperties(prefix = "timeeconomy.gateway.public-routes")
+public record PublicRouteProperties(
+        List<String> exact,
+        List<String> prefixes
+) {
+    public PublicRouteProperties {
+        exact = (exact == null) ? List.of() : List.copyOf(exact);
+        prefixes = (prefixes == null) ? List.of() : List.copyOf(prefixes);
+    }
+}
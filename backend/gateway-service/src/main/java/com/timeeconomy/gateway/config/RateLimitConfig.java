@@ -0,0 +1,29 @@
+package com.timeeconomy.gateway.config;
+
+import com.timeeconomy.gateway.ratelimit.InMemoryTokenBucketRateLimiter;
+import com.timeeconomy.gateway.ratelimit.RedisTokenBucketRateLimiter;
+import com.timeeconomy.gateway.ratelimit.TokenBucketRateLimiter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+@Configuration
+@EnableConfigurationProperties({RateLimitProperties.class, CoalescingProperties.class})
+public class RateLimitConfig {
+
+    // ✅ 기본: 인스턴스 로컬 bucket (외부 의존성 없음)
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "timeeconomy.gateway.rate-limit", name = "store", havingValue = "memory", matchIfMissing = true)
+    public TokenBucketRateLimiter inMemoryTokenBucketRateLimiter(RateLimitProperties props) {
+        return new InMemoryTokenBucketRateLimiter(props.maxTrackedKeys(), props.evictInterval());
+    }
+
+    // ✅ 게이트웨이 여러 대가 같은 limit 을 공유해야 할 때
+    @Bean
+    @ConditionalOnProperty(prefix = "timeeconomy.gateway.rate-limit", name = "store", havingValue = "redis")
+    public TokenBucketRateLimiter redisTokenBucketRateLimiter(ReactiveStringRedisTemplate redis) {
+        return new RedisTokenBucketRateLimiter(redis);
+    }
+}
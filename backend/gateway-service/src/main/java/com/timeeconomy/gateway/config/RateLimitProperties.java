@@ -0,0 +1,43 @@
+package com.timeeconomy.gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 게이트웨이 token-bucket rate limit 설정.
+ *
+ * - store    : memory (기본, 인스턴스 로컬) | redis (여러 게이트웨이 인스턴스가 bucket 공유)
+ * - per-user : JWT 인증된 요청 (subject 기준)
+ * - per-ip   : 모든 요청 (remote address 기준)
+ * - max-tracked-keys / evict-interval : memory store 의 bucket 수 상한 / 유휴 bucket 정리 주기
+ */
+@ConfigurationProperties(prefix = "timeeconomy.gateway.rate-limit")
+public record RateLimitProperties(
+        boolean enabled,
+        String store,
+        Bucket perUser,
+        Bucket perIp,
+        int maxTrackedKeys,
+        Duration evictInterval
+) {
+    public RateLimitProperties {
+        store = (store == null || store.isBlank()) ? "memory" : store;
+        perUser = (perUser == null) ? new Bucket(60, 20) : perUser;
+        perIp = (perIp == null) ? new Bucket(120, 40) : perIp;
+        maxTrackedKeys = (maxTrackedKeys <= 0) ? 100_000 : maxTrackedKeys;
+        evictInterval = (evictInterval == null || evictInterval.isZero() || evictInterval.isNegative())
+                ? Duration.ofSeconds(30) : evictInterval;
+    }
+
+    /**
+     * @param capacity        burst 허용량 (bucket 최대 토큰 수)
+     * @param refillPerSecond 초당 보충 토큰 수 (= 지속 허용 RPS)
+     */
+    public record Bucket(long capacity, double refillPerSecond) {
+        public Bucket {
+            if (capacity <= 0) throw new IllegalArgumentException("capacity must be > 0");
+            if (refillPerSecond <= 0) throw new IllegalArgumentException("refillPerSecond must be > 0");
+        }
+    }
+}
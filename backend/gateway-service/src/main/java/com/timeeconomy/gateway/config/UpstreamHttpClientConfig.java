@@ -0,0 +1,108 @@
+package com.timeeconomy.gateway.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.config.GatewayProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Gateway → upstream HttpClient.
+ *
+ * Spring Cloud Gateway 기본 HttpClient 는 모든 upstream 이 하나의 풀 설정을 공유한다.
+ * 여기서는 route uri 의 host:port 마다 별도 풀 설정(forRemoteHost)을 걸어서
+ * auth-service 폭주가 user-service 커넥션까지 잠식하지 않도록 한다.
+ *
+ * metrics:
+ * - reactor.netty.connection.provider.{active,idle,pending,total}.connections (remote.address 태그 → upstream 별 포화도)
+ * - spring.cloud.gateway.requests (routeId 태그 → route 별 latency)
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(UpstreamPoolProperties.class)
+public class UpstreamHttpClientConfig {
+
+    private static final String POOL_NAME = "gateway-upstream";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider upstreamConnectionProvider(UpstreamPoolProperties props, GatewayProperties gateway) {
+        UpstreamPoolProperties.Pool d = props.defaults();
+
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(d.maxConnections())
+                .pendingAcquireMaxCount(d.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(d.pendingAcquireTimeout())
+                .maxIdleTime(d.maxIdleTime())
+                .maxLifeTime(d.maxLifeTime())
+                .evictInBackground(d.evictionInterval())
+                .metrics(true);
+
+        for (RouteDefinition route : gateway.getRoutes()) {
+            InetSocketAddress remote = remoteAddress(route.getUri());
+            if (remote == null) {
+                continue; // lb:// 등 host 가 고정되지 않은 route 는 defaults 사용
+            }
+
+            UpstreamPoolProperties.Pool p = props.poolFor(route.getId());
+            builder.forRemoteHost(remote, spec -> spec
+                    .maxConnections(p.maxConnections())
+                    .pendingAcquireMaxCount(p.pendingAcquireMaxCount())
+                    .pendingAcquireTimeout(p.pendingAcquireTimeout())
+                    .maxIdleTime(p.maxIdleTime())
+                    .maxLifeTime(p.maxLifeTime())
+                    .evictInBackground(p.evictionInterval())
+                    .metrics(true));
+
+            log.info("[UPSTREAM] pool route={} remote={} maxConnections={} pendingAcquireMaxCount={} maxIdleTime={}",
+                    route.getId(), remote, p.maxConnections(), p.pendingAcquireMaxCount(), p.maxIdleTime());
+        }
+
+        return builder.build();
+    }
+
+    // ✅ HttpClient 빈이 있으면 Gateway 는 자체 HttpClientFactory 대신 이것을 사용한다
+    @Bean
+    public HttpClient gatewayHttpClient(
+            ConnectionProvider upstreamConnectionProvider,
+            UpstreamPoolProperties props,
+            List<HttpClientCustomizer> customizers
+    ) {
+        HttpClient client = HttpClient.create(upstreamConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) props.connectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(props.responseTimeout());
+
+        if (props.h2c()) {
+            // upstream 이 h2c 를 지원할 때만 (server.http2.enabled=true). 아니면 HTTP/1.1 로 협상됨
+            client = client.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+
+        for (HttpClientCustomizer customizer : customizers) {
+            client = customizer.customize(client);
+        }
+        return client;
+    }
+
+    private static InetSocketAddress remoteAddress(URI uri) {
+        if (uri == null || uri.getHost() == null) {
+            return null;
+        }
+        String scheme = uri.getScheme();
+        if (!"http".equalsIgnoreCase(scheme) && !"https".equalsIgnoreCase(scheme)) {
+            return null;
+        }
+        int port = uri.getPort() != -1 ? uri.getPort() : ("https".equalsIgnoreCase(scheme) ? 443 : 80);
+        return InetSocketAddress.createUnresolved(uri.getHost(), port);
+    }
+}
@@ -0,0 +1,65 @@
+package com.timeeconomy.gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * upstream(auth-service, user-service ...) 커넥션 풀 설정.
+ *
+ * - defaults : 모든 upstream 공통 기본값
+ * - routes   : route id 별 override (host/port 는 spring.cloud.gateway 의 route uri 에서 가져옴)
+ *
+ * per-route response-timeout / connect-timeout 은 route metadata 로 지정한다 (Spring Cloud Gateway 기본 기능).
+ */
+@ConfigurationProperties(prefix = "timeeconomy.gateway.upstream")
+public record UpstreamPoolProperties(
+        Duration connectTimeout,
+        Duration responseTimeout,
+        boolean h2c,
+        Pool defaults,
+        Map<String, Pool> routes
+) {
+    public UpstreamPoolProperties {
+        connectTimeout = (connectTimeout == null) ? Duration.ofSeconds(2) : connectTimeout;
+        responseTimeout = (responseTimeout == null) ? Duration.ofSeconds(10) : responseTimeout;
+        defaults = Pool.withDefaults(defaults, Pool.BUILT_IN);
+        routes = (routes == null) ? Map.of() : Map.copyOf(routes);
+    }
+
+    /** route override 에서 비어 있는 값은 defaults 로 채운다. */
+    public Pool poolFor(String routeId) {
+        return Pool.withDefaults(routes.get(routeId), defaults);
+    }
+
+    public record Pool(
+            Integer maxConnections,
+            Integer pendingAcquireMaxCount,
+            Duration pendingAcquireTimeout,
+            Duration maxIdleTime,
+            Duration maxLifeTime,
+            Duration evictionInterval
+    ) {
+        static final Pool BUILT_IN = new Pool(
+                200,
+                400,
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(30),
+                Duration.ofMinutes(5),
+                Duration.ofSeconds(10)
+        );
+
+        static Pool withDefaults(Pool p, Pool d) {
+            if (p == null) return d;
+            return new Pool(
+                    p.maxConnections != null ? p.maxConnections : d.maxConnections,
+                    p.pendingAcquireMaxCount != null ? p.pendingAcquireMaxCount : d.pendingAcquireMaxCount,
+                    p.pendingAcquireTimeout != null ? p.pendingAcquireTimeout : d.pendingAcquireTimeout,
+                    p.maxIdleTime != null ? p.maxIdleTime : d.maxIdleTime,
+                    p.maxLifeTime != null ? p.maxLifeTime : d.maxLifeTime,
+                    p.evictionInterval != null ? p.evictionInterval : d.evictionInterval
+            );
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.timeeconomy.gateway.exception;
+
+public class RateLimitedException extends RuntimeException {
+
+    private final String scope;          // "ip" | "user"
+    private final long retryAfterSeconds;
+
+    public RateLimitedException(String scope, long retryAfterSeconds) {
+        super("Too many requests.");
+        this.scope = scope;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,20 @@
+package com.timeeconomy.gateway.filter;
+
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+
+/**
+ * GlobalFilter 실행 순서 (작을수록 먼저).
+ *
+ * 1) IP rate limit   → JWT 검사 전: 잘못된 토큰으로 거절될 요청도 IP bucket 을 소비
+ * 2) JWT 인증        → 인증된 userId 를 exchange attribute 로 남김
+ * 3) user rate limit → 인증된 userId bucket 소비
+ * 4) 요청 합치기       → 응답을 가로채야 하므로 NettyWriteResponseFilter 보다 먼저 실행돼야 함
+ */
+public final class GatewayFilterOrder {
+    private GatewayFilterOrder() {}
+
+    public static final int IP_RATE_LIMIT = -20;
+    public static final int JWT_AUTH = -10;
+    public static final int USER_RATE_LIMIT = -5;
+    public static final int REQUEST_COALESCING = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+}
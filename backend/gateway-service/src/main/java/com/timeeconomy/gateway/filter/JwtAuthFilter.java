@@ -13,55 +13,24 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 
 import com.timeeconomy.gateway.exception.UnauthorizedException;
+import com.timeeconomy.gateway.route.PublicRouteMatcher;
+import com.timeeconomy.gateway.route.RouteClassMetrics;
 import com.timeeconomy.gateway.security.JwtValidator;
 
 import reactor.core.publisher.Mono;
 
-import java.util.List;
-
 @Component
 @RequiredArgsConstructor
 public class JwtAuthFilter implements GlobalFilter, Ordered {
 
+    // ✅ 검증된 userId (downstream 헤더와 별개로 gateway 내부 필터들이 신뢰할 수 있는 값)
+    public static final String AUTHENTICATED_USER_ID_ATTR = "timeeconomy.gateway.authenticatedUserId";
+
     private final JwtValidator jwtValidator;
 
-    // ✅ 명시적으로 "완전 공개" 엔드포인트만 정리
-    private static final List<String> PUBLIC_EXACT_PATHS = List.of(
-            "/api/health",
-            "/api/auth/login",
-            "/api/auth/register",
-            "/api/auth/refresh",
-            "/api/auth/password/forgot",
-            "/api/auth/password/reset",
-            "/api/auth/phone/request-code",
-            "/api/auth/phone/verify",
-            "/api/auth/email/verify",
-            "/api/auth/email/send-code",
-            "/api/auth/signup/bootstrap",
-            "/api/auth/signup/profile",
-            "/api/auth/public/verification/otp",
-            "/api/auth/public/verification/otp/verify",
-            "/api/auth/signup/verify-otp",
-            "/api/auth/signup/send-otp",
-            "/api/auth/signup/resend-otp",
-            "/api/auth/signup/edit-email",
-            "/api/auth/signup/edit-phone",
-            "/api/auth/signup/cancel",
-            "/api/auth/signup/status"
-    );
-
-    // ✅ 필요하면 prefix 기반으로 완전 공개할 path들
-    private static final List<String> PUBLIC_PATH_PREFIXES = List.of(
-            // 예: /api/auth/password/reset?token=... 처럼 쿼리 사용하는 경우
-            "/api/auth/password/reset"
-    );
-
-    private boolean isPublicPath(String path) {
-        if (PUBLIC_EXACT_PATHS.contains(path)) {
-            return true;
-        }
-        return PUBLIC_PATH_PREFIXES.stream().anyMatch(path::startsWith);
-    }
+    // ✅ 공개 경로는 application.yaml(timeeconomy.gateway.public-routes)에서 로드 → 기동 시 compile
+    private final PublicRouteMatcher publicRouteMatcher;
+    private final RouteClassMetrics routeClassMetrics;
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
@@ -71,11 +40,13 @@ public class JwtAuthFilter implements GlobalFilter, Ordered {
 
         // 1) CORS preflight (OPTIONS)은 항상 통과
         if (HttpMethod.OPTIONS.equals(method)) {
+            routeClassMetrics.preflight();
             return chain.filter(exchange);
         }
 
         // 2) 완전 공개 엔드포인트는 JWT 검사 없이 통과
-        if (isPublicPath(path)) {
+        if (publicRouteMatcher.isPublic(path)) {
+            routeClassMetrics.publicRoute();
             return chain.filter(exchange);
         }
 
@@ -83,10 +54,12 @@ public class JwtAuthFilter implements GlobalFilter, Ordered {
         String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
 
         if (authHeader == null || authHeader.isBlank()) {
+            routeClassMetrics.unauthorized();
             throw new UnauthorizedException("Authorization header is required.");
         }
 
         if (!authHeader.startsWith("Bearer ")) {
+            routeClassMetrics.unauthorized();
             throw new UnauthorizedException("Authorization header must start with 'Bearer '.");
         }
 
@@ -97,6 +70,7 @@ public class JwtAuthFilter implements GlobalFilter, Ordered {
             String userId = claims.getPayload().getSubject();
 
             if (userId == null || userId.isBlank()) {
+                routeClassMetrics.unauthorized();
                 throw new UnauthorizedException("INVALID_SUBJECT", "Access token subject missing.");
             }
 
@@ -104,9 +78,13 @@ public class JwtAuthFilter implements GlobalFilter, Ordered {
                     .request(builder -> builder.header("X-User-Id", userId))
                     .build();
 
+            mutated.getAttributes().put(AUTHENTICATED_USER_ID_ATTR, userId);
+
+            routeClassMetrics.authenticated();
             return chain.filter(mutated);
 
         } catch (JwtException e) {
+            routeClassMetrics.unauthorized();
             String code = e.getMessage();
 
             if ("TOKEN_EXPIRED".equals(code)) {
@@ -119,6 +97,6 @@ public class JwtAuthFilter implements GlobalFilter, Ordered {
 
     @Override
     public int getOrder() {
-        return -1;
+        return GatewayFilterOrder.JWT_AUTH;
     }
 }
\ No newline at end of file
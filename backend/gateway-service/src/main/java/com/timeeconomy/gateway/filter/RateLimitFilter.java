@@ -0,0 +1,85 @@
+package com.timeeconomy.gateway.filter;
+
+import com.timeeconomy.gateway.config.RateLimitProperties;
+import com.timeeconomy.gateway.exception.RateLimitedException;
+import com.timeeconomy.gateway.ratelimit.RateLimitDecision;
+import com.timeeconomy.gateway.ratelimit.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+/**
+ * per-IP token-bucket rate limit.
+ *
+ * - 모든 요청에 적용 (공개 엔드포인트 polling 포함)
+ * - JwtAuthFilter 보다 먼저 실행 → 잘못된 JWT 로 401 을 받을 요청도 IP bucket 을 소비
+ * - per-user bucket 은 JWT 검증 뒤 UserRateLimitFilter 에서
+ */
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final RateLimitProperties props;
+    private final Counter rejected;
+
+    public RateLimitFilter(TokenBucketRateLimiter rateLimiter, RateLimitProperties props, MeterRegistry registry) {
+        this.rateLimiter = rateLimiter;
+        this.props = props;
+        this.rejected = rejectedCounter(registry, "ip");
+    }
+
+    static Counter rejectedCounter(MeterRegistry registry, String scope) {
+        return Counter.builder("gateway.ratelimit.rejected")
+                .description("Requests rejected by the gateway rate limiter")
+                .tag("scope", scope)
+                .register(registry);
+    }
+
+    static boolean skip(RateLimitProperties props, ServerWebExchange exchange) {
+        return !props.enabled() || HttpMethod.OPTIONS.equals(exchange.getRequest().getMethod());
+    }
+
+    static Mono<Void> reject(String scope, RateLimitDecision decision) {
+        long retryAfterSeconds = Math.max(1L, (decision.retryAfterMillis() + 999L) / 1000L);
+        return Mono.error(new RateLimitedException(scope, retryAfterSeconds));
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (skip(props, exchange)) {
+            return chain.filter(exchange);
+        }
+
+        return rateLimiter.tryConsume("ip:" + clientIp(exchange), props.perIp())
+                .flatMap(decision -> {
+                    if (!decision.allowed()) {
+                        rejected.increment();
+                        return reject("ip", decision);
+                    }
+                    return chain.filter(exchange);
+                });
+    }
+
+    private static String clientIp(ServerWebExchange exchange) {
+        // proxy 뒤에서는 server.forward-headers-strategy (application.yaml) 로 X-Forwarded-For 가
+        // remoteAddress 에 반영돼야 함 (안 하면 모든 클라이언트가 proxy IP bucket 하나를 공유)
+        InetSocketAddress remote = exchange.getRequest().getRemoteAddress();
+        if (remote == null || remote.getAddress() == null) {
+            return "unknown";
+        }
+        return remote.getAddress().getHostAddress();
+    }
+
+    @Override
+    public int getOrder() {
+        return GatewayFilterOrder.IP_RATE_LIMIT;
+    }
+}
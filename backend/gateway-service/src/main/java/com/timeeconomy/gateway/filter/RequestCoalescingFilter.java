@@ -0,0 +1,156 @@
+package com.timeeconomy.gateway.filter;
+
+import com.timeeconomy.gateway.config.CoalescingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 동시에 들어온 동일 GET 요청을 upstream 1회 호출로 합친다 (thundering herd 방지).
+ *
+ * - 동일성 key = 인증 userId + path + query + Cookie 헤더 (signup_session_id 등 세션 쿠키 포함)
+ * - 첫 요청(leader)만 upstream 으로 보내고, 응답을 버퍼링해서 대기 중인 follower 들에게 그대로 재생
+ * - leader 가 실패하거나 응답을 캡처하지 못하면 follower 는 각자 upstream 호출 (기존 동작으로 fallback)
+ *
+ * 캐시가 아니다: leader 응답이 끝나면 key 는 즉시 제거된다.
+ */
+@Slf4j
+@Component
+public class RequestCoalescingFilter implements GlobalFilter, Ordered {
+
+    private final boolean enabled;
+    private final Set<String> paths;
+
+    private final ConcurrentHashMap<String, Sinks.One<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaders;
+    private final Counter followers;
+
+    public RequestCoalescingFilter(CoalescingProperties props, MeterRegistry registry) {
+        this.enabled = props.enabled();
+        this.paths = Set.copyOf(props.paths());
+        this.leaders = coalescingCounter(registry, "leader");
+        this.followers = coalescingCounter(registry, "follower");
+    }
+
+    private static Counter coalescingCounter(MeterRegistry registry, String role) {
+        return Counter.builder("gateway.coalescing.requests")
+                .description("Coalesced idempotent GET requests by role")
+                .tag("role", role)
+                .register(registry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+
+        if (!enabled
+                || !HttpMethod.GET.equals(request.getMethod())
+                || !paths.contains(request.getURI().getPath())) {
+            return chain.filter(exchange);
+        }
+
+        String key = coalescingKey(exchange);
+        Sinks.One<SharedResponse> mine = Sinks.one();
+        Sinks.One<SharedResponse> leader = inFlight.putIfAbsent(key, mine);
+
+        // follower: leader 응답을 기다렸다가 재생
+        if (leader != null) {
+            followers.increment();
+            return leader.asMono()
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .onErrorReturn(Optional.empty())
+                    .flatMap(shared -> shared.isPresent()
+                            ? replay(exchange.getResponse(), shared.get())
+                            : chain.filter(exchange));
+        }
+
+        // leader: upstream 호출 + 응답 캡처
+        leaders.increment();
+        CapturingResponse capturing = new CapturingResponse(exchange.getResponse(), mine);
+
+        return chain.filter(exchange.mutate().response(capturing).build())
+                .doFinally(signal -> {
+                    inFlight.remove(key, mine);
+                    mine.tryEmitEmpty(); // 캡처 못 했으면 follower 들은 각자 호출
+                });
+    }
+
+    private static String coalescingKey(ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        String userId = exchange.getAttribute(JwtAuthFilter.AUTHENTICATED_USER_ID_ATTR);
+        String query = request.getURI().getRawQuery();
+        String cookie = request.getHeaders().getFirst(HttpHeaders.COOKIE);
+
+        return (userId == null ? "-" : userId)
+                + '\n' + request.getURI().getPath()
+                + '\n' + (query == null ? "" : query)
+                + '\n' + (cookie == null ? "" : cookie);
+    }
+
+    private static Mono<Void> replay(ServerHttpResponse response, SharedResponse shared) {
+        response.setStatusCode(shared.status());
+        response.getHeaders().putAll(shared.headers());
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(shared.body())));
+    }
+
+    private record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {}
+
+    /**
+     * leader 응답을 그대로 내보내면서 status / headers / body 를 복사해 sink 로 공유.
+     * (streaming 응답인 writeAndFlushWith 는 캡처하지 않는다 → follower 는 fallback)
+     */
+    private static final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final Sinks.One<SharedResponse> sink;
+
+        private CapturingResponse(ServerHttpResponse delegate, Sinks.One<SharedResponse> sink) {
+            super(delegate);
+            this.sink = sink;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return DataBufferUtils.join(body)
+                    .flatMap(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+
+                        HttpStatusCode status = getStatusCode() != null ? getStatusCode() : HttpStatus.OK;
+                        HttpHeaders headers = new HttpHeaders();
+                        headers.putAll(getHeaders());
+                        sink.tryEmitValue(new SharedResponse(status, headers, bytes));
+
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return GatewayFilterOrder.REQUEST_COALESCING;
+    }
+}
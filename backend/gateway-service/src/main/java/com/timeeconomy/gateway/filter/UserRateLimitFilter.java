@@ -0,0 +1,54 @@
+package com.timeeconomy.gateway.filter;
+
+import com.timeeconomy.gateway.config.RateLimitProperties;
+import com.timeeconomy.gateway.ratelimit.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * per-user token-bucket rate limit.
+ *
+ * - JwtAuthFilter 가 검증한 userId 가 있을 때만 적용
+ *   (클라이언트가 보낸 X-User-Id 헤더는 신뢰하지 않음)
+ */
+@Component
+public class UserRateLimitFilter implements GlobalFilter, Ordered {
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final RateLimitProperties props;
+    private final Counter rejected;
+
+    public UserRateLimitFilter(TokenBucketRateLimiter rateLimiter, RateLimitProperties props, MeterRegistry registry) {
+        this.rateLimiter = rateLimiter;
+        this.props = props;
+        this.rejected = RateLimitFilter.rejectedCounter(registry, "user");
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String userId = exchange.getAttribute(JwtAuthFilter.AUTHENTICATED_USER_ID_ATTR);
+        if (userId == null || RateLimitFilter.skip(props, exchange)) {
+            return chain.filter(exchange);
+        }
+
+        return rateLimiter.tryConsume("user:" + userId, props.perUser())
+                .flatMap(decision -> {
+                    if (!decision.allowed()) {
+                        rejected.increment();
+                        return RateLimitFilter.reject("user", decision);
+                    }
+                    return chain.filter(exchange);
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return GatewayFilterOrder.USER_RATE_LIMIT;
+    }
+}
@@ -1,9 +1,11 @@
 package com.timeeconomy.gateway.handler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.timeeconomy.gateway.exception.RateLimitedException;
 import com.timeeconomy.gateway.exception.UnauthorizedException;
 
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -35,7 +37,15 @@ public class GatewayErrorHandler implements WebExceptionHandler {
             code = ue.getCode();   // ⭐ FE가 분석하는 핵심 값
         }
 
-        // 2) WebFlux 내부에서 던지는 404, 405, 400 등
+        // 2) rate limit 초과 → 429 + Retry-After
+        else if (ex instanceof RateLimitedException rle) {
+            status = HttpStatus.TOO_MANY_REQUESTS;
+            message = rle.getMessage();
+            code = "RATE_LIMITED";
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(rle.getRetryAfterSeconds()));
+        }
+
+        // 3) WebFlux 내부에서 던지는 404, 405, 400 등
         else if (ex instanceof ResponseStatusException rse) {
             status = HttpStatus.resolve(rse.getStatusCode().value());
             if (status == null) status = HttpStatus.INTERNAL_SERVER_ERROR;
@@ -44,7 +54,7 @@ public class GatewayErrorHandler implements WebExceptionHandler {
             code = status.name();  // ex) BAD_REQUEST, NOT_FOUND
         }
 
-        // 3) 나머지는 500
+        // 4) 나머지는 500
         else {
             status = HttpStatus.INTERNAL_SERVER_ERROR;
             message = "Internal gateway error";
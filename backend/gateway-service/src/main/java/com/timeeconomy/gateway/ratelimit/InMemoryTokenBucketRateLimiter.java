@@ -0,0 +1,125 @@
+package com.timeeconomy.gateway.ratelimit;
+
+import com.timeeconomy.gateway.config.RateLimitProperties;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인스턴스 로컬 token bucket.
+ *
+ * - key 당 bucket 1개 (ConcurrentHashMap), bucket 내부는 synchronized (임계구역이 매우 짧음)
+ * - 정리는 별도 스레드에서 주기적으로: "이미 가득 찬" bucket (= 최근 트래픽 없는 key) 을 지움
+ *   → 요청 경로 (Netty event loop) 에서는 map 전체를 훑지 않음
+ * - 추적 key 수는 maxTrackedKeys 가 상한: 넘치면 새 key 는 정리가 자리를 낼 때까지 거절하고 정리를 바로 요청
+ *   (통과시키면 key 를 바꿔 가며 map 을 채우는 것만으로 limit 전체가 꺼짐. 이미 추적 중인 key 는 그대로 bucket 으로)
+ */
+@Slf4j
+public class InMemoryTokenBucketRateLimiter implements TokenBucketRateLimiter, AutoCloseable {
+
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    // 상한에 걸린 새 key 의 Retry-After. 정리는 바로 요청하므로 다음 주기까지 기다리게 하지 않음
+    private static final long FULL_RETRY_AFTER_MILLIS = 1_000;
+
+    private final int maxTrackedKeys;
+
+    private final ScheduledExecutorService evictor;
+    private final AtomicBoolean evictionRequested = new AtomicBoolean(false);
+
+    public InMemoryTokenBucketRateLimiter(int maxTrackedKeys, Duration evictInterval) {
+        this.maxTrackedKeys = maxTrackedKeys;
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "ratelimit-bucket-evictor");
+            t.setDaemon(true);
+            return t;
+        });
+        long intervalMs = evictInterval.toMillis();
+        evictor.scheduleWithFixedDelay(this::evictIdleSafe, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryConsume(String key, RateLimitProperties.Bucket spec) {
+        long now = System.nanoTime();
+
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxTrackedKeys) {
+                requestEviction();
+                return Mono.just(RateLimitDecision.reject(FULL_RETRY_AFTER_MILLIS));
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket(spec, now));
+        }
+
+        return Mono.just(bucket.tryConsume(now));
+    }
+
+    private void requestEviction() {
+        if (evictionRequested.compareAndSet(false, true)) {
+            log.warn("[RATE-LIMIT] tracked keys reached max={} → new keys rejected until eviction", maxTrackedKeys);
+            evictor.execute(this::evictIdleSafe);
+        }
+    }
+
+    private void evictIdleSafe() {
+        try {
+            long now = System.nanoTime();
+            int before = buckets.size();
+            buckets.values().removeIf(b -> b.isFull(now));
+            log.debug("[RATE-LIMIT] evicted idle buckets. before={} after={}", before, buckets.size());
+        } catch (Throwable t) {
+            log.error("[RATE-LIMIT] bucket eviction error", t);
+        } finally {
+            evictionRequested.set(false);
+        }
+    }
+
+    @Override
+    public void close() {
+        evictor.shutdownNow();
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long lastRefillNanos;
+        private final double capacity;
+        private final double refillPerNano;
+
+        private Bucket(RateLimitProperties.Bucket spec, long now) {
+            this.capacity = spec.capacity();
+            this.refillPerNano = spec.refillPerSecond() / 1_000_000_000d;
+            this.tokens = capacity;
+            this.lastRefillNanos = now;
+        }
+
+        private synchronized RateLimitDecision tryConsume(long now) {
+            refill(now);
+            if (tokens >= 1d) {
+                tokens -= 1d;
+                return RateLimitDecision.allow();
+            }
+            double missing = 1d - tokens;
+            long retryAfterMillis = (long) Math.ceil(missing / refillPerNano / 1_000_000d);
+            return RateLimitDecision.reject(retryAfterMillis);
+        }
+
+        private synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            long elapsed = now - lastRefillNanos;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * refillPerNano);
+                lastRefillNanos = now;
+            }
+        }
+    }
+}
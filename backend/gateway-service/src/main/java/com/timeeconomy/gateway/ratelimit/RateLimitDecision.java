@@ -0,0 +1,16 @@
+package com.timeeconomy.gateway.ratelimit;
+
+public record RateLimitDecision(
+        boolean allowed,
+        long retryAfterMillis
+) {
+    private static final RateLimitDecision ALLOWED = new RateLimitDecision(true, 0L);
+
+    public static RateLimitDecision allow() {
+        return ALLOWED;
+    }
+
+    public static RateLimitDecision reject(long retryAfterMillis) {
+        return new RateLimitDecision(false, Math.max(retryAfterMillis, 1L));
+    }
+}
@@ -0,0 +1,82 @@
+package com.timeeconomy.gateway.ratelimit;
+
+import com.timeeconomy.gateway.config.RateLimitProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Redis 공유 token bucket (게이트웨이 인스턴스 간 공유).
+ *
+ * refill + consume 을 Lua 한 번으로 처리 → 요청당 Redis round-trip 1회.
+ * 시간은 Redis TIME 기준이라 게이트웨이 간 clock skew 영향이 없다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisTokenBucketRateLimiter implements TokenBucketRateLimiter {
+
+    private static final String KEY_PREFIX = "gw:rl:";
+
+    // KEYS[1] = bucket hash
+    // ARGV[1] = capacity, ARGV[2] = refill tokens per millisecond
+    // return  = { allowed(0|1), retryAfterMillis }
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET = RedisScript.of("""
+            local capacity = tonumber(ARGV[1])
+            local refill_per_ms = tonumber(ARGV[2])
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1])
+            local ts = tonumber(state[2])
+            if tokens == nil then
+              tokens = capacity
+              ts = now
+            end
+
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill_per_ms)
+
+            local allowed = 0
+            local retry_after = 0
+            if tokens >= 1 then
+              tokens = tokens - 1
+              allowed = 1
+            else
+              retry_after = math.ceil((1 - tokens) / refill_per_ms)
+            end
+
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / refill_per_ms) + 1000)
+            return { allowed, retry_after }
+            """, List.class);
+
+    private final ReactiveStringRedisTemplate redis;
+
+    @Override
+    public Mono<RateLimitDecision> tryConsume(String key, RateLimitProperties.Bucket spec) {
+        String refillPerMs = String.valueOf(spec.refillPerSecond() / 1000d);
+
+        return redis.execute(TOKEN_BUCKET, List.of(KEY_PREFIX + key), List.of(String.valueOf(spec.capacity()), refillPerMs))
+                .next()
+                .map(RedisTokenBucketRateLimiter::toDecision)
+                .onErrorResume(e -> {
+                    // ✅ Redis 장애가 전체 트래픽 장애로 번지지 않도록 fail-open
+                    log.warn("[RATE-LIMIT] redis bucket check failed, allowing request. key={} err={}", key, e.toString());
+                    return Mono.just(RateLimitDecision.allow());
+                })
+                .defaultIfEmpty(RateLimitDecision.allow());
+    }
+
+    private static RateLimitDecision toDecision(List<?> result) {
+        long allowed = ((Number) result.get(0)).longValue();
+        if (allowed == 1L) {
+            return RateLimitDecision.allow();
+        }
+        return RateLimitDecision.reject(((Number) result.get(1)).longValue());
+    }
+}
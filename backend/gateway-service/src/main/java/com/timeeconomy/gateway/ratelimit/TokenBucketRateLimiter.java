@@ -0,0 +1,13 @@
+package com.timeeconomy.gateway.ratelimit;
+
+import com.timeeconomy.gateway.config.RateLimitProperties;
+import reactor.core.publisher.Mono;
+
+public interface TokenBucketRateLimiter {
+
+    /**
+     * key 의 bucket 에서 토큰 1개를 소비 시도한다.
+     * 저장소 장애 시에는 요청을 막지 않는다 (fail-open).
+     */
+    Mono<RateLimitDecision> tryConsume(String key, RateLimitProperties.Bucket bucket);
+}
@@ -0,0 +1,106 @@
+package com.timeeconomy.gateway.route;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 공개 경로 판별기 (기동 시 1회 compile, 요청 경로에서는 read-only).
+ *
+ * - exact    : HashSet lookup (String#hashCode 는 캐시되므로 할당 없음)
+ * - prefixes : char 단위 prefix trie. 노드마다 정렬된 char[] + 자식 배열을 두고
+ *              binary search 로 내려가므로 boxing / iterator / stream 할당이 없다.
+ *
+ * 요청마다 호출되는 {@link #isPublic(String)} 은 객체를 하나도 만들지 않는다.
+ */
+public final class PublicRouteMatcher {
+
+    private final Set<String> exactPaths;
+    private final Node prefixRoot;
+
+    private PublicRouteMatcher(Set<String> exactPaths, Node prefixRoot) {
+        this.exactPaths = exactPaths;
+        this.prefixRoot = prefixRoot;
+    }
+
+    public static PublicRouteMatcher compile(Collection<String> exact, Collection<String> prefixes) {
+        Builder root = new Builder();
+        for (String prefix : prefixes) {
+            if (prefix == null || prefix.isEmpty()) {
+                throw new IllegalArgumentException("public route prefix must not be empty");
+            }
+            Builder cur = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                cur = cur.child(prefix.charAt(i));
+            }
+            cur.terminal = true;
+        }
+
+        return new PublicRouteMatcher(Set.copyOf(exact), root.freeze());
+    }
+
+    public boolean isPublic(String path) {
+        if (path == null) {
+            return false;
+        }
+        if (exactPaths.contains(path)) {
+            return true;
+        }
+        return matchesPrefix(path);
+    }
+
+    private boolean matchesPrefix(String path) {
+        Node cur = prefixRoot;
+        for (int i = 0, n = path.length(); i < n; i++) {
+            int idx = Arrays.binarySearch(cur.labels, path.charAt(i));
+            if (idx < 0) {
+                return false;
+            }
+            cur = cur.children[idx];
+            if (cur.terminal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // -----------------------
+    // Trie nodes
+    // -----------------------
+
+    /** Immutable node used at request time. */
+    private static final class Node {
+        private final char[] labels;     // sorted
+        private final Node[] children;   // children[i] ↔ labels[i]
+        private final boolean terminal;
+
+        private Node(char[] labels, Node[] children, boolean terminal) {
+            this.labels = labels;
+            this.children = children;
+            this.terminal = terminal;
+        }
+    }
+
+    /** Mutable node used only while compiling. */
+    private static final class Builder {
+        private final TreeMap<Character, Builder> next = new TreeMap<>();
+        private boolean terminal;
+
+        private Builder child(char c) {
+            return next.computeIfAbsent(c, k -> new Builder());
+        }
+
+        private Node freeze() {
+            char[] labels = new char[next.size()];
+            Node[] children = new Node[next.size()];
+            int i = 0;
+            for (var e : next.entrySet()) {
+                labels[i] = e.getKey();
+                children[i] = e.getValue().freeze();
+                i++;
+            }
+            return new Node(labels, children, terminal);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.timeeconomy.gateway.route;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게이트웨이 트래픽 구성(공개 / 인증 / preflight / 거절) 카운터.
+ *
+ * Counter 는 기동 시 미리 등록해 두므로 요청 경로에서는 increment 만 한다 (tag 조합 할당 없음).
+ * metric: gateway.requests.route_class{route_class=...}
+ */
+@Component
+public class RouteClassMetrics {
+
+    private static final String METRIC = "gateway.requests.route_class";
+
+    private final Counter preflight;
+    private final Counter publicRoute;
+    private final Counter authenticated;
+    private final Counter unauthorized;
+
+    public RouteClassMetrics(MeterRegistry registry) {
+        this.preflight = counter(registry, "preflight");
+        this.publicRoute = counter(registry, "public");
+        this.authenticated = counter(registry, "authenticated");
+        this.unauthorized = counter(registry, "unauthorized");
+    }
+
+    private static Counter counter(MeterRegistry registry, String routeClass) {
+        return Counter.builder(METRIC)
+                .description("Gateway requests by route class")
+                .tag("route_class", routeClass)
+                .register(registry);
+    }
+
+    public void preflight() { preflight.increment(); }
+    public void publicRoute() { publicRoute.increment(); }
+    public void authenticated() { authenticated.increment(); }
+    public void unauthorized() { unauthorized.increment(); }
+}
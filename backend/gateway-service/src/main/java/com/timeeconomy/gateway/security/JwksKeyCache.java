@@ -0,0 +1,156 @@
+package com.timeeconomy.gateway.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * auth-service JWKS (/.well-known/jwks.json) 캐시.
+ *
+ * - 기동 시 1회 + refresh-interval 마다 백그라운드 갱신 (요청 경로에서는 map lookup 만)
+ * - 모르는 kid 가 오면 즉시 비동기 갱신을 트리거 (min-refresh-interval 로 폭주 방지)
+ *   → key rotation 시 새 키를 active 로 바꾸기 전에 JWKS 에 먼저 공개하면 검증 실패 없음
+ * - 갱신 실패 시 기존 키 유지
+ */
+@Slf4j
+@Component
+public class JwksKeyCache {
+
+    private final String jwksUri;
+    private final Duration refreshInterval;
+    private final Duration minRefreshInterval;
+    private final WebClient webClient;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final AtomicReference<Map<String, PublicKey>> keys = new AtomicReference<>(Map.of());
+    private final AtomicLong lastRefreshStartedAt = new AtomicLong(0L);
+    private Disposable refreshLoop;
+
+    public JwksKeyCache(
+            @Value("${jwt.jwks.uri:}") String jwksUri,
+            @Value("${jwt.jwks.refresh-interval:5m}") Duration refreshInterval,
+            @Value("${jwt.jwks.min-refresh-interval:30s}") Duration minRefreshInterval
+    ) {
+        this.jwksUri = jwksUri;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshInterval = minRefreshInterval;
+        this.webClient = WebClient.create();
+    }
+
+    public boolean isEnabled() {
+        return jwksUri != null && !jwksUri.isBlank();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        refreshLoop = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refreshLoop != null) {
+            refreshLoop.dispose();
+        }
+    }
+
+    /** 요청 경로에서 호출. 캐시에 없으면 null (+ 비동기 refresh 트리거). */
+    public PublicKey find(String kid) {
+        if (kid == null) {
+            return null;
+        }
+        PublicKey key = keys.get().get(kid);
+        if (key == null && isEnabled()) {
+            long now = System.currentTimeMillis();
+            long last = lastRefreshStartedAt.get();
+            if (now - last >= minRefreshInterval.toMillis()) {
+                refresh().subscribe();
+            }
+        }
+        return key;
+    }
+
+    private Mono<Void> refresh() {
+        lastRefreshStartedAt.set(System.currentTimeMillis());
+
+        return webClient.get()
+                .uri(jwksUri)
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(Duration.ofSeconds(5))
+                .map(this::parse)
+                .doOnNext(parsed -> {
+                    Map<String, PublicKey> previous = keys.getAndSet(parsed);
+                    if (!previous.keySet().equals(parsed.keySet())) {
+                        log.info("[JWKS] key set updated. kids={}", parsed.keySet());
+                    }
+                })
+                .doOnError(e -> log.warn("[JWKS] refresh failed, keeping {} cached keys. err={}",
+                        keys.get().size(), e.toString()))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    private Map<String, PublicKey> parse(String json) {
+        try {
+            JsonNode root = mapper.readTree(json);
+            Map<String, PublicKey> parsed = new HashMap<>();
+
+            for (JsonNode jwk : root.path("keys")) {
+                if (!"EC".equals(jwk.path("kty").asText()) || !"P-256".equals(jwk.path("crv").asText())) {
+                    continue; // ES256 만 지원
+                }
+                String kid = jwk.path("kid").asText(null);
+                if (kid == null) {
+                    continue;
+                }
+                parsed.put(kid, ecPublicKey(jwk.path("x").asText(), jwk.path("y").asText()));
+            }
+            return Map.copyOf(parsed);
+
+        } catch (Exception e) {
+            throw new IllegalStateException("Invalid JWKS document", e);
+        }
+    }
+
+    private static PublicKey ecPublicKey(String x, String y) throws Exception {
+        AlgorithmParameters params = AlgorithmParameters.getInstance("EC");
+        params.init(new ECGenParameterSpec("secp256r1"));
+        ECParameterSpec spec = params.getParameterSpec(ECParameterSpec.class);
+
+        ECPoint point = new ECPoint(unsigned(x), unsigned(y));
+        return KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(point, spec));
+    }
+
+    private static BigInteger unsigned(String base64Url) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode(base64Url));
+    }
+}
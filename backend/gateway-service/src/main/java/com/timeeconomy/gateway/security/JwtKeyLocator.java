@@ -0,0 +1,50 @@
+package com.timeeconomy.gateway.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.SignatureException;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.security.PublicKey;
+
+/**
+ * JWS header(alg, kid) 를 보고 검증 키를 고른다.
+ *
+ * - HS256 : jwt.secret 이 설정돼 있을 때만 허용 (전환 기간 호환)
+ * - ES256 : JWKS 캐시에서 kid 로 조회
+ *
+ * alg 계열과 키 종류를 분리해서 돌려주므로 algorithm confusion(공개키를 HMAC 비밀로 쓰는 공격)이 불가능하다.
+ */
+class JwtKeyLocator extends LocatorAdapter<Key> {
+
+    private final SecretKey hmacKey;     // nullable
+    private final JwksKeyCache jwks;
+
+    JwtKeyLocator(SecretKey hmacKey, JwksKeyCache jwks) {
+        this.hmacKey = hmacKey;
+        this.jwks = jwks;
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String alg = header.getAlgorithm();
+
+        if ("HS256".equals(alg)) {
+            if (hmacKey == null) {
+                throw new SignatureException("HS256 tokens are not accepted");
+            }
+            return hmacKey;
+        }
+
+        if ("ES256".equals(alg)) {
+            PublicKey key = jwks.find(header.getKeyId());
+            if (key == null) {
+                throw new SignatureException("Unknown signing key. kid=" + header.getKeyId());
+            }
+            return key;
+        }
+
+        throw new SignatureException("Unsupported JWS algorithm: " + alg);
+    }
+}
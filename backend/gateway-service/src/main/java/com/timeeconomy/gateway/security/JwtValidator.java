@@ -12,25 +12,29 @@ import java.nio.charset.StandardCharsets;
 @Component
 public class JwtValidator {
 
-    private final SecretKey key;
-    private final String issuer;
+    private final JwtParser parser;
 
     public JwtValidator(
-            @Value("${jwt.secret}") String secret,
-            @Value("${jwt.issuer}") String issuer
+            @Value("${jwt.secret:}") String secret,
+            @Value("${jwt.issuer}") String issuer,
+            JwksKeyCache jwksKeyCache
     ) {
-        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-        this.issuer = issuer;
+        // secret 이 비어 있으면 HS256 토큰은 거부 (ES256 + JWKS 전용)
+        SecretKey hmacKey = (secret == null || secret.isBlank())
+                ? null
+                : Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+
+        // ✅ parser 는 thread-safe → 요청마다 build 하지 않고 재사용
+        this.parser = Jwts.parser()
+                .keyLocator(new JwtKeyLocator(hmacKey, jwksKeyCache))
+                .requireIssuer(issuer)
+                .build();
     }
 
     public Jws<Claims> validate(String token) {
 
         try {
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .requireIssuer(issuer)
-                    .build()
-                    .parseSignedClaims(token);
+            return parser.parseSignedClaims(token);
 
         } catch (ExpiredJwtException e) {
             throw new JwtException("TOKEN_EXPIRED", e);
@@ -0,0 +1,91 @@
+package com.timeeconomy.notification.benchmark;
+
+import com.timeeconomy.notification.adapter.out.template.CompiledTemplate;
+import com.timeeconomy.notification.adapter.out.template.LocalTemplateEngine;
+import com.timeeconomy.notification.config.NotificationTemplateProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 로컬 템플릿 렌더 비용: 미리 컴파일한 CompiledTemplate vs 매번 치환하는 방식.
+ *
+ * - compiled: 조각 append 만 (builder 1개 + 결과 String)
+ * - engine: compiled + (key, part, locale) 캐시 조회 → 실제 SMS/email adapter 경로
+ * - replaceEach / regex: 컴파일 없이 매 발송마다 원본 문자열을 치환하는 기준선
+ *
+ * ./gradlew jmh   (-prof gc 로 op 당 할당 바이트도 같이 봄)
+ */
+@State(Scope.Benchmark)
+public class TemplateRenderBenchmark {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{\\s*([^}]+?)\\s*}}");
+
+    @Param({"OTP_SMS", "OTP_EMAIL"})
+    public String templateKey;
+
+    private LocalTemplateEngine engine;
+    private CompiledTemplate compiled;
+    private String source;
+    private Map<String, Object> params;
+
+    @Setup
+    public void setUp() {
+        engine = new LocalTemplateEngine(new NotificationTemplateProperties(null, Locale.KOREAN, true));
+
+        LocalTemplateEngine.Part part = templateKey.endsWith("_SMS")
+                ? LocalTemplateEngine.Part.TEXT
+                : LocalTemplateEngine.Part.HTML;
+        compiled = engine.find(templateKey, part, Locale.KOREAN).orElseThrow();
+
+        source = templateKey.endsWith("_SMS")
+                ? "[TimeEconomy] 인증번호 [{{otp}}] ({{ttlSeconds}}초 내 입력)"
+                : "<p>아래 인증번호를 입력해 주세요.</p><p>{{otp}}</p><p>{{ttlSeconds}}초 후 만료됩니다.</p>";
+
+        params = Map.of(
+                "otp", "482913",
+                "ttlSeconds", 300,
+                "purpose", "SIGNUP_EMAIL",
+                "challengeId", "5f0c8a4e-2d1b-4c3a-9e7f-0a1b2c3d4e5f"
+        );
+    }
+
+    @Benchmark
+    public String compiled() {
+        return compiled.render(params);
+    }
+
+    @Benchmark
+    public String engine() {
+        return templateKey.endsWith("_SMS")
+                ? engine.renderText(templateKey, Locale.KOREAN, params)
+                : engine.renderEmail(templateKey, Locale.KOREAN, params).html();
+    }
+
+    @Benchmark
+    public String replaceEach() {
+        String out = source;
+        for (Map.Entry<String, Object> e : params.entrySet()) {
+            out = out.replace("{{" + e.getKey() + "}}", String.valueOf(e.getValue()));
+        }
+        return out;
+    }
+
+    @Benchmark
+    public String regex() {
+        Matcher m = PLACEHOLDER.matcher(source);
+        StringBuilder sb = new StringBuilder();
+        while (m.find()) {
+            m.appendReplacement(sb, Matcher.quoteReplacement(String.valueOf(params.get(m.group(1)))));
+        }
+        m.appendTail(sb);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,286 @@
+package com.timeeconomy.notification.adapter.in.kafka;
+
+import com.timeeconomy.contracts.auth.v1.AuthUserRegisteredV1;
+import com.timeeconomy.contracts.auth.v1.EmailChangeCommittedV1;
+import com.timeeconomy.contracts.auth.v1.VerificationLinkDeliveryRequestedV1;
+import com.timeeconomy.contracts.auth.v1.VerificationOtpDeliveryRequestedV1;
+import com.timeeconomy.contracts.auth.v2.AuthUserRegisteredV2;
+import com.timeeconomy.contracts.auth.v2.VerificationLinkDeliveryRequestedV2;
+import com.timeeconomy.contracts.auth.v2.VerificationOtpDeliveryRequestedV2;
+import com.timeeconomy.notification.adapter.in.kafka.dto.ConsumerContext;
+import com.timeeconomy.notification.application.integration.port.in.HandleAuthUserRegisteredUseCase;
+import com.timeeconomy.notification.application.integration.port.in.HandleEmailChangeCommittedUseCase;
+import com.timeeconomy.notification.application.integration.port.in.HandleVerificationLinkDeliveryRequestedUseCase;
+import com.timeeconomy.notification.application.integration.port.in.HandleVerificationOtpDeliveryRequestedUseCase;
+import com.timeeconomy.notification.application.notification.exception.NotificationSendFailedException;
+import com.timeeconomy.notification.config.SenderResilienceProperties;
+import com.timeeconomy.notification.domain.inbox.port.out.ProcessedEventRepositoryPort;
+import com.timeeconomy.notification.domain.notification.port.out.DeliveryAuditWriterPort;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * auth 이벤트 배치 처리 공통부 (verification / informational / retry 리스너가 같이 씀).
+ *
+ * 1) 배치 전체 eventId 를 processed_events 에 한 번에 조회 → 이미 처리된 것 제외
+ * 2) eventType 별로 묶고, 같은 key 끼리는 offset 순서 유지(lane), lane 끼리는 동시 처리
+ *    v1 OTP / link 는 레코드마다 발송 직전에 auth internal 에서 꺼냄 (GETDEL)
+ *    → 미리 꺼내 두면 앞 레코드 실패로 재전달될 때 뒤 레코드의 비밀값이 이미 사라져 있음
+ *    ttl 이 지난 OTP / link 는 꺼내지 않고 FAILED(…_EXPIRED_BEFORE_DELIVERY) 로 끝냄
+ * 3) retryable 발송 실패(provider 5xx/timeout/circuit open)는 retry topic 으로 넘기고 계속 진행
+ * 4) 처리 결과(processed 마킹 + delivery audit)는 버퍼에 모았다가 ack 직전에 한 번에 flush
+ * 5) 그 외 실패가 있으면 가장 앞선 실패 index 로 BatchListenerFailedException
+ *    → 그 앞까지만 커밋되고 나머지는 재전달 (이미 처리된 건 inbox 가 걸러냄)
+ *    eventId 가 깨진 레코드도 같은 경로: 계속 실패하면 기본 error handler 가 재시도 후 그 레코드만 건너뜀
+ */
+@Slf4j
+@Component
+public class NotificationBatchDispatcher {
+
+    private final HandleAuthUserRegisteredUseCase authUserRegisteredUseCase;
+    private final HandleEmailChangeCommittedUseCase emailChangeCommittedUseCase;
+    private final HandleVerificationOtpDeliveryRequestedUseCase otpDeliveryRequestedUseCase;
+    private final HandleVerificationLinkDeliveryRequestedUseCase linkDeliveryRequestedUseCase;
+
+    private final ProcessedEventRepositoryPort processedEventRepositoryPort;
+    private final ExecutorService dispatchExecutor;
+    private final RetryTopicRouter retryTopicRouter;
+    private final DeliveryAuditWriterPort deliveryAuditWriterPort;
+
+    // 모든 listener container (retry 포함) 의 lane 을 합친 동시 처리 상한. 우선순위별로 따로 둬서
+    // informational 이 자리를 다 차지해도 OTP / link lane 은 막히지 않음
+    private final Semaphore verificationPermits;
+    private final Semaphore informationalPermits;
+
+    @Value("${spring.kafka.consumer.group-id}")
+    private String consumerGroup;
+
+    public NotificationBatchDispatcher(
+            HandleAuthUserRegisteredUseCase authUserRegisteredUseCase,
+            HandleEmailChangeCommittedUseCase emailChangeCommittedUseCase,
+            HandleVerificationOtpDeliveryRequestedUseCase otpDeliveryRequestedUseCase,
+            HandleVerificationLinkDeliveryRequestedUseCase linkDeliveryRequestedUseCase,
+            ProcessedEventRepositoryPort processedEventRepositoryPort,
+            @Qualifier("notificationDispatchExecutor") ExecutorService dispatchExecutor,
+            RetryTopicRouter retryTopicRouter,
+            DeliveryAuditWriterPort deliveryAuditWriterPort,
+            SenderResilienceProperties resilience,
+            @Value("${notification.lanes.informational.max-parallel-lanes:8}") int informationalMaxParallelLanes
+    ) {
+        if (informationalMaxParallelLanes < 1) {
+            throw new IllegalStateException(
+                    "notification.lanes.informational.max-parallel-lanes must be >= 1, got " + informationalMaxParallelLanes);
+        }
+        this.authUserRegisteredUseCase = authUserRegisteredUseCase;
+        this.emailChangeCommittedUseCase = emailChangeCommittedUseCase;
+        this.otpDeliveryRequestedUseCase = otpDeliveryRequestedUseCase;
+        this.linkDeliveryRequestedUseCase = linkDeliveryRequestedUseCase;
+        this.processedEventRepositoryPort = processedEventRepositoryPort;
+        this.dispatchExecutor = dispatchExecutor;
+        this.retryTopicRouter = retryTopicRouter;
+        this.deliveryAuditWriterPort = deliveryAuditWriterPort;
+        // lane 은 레코드를 하나씩 보내므로 lane 수 = 그 provider 로 나가는 동시 발송 수
+        // → provider bulkhead 보다 많이 돌려 봐야 bulkhead 에서 거절(→ retry topic)만 늘어남
+        this.verificationPermits = new Semaphore(
+                Math.max(resilience.email().maxConcurrent(), resilience.sms().maxConcurrent()));
+        this.informationalPermits = new Semaphore(informationalMaxParallelLanes);
+    }
+
+    /**
+     * 정상 종료 = 배치 전체 처리 완료 (호출 측이 ack).
+     * @throws BatchListenerFailedException 막아야 하는 실패(DB 등)가 있으면 가장 앞선 index 로
+     */
+    public void dispatch(List<ConsumerRecord<String, SpecificRecord>> records) {
+        if (records.isEmpty()) return;
+
+        // 1) parse + 배치 내부 중복 제거 (같은 eventId 는 첫 레코드만)
+        //    eventId 를 못 읽는 레코드는 그 index 의 실패로만 기록하고 나머지는 그대로 처리
+        Map<UUID, Pending> pendingByEventId = new LinkedHashMap<>();
+        List<LaneResult> results = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, SpecificRecord> record = records.get(i);
+            if (record.value() == null) {
+                log.warn("[BATCH] null value skipped topic={} p={} o={}",
+                        record.topic(), record.partition(), record.offset());
+                continue;
+            }
+            UUID eventId;
+            try {
+                eventId = UUID.fromString(eventIdOf(record.value()));
+            } catch (IllegalArgumentException ex) {
+                log.error("[BATCH] unreadable eventId topic={} p={} o={}",
+                        record.topic(), record.partition(), record.offset(), ex);
+                results.add(LaneResult.failed(i, ex));
+                continue;
+            }
+            pendingByEventId.putIfAbsent(eventId, new Pending(i, record, toContext(record, eventId)));
+        }
+
+        // 2) 한 번의 쿼리로 이미 처리된 eventId 제외
+        Set<UUID> processed = processedEventRepositoryPort.findProcessedEventIds(
+                consumerGroup, pendingByEventId.keySet());
+
+        // 3) eventType → key 별 lane 으로 그룹핑 (LinkedHashMap: offset 순서 유지)
+        Map<String, Map<String, List<Pending>>> lanesByType = new LinkedHashMap<>();
+        for (Map.Entry<UUID, Pending> e : pendingByEventId.entrySet()) {
+            if (processed.contains(e.getKey())) continue;
+            Pending p = e.getValue();
+            lanesByType
+                    .computeIfAbsent(p.ctx().topic(), t -> new LinkedHashMap<>())
+                    .computeIfAbsent(String.valueOf(p.record().key()), k -> new ArrayList<>())
+                    .add(p);
+        }
+
+        // 4) lane 끼리는 동시에 (우선순위별 permits 만큼), lane 안에서는 순차로
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        lanesByType.values().forEach(lanes -> lanes.values().forEach(lane -> {
+            Semaphore permits = isVerification(lane.getFirst().record().value()) ? verificationPermits : informationalPermits;
+            LaneResult result = new LaneResult();
+            results.add(result);
+            futures.add(CompletableFuture.runAsync(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    runLane(lane, result);
+                } finally {
+                    permits.release();
+                }
+            }, dispatchExecutor));
+        }));
+
+        // runLane 은 예외를 LaneResult 에 담고 정상 종료 → join 은 던지지 않음
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // 5) 이 배치에서 끝난 이벤트들의 processed + audit 를 offset commit 전에 기록
+        //    (실패 index 앞부분도 commit 되므로 예외 던지기 전에도 flush). flush 실패 = 배치 전체 재전달
+        deliveryAuditWriterPort.flush();
+
+        LaneResult firstFailure = results.stream()
+                .filter(r -> r.failedIndex >= 0)
+                .min((a, b) -> Integer.compare(a.failedIndex, b.failedIndex))
+                .orElse(null);
+
+        if (firstFailure != null) {
+            throw new BatchListenerFailedException(
+                    "notification batch failed at index=" + firstFailure.failedIndex,
+                    firstFailure.cause,
+                    firstFailure.failedIndex
+            );
+        }
+
+        log.info("[BATCH] consumed size={} unique={} alreadyProcessed={} types={}",
+                records.size(), pendingByEventId.size(), processed.size(), lanesByType.keySet());
+    }
+
+    private void runLane(List<Pending> lane, LaneResult result) {
+        for (Pending p : lane) {
+            try {
+                dispatch(p.record().value(), p.ctx());
+            } catch (Exception ex) {
+                if (isRetryableSendFailure(ex) && forwardToRetry(p, ex)) {
+                    continue; // provider 일시 장애: partition 을 막지 않고 retry topic 에서 지연 재시도
+                }
+                log.error("[BATCH] handle failed eventType={} eventId={} topic={} key={} p={} o={}",
+                        p.ctx().eventType(), p.ctx().eventId(),
+                        p.ctx().topic(), p.ctx().key(), p.ctx().partition(), p.ctx().offset(), ex);
+                result.failedIndex = p.index();
+                result.cause = ex;
+                return; // 같은 key 의 뒤 레코드는 재전달 때 순서대로 다시 처리
+            }
+        }
+    }
+
+    private static boolean isRetryableSendFailure(Exception ex) {
+        return ex instanceof NotificationSendFailedException failed && failed.isRetryable();
+    }
+
+    private boolean forwardToRetry(Pending p, Exception cause) {
+        try {
+            retryTopicRouter.forward(p.record(), cause);
+            return true;
+        } catch (Exception forwardFailed) {
+            log.error("[BATCH] retry forward failed → blocking redelivery eventId={} topic={} p={} o={}",
+                    p.ctx().eventId(), p.ctx().topic(), p.ctx().partition(), p.ctx().offset(), forwardFailed);
+            return false;
+        }
+    }
+
+    private void dispatch(SpecificRecord value, ConsumerContext ctx) {
+        switch (value) {
+            case AuthUserRegisteredV1 e -> authUserRegisteredUseCase.handle(e, ctx);
+            case AuthUserRegisteredV2 e -> authUserRegisteredUseCase.handle(e, ctx);
+            case EmailChangeCommittedV1 e -> emailChangeCommittedUseCase.handle(e, ctx);
+            case VerificationOtpDeliveryRequestedV1 e -> otpDeliveryRequestedUseCase.handle(e, ctx);
+            case VerificationLinkDeliveryRequestedV1 e -> linkDeliveryRequestedUseCase.handle(e, ctx);
+            case VerificationOtpDeliveryRequestedV2 e -> otpDeliveryRequestedUseCase.handle(e, ctx);
+            case VerificationLinkDeliveryRequestedV2 e -> linkDeliveryRequestedUseCase.handle(e, ctx);
+            default -> throw new IllegalArgumentException(
+                    "Unsupported event payload: " + value.getClass().getName());
+        }
+    }
+
+    // OTP / link: ttl 안에 도착해야 하는 것 (retry tier 로 다시 들어온 것 포함)
+    private static boolean isVerification(SpecificRecord value) {
+        return value instanceof VerificationOtpDeliveryRequestedV1
+                || value instanceof VerificationLinkDeliveryRequestedV1
+                || value instanceof VerificationOtpDeliveryRequestedV2
+                || value instanceof VerificationLinkDeliveryRequestedV2;
+    }
+
+    private static String eventIdOf(SpecificRecord value) {
+        return switch (value) {
+            case AuthUserRegisteredV1 e -> e.getEventId();
+            case AuthUserRegisteredV2 e -> e.getEventId();
+            case EmailChangeCommittedV1 e -> e.getEventId();
+            case VerificationOtpDeliveryRequestedV1 e -> e.getEventId();
+            case VerificationLinkDeliveryRequestedV1 e -> e.getEventId();
+            case VerificationOtpDeliveryRequestedV2 e -> e.getEventId();
+            case VerificationLinkDeliveryRequestedV2 e -> e.getEventId();
+            default -> throw new IllegalArgumentException(
+                    "Unsupported event payload: " + value.getClass().getName());
+        };
+    }
+
+    private ConsumerContext toContext(ConsumerRecord<String, SpecificRecord> record, UUID eventId) {
+        return new ConsumerContext(
+                consumerGroup,
+                record.topic(),
+                record.partition(),
+                record.offset(),
+                record.timestamp(),
+                record.key(),
+                record.headers(),
+                eventId,
+                KafkaHeaderUtil.str(record.headers(), "event_type")
+        );
+    }
+
+    private record Pending(int index, ConsumerRecord<String, SpecificRecord> record, ConsumerContext ctx) {}
+
+    // lane 하나는 한 스레드에서만 쓰고, join() 이후에 읽으므로 별도 동기화 불필요
+    private static final class LaneResult {
+        private int failedIndex = -1;
+        private Exception cause;
+
+        private static LaneResult failed(int index, Exception cause) {
+            LaneResult r = new LaneResult();
+            r.failedIndex = index;
+            r.cause = cause;
+            return r;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.timeeconomy.notification.adapter.in.kafka;
+
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * auth 이벤트를 배치(poll 단위)로 소비. 처리 자체는 NotificationBatchDispatcher, 전부 끝나면 한 번 ack.
+ *
+ * 우선순위별로 listener container 를 나눔 (같은 consumer group → processed_events/offset 그대로):
+ * - verification  : OTP / link (v1 + v2). ttlSeconds 안에 도착해야 의미 있음 → concurrency 높게, poll 작게
+ *                   만료된 건 handler 가 비밀값(auth GETDEL / envelope)을 건드리기 전에 FAILED 로 끝냄
+ * - informational : welcome / email-changed. 몰려와도 verification 을 막지 않게 lane 병렬도 제한
+ *                   (dispatcher 가 우선순위별 semaphore 로: retry tier 로 다시 들어온 것도 같은 몫)
+ */
+@Component
+public class NotificationEventBatchListener {
+
+    private final NotificationBatchDispatcher dispatcher;
+
+    public NotificationEventBatchListener(NotificationBatchDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @KafkaListener(
+            id = "notification-verification-events",
+            topics = {
+                    "${topics.auth.verification-otp-delivery-requested}",
+                    "${topics.auth.verification-link-delivery-requested}",
+                    "${topics.auth.verification-otp-delivery-requested-v2}",
+                    "${topics.auth.verification-link-delivery-requested-v2}"
+            },
+            groupId = "${spring.kafka.consumer.group-id}",
+            concurrency = "${notification.lanes.verification.concurrency:4}",
+            properties = "max.poll.records=${notification.lanes.verification.max-poll-records:100}",
+            batch = "true"
+    )
+    public void onVerificationBatch(List<ConsumerRecord<String, SpecificRecord>> records, Acknowledgment ack) {
+        dispatcher.dispatch(records);
+        ack.acknowledge();
+    }
+
+    @KafkaListener(
+            id = "notification-informational-events",
+            topics = {
+                    "${topics.auth.user-registered}",
+                    "${topics.auth.user-registered-v2}",
+                    "${topics.auth.email-changed}"
+            },
+            groupId = "${spring.kafka.consumer.group-id}",
+            concurrency = "${notification.lanes.informational.concurrency:1}",
+            properties = "max.poll.records=${notification.lanes.informational.max-poll-records:200}",
+            batch = "true"
+    )
+    public void onInformationalBatch(List<ConsumerRecord<String, SpecificRecord>> records, Acknowledgment ack) {
+        dispatcher.dispatch(records);
+        ack.acknowledge();
+    }
+}
@@ -0,0 +1,127 @@
+package com.timeeconomy.notification.adapter.in.kafka;
+
+import com.timeeconomy.notification.config.NotificationRetryProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.BatchAcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * retry tier topic ({prefix}-1..N) 소비. tier 마다 listener container 하나.
+ *
+ * tier 마다 지연이 고정이라 partition 안에서는 앞 레코드가 항상 먼저 due.
+ * 배치 앞에서부터 due 된 것까지만 처리하고, 첫 not-due 레코드에서 nack(index, 남은 시간)
+ * → 앞부분만 커밋, 나머지는 seek 후 그 시간만큼 pause 했다가 다시 poll (스레드 sleep 없음).
+ * 다시 실패하면 RetryTopicRouter 가 다음 tier / DLT 로 보냄.
+ *
+ * container 를 tier 별로 나누는 이유: nack 은 배치 index 기준이라 그 뒤 레코드 (다른 partition 포함) 를 전부 되감고
+ * consumer 전체를 pause 함. 한 container 가 모든 tier 를 구독하면 10m tier 레코드 하나가 30s tier 를 붙잡음.
+ * tier 안에서는 지연이 같아서 되감긴 레코드가 기다리는 시간도 그 tier 의 지연을 넘지 않음.
+ */
+@Slf4j
+@Component
+public class NotificationRetryListener implements BatchAcknowledgingMessageListener<String, SpecificRecord>, SmartLifecycle {
+
+    // pause 는 max.poll.interval 안쪽으로만 (길면 나눠서 여러 번)
+    private static final Duration MAX_PAUSE = Duration.ofSeconds(30);
+
+    private final NotificationBatchDispatcher dispatcher;
+    private final Clock clock;
+    private final ConcurrentKafkaListenerContainerFactory<?, ?> containerFactory;
+    private final NotificationRetryProperties props;
+    private final String groupId;
+
+    private final List<ConcurrentMessageListenerContainer<?, ?>> containers = new ArrayList<>();
+    private volatile boolean running;
+
+    public NotificationRetryListener(
+            NotificationBatchDispatcher dispatcher,
+            Clock clock,
+            ConcurrentKafkaListenerContainerFactory<?, ?> containerFactory,
+            NotificationRetryProperties props,
+            @Value("${spring.kafka.consumer.group-id}") String groupId
+    ) {
+        this.dispatcher = dispatcher;
+        this.clock = clock;
+        this.containerFactory = containerFactory;
+        this.props = props;
+        this.groupId = groupId;
+    }
+
+    @Override
+    public void onMessage(List<ConsumerRecord<String, SpecificRecord>> records, Acknowledgment ack) {
+        long now = clock.millis();
+
+        int firstNotDue = records.size();
+        for (int i = 0; i < records.size(); i++) {
+            if (RetryTopicRouter.dueAtOf(records.get(i)) > now) {
+                firstNotDue = i;
+                break;
+            }
+        }
+
+        dispatcher.dispatch(records.subList(0, firstNotDue));
+
+        if (firstNotDue == records.size()) {
+            ack.acknowledge();
+            return;
+        }
+
+        long waitMs = RetryTopicRouter.dueAtOf(records.get(firstNotDue)) - now;
+        Duration pause = Duration.ofMillis(Math.min(waitMs, MAX_PAUSE.toMillis()));
+        log.debug("[RETRY] {} due, next due in {}ms → pause {}", firstNotDue, waitMs, pause);
+        ack.nack(firstNotDue, pause);
+    }
+
+    // -------------------------
+    // tier 별 container (ack-mode / error handler 등은 Boot 의 기본 container factory 설정 그대로)
+    // -------------------------
+
+    @Override
+    public synchronized void start() {
+        if (running) return;
+
+        for (int tier = 1; tier <= props.maxAttempts(); tier++) {
+            ConcurrentMessageListenerContainer<?, ?> container = containerFactory.createContainer(props.tierTopic(tier));
+            container.getContainerProperties().setGroupId(groupId);
+            container.getContainerProperties().setMessageListener(this);
+            container.setBeanName("notification-auth-events-retry-" + tier);
+            container.start();
+            containers.add(container);
+        }
+        running = true;
+
+        log.info("[RETRY] started {} tier containers topics={}..{}",
+                containers.size(), props.tierTopic(1), props.tierTopic(props.maxAttempts()));
+    }
+
+    @Override
+    public synchronized void stop() {
+        containers.forEach(ConcurrentMessageListenerContainer::stop);
+        containers.clear();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 다른 @KafkaListener container 와 같은 단계에서 시작 / 종료
+    @Override
+    public int getPhase() {
+        return AbstractMessageListenerContainer.DEFAULT_PHASE;
+    }
+}
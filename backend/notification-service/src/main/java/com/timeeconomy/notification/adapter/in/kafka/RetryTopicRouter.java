@@ -0,0 +1,121 @@
+package com.timeeconomy.notification.adapter.in.kafka;
+
+import com.timeeconomy.notification.config.NotificationRetryProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * retryable 발송 실패 레코드를 다음 retry tier (또는 DLT) 로 넘김.
+ * 원래 partition 은 막지 않고 계속 진행 → 느린 provider 가 뒤 레코드들을 붙잡지 않음.
+ * v1 OTP / link 는 provider 가 호출을 안 받는 상태 (circuit open / bulkhead full) 라서 비밀값을 꺼내기 전에
+ * 미룬 것만 옴. 꺼낸 뒤의 발송 실패는 비밀값이 이미 GETDEL 로 사라졌으므로 handler 가 바로 FAILED 로 끝냄
+ * (그것까지 재시도하려면 auth 의 embed-secret=true → v2, envelope 이 레코드에 같이 실려 다님).
+ *
+ * headers:
+ * - x-retry-attempt   : 1..N (DLT 는 N+1)
+ * - x-retry-due-at    : epoch millis, 이 시각 이후에 처리
+ * - x-original-topic  : 처음 소비된 topic
+ * - x-retry-reason    : 마지막 실패 메시지 (잘림)
+ * 나머지 원본 header(event_type 등)는 그대로 복사.
+ */
+@Slf4j
+@Component
+public class RetryTopicRouter {
+
+    public static final String ATTEMPT_HEADER = "x-retry-attempt";
+    public static final String DUE_AT_HEADER = "x-retry-due-at";
+    public static final String ORIGINAL_TOPIC_HEADER = "x-original-topic";
+    public static final String REASON_HEADER = "x-retry-reason";
+
+    private static final Set<String> RETRY_HEADERS =
+            Set.of(ATTEMPT_HEADER, DUE_AT_HEADER, ORIGINAL_TOPIC_HEADER, REASON_HEADER);
+
+    private static final long SEND_TIMEOUT_SECONDS = 10;
+
+    private final KafkaTemplate<String, SpecificRecord> kafkaTemplate;
+    private final NotificationRetryProperties props;
+    private final Clock clock;
+
+    public RetryTopicRouter(
+            KafkaTemplate<String, SpecificRecord> kafkaTemplate,
+            NotificationRetryProperties props,
+            Clock clock
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.props = props;
+        this.clock = clock;
+    }
+
+    /**
+     * 동기 전송 (ack 전에 retry topic 에 확실히 적혀 있어야 유실이 없음).
+     * 전송 실패는 예외 → 호출 측이 원래 레코드를 재전달 대상으로 남김.
+     */
+    public void forward(ConsumerRecord<String, SpecificRecord> record, Throwable cause) {
+        int attempt = attemptOf(record) + 1;
+        boolean exhausted = attempt > props.maxAttempts();
+        String target = exhausted ? props.deadLetterTopic() : props.tierTopic(attempt);
+        Instant dueAt = exhausted ? Instant.now(clock) : Instant.now(clock).plus(props.delay(attempt));
+
+        String originalTopic = KafkaHeaderUtil.str(record.headers(), ORIGINAL_TOPIC_HEADER);
+
+        RecordHeaders headers = new RecordHeaders();
+        for (Header h : record.headers()) {
+            if (!RETRY_HEADERS.contains(h.key())) headers.add(h);
+        }
+        headers.add(ATTEMPT_HEADER, utf8(Integer.toString(attempt)));
+        headers.add(DUE_AT_HEADER, utf8(Long.toString(dueAt.toEpochMilli())));
+        headers.add(ORIGINAL_TOPIC_HEADER, utf8(originalTopic != null ? originalTopic : record.topic()));
+        headers.add(REASON_HEADER, utf8(reason(cause)));
+
+        try {
+            kafkaTemplate.send(new ProducerRecord<>(target, null, record.key(), record.value(), headers))
+                    .get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted forwarding to " + target, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed forwarding to " + target, e);
+        }
+
+        if (exhausted) {
+            log.error("[RETRY] exhausted → DLT topic={} key={} from={} p={} o={} reason={}",
+                    target, record.key(), record.topic(), record.partition(), record.offset(), reason(cause));
+        } else {
+            log.warn("[RETRY] scheduled attempt={} topic={} dueAt={} key={} from={} p={} o={}",
+                    attempt, target, dueAt, record.key(), record.topic(), record.partition(), record.offset());
+        }
+    }
+
+    static int attemptOf(ConsumerRecord<?, ?> record) {
+        String v = KafkaHeaderUtil.str(record.headers(), ATTEMPT_HEADER);
+        return v == null ? 0 : Integer.parseInt(v);
+    }
+
+    static long dueAtOf(ConsumerRecord<?, ?> record) {
+        String v = KafkaHeaderUtil.str(record.headers(), DUE_AT_HEADER);
+        return v == null ? 0L : Long.parseLong(v);
+    }
+
+    private static byte[] utf8(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String reason(Throwable cause) {
+        String m = cause == null ? "" : String.valueOf(cause.getMessage());
+        return m.length() > 300 ? m.substring(0, 300) : m;
+    }
+}
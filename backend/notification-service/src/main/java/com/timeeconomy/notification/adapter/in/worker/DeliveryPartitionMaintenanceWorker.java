@@ -0,0 +1,71 @@
+package com.timeeconomy.notification.adapter.in.worker;
+
+import com.timeeconomy.notification.application.notification.port.in.MaintainDeliveryPartitionsUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * notification_deliveries 월 파티션 유지: 기동 직후 한 번, 이후 interval 마다.
+ * (여러 인스턴스가 동시에 돌아도 CREATE IF NOT EXISTS / DROP IF EXISTS 라 무해)
+ */
+@Slf4j
+@Component
+public class DeliveryPartitionMaintenanceWorker implements SmartLifecycle {
+
+    private final MaintainDeliveryPartitionsUseCase maintainDeliveryPartitionsUseCase;
+    private final Duration interval;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private ScheduledExecutorService scheduler;
+
+    public DeliveryPartitionMaintenanceWorker(
+            MaintainDeliveryPartitionsUseCase maintainDeliveryPartitionsUseCase,
+            @Value("${notification.deliveries.maintenance-interval:6h}") Duration interval
+    ) {
+        this.maintainDeliveryPartitionsUseCase = maintainDeliveryPartitionsUseCase;
+        this.interval = interval;
+    }
+
+    @Override public boolean isAutoStartup() { return true; }
+    @Override public boolean isRunning() { return running.get(); }
+
+    @Override
+    public void start() {
+        if (!running.compareAndSet(false, true)) return;
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "delivery-partition-worker");
+            t.setDaemon(true);
+            return t;
+        });
+
+        scheduler.scheduleWithFixedDelay(this::tickSafe, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+
+        log.info("[DELIVERIES] partition worker started. interval={}", interval);
+    }
+
+    private void tickSafe() {
+        if (!running.get()) return;
+
+        try {
+            maintainDeliveryPartitionsUseCase.maintain();
+        } catch (Exception e) {
+            log.error("[DELIVERIES] partition maintenance failed", e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (!running.compareAndSet(true, false)) return;
+        if (scheduler != null) scheduler.shutdownNow();
+        log.info("[DELIVERIES] partition worker stopped");
+    }
+}
@@ -0,0 +1,85 @@
+package com.timeeconomy.notification.adapter.in.worker;
+
+import com.timeeconomy.notification.application.inbox.port.in.PurgeProcessedEventsUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * processed_events 를 주기적으로 비워서 uq_processed_events 인덱스를 작게 유지.
+ * 한 tick 안에서 batch 가 꽉 차면(=더 남았으면) 이어서 지우고, 아니면 다음 tick 까지 대기.
+ */
+@Slf4j
+@Component
+public class ProcessedEventPurgeWorker implements SmartLifecycle {
+
+    private static final int MAX_BATCHES_PER_TICK = 20;
+
+    private final PurgeProcessedEventsUseCase purgeProcessedEventsUseCase;
+    private final Duration interval;
+    private final int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private ScheduledExecutorService scheduler;
+
+    public ProcessedEventPurgeWorker(
+            PurgeProcessedEventsUseCase purgeProcessedEventsUseCase,
+            @Value("${notification.inbox.purge-interval:10m}") Duration interval,
+            @Value("${notification.inbox.purge-batch-size:5000}") int batchSize
+    ) {
+        this.purgeProcessedEventsUseCase = purgeProcessedEventsUseCase;
+        this.interval = interval;
+        this.batchSize = batchSize;
+    }
+
+    @Override public boolean isAutoStartup() { return true; }
+    @Override public boolean isRunning() { return running.get(); }
+
+    @Override
+    public void start() {
+        if (!running.compareAndSet(false, true)) return;
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "processed-event-purge-worker");
+            t.setDaemon(true);
+            return t;
+        });
+
+        long periodMs = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::tickSafe, periodMs, periodMs, TimeUnit.MILLISECONDS);
+
+        log.info("[INBOX] purge worker started. interval={} batchSize={}", interval, batchSize);
+    }
+
+    private void tickSafe() {
+        if (!running.get()) return;
+
+        try {
+            int total = 0;
+            for (int i = 0; i < MAX_BATCHES_PER_TICK && running.get(); i++) {
+                int deleted = purgeProcessedEventsUseCase.purgeOnce();
+                total += deleted;
+                if (deleted < batchSize) break;
+            }
+            if (total > 0) {
+                log.info("[INBOX] purged processed_events rows={}", total);
+            }
+        } catch (Exception e) {
+            log.error("[INBOX] purge tick failed", e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (!running.compareAndSet(true, false)) return;
+        if (scheduler != null) scheduler.shutdownNow();
+        log.info("[INBOX] purge worker stopped");
+    }
+}
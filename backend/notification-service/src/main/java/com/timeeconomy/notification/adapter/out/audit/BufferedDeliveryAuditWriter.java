@@ -0,0 +1,236 @@
+package com.timeeconomy.notification.adapter.out.audit;
+
+import com.timeeconomy.notification.domain.inbox.model.ProcessedEvent;
+import com.timeeconomy.notification.domain.inbox.port.out.ProcessedEventRepositoryPort;
+import com.timeeconomy.notification.domain.notification.model.NotificationDelivery;
+import com.timeeconomy.notification.domain.notification.port.out.DeliveryAuditWriterPort;
+import com.timeeconomy.notification.domain.notification.port.out.NotificationDeliveryRepositoryPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * DeliveryAuditWriterPort 구현: bounded 메모리 버퍼 + JDBC batch flush.
+ *
+ * - append: 버퍼에 적재만 (가득 차면 appendTimeout 까지 대기 → 초과 시 예외 = listener 쪽 backpressure)
+ * - flush : processed_events 는 INSERT .. ON CONFLICT 한 번, 새로 들어간 eventId 의 delivery 만 batch insert
+ *           (한 트랜잭션). listener 가 ack 전에 호출 + 백그라운드로 flushInterval / flushThreshold 마다
+ * - flush 는 한 번에 하나만: 앞선 flush 가 실패해서 버퍼 앞에 되돌린 항목을
+ *   다음 flush (다른 container 의 ack 직전 flush 포함) 가 반드시 같이 기록하도록
+ */
+@Slf4j
+@Component
+public class BufferedDeliveryAuditWriter implements DeliveryAuditWriterPort, SmartLifecycle {
+
+    private record Entry(ProcessedEvent processed, List<NotificationDelivery> deliveries) {}
+
+    private final ProcessedEventRepositoryPort processedEventRepositoryPort;
+    private final NotificationDeliveryRepositoryPort notificationDeliveryRepositoryPort;
+    private final TransactionTemplate tx;
+
+    private final int capacity;
+    private final int flushThreshold;
+    private final Duration flushInterval;
+    private final long appendTimeoutNanos;
+
+    private final ReentrantLock bufferLock = new ReentrantLock();
+    private final Condition notFull = bufferLock.newCondition();
+    private ArrayDeque<Entry> buffer = new ArrayDeque<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Timer flushTimer;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private ScheduledExecutorService scheduler;
+
+    public BufferedDeliveryAuditWriter(
+            ProcessedEventRepositoryPort processedEventRepositoryPort,
+            NotificationDeliveryRepositoryPort notificationDeliveryRepositoryPort,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry registry,
+            @Value("${notification.audit.buffer-capacity:10000}") int capacity,
+            @Value("${notification.audit.flush-threshold:500}") int flushThreshold,
+            @Value("${notification.audit.flush-interval:200ms}") Duration flushInterval,
+            @Value("${notification.audit.append-timeout:5s}") Duration appendTimeout
+    ) {
+        this.processedEventRepositoryPort = processedEventRepositoryPort;
+        this.notificationDeliveryRepositoryPort = notificationDeliveryRepositoryPort;
+        this.tx = transactionTemplate;
+        this.capacity = capacity;
+        this.flushThreshold = flushThreshold;
+        this.flushInterval = flushInterval;
+        this.appendTimeoutNanos = appendTimeout.toNanos();
+
+        this.flushTimer = Timer.builder("notification.audit.flush")
+                .description("Delivery audit flush (processed_events + notification_deliveries)")
+                .register(registry);
+        Gauge.builder("notification.audit.buffer.size", this, BufferedDeliveryAuditWriter::size)
+                .description("Delivery audit entries waiting for flush")
+                .register(registry);
+    }
+
+    @Override
+    public void append(ProcessedEvent processed, List<NotificationDelivery> deliveries) {
+        Entry entry = new Entry(processed, List.copyOf(deliveries));
+        boolean reachedThreshold;
+
+        bufferLock.lock();
+        try {
+            long remaining = appendTimeoutNanos;
+            while (buffer.size() >= capacity) {
+                if (remaining <= 0) {
+                    throw new IllegalStateException("delivery audit buffer full (capacity=" + capacity + ")");
+                }
+                remaining = notFull.awaitNanos(remaining);
+            }
+            buffer.addLast(entry);
+            reachedThreshold = buffer.size() >= flushThreshold;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted waiting for delivery audit buffer", e);
+        } finally {
+            bufferLock.unlock();
+        }
+
+        ScheduledExecutorService s = scheduler;
+        if (reachedThreshold && s != null && running.get()) {
+            s.execute(this::flushQuietly);
+        }
+    }
+
+    @Override
+    public void flush() {
+        flushLock.lock();
+        try {
+            ArrayDeque<Entry> batch = drain();
+            if (batch.isEmpty()) return;
+
+            try {
+                flushTimer.record(() -> write(batch));
+            } catch (RuntimeException e) {
+                requeue(batch);
+                throw e;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(ArrayDeque<Entry> batch) {
+        // 같은 이벤트가 (재전달 등으로) 두 번 들어왔으면 첫 번째만
+        List<Entry> unique = new ArrayList<>(batch.size());
+        Set<String> seen = new HashSet<>();
+        for (Entry e : batch) {
+            if (seen.add(e.processed().getConsumerGroup() + ':' + e.processed().getEventId())) unique.add(e);
+        }
+
+        tx.executeWithoutResult(status -> {
+            Set<UUID> inserted = processedEventRepositoryPort.markProcessedAll(
+                    unique.stream().map(Entry::processed).toList());
+
+            // 이미 processed 였던 이벤트(다른 인스턴스가 먼저 기록)는 audit 도 이미 있음
+            List<NotificationDelivery> rows = new ArrayList<>();
+            for (Entry e : unique) {
+                if (inserted.contains(e.processed().getEventId())) rows.addAll(e.deliveries());
+            }
+            notificationDeliveryRepositoryPort.saveAll(rows);
+        });
+
+        log.debug("[AUDIT] flushed events={} unique={}", batch.size(), unique.size());
+    }
+
+    private ArrayDeque<Entry> drain() {
+        bufferLock.lock();
+        try {
+            ArrayDeque<Entry> drained = buffer;
+            buffer = new ArrayDeque<>();
+            notFull.signalAll();
+            return drained;
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    private void requeue(ArrayDeque<Entry> failed) {
+        bufferLock.lock();
+        try {
+            // 실패분을 앞에 (capacity 초과는 허용: 이미 처리된 결과라 버릴 수 없음)
+            failed.addAll(buffer);
+            buffer = failed;
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    private int size() {
+        bufferLock.lock();
+        try {
+            return buffer.size();
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("[AUDIT] background flush failed (kept in buffer): {}", e.toString());
+        }
+    }
+
+    // Kafka listener container 보다 먼저 시작하고 나중에 멈춤 (멈추기 전 마지막 flush)
+    @Override public int getPhase() { return Integer.MAX_VALUE - 1000; }
+    @Override public boolean isAutoStartup() { return true; }
+    @Override public boolean isRunning() { return running.get(); }
+
+    @Override
+    public void start() {
+        if (!running.compareAndSet(false, true)) return;
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "delivery-audit-flusher");
+            t.setDaemon(true);
+            return t;
+        });
+
+        long periodMs = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, periodMs, periodMs, TimeUnit.MILLISECONDS);
+
+        log.info("[AUDIT] buffered writer started. capacity={} threshold={} interval={}",
+                capacity, flushThreshold, flushInterval);
+    }
+
+    @Override
+    public void stop() {
+        if (!running.compareAndSet(true, false)) return;
+        if (scheduler != null) scheduler.shutdownNow();
+        try {
+            flush();
+        } catch (Exception e) {
+            // offset 은 flush 전에 commit 되지 않았으므로 재기동 후 재전달로 다시 기록됨
+            log.error("[AUDIT] final flush failed, {} entries dropped (will be redelivered)", size(), e);
+        }
+        log.info("[AUDIT] buffered writer stopped");
+    }
+}
@@ -70,4 +70,4 @@ public class AuthInternalLinkRestClientAdapter implements AuthInternalLinkClient
             throw e;
         }
     }
-}
\ No newline at end of file
+}
@@ -40,4 +40,4 @@ public class AuthInternalOtpRestClientAdapter implements AuthInternalOtpClientPo
             throw e;
         }
     }
-}
\ No newline at end of file
+}
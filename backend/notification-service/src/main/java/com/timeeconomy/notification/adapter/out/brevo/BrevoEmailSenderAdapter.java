@@ -1,9 +1,20 @@
 // src/main/java/com/timeeconomy/notification/adapter/out/brevo/BrevoEmailSenderAdapter.java
 package com.timeeconomy.notification.adapter.out.brevo;
 
-import com.timeeconomy.notification.application.notification.port.out.EmailSenderPort;
+import com.timeeconomy.notification.adapter.out.brevo.BrevoTemplateBatcher.Item;
+import com.timeeconomy.notification.adapter.out.brevo.dto.BrevoSendEmailRequest;
+import com.timeeconomy.notification.adapter.out.brevo.dto.BrevoSendEmailRequest.MessageVersion;
+import com.timeeconomy.notification.adapter.out.brevo.dto.BrevoSendEmailRequest.Recipient;
+import com.timeeconomy.notification.adapter.out.brevo.dto.BrevoSendEmailResponse;
+import com.timeeconomy.notification.adapter.out.metrics.NotificationProviderMetrics;
+import com.timeeconomy.notification.adapter.out.template.LocalTemplateEngine;
+import com.timeeconomy.notification.adapter.out.template.LocalTemplateEngine.Part;
+import com.timeeconomy.notification.adapter.out.template.LocalTemplateEngine.RenderedEmail;
 import com.timeeconomy.notification.application.notification.exception.EmailSendFailedException;
-import lombok.RequiredArgsConstructor;
+import com.timeeconomy.notification.application.notification.port.out.EmailSenderPort;
+import com.timeeconomy.notification.config.NotificationTemplateProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
@@ -11,74 +22,211 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientResponseException;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class BrevoEmailSenderAdapter implements EmailSenderPort {
 
-    @Qualifier("brevoRestClient")
+    private static final String PROVIDER = "BREVO";
+    private static final String METRIC_PROVIDER = "brevo";
+    private static final String SEND_PATH = "/v3/smtp/email";
+
     private final RestClient brevoRestClient;
+    private final NotificationProviderMetrics metrics;
+    private final String apiKey;
+    private final Recipient sender;
+
+    // emailLocalRender=true 면 로컬 subject/html 템플릿이 있는 key 는 Brevo 템플릿 대신 htmlContent 로 보냄
+    private final LocalTemplateEngine templateEngine;
+    private final boolean localRender;
+
+    private final int welcomeEmailTemplateId;
+    private final int emailChangeNewTemplateId;
+    private final int emailChangeOldTemplateId;
+    private final int createVerificationOtpTemplateId;
+    private final int createVerificationLinkTemplateId;
+
+    // 동시에 Brevo 로 나가는 요청 수 상한 (HTTP/1.1 fallback 시 소켓 수 = 이 값)
+    private final Semaphore inFlight;
+    private final Duration acquireTimeout;
+
+    // null = 배치 비활성 (요청마다 단건 호출)
+    private final BrevoTemplateBatcher batcher;
+
+    public BrevoEmailSenderAdapter(
+            @Qualifier("brevoRestClient") RestClient brevoRestClient,
+            NotificationProviderMetrics metrics,
+            LocalTemplateEngine templateEngine,
+            NotificationTemplateProperties templateProperties,
+            @Value("${brevo.api-key}") String apiKey,
+            @Value("${brevo.from-email}") String fromEmail,
+            @Value("${brevo.from-name}") String fromName,
+            @Value("${brevo.templates.welcome-email}") int welcomeEmailTemplateId,
+            @Value("${brevo.templates.email-change-new}") int emailChangeNewTemplateId,
+            @Value("${brevo.templates.email-change-old}") int emailChangeOldTemplateId,
+            @Value("${brevo.templates.otp-mail}") int createVerificationOtpTemplateId,
+            @Value("${brevo.templates.link-mail}") int createVerificationLinkTemplateId,
+            @Value("${brevo.http.max-in-flight:64}") int maxInFlight,
+            @Value("${brevo.http.acquire-timeout:PT2S}") Duration acquireTimeout,
+            @Value("${brevo.batch.enabled:true}") boolean batchEnabled,
+            @Value("${brevo.batch.max-size:50}") int batchMaxSize,
+            @Value("${brevo.batch.linger:PT0.02S}") Duration batchLinger
+    ) {
+        this.brevoRestClient = brevoRestClient;
+        this.metrics = metrics;
+        this.apiKey = apiKey;
+        this.sender = new Recipient(fromEmail, fromName);
+        this.templateEngine = templateEngine;
+        this.localRender = templateProperties.emailLocalRender();
+        this.welcomeEmailTemplateId = welcomeEmailTemplateId;
+        this.emailChangeNewTemplateId = emailChangeNewTemplateId;
+        this.emailChangeOldTemplateId = emailChangeOldTemplateId;
+        this.createVerificationOtpTemplateId = createVerificationOtpTemplateId;
+        this.createVerificationLinkTemplateId = createVerificationLinkTemplateId;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.acquireTimeout = acquireTimeout;
+        this.batcher = batchEnabled
+                ? new BrevoTemplateBatcher(this::sendGroup, batchMaxSize, batchLinger)
+                : null;
+    }
 
-    @Value("${brevo.api-key}")
-    private String apiKey;
+    @Override
+    public EmailSendResult sendTemplate(EmailSendCommand cmd) {
+        MessageVersion version = MessageVersion.of(cmd.toEmail(), cmd.toName(), cmd.params());
 
-    @Value("${brevo.templates.welcome-email}")
-    private int welcomeEmailTemplateId;
+        if (localRender && hasLocalTemplate(cmd.templateKey())) {
+            return new EmailSendResult(PROVIDER, sendRendered(cmd.templateKey(), version));
+        }
 
-    @Value("${brevo.templates.email-change-new}")
-    private int emailChangeNewTemplateId;
+        int templateId = resolveTemplateId(cmd.templateKey());
 
-    @Value("${brevo.templates.email-change-old}")
-    private int emailChangeOldTemplateId;
+        if (batcher == null) {
+            return new EmailSendResult(PROVIDER, sendSingle(templateId, version));
+        }
 
-    @Value("${brevo.templates.otp-mail}")
-    private int createVerificationOtpTemplateId;
+        try {
+            return new EmailSendResult(PROVIDER, batcher.submit(templateId, version).join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof EmailSendFailedException failed) throw failed;
+            throw new EmailSendFailedException("Brevo batch failed: " + safe(String.valueOf(e.getCause())), e.getCause());
+        }
+    }
 
-    @Value("${brevo.templates.link-mail}")
-    private int createVerificationLinkTemplateId;
+    /**
+     * messageVersions 로 그룹 전체를 한 번에 보냄.
+     * non-retryable 4xx 는 보통 한 수신자(잘못된 주소 등) 때문이라, 그룹이면 단건으로 다시 보내서
+     * 나머지 메시지가 같이 실패하지 않게 함. 5xx/429/IO 는 그룹 전체 실패(retryable)로 둠.
+     */
+    private void sendGroup(int templateId, List<Item> items) {
+        if (items.size() == 1) {
+            Item only = items.getFirst();
+            only.result().complete(sendSingle(templateId, only.version()));
+            return;
+        }
 
-    @Override
-    public EmailSendResult sendTemplate(EmailSendCommand cmd) {
-        int templateId = resolveTemplateId(cmd.templateKey());
+        List<MessageVersion> versions = items.stream().map(Item::version).toList();
+        BrevoSendEmailResponse res;
+        try {
+            res = post("send_batch", versions.size(), BrevoSendEmailRequest.batch(templateId, versions));
+        } catch (EmailSendFailedException e) {
+            if (!e.isRetryable()) {
+                log.warn("[Brevo] batch rejected templateId={} size={} → falling back to single sends: {}",
+                        templateId, items.size(), e.getMessage());
+                sendEachSingly(templateId, items);
+                return;
+            }
+            throw e;
+        }
 
-        Map<String, Object> to = (cmd.toName() == null || cmd.toName().isBlank())
-                ? Map.of("email", cmd.toEmail())
-                : Map.of("email", cmd.toEmail(), "name", cmd.toName());
+        List<String> ids = (res == null || res.messageIds() == null) ? List.of() : res.messageIds();
+        for (int i = 0; i < items.size(); i++) {
+            items.get(i).result().complete(i < ids.size() ? ids.get(i) : null);
+        }
+    }
 
-        Map<String, Object> body = Map.of(
-                "to", List.of(to),
-                "templateId", templateId,
-                "params", cmd.params() == null ? Map.of() : cmd.params()
-        );
+    private void sendEachSingly(int templateId, List<Item> items) {
+        for (Item item : items) {
+            try {
+                item.result().complete(sendSingle(templateId, item.version()));
+            } catch (RuntimeException e) {
+                item.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    private String sendSingle(int templateId, MessageVersion version) {
+        BrevoSendEmailResponse res = post("send", 1, BrevoSendEmailRequest.single(templateId, version));
+        return res == null ? null : res.messageId();
+    }
+
+    /**
+     * 로컬 렌더는 수신자마다 본문이 달라서 templateId 배치에 안 태우고 단건 호출.
+     */
+    private String sendRendered(String templateKey, MessageVersion version) {
+        RenderedEmail rendered;
+        try {
+            rendered = templateEngine.renderEmail(templateKey, templateEngine.defaultLocale(), version.params());
+        } catch (IllegalArgumentException e) {
+            throw new EmailSendFailedException("Local render failed: " + e.getMessage(), e, false);
+        }
+        BrevoSendEmailResponse res = post("send_rendered", 1,
+                BrevoSendEmailRequest.rendered(sender, version, rendered.subject(), rendered.html()));
+        return res == null ? null : res.messageId();
+    }
+
+    private boolean hasLocalTemplate(String templateKey) {
+        return templateEngine.has(templateKey, Part.SUBJECT, templateEngine.defaultLocale())
+                && templateEngine.has(templateKey, Part.HTML, templateEngine.defaultLocale());
+    }
 
+    private BrevoSendEmailResponse post(String operation, int messages, BrevoSendEmailRequest body) {
+        acquire();
         try {
-            @SuppressWarnings("rawtypes")
-            Map res = brevoRestClient.post()
-                    .uri("/v3/smtp/email")
+            return metrics.record(METRIC_PROVIDER, operation, messages, () -> brevoRestClient.post()
+                    .uri(SEND_PATH)
                     .contentType(MediaType.APPLICATION_JSON)
                     .accept(MediaType.APPLICATION_JSON)
                     .header("api-key", apiKey)
                     .body(body)
                     .retrieve()
-                    .body(Map.class);
-
-            String msgId = (res == null) ? null : String.valueOf(res.get("messageId"));
-            return new EmailSendResult("BREVO", msgId);
+                    .body(BrevoSendEmailResponse.class));
 
         } catch (RestClientResponseException e) {
             // Brevo returned non-2xx (you get status + response body)
             throw new EmailSendFailedException(
                     "Brevo API failed: status=" + e.getStatusCode() + " body=" + safe(e.getResponseBodyAsString()),
-                    e
+                    e,
+                    isRetryableStatus(e.getStatusCode().value())
             );
         } catch (Exception e) {
             // network timeout, DNS, etc.
             throw new EmailSendFailedException("Brevo call failed: " + safe(e.getMessage()), e);
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (!inFlight.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new EmailSendFailedException("Brevo in-flight limit reached (waited " + acquireTimeout + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EmailSendFailedException("Interrupted waiting for Brevo slot", e);
         }
     }
 
+    // 4xx 는 요청 자체가 잘못된 것 (주소/파라미터) → 재시도 무의미. 단 408/429 는 일시적
+    private static boolean isRetryableStatus(int status) {
+        return status >= 500 || status == 408 || status == 429;
+    }
+
     private int resolveTemplateId(String templateKey) {
         return switch (templateKey) {
             case "WELCOME_EMAIL" -> welcomeEmailTemplateId;
@@ -90,8 +238,13 @@ public class BrevoEmailSenderAdapter implements EmailSenderPort {
         };
     }
 
+    @PreDestroy
+    public void stop() {
+        if (batcher != null) batcher.close();
+    }
+
     private static String safe(String s) {
         if (s == null) return "";
         return s.length() > 800 ? s.substring(0, 800) : s;
     }
-}
\ No newline at end of file
+}
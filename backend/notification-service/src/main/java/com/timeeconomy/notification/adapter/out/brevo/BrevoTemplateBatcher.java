@@ -0,0 +1,110 @@
+package com.timeeconomy.notification.adapter.out.brevo;
+
+import com.timeeconomy.notification.adapter.out.brevo.dto.BrevoSendEmailRequest.MessageVersion;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 templateId 로 동시에 들어온 발송 요청을 모아서 한 번의 provider 호출로 보냄.
+ *
+ * - 그룹의 첫 요청이 들어온 시점부터 linger 가 지나거나 maxSize 가 차면 flush
+ * - 호출자는 자기 메시지의 future 만 기다림 (messageId 또는 예외)
+ * - 배치 리스너가 poll 단위로 lane 들을 동시에 돌리므로, 같은 poll 의 OTP 메일들이 자연스럽게 한 그룹이 됨
+ */
+final class BrevoTemplateBatcher implements AutoCloseable {
+
+    record Item(MessageVersion version, CompletableFuture<String> result) {}
+
+    /**
+     * 한 그룹 전송. 구현은 각 item.result 를 완료시켜야 하고,
+     * 예외를 던지면 아직 완료되지 않은 item 은 그 예외로 실패 처리됨.
+     */
+    @FunctionalInterface
+    interface GroupSender {
+        void send(int templateId, List<Item> items);
+    }
+
+    private final GroupSender sender;
+    private final int maxSize;
+    private final long lingerNanos;
+
+    private final Object lock = new Object();
+    private final Map<Integer, List<Item>> open = new HashMap<>();
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("brevo-batch-timer").factory());
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("brevo-batch-", 0).factory());
+
+    BrevoTemplateBatcher(GroupSender sender, int maxSize, Duration linger) {
+        if (maxSize < 1) throw new IllegalArgumentException("maxSize must be >= 1");
+        this.sender = sender;
+        this.maxSize = maxSize;
+        this.lingerNanos = linger.toNanos();
+    }
+
+    CompletableFuture<String> submit(int templateId, MessageVersion version) {
+        Item item = new Item(version, new CompletableFuture<>());
+        List<Item> full = null;
+
+        synchronized (lock) {
+            List<Item> group = open.get(templateId);
+            if (group == null) {
+                List<Item> created = new ArrayList<>();
+                open.put(templateId, created);
+                timer.schedule(() -> flushIfOpen(templateId, created), lingerNanos, TimeUnit.NANOSECONDS);
+                group = created;
+            }
+            group.add(item);
+            if (group.size() >= maxSize) {
+                open.remove(templateId);
+                full = group;
+            }
+        }
+
+        if (full != null) dispatch(templateId, full);
+        return item.result();
+    }
+
+    private void flushIfOpen(int templateId, List<Item> group) {
+        synchronized (lock) {
+            // 이미 maxSize 로 flush 된 그룹이면 (같은 templateId 의 새 그룹일 수 있음) 건드리지 않음
+            if (open.get(templateId) != group) return;
+            open.remove(templateId);
+        }
+        dispatch(templateId, group);
+    }
+
+    private void dispatch(int templateId, List<Item> group) {
+        senders.execute(() -> {
+            try {
+                sender.send(templateId, group);
+            } catch (RuntimeException e) {
+                for (Item item : group) {
+                    item.result().completeExceptionally(e);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        List<Map.Entry<Integer, List<Item>>> remaining;
+        synchronized (lock) {
+            remaining = new ArrayList<>(open.entrySet());
+            open.clear();
+        }
+        remaining.forEach(e -> dispatch(e.getKey(), e.getValue()));
+        timer.shutdownNow();
+        senders.close(); // 진행 중인 전송이 끝날 때까지 대기
+    }
+}
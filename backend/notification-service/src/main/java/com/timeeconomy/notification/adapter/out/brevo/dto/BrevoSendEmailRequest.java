@@ -0,0 +1,48 @@
+package com.timeeconomy.notification.adapter.out.brevo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * POST /v3/smtp/email body.
+ *
+ * - 단건: templateId + to + params
+ * - 배치: templateId + messageVersions (같은 templateId 를 공유하는 수신자별 to/params 묶음)
+ * - 로컬 렌더: sender + to + subject + htmlContent (Brevo 템플릿 안 씀)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BrevoSendEmailRequest(
+        Integer templateId,
+        Recipient sender,
+        List<Recipient> to,
+        String subject,
+        String htmlContent,
+        Map<String, Object> params,
+        List<MessageVersion> messageVersions
+) {
+
+    public static BrevoSendEmailRequest single(int templateId, MessageVersion version) {
+        return new BrevoSendEmailRequest(templateId, null, version.to(), null, null, version.params(), null);
+    }
+
+    public static BrevoSendEmailRequest batch(int templateId, List<MessageVersion> versions) {
+        return new BrevoSendEmailRequest(templateId, null, null, null, null, null, versions);
+    }
+
+    public static BrevoSendEmailRequest rendered(Recipient sender, MessageVersion version, String subject, String htmlContent) {
+        return new BrevoSendEmailRequest(null, sender, version.to(), subject, htmlContent, null, null);
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Recipient(String email, String name) {}
+
+    public record MessageVersion(List<Recipient> to, Map<String, Object> params) {
+
+        public static MessageVersion of(String email, String name, Map<String, Object> params) {
+            Recipient recipient = new Recipient(email, (name == null || name.isBlank()) ? null : name);
+            return new MessageVersion(List.of(recipient), params == null ? Map.of() : params);
+        }
+    }
+}
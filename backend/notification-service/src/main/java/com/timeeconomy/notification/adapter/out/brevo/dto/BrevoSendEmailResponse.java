@@ -0,0 +1,11 @@
+package com.timeeconomy.notification.adapter.out.brevo.dto;
+
+import java.util.List;
+
+/**
+ * 단건 응답은 messageId, messageVersions 응답은 messageIds (요청 순서대로).
+ */
+public record BrevoSendEmailResponse(
+        String messageId,
+        List<String> messageIds
+) {}
@@ -0,0 +1,65 @@
+package com.timeeconomy.notification.adapter.out.crypto;
+
+import com.timeeconomy.contracts.auth.v2.EncryptedSecret;
+import com.timeeconomy.contracts.crypto.EnvelopeCrypto;
+import com.timeeconomy.notification.application.integration.port.out.SecretEnvelopeOpenerPort;
+import com.timeeconomy.notification.config.EnvelopeKeyProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Component
+public class EnvelopeSecretOpenerAdapter implements SecretEnvelopeOpenerPort {
+
+    private final Map<String, SecretKey> kekById;
+
+    public EnvelopeSecretOpenerAdapter(EnvelopeKeyProperties props) {
+        Map<String, SecretKey> m = new HashMap<>();
+        props.keys().forEach((kid, base64) -> {
+            if (base64 != null && !base64.isBlank()) m.put(kid, EnvelopeCrypto.kekFromBase64(base64));
+        });
+        this.kekById = Map.copyOf(m);
+    }
+
+    @Override
+    public Optional<String> open(EncryptedSecret secret, String associatedData) {
+        SecretKey kek = kekById.get(secret.getKeyId());
+        if (kek == null) {
+            log.error("[ENVELOPE] unknown keyId={} (check notification.envelope.keys)", secret.getKeyId());
+            return Optional.empty();
+        }
+
+        try {
+            byte[] plain = EnvelopeCrypto.open(
+                    kek,
+                    new EnvelopeCrypto.Sealed(
+                            secret.getKeyId(),
+                            secret.getAlg(),
+                            bytes(secret.getWrappedKey()),
+                            bytes(secret.getIv()),
+                            bytes(secret.getCiphertext())
+                    ),
+                    associatedData.getBytes(StandardCharsets.UTF_8)
+            );
+            return Optional.of(new String(plain, StandardCharsets.UTF_8));
+
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            log.error("[ENVELOPE] open failed keyId={} alg={}", secret.getKeyId(), secret.getAlg(), e);
+            return Optional.empty();
+        }
+    }
+
+    private static byte[] bytes(ByteBuffer buf) {
+        ByteBuffer b = buf.duplicate();
+        byte[] out = new byte[b.remaining()];
+        b.get(out);
+        return out;
+    }
+}
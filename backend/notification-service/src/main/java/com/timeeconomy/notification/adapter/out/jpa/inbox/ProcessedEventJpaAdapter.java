@@ -1,14 +1,19 @@
 package com.timeeconomy.notification.adapter.out.jpa.inbox;
 
-import com.timeeconomy.notification.adapter.out.jpa.inbox.mapper.ProcessedEventMapper;
 import com.timeeconomy.notification.adapter.out.jpa.inbox.repository.ProcessedEventJpaRepository;
 import com.timeeconomy.notification.domain.inbox.model.ProcessedEvent;
 import com.timeeconomy.notification.domain.inbox.port.out.ProcessedEventRepositoryPort;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
 @Component
 @RequiredArgsConstructor
 public class ProcessedEventJpaAdapter implements ProcessedEventRepositoryPort {
@@ -17,13 +22,44 @@ public class ProcessedEventJpaAdapter implements ProcessedEventRepositoryPort {
 
     @Override
     @Transactional
-    public boolean markProcessed(ProcessedEvent processedEvent) {
-        try {
-            repo.save(ProcessedEventMapper.toEntity(processedEvent));
-            return true;
-        } catch (DataIntegrityViolationException dup) {
-            // uq_processed_events(consumer_group,event_id) 위반 → 이미 처리됨
-            return false;
+    public Set<UUID> markProcessedAll(List<ProcessedEvent> processedEvents) {
+        // INSERT ... ON CONFLICT DO NOTHING RETURNING → 중복은 예외 없이 결과에서만 빠짐
+        if (processedEvents == null || processedEvents.isEmpty()) return Set.of();
+
+        int n = processedEvents.size();
+        String[] consumerGroups = new String[n];
+        UUID[] eventIds = new UUID[n];
+        String[] eventTypes = new String[n];
+        String[] topics = new String[n];
+        Integer[] partitions = new Integer[n];
+        Long[] offsets = new Long[n];
+        Instant[] processedAts = new Instant[n];
+
+        for (int i = 0; i < n; i++) {
+            ProcessedEvent e = processedEvents.get(i);
+            consumerGroups[i] = e.getConsumerGroup();
+            eventIds[i] = e.getEventId();
+            eventTypes[i] = e.getEventType();
+            topics[i] = e.getTopic();
+            partitions[i] = e.getKafkaPartition();
+            offsets[i] = e.getKafkaOffset();
+            processedAts[i] = e.getProcessedAt();
         }
+
+        return new HashSet<>(repo.insertAllIfAbsent(
+                consumerGroups, eventIds, eventTypes, topics, partitions, offsets, processedAts));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<UUID> findProcessedEventIds(String consumerGroup, Collection<UUID> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) return Set.of();
+        return new HashSet<>(repo.findProcessedEventIds(consumerGroup, eventIds));
+    }
+
+    @Override
+    @Transactional
+    public int deleteProcessedBefore(Instant cutoff, int limit) {
+        return repo.deleteProcessedBefore(cutoff, limit);
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,68 @@ package com.timeeconomy.notification.adapter.out.jpa.inbox.repository;
 
 import com.timeeconomy.notification.adapter.out.jpa.inbox.entity.ProcessedEventEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
 
 public interface ProcessedEventJpaRepository extends JpaRepository<ProcessedEventEntity, Long> {
-}
\ No newline at end of file
+
+    // uq_processed_events(consumer_group, event_id) 인덱스로 해결되는 단일 쿼리
+    @Query("""
+            select e.eventId from ProcessedEventEntity e
+            where e.consumerGroup = :consumerGroup
+              and e.eventId in :eventIds
+            """)
+    List<UUID> findProcessedEventIds(
+            @Param("consumerGroup") String consumerGroup,
+            @Param("eventIds") Collection<UUID> eventIds
+    );
+
+    // 컬럼별 배열을 unnest 로 펼쳐 한 번에 INSERT, 새로 들어간 event_id 만 반환 (중복은 예외/롤백 마킹 없이 빠짐)
+    @Query(value = """
+        INSERT INTO processed_events
+              (consumer_group, event_id, event_type, topic, kafka_partition, kafka_offset, processed_at)
+        SELECT *
+          FROM unnest(
+                CAST(:consumerGroups AS varchar[]),
+                CAST(:eventIds AS uuid[]),
+                CAST(:eventTypes AS varchar[]),
+                CAST(:topics AS varchar[]),
+                CAST(:kafkaPartitions AS int[]),
+                CAST(:kafkaOffsets AS bigint[]),
+                CAST(:processedAts AS timestamptz[])
+          )
+        ON CONFLICT ON CONSTRAINT uq_processed_events DO NOTHING
+        RETURNING event_id
+        """, nativeQuery = true)
+    List<UUID> insertAllIfAbsent(
+            @Param("consumerGroups") String[] consumerGroups,
+            @Param("eventIds") UUID[] eventIds,
+            @Param("eventTypes") String[] eventTypes,
+            @Param("topics") String[] topics,
+            @Param("kafkaPartitions") Integer[] kafkaPartitions,
+            @Param("kafkaOffsets") Long[] kafkaOffsets,
+            @Param("processedAts") Instant[] processedAts
+    );
+
+    // TTL purge: 한 번에 :limit 건씩 잘라서 지움 (긴 락/거대한 WAL 방지)
+    @Modifying
+    @Query(value = """
+        DELETE FROM processed_events
+         WHERE id IN (
+               SELECT id
+                 FROM processed_events
+                WHERE processed_at < CAST(:cutoff AS timestamptz)
+                LIMIT :limit
+         )
+        """, nativeQuery = true)
+    int deleteProcessedBefore(
+            @Param("cutoff") Instant cutoff,
+            @Param("limit") int limit
+    );
+}
@@ -5,14 +5,32 @@ import com.timeeconomy.notification.adapter.out.jpa.notification.repository.Noti
 import com.timeeconomy.notification.domain.notification.model.NotificationDelivery;
 import com.timeeconomy.notification.domain.notification.port.out.NotificationDeliveryRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class NotificationDeliveryJpaAdapter implements NotificationDeliveryRepositoryPort {
 
+    // id 는 sequence default.
+    // 재전달 중복은 여기서 못 막음 (created_at 이 매번 달라짐) → 호출 측(audit flush)이
+    // processed_events 에 새로 들어간 이벤트의 row 만 넘김. ON CONFLICT 는 같은 row 를 다시 쓰는 경우만
+    private static final String INSERT_SQL = """
+            INSERT INTO notification_deliveries
+                (event_id, event_type, channel, template, recipient, status,
+                 provider, provider_msg_id, error_message, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT ON CONSTRAINT uq_notification_delivery DO NOTHING
+            """;
+
+    private static final int JDBC_BATCH_SIZE = 500;
+
     private final NotificationDeliveryJpaRepository repo;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     @Transactional
@@ -20,4 +38,24 @@ public class NotificationDeliveryJpaAdapter implements NotificationDeliveryRepos
         repo.save(NotificationDeliveryMapper.toEntity(delivery));
         return delivery;
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional
+    public void saveAll(List<NotificationDelivery> deliveries) {
+        if (deliveries == null || deliveries.isEmpty()) return;
+
+        // IDENTITY 라 Hibernate insert batching 이 안 됨 → JdbcTemplate batch (reWriteBatchedInserts 와 같이 쓰면 multi-row INSERT)
+        jdbcTemplate.batchUpdate(INSERT_SQL, deliveries, JDBC_BATCH_SIZE, (ps, d) -> {
+            ps.setObject(1, d.getEventId());
+            ps.setString(2, d.getEventType());
+            ps.setString(3, d.getChannel().name());
+            ps.setString(4, d.getTemplate());
+            ps.setString(5, d.getRecipient());
+            ps.setString(6, d.getStatus().name());
+            ps.setString(7, d.getProvider());
+            ps.setString(8, d.getProviderMsgId());
+            ps.setString(9, d.getErrorMessage());
+            ps.setTimestamp(10, Timestamp.from(d.getCreatedAt()));
+        });
+    }
+}
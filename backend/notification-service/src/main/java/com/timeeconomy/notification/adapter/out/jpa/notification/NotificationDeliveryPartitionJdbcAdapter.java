@@ -0,0 +1,80 @@
+package com.timeeconomy.notification.adapter.out.jpa.notification;
+
+import com.timeeconomy.notification.domain.notification.port.out.NotificationDeliveryRetentionPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationDeliveryPartitionJdbcAdapter implements NotificationDeliveryRetentionPort {
+
+    private static final String PARENT = "notification_deliveries";
+    private static final String DEFAULT_PARTITION = PARENT + "_default";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern MONTHLY = Pattern.compile(PARENT + "_(\\d{6})");
+
+    private static final String LIST_PARTITIONS_SQL = """
+            SELECT c.relname
+              FROM pg_inherits i
+              JOIN pg_class c ON c.oid = i.inhrelid
+              JOIN pg_class p ON p.oid = i.inhparent
+             WHERE p.relname = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void ensureMonthlyPartitions(YearMonth from, int count) {
+        for (int i = 0; i < count; i++) {
+            YearMonth month = from.plusMonths(i);
+            // 이름/경계 모두 코드에서 만든 값 (외부 입력 없음)
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month)
+                    + " PARTITION OF " + PARENT
+                    + " FOR VALUES FROM ('" + startOf(month) + "') TO ('" + startOf(month.plusMonths(1)) + "')");
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<String> dropMonthlyPartitionsBefore(YearMonth cutoff) {
+        List<String> dropped = new ArrayList<>();
+        for (String name : jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class, PARENT)) {
+            Matcher m = MONTHLY.matcher(name);
+            if (!m.matches()) continue;
+
+            YearMonth month = YearMonth.parse(m.group(1), SUFFIX);
+            if (month.isBefore(cutoff)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + name);
+                dropped.add(name);
+            }
+        }
+        return dropped;
+    }
+
+    @Override
+    @Transactional
+    public int deleteFromDefaultPartitionBefore(Instant cutoff) {
+        return jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE created_at < ?", Timestamp.from(cutoff));
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARENT + "_" + month.format(SUFFIX);
+    }
+
+    private static Instant startOf(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+}
@@ -9,7 +9,7 @@ import java.util.UUID;
 @Table(
         name = "notification_deliveries",
         uniqueConstraints = {
-                @UniqueConstraint(name = "uq_notification_delivery", columnNames = {"event_id", "template"})
+                @UniqueConstraint(name = "uq_notification_delivery", columnNames = {"event_id", "template", "created_at"})
         }
 )
 public class NotificationDeliveryEntity {
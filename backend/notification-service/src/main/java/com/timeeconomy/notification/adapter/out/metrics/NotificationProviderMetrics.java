@@ -0,0 +1,86 @@
+package com.timeeconomy.notification.adapter.out.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 외부 발송 provider(Brevo, SMS ...) 호출 지표.
+ *
+ * metric:
+ * - notification.provider.request{provider, operation, outcome}  : 호출 1회 latency (Timer)
+ * - notification.provider.batch.size{provider, operation}          : 호출 1회에 실린 메시지 수
+ *
+ * outcome: success | client_error (4xx) | server_error (5xx) | io_error (timeout/connect) | error
+ *
+ * tag 조합이 몇 개 안 되므로 meter 는 처음 한 번만 만들어 두고 재사용 (발송마다 builder/registry 조회 안 함)
+ */
+@Component
+public class NotificationProviderMetrics {
+
+    private static final String REQUEST_METRIC = "notification.provider.request";
+    private static final String BATCH_SIZE_METRIC = "notification.provider.batch.size";
+
+    private record CallKey(String provider, String operation) {}
+
+    private record OutcomeKey(String provider, String operation, String outcome) {}
+
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<CallKey, DistributionSummary> batchSizes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<OutcomeKey, Timer> requestTimers = new ConcurrentHashMap<>();
+
+    public NotificationProviderMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public <T> T record(String provider, String operation, int messages, Supplier<T> call) {
+        batchSizes.computeIfAbsent(new CallKey(provider, operation), this::batchSize).record(messages);
+
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            requestTimers.computeIfAbsent(new OutcomeKey(provider, operation, outcome), this::requestTimer)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private DistributionSummary batchSize(CallKey key) {
+        return DistributionSummary.builder(BATCH_SIZE_METRIC)
+                .description("Messages carried by one provider call")
+                .tag("provider", key.provider())
+                .tag("operation", key.operation())
+                .register(registry);
+    }
+
+    private Timer requestTimer(OutcomeKey key) {
+        return Timer.builder(REQUEST_METRIC)
+                .description("Outbound notification provider call latency")
+                .tag("provider", key.provider())
+                .tag("operation", key.operation())
+                .tag("outcome", key.outcome())
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static String outcomeOf(RuntimeException e) {
+        if (e instanceof RestClientResponseException re) {
+            return re.getStatusCode().is4xxClientError() ? "client_error" : "server_error";
+        }
+        if (e instanceof ResourceAccessException) {
+            return "io_error";
+        }
+        return "error";
+    }
+}
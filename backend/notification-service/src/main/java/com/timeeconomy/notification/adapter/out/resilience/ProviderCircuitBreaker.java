@@ -0,0 +1,120 @@
+package com.timeeconomy.notification.adapter.out.resilience;
+
+import java.time.Duration;
+
+/**
+ * count 기반 sliding window circuit breaker (provider 하나당 하나).
+ *
+ * CLOSED    : 최근 N 건 중 실패(예외 + slow call) 비율이 threshold 이상이면 OPEN
+ * OPEN      : openDuration 동안 즉시 거절
+ * HALF_OPEN : halfOpenCalls 건만 시험 통과. 하나라도 실패하면 다시 OPEN, 전부 성공하면 CLOSED
+ *
+ * 호출량이 provider 호출 수준(초당 수백)이라 단순 synchronized 로 충분.
+ */
+final class ProviderCircuitBreaker {
+
+    // ordinal 은 gauge 값으로 씀 (0=closed 1=half_open 2=open)
+    enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+
+    // ring buffer: true = failure
+    private final boolean[] window;
+    private int windowPos;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenInFlight;
+    private int halfOpenSucceeded;
+
+    ProviderCircuitBreaker(int slidingWindowSize, int minimumCalls, int failureRateThreshold,
+                           Duration openDuration, int halfOpenCalls) {
+        this.window = new boolean[slidingWindowSize];
+        this.minimumCalls = Math.min(minimumCalls, slidingWindowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    /**
+     * @return 허용된 시점의 상태 (onResult 에 그대로 넘김), 거절이면 null
+     */
+    synchronized State tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return State.CLOSED;
+            case OPEN:
+                if (System.nanoTime() - openedAtNanos < openDurationNanos) return null;
+                state = State.HALF_OPEN;
+                halfOpenInFlight = 0;
+                halfOpenSucceeded = 0;
+                // fall through
+            case HALF_OPEN:
+            default:
+                if (halfOpenInFlight >= halfOpenCalls) return null;
+                halfOpenInFlight++;
+                return State.HALF_OPEN;
+        }
+    }
+
+    // tryAcquire 와 같은 판정, 상태 / half-open 슬롯은 건드리지 않음
+    synchronized boolean isCallPermitted() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> System.nanoTime() - openedAtNanos >= openDurationNanos;
+            case HALF_OPEN -> halfOpenInFlight < halfOpenCalls;
+        };
+    }
+
+    synchronized void onResult(State admittedIn, boolean failure) {
+        // 상태가 바뀐 뒤에 끝난 호출은 새 상태 판단에 섞지 않음
+        if (admittedIn != state) return;
+
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight--;
+            if (failure) {
+                open();
+            } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+
+        record(failure);
+        if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+            open();
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowPos]) windowFailures--;
+        } else {
+            windowCount++;
+        }
+        window[windowPos] = failure;
+        if (failure) windowFailures++;
+        windowPos = (windowPos + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtNanos = System.nanoTime();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowPos = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+}
@@ -0,0 +1,123 @@
+package com.timeeconomy.notification.adapter.out.resilience;
+
+import com.timeeconomy.notification.config.SenderResilienceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * provider 호출 하나를 bulkhead(동시 호출 상한) + circuit breaker 로 감쌈.
+ *
+ * - bulkhead: provider 가 느려져도 그 provider 로 묶이는 스레드 수는 maxConcurrent 까지
+ * - breaker : 실패/slow call 이 쌓이면 timeout 까지 기다리지 않고 바로 거절
+ * 거절은 ProviderRejectedException → 어댑터가 retryable 발송 실패로 바꿔서 retry topic 으로 보냄.
+ *
+ * metric:
+ * - notification.provider.rejected{provider, reason=circuit_open|bulkhead_full}
+ * - notification.provider.circuit.state{provider}  0=closed 1=half_open 2=open
+ */
+@Slf4j
+public class ProviderGuard {
+
+    private final String provider;
+    private final Semaphore bulkhead;
+    private final long maxWaitNanos;
+    private final long slowCallNanos;
+    private final ProviderCircuitBreaker breaker;
+
+    private final Counter rejectedOpen;
+    private final Counter rejectedFull;
+
+    public ProviderGuard(String provider, SenderResilienceProperties.Provider props, MeterRegistry registry) {
+        this.provider = provider;
+        this.bulkhead = new Semaphore(props.maxConcurrent());
+        this.maxWaitNanos = props.maxWait().toNanos();
+        this.slowCallNanos = props.slowCallThreshold().toNanos();
+        this.breaker = new ProviderCircuitBreaker(
+                props.slidingWindowSize(),
+                props.minimumCalls(),
+                props.failureRateThreshold(),
+                props.openDuration(),
+                props.halfOpenCalls()
+        );
+
+        this.rejectedOpen = rejectedCounter(registry, provider, "circuit_open");
+        this.rejectedFull = rejectedCounter(registry, provider, "bulkhead_full");
+        Gauge.builder("notification.provider.circuit.state", breaker, b -> b.state().ordinal())
+                .description("Provider circuit breaker state (0=closed, 1=half_open, 2=open)")
+                .tag("provider", provider)
+                .register(registry);
+    }
+
+    /**
+     * @param countsAsFailure breaker 에 실패로 셀 예외 (provider 건강과 무관한 4xx 등은 제외)
+     */
+    public <T> T execute(Supplier<T> call, Predicate<RuntimeException> countsAsFailure) {
+        ProviderCircuitBreaker.State admittedIn = breaker.tryAcquire();
+        if (admittedIn == null) {
+            rejectedOpen.increment();
+            throw new ProviderRejectedException(provider + " circuit open");
+        }
+
+        if (!acquireBulkhead()) {
+            // 호출 안 했으니 breaker 결과로는 성공 취급 (half-open 슬롯 반환)
+            breaker.onResult(admittedIn, false);
+            rejectedFull.increment();
+            throw new ProviderRejectedException(provider + " bulkhead full");
+        }
+
+        long start = System.nanoTime();
+        boolean failure = false;
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            failure = countsAsFailure.test(e);
+            throw e;
+        } finally {
+            bulkhead.release();
+            boolean slow = System.nanoTime() - start > slowCallNanos;
+            ProviderCircuitBreaker.State before = breaker.state();
+            breaker.onResult(admittedIn, failure || slow);
+            ProviderCircuitBreaker.State after = breaker.state();
+            if (before != after) {
+                log.warn("[PROVIDER] circuit {} {} → {}", provider, before, after);
+            }
+        }
+    }
+
+    /**
+     * execute 가 지금 거절하지 않을지 미리 봄 (half-open 슬롯 / bulkhead 자리는 잡지 않음).
+     */
+    public boolean isCallPermitted() {
+        return breaker.isCallPermitted() && bulkhead.availablePermits() > 0;
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Counter rejectedCounter(MeterRegistry registry, String provider, String reason) {
+        return Counter.builder("notification.provider.rejected")
+                .description("Provider calls rejected before reaching the provider")
+                .tag("provider", provider)
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    public static class ProviderRejectedException extends RuntimeException {
+        public ProviderRejectedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.timeeconomy.notification.adapter.out.resilience;
+
+import com.timeeconomy.notification.adapter.out.brevo.BrevoEmailSenderAdapter;
+import com.timeeconomy.notification.application.notification.exception.EmailSendFailedException;
+import com.timeeconomy.notification.application.notification.port.out.EmailSenderPort;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * EmailSenderPort 기본 구현: Brevo 어댑터 앞에 bulkhead + circuit breaker.
+ * 거절(circuit open / bulkhead full)은 retryable 실패 → listener 가 retry topic 으로 넘김.
+ */
+@Primary
+@Component
+public class ResilientEmailSenderAdapter implements EmailSenderPort {
+
+    private final BrevoEmailSenderAdapter delegate;
+    private final ProviderGuard guard;
+
+    public ResilientEmailSenderAdapter(
+            BrevoEmailSenderAdapter delegate,
+            @Qualifier("emailProviderGuard") ProviderGuard guard
+    ) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    @Override
+    public EmailSendResult sendTemplate(EmailSendCommand command) {
+        try {
+            return guard.execute(() -> delegate.sendTemplate(command), ResilientEmailSenderAdapter::countsAsFailure);
+        } catch (ProviderGuard.ProviderRejectedException e) {
+            throw new EmailSendFailedException(e.getMessage(), e, true);
+        }
+    }
+
+    @Override
+    public boolean isCallPermitted() {
+        return guard.isCallPermitted();
+    }
+
+    // non-retryable (4xx) 은 요청 문제지 provider 장애가 아님
+    private static boolean countsAsFailure(RuntimeException e) {
+        return !(e instanceof EmailSendFailedException f) || f.isRetryable();
+    }
+}
@@ -0,0 +1,45 @@
+package com.timeeconomy.notification.adapter.out.resilience;
+
+import com.timeeconomy.notification.adapter.out.sms.LoggingSmsSenderAdapter;
+import com.timeeconomy.notification.application.notification.exception.SmsSendFailedException;
+import com.timeeconomy.notification.application.notification.port.out.SmsSenderPort;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * SmsSenderPort 기본 구현: SMS 어댑터 앞에 bulkhead + circuit breaker.
+ */
+@Primary
+@Component
+public class ResilientSmsSenderAdapter implements SmsSenderPort {
+
+    private final LoggingSmsSenderAdapter delegate;
+    private final ProviderGuard guard;
+
+    public ResilientSmsSenderAdapter(
+            LoggingSmsSenderAdapter delegate,
+            @Qualifier("smsProviderGuard") ProviderGuard guard
+    ) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    @Override
+    public SmsSendResult sendTemplate(SmsSendCommand command) {
+        try {
+            return guard.execute(() -> delegate.sendTemplate(command), ResilientSmsSenderAdapter::countsAsFailure);
+        } catch (ProviderGuard.ProviderRejectedException e) {
+            throw new SmsSendFailedException(e.getMessage(), e, true);
+        }
+    }
+
+    @Override
+    public boolean isCallPermitted() {
+        return guard.isCallPermitted();
+    }
+
+    private static boolean countsAsFailure(RuntimeException e) {
+        return !(e instanceof SmsSendFailedException f) || f.isRetryable();
+    }
+}
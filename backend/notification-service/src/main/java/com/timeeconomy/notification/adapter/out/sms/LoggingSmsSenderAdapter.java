@@ -1,17 +1,38 @@
 package com.timeeconomy.notification.adapter.out.sms;
 
+import com.timeeconomy.notification.adapter.out.metrics.NotificationProviderMetrics;
+import com.timeeconomy.notification.adapter.out.template.LocalTemplateEngine;
+import com.timeeconomy.notification.application.notification.exception.SmsSendFailedException;
 import com.timeeconomy.notification.application.notification.port.out.SmsSenderPort;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+/**
+ * 본문은 LocalTemplateEngine 으로 여기서 렌더 → 실제 provider 로 바꿔도 (templateKey 개념 없는 SMS API 포함)
+ * "to + 완성된 text" 만 넘기면 됨.
+ */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class LoggingSmsSenderAdapter implements SmsSenderPort {
 
+    private final NotificationProviderMetrics metrics;
+    private final LocalTemplateEngine templateEngine;
+
     @Override
     public SmsSendResult sendTemplate(SmsSendCommand command) {
-        log.info("[SMS][MOCK] template={} to={} vars={}",
-                command.templateKey(), command.toPhone(), command.variables());
-        return new SmsSendResult("LOG", null);
+        String text;
+        try {
+            text = templateEngine.renderText(command.templateKey(), templateEngine.defaultLocale(), command.variables());
+        } catch (IllegalArgumentException e) {
+            // 템플릿/param 누락은 재시도해도 같음
+            throw new SmsSendFailedException("SMS render failed: " + e.getMessage(), e, false);
+        }
+
+        return metrics.record("log", "send", 1, () -> {
+            log.info("[SMS][MOCK] template={} to={} text={}", command.templateKey(), command.toPhone(), text);
+            return new SmsSendResult("LOG", null);
+        });
     }
-}
\ No newline at end of file
+}
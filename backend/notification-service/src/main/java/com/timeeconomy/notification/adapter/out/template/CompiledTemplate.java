@@ -0,0 +1,109 @@
+package com.timeeconomy.notification.adapter.out.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 파싱해 둔 템플릿: literal 조각과 {{param}} 자리를 번갈아 가진 배열.
+ *
+ * render 는 정규식/문자열 치환 없이 조각을 순서대로 StringBuilder 에 붙이기만 함.
+ * (builder 는 literal 길이 + 자리당 여유분으로 미리 잡아서 재할당 거의 없음)
+ */
+public final class CompiledTemplate {
+
+    public enum Escape { NONE, HTML }
+
+    private static final int PARAM_SIZE_HINT = 16;
+
+    private final String name;
+    private final Escape escape;
+    // literals.length == params.length + 1
+    private final String[] literals;
+    private final String[] params;
+    private final int sizeHint;
+
+    private CompiledTemplate(String name, Escape escape, String[] literals, String[] params) {
+        this.name = name;
+        this.escape = escape;
+        this.literals = literals;
+        this.params = params;
+
+        int literalLength = 0;
+        for (String l : literals) literalLength += l.length();
+        this.sizeHint = literalLength + params.length * PARAM_SIZE_HINT;
+    }
+
+    public static CompiledTemplate compile(String name, String source, Escape escape) {
+        List<String> literals = new ArrayList<>();
+        List<String> params = new ArrayList<>();
+
+        int pos = 0;
+        while (true) {
+            int open = source.indexOf("{{", pos);
+            if (open < 0) break;
+            int close = source.indexOf("}}", open + 2);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in template " + name + " at " + open);
+            }
+            String param = source.substring(open + 2, close).trim();
+            if (param.isEmpty()) {
+                throw new IllegalArgumentException("Empty placeholder in template " + name + " at " + open);
+            }
+            literals.add(source.substring(pos, open));
+            params.add(param);
+            pos = close + 2;
+        }
+        literals.add(source.substring(pos));
+
+        return new CompiledTemplate(name, escape, literals.toArray(String[]::new), params.toArray(String[]::new));
+    }
+
+    /**
+     * @throws IllegalArgumentException 필요한 param 이 없을 때 (다시 시도해도 같은 결과)
+     */
+    public String render(Map<String, ?> values) {
+        StringBuilder out = new StringBuilder(sizeHint);
+        renderTo(values, out);
+        return out.toString();
+    }
+
+    public void renderTo(Map<String, ?> values, StringBuilder out) {
+        for (int i = 0; i < params.length; i++) {
+            out.append(literals[i]);
+            Object v = values.get(params[i]);
+            if (v == null) {
+                throw new IllegalArgumentException("Missing template param '" + params[i] + "' for " + name);
+            }
+            appendValue(out, v);
+        }
+        out.append(literals[params.length]);
+    }
+
+    private void appendValue(StringBuilder out, Object v) {
+        // 숫자는 boxing 해제해서 바로 append (String 중간 생성 없음)
+        if (v instanceof Integer n) { out.append(n.intValue()); return; }
+        if (v instanceof Long n) { out.append(n.longValue()); return; }
+
+        CharSequence s = (v instanceof CharSequence cs) ? cs : String.valueOf(v);
+        if (escape == Escape.NONE) {
+            out.append(s);
+            return;
+        }
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+}
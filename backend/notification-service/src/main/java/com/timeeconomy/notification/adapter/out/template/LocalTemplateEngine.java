@@ -0,0 +1,141 @@
+package com.timeeconomy.notification.adapter.out.template;
+
+import com.timeeconomy.notification.adapter.out.template.CompiledTemplate.Escape;
+import com.timeeconomy.notification.config.NotificationTemplateProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * provider 와 무관한 로컬 템플릿 (SMS 본문, 선택적으로 email subject/html).
+ *
+ * 파일 배치: {location}/{locale}/{templateKey}{part suffix}
+ *   - notification-templates/ko/OTP_SMS.txt
+ *   - notification-templates/default/OTP_EMAIL.subject.txt, OTP_EMAIL.html
+ *
+ * 기동 시 전부 CompiledTemplate 으로 컴파일해 두고,
+ * (templateKey, part, locale) → 템플릿 resolve 결과(locale fallback 포함)를 캐시.
+ * fallback: ko-KR → ko → default
+ */
+@Slf4j
+@Component
+public class LocalTemplateEngine {
+
+    public static final String DEFAULT_LOCALE_DIR = "default";
+
+    public enum Part {
+        TEXT(".txt", Escape.NONE),
+        SUBJECT(".subject.txt", Escape.NONE),
+        HTML(".html", Escape.HTML);
+
+        private final String suffix;
+        private final Escape escape;
+
+        Part(String suffix, Escape escape) {
+            this.suffix = suffix;
+            this.escape = escape;
+        }
+    }
+
+    public record RenderedEmail(String subject, String html) {}
+
+    private record CacheKey(String templateKey, Part part, Locale locale) {}
+
+    // "{localeDir}/{fileName}" → compiled
+    private final Map<String, CompiledTemplate> compiled;
+    private final Map<CacheKey, Optional<CompiledTemplate>> resolved = new ConcurrentHashMap<>();
+    private final Locale defaultLocale;
+
+    public LocalTemplateEngine(NotificationTemplateProperties props) {
+        this.defaultLocale = props.defaultLocale();
+        this.compiled = load(props.location());
+        log.info("[Template] compiled {} local templates from {}", compiled.size(), props.location());
+    }
+
+    public Locale defaultLocale() {
+        return defaultLocale;
+    }
+
+    public Optional<CompiledTemplate> find(String templateKey, Part part, Locale locale) {
+        Locale l = (locale == null) ? defaultLocale : locale;
+        return resolved.computeIfAbsent(new CacheKey(templateKey, part, l), this::resolve);
+    }
+
+    public boolean has(String templateKey, Part part, Locale locale) {
+        return find(templateKey, part, locale).isPresent();
+    }
+
+    /**
+     * @throws IllegalArgumentException 템플릿이 없거나 param 이 빠졌을 때
+     */
+    public String renderText(String templateKey, Locale locale, Map<String, ?> params) {
+        return require(templateKey, Part.TEXT, locale).render(params);
+    }
+
+    public RenderedEmail renderEmail(String templateKey, Locale locale, Map<String, ?> params) {
+        String subject = require(templateKey, Part.SUBJECT, locale).render(params);
+        String html = require(templateKey, Part.HTML, locale).render(params);
+        return new RenderedEmail(subject, html);
+    }
+
+    private CompiledTemplate require(String templateKey, Part part, Locale locale) {
+        return find(templateKey, part, locale).orElseThrow(() -> new IllegalArgumentException(
+                "No local template " + templateKey + part.suffix + " for locale " + locale));
+    }
+
+    private Optional<CompiledTemplate> resolve(CacheKey key) {
+        String fileName = key.templateKey() + key.part().suffix;
+        for (String dir : new String[] {key.locale().toLanguageTag(), key.locale().getLanguage(), DEFAULT_LOCALE_DIR}) {
+            if (dir.isEmpty()) continue;
+            CompiledTemplate t = compiled.get(dir + "/" + fileName);
+            if (t != null) return Optional.of(t);
+        }
+        return Optional.empty();
+    }
+
+    private static Map<String, CompiledTemplate> load(String location) {
+        String base = location.endsWith("/") ? location : location + "/";
+        Map<String, CompiledTemplate> out = new HashMap<>();
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources(base + "*/*");
+            for (Resource r : resources) {
+                String fileName = r.getFilename();
+                if (fileName == null || !r.isReadable()) continue;
+
+                Part part = partOf(fileName);
+                if (part == null) continue;
+
+                String path = r.getURL().getPath();
+                String parent = path.substring(0, path.length() - fileName.length() - 1);
+                String localeDir = parent.substring(parent.lastIndexOf('/') + 1);
+
+                String source = r.getContentAsString(StandardCharsets.UTF_8);
+                if (part != Part.HTML) source = source.strip();
+
+                String name = localeDir + "/" + fileName;
+                out.put(name, CompiledTemplate.compile(name, source, part.escape));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load templates from " + location, e);
+        }
+        return Map.copyOf(out);
+    }
+
+    private static Part partOf(String fileName) {
+        // .subject.txt 가 .txt 보다 먼저
+        if (fileName.endsWith(Part.SUBJECT.suffix)) return Part.SUBJECT;
+        if (fileName.endsWith(Part.TEXT.suffix)) return Part.TEXT;
+        if (fileName.endsWith(Part.HTML.suffix)) return Part.HTML;
+        return null;
+    }
+}
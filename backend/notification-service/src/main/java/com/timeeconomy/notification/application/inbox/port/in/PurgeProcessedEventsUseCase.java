@@ -0,0 +1,10 @@
+package com.timeeconomy.notification.application.inbox.port.in;
+
+public interface PurgeProcessedEventsUseCase {
+
+    /**
+     * retention 이 지난 processed_events 를 batchSize 단위로 한 번 지움.
+     * @return 이번 호출에서 삭제된 건수
+     */
+    int purgeOnce();
+}
@@ -0,0 +1,44 @@
+package com.timeeconomy.notification.application.inbox.service;
+
+import com.timeeconomy.notification.application.inbox.port.in.PurgeProcessedEventsUseCase;
+import com.timeeconomy.notification.domain.inbox.port.out.ProcessedEventRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * processed_events TTL purge.
+ *
+ * retention 은 Kafka topic retention(+ 재처리 여유)보다 길어야 함.
+ * 그보다 짧으면 오래된 offset 재전달 시 중복 발송이 가능해짐.
+ */
+@Service
+public class PurgeProcessedEventsService implements PurgeProcessedEventsUseCase {
+
+    private final ProcessedEventRepositoryPort processedEventRepositoryPort;
+    private final Clock clock;
+
+    private final Duration retention;
+    private final int batchSize;
+
+    public PurgeProcessedEventsService(
+            ProcessedEventRepositoryPort processedEventRepositoryPort,
+            Clock clock,
+            @Value("${notification.inbox.retention:14d}") Duration retention,
+            @Value("${notification.inbox.purge-batch-size:5000}") int batchSize
+    ) {
+        this.processedEventRepositoryPort = processedEventRepositoryPort;
+        this.clock = clock;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public int purgeOnce() {
+        Instant cutoff = Instant.now(clock).minus(retention);
+        return processedEventRepositoryPort.deleteProcessedBefore(cutoff, batchSize);
+    }
+}
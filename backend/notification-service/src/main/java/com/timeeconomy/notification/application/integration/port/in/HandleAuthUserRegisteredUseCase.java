@@ -1,8 +1,12 @@
 package com.timeeconomy.notification.application.integration.port.in;
 
 import com.timeeconomy.contracts.auth.v1.AuthUserRegisteredV1;
+import com.timeeconomy.contracts.auth.v2.AuthUserRegisteredV2;
 import com.timeeconomy.notification.adapter.in.kafka.dto.ConsumerContext;
 
 public interface HandleAuthUserRegisteredUseCase {
     void handle(AuthUserRegisteredV1 event, ConsumerContext ctx);
+
+    // v2: profile embedded in the event (no signup-session callback)
+    void handle(AuthUserRegisteredV2 event, ConsumerContext ctx);
 }
\ No newline at end of file
@@ -1,8 +1,13 @@
 package com.timeeconomy.notification.application.integration.port.in;
 
 import com.timeeconomy.contracts.auth.v1.VerificationLinkDeliveryRequestedV1;
+import com.timeeconomy.contracts.auth.v2.VerificationLinkDeliveryRequestedV2;
 import com.timeeconomy.notification.adapter.in.kafka.dto.ConsumerContext;
 
 public interface HandleVerificationLinkDeliveryRequestedUseCase {
+    // v1: link URL fetched once from auth internal right before the send (GETDEL)
     void handle(VerificationLinkDeliveryRequestedV1 event, ConsumerContext ctx);
+
+    // v2: link URL envelope-encrypted in the event (no auth internal callback)
+    void handle(VerificationLinkDeliveryRequestedV2 event, ConsumerContext ctx);
 }
\ No newline at end of file
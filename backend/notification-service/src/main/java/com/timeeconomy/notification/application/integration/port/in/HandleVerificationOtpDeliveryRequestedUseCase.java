@@ -1,8 +1,13 @@
 package com.timeeconomy.notification.application.integration.port.in;
 
 import com.timeeconomy.contracts.auth.v1.VerificationOtpDeliveryRequestedV1;
+import com.timeeconomy.contracts.auth.v2.VerificationOtpDeliveryRequestedV2;
 import com.timeeconomy.notification.adapter.in.kafka.dto.ConsumerContext;
 
 public interface HandleVerificationOtpDeliveryRequestedUseCase {
+    // v1: OTP fetched once from auth internal right before the send (GETDEL)
     void handle(VerificationOtpDeliveryRequestedV1 event, ConsumerContext ctx);
+
+    // v2: OTP envelope-encrypted in the event (no auth internal callback)
+    void handle(VerificationOtpDeliveryRequestedV2 event, ConsumerContext ctx);
 }
\ No newline at end of file
@@ -5,4 +5,4 @@ import java.util.UUID;
 
 public interface AuthInternalLinkClientPort {
     Optional<String> getLinkUrlOnce(UUID verificationChallengeId, String purpose, UUID eventId);
-}
\ No newline at end of file
+}
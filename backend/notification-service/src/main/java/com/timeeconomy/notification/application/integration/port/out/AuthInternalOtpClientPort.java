@@ -5,4 +5,4 @@ import java.util.UUID;
 
 public interface AuthInternalOtpClientPort {
     Optional<String> getOtpOnce(UUID verificationChallengeId);
-}
\ No newline at end of file
+}
@@ -0,0 +1,14 @@
+package com.timeeconomy.notification.application.integration.port.out;
+
+import com.timeeconomy.contracts.auth.v2.EncryptedSecret;
+
+import java.util.Optional;
+
+public interface SecretEnvelopeOpenerPort {
+
+    /**
+     * v2 이벤트에 실린 OTP / link URL 복호화.
+     * @return empty = 모르는 keyId / 변조 / AAD 불일치 (재시도해도 소용 없음)
+     */
+    Optional<String> open(EncryptedSecret secret, String associatedData);
+}
@@ -1,22 +1,24 @@
 package com.timeeconomy.notification.application.integration.service;
 
 import com.timeeconomy.contracts.auth.v1.AuthUserRegisteredV1;
+import com.timeeconomy.contracts.auth.v2.AuthUserRegisteredV2;
 import com.timeeconomy.notification.adapter.in.kafka.dto.ConsumerContext;
 import com.timeeconomy.notification.adapter.out.authclient.dto.response.CompletedSignupSessionResponse;
 import com.timeeconomy.notification.application.integration.port.in.HandleAuthUserRegisteredUseCase;
 import com.timeeconomy.notification.application.integration.port.out.SignupSessionInternalClientPort;
+import com.timeeconomy.notification.application.notification.exception.NotificationSendFailedException;
 import com.timeeconomy.notification.application.notification.port.out.EmailSenderPort;
 import com.timeeconomy.notification.domain.inbox.model.ProcessedEvent;
-import com.timeeconomy.notification.domain.inbox.port.out.ProcessedEventRepositoryPort;
 import com.timeeconomy.notification.domain.notification.model.NotificationChannel;
 import com.timeeconomy.notification.domain.notification.model.NotificationDelivery;
-import com.timeeconomy.notification.domain.notification.port.out.NotificationDeliveryRepositoryPort;
+import com.timeeconomy.notification.domain.notification.port.out.DeliveryAuditWriterPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.time.Clock;
@@ -29,25 +31,23 @@ public class HandleAuthUserRegisteredService implements HandleAuthUserRegistered
     private static final NotificationChannel CHANNEL = NotificationChannel.EMAIL;
     private static final String TEMPLATE_KEY = "WELCOME_EMAIL";
 
-    private final ProcessedEventRepositoryPort processedEventRepositoryPort;
-    private final NotificationDeliveryRepositoryPort notificationDeliveryRepositoryPort;
+    private final DeliveryAuditWriterPort deliveryAuditWriterPort;
     private final EmailSenderPort emailSenderPort;
     private final SignupSessionInternalClientPort signupSessionInternalClientPort;
 
     private final Clock clock;
 
+    private record WelcomeRecipient(
+            String email,
+            String name,
+            String phoneNumber,
+            String gender,
+            String birthDate
+    ) {}
+
     @Override
-    @Transactional
     public void handle(AuthUserRegisteredV1 event, ConsumerContext ctx) {
-        final Instant now = Instant.now(clock);
-
-        final UUID eventId = UUID.fromString(event.getEventId());
-        final String eventType = ctx.eventType(); // from headers
-        final long userId = Long.parseLong(event.getUserId());
-
-        final UUID signupSessionId = UUID.fromString(event.getSignupSessionId()); 
-
-        final Instant occurredAt = Instant.ofEpochMilli(event.getOccurredAtEpochMillis());
+        final UUID signupSessionId = UUID.fromString(event.getSignupSessionId());
 
         CompletedSignupSessionResponse session =
                 signupSessionInternalClientPort.getCompletedSession(signupSessionId);
@@ -58,10 +58,44 @@ public class HandleAuthUserRegisteredService implements HandleAuthUserRegistered
                     " state=" + session.state());
         }
 
-        final String recipientEmail = session.email();
-        final String toName = session.name(); // nullable ok
+        sendWelcome(event.getEventId(), event.getUserId(), event.getOccurredAtEpochMillis(), ctx,
+                new WelcomeRecipient(
+                        session.email(),
+                        session.name(),
+                        session.phoneNumber(),
+                        session.gender(),
+                        session.birthDate() == null ? null : session.birthDate().toString()
+                ));
+    }
 
-        // 1) idempotency gate
+    // v2: 프로필이 이벤트에 들어 있음 → auth internal 콜백 없음
+    @Override
+    public void handle(AuthUserRegisteredV2 event, ConsumerContext ctx) {
+        sendWelcome(event.getEventId(), event.getUserId(), event.getOccurredAtEpochMillis(), ctx,
+                new WelcomeRecipient(
+                        event.getEmail(),
+                        event.getName(),
+                        event.getPhoneNumber(),
+                        event.getGender(),
+                        event.getBirthDate()
+                ));
+    }
+
+    private void sendWelcome(String rawEventId, String rawUserId, long occurredAtEpochMillis,
+                             ConsumerContext ctx, WelcomeRecipient recipient) {
+        final Instant now = Instant.now(clock);
+
+        final UUID eventId = UUID.fromString(rawEventId);
+        final String eventType = ctx.eventType(); // from headers
+        final long userId = Long.parseLong(rawUserId);
+
+        final Instant occurredAt = Instant.ofEpochMilli(occurredAtEpochMillis);
+
+        final String recipientEmail = recipient.email();
+        final String toName = recipient.name(); // nullable ok
+
+        // processed 마킹은 audit row 와 함께 배치 flush 때 기록 (offset commit 전)
+        // 중복 전달은 listener 의 배치 prefilter(processed_events 조회)가 걸러냄
         ProcessedEvent processed = ProcessedEvent.newProcessed(
                 ctx.consumerGroup(),
                 eventId,
@@ -72,33 +106,19 @@ public class HandleAuthUserRegisteredService implements HandleAuthUserRegistered
                 now
         );
 
-        if (!processedEventRepositoryPort.markProcessed(processed)) {
-            log.info("[SKIP] duplicate eventId={} group={} topic={} p={} o={}",
-                    eventId, ctx.consumerGroup(), ctx.topic(), ctx.partition(), ctx.offset());
-            return;
-        }
-
-        // 2) send email
+        // 1) send email
         try {
             var cmd = new EmailSenderPort.EmailSendCommand(
                     TEMPLATE_KEY,
                     recipientEmail,
                     toName,
-                    Map.of(
-                            "userId", userId,
-                            "email", recipientEmail,
-                            "name", toName,
-                            "phoneNumber", session.phoneNumber(),
-                            "gender", session.gender(),
-                            "birthDate", session.birthDate(), // string
-                            "occurredAt", String.valueOf(occurredAt)
-                    )
+                    welcomeParams(userId, recipient, occurredAt)
             );
 
             EmailSenderPort.EmailSendResult res = emailSenderPort.sendTemplate(cmd);
 
-            // 3) persist delivery as SENT
-            notificationDeliveryRepositoryPort.save(
+            // 2) record delivery as SENT (buffered)
+            deliveryAuditWriterPort.append(processed, List.of(
                     NotificationDelivery.sent(
                             eventId,
                             eventType,
@@ -109,30 +129,52 @@ public class HandleAuthUserRegisteredService implements HandleAuthUserRegistered
                             res.providerMsgId(),
                             now
                     )
-            );
+            ));
 
             log.info("[OK] welcome email sent+persisted userId={} email={} provider={} msgId={}",
                     userId, recipientEmail, res.provider(), res.providerMsgId());
 
         } catch (Exception ex) {
-            notificationDeliveryRepositoryPort.save(
-                    NotificationDelivery.failed(
-                            eventId,
-                            eventType,
-                            CHANNEL,
-                            TEMPLATE_KEY,
-                            recipientEmail,
-                            "BREVO",
-                            safeMsg(ex),
-                            now
-                    )
-            );
-
-            // throw -> listener does NOT ack -> Kafka retry (if configured)
+            if (ex instanceof NotificationSendFailedException failed && !failed.isRetryable()) {
+                // 다시 보내도 같은 결과 → FAILED 기록 후 종료 (재시도 안 함)
+                deliveryAuditWriterPort.append(processed, List.of(
+                        NotificationDelivery.failed(
+                                eventId,
+                                eventType,
+                                CHANNEL,
+                                TEMPLATE_KEY,
+                                recipientEmail,
+                                "BREVO",
+                                safeMsg(ex),
+                                now
+                        )
+                ));
+                log.warn("[DROP] non-retryable send failure eventId={} template={} to={} reason={}",
+                        eventId, TEMPLATE_KEY, recipientEmail, failed.getMessage());
+                return;
+            }
+            // retryable → 아무것도 기록 안 함 (processed 아님), listener 가 retry topic 으로 넘김
             throw ex;
         }
     }
 
+    // Map.of 는 null 불가 → 없는 프로필 필드는 param 에서 빼고 템플릿 기본값에 맡김
+    private static Map<String, Object> welcomeParams(long userId, WelcomeRecipient r, Instant occurredAt) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("userId", userId);
+        params.put("email", r.email());
+        putIfPresent(params, "name", r.name());
+        putIfPresent(params, "phoneNumber", r.phoneNumber());
+        putIfPresent(params, "gender", r.gender());
+        putIfPresent(params, "birthDate", r.birthDate()); // yyyy-MM-dd
+        params.put("occurredAt", String.valueOf(occurredAt));
+        return params;
+    }
+
+    private static void putIfPresent(Map<String, Object> params, String key, Object value) {
+        if (value != null) params.put(key, value);
+    }
+
     private static String safeMsg(Exception e) {
         String m = e.getMessage();
         if (m == null) return e.getClass().getSimpleName();
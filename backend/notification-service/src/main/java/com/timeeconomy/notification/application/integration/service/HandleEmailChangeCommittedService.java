@@ -3,18 +3,19 @@ package com.timeeconomy.notification.application.integration.service;
 import com.timeeconomy.contracts.auth.v1.EmailChangeCommittedV1;
 import com.timeeconomy.notification.adapter.in.kafka.dto.ConsumerContext;
 import com.timeeconomy.notification.application.integration.port.in.HandleEmailChangeCommittedUseCase;
+import com.timeeconomy.notification.application.notification.exception.NotificationSendFailedException;
 import com.timeeconomy.notification.application.notification.port.out.EmailSenderPort;
 import com.timeeconomy.notification.domain.inbox.model.ProcessedEvent;
-import com.timeeconomy.notification.domain.inbox.port.out.ProcessedEventRepositoryPort;
 import com.timeeconomy.notification.domain.notification.model.NotificationChannel;
 import com.timeeconomy.notification.domain.notification.model.NotificationDelivery;
-import com.timeeconomy.notification.domain.notification.port.out.NotificationDeliveryRepositoryPort;
+import com.timeeconomy.notification.domain.notification.port.out.DeliveryAuditWriterPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -29,19 +30,18 @@ public class HandleEmailChangeCommittedService implements HandleEmailChangeCommi
     private static final String TEMPLATE_KEY_NEW = "EMAIL_CHANGE_NEW";
     private static final String TEMPLATE_KEY_OLD = "EMAIL_CHANGE_OLD";
 
-    private final ProcessedEventRepositoryPort processedEventRepositoryPort;
-    private final NotificationDeliveryRepositoryPort notificationDeliveryRepositoryPort;
+    private final DeliveryAuditWriterPort deliveryAuditWriterPort;
     private final EmailSenderPort emailSenderPort;
 
     @Override
-    @Transactional
     public void handle(EmailChangeCommittedV1 event, ConsumerContext ctx) {
         final Instant now = Instant.now();
 
         final UUID eventId = UUID.fromString(event.getEventId());
         final String eventType = ctx.eventType(); // from header
 
-        // 1) idempotency gate
+        // processed 마킹은 audit row 와 함께 배치 flush 때 기록 (offset commit 전)
+        // 중복 전달은 listener 의 배치 prefilter(processed_events 조회)가 걸러냄
         ProcessedEvent processed = ProcessedEvent.newProcessed(
                 ctx.consumerGroup(),
                 eventId,
@@ -52,13 +52,7 @@ public class HandleEmailChangeCommittedService implements HandleEmailChangeCommi
                 now
         );
 
-        if (!processedEventRepositoryPort.markProcessed(processed)) {
-            log.info("[SKIP] duplicate eventId={} group={} topic={} p={} o={}",
-                    eventId, ctx.consumerGroup(), ctx.topic(), ctx.partition(), ctx.offset());
-            return;
-        }
-
-        // 2) send emails
+        // 1) send emails (둘 다 끝난 뒤 한 번에 기록 → 하나라도 retryable 실패면 이벤트 전체 재시도)
         // policy: notify BOTH old + new (recommended for security). If you want only new, delete the old block.
         final String oldEmail = toStr(event.getOldEmail());
         final String newEmail = toStr(event.getNewEmail());
@@ -67,8 +61,10 @@ public class HandleEmailChangeCommittedService implements HandleEmailChangeCommi
         // optional occurredAt (depends on your schema getter type)
         final Object occurredAt = event.getOccurredAtEpochMillis();
 
+        List<NotificationDelivery> deliveries = new ArrayList<>(2);
+
         // send to NEW email
-        sendAndPersist(
+        deliveries.add(send(
                 eventId,
                 eventType,
                 now,
@@ -80,11 +76,11 @@ public class HandleEmailChangeCommittedService implements HandleEmailChangeCommi
                         "newEmail", newEmail,
                         "occurredAt", String.valueOf(occurredAt)
                 )
-        );
+        ));
 
         // send to OLD email (if present)
         if (oldEmail != null && !oldEmail.isBlank()) {
-            sendAndPersist(
+            deliveries.add(send(
                     eventId,
                     eventType,
                     now,
@@ -96,11 +92,17 @@ public class HandleEmailChangeCommittedService implements HandleEmailChangeCommi
                             "newEmail", newEmail,
                             "occurredAt", String.valueOf(occurredAt)
                     )
-            );
+            ));
         }
+
+        // 2) record deliveries (buffered)
+        deliveryAuditWriterPort.append(processed, deliveries);
     }
 
-    private void sendAndPersist(
+    /**
+     * @return SENT 또는 non-retryable FAILED row. retryable 실패는 그대로 던짐
+     */
+    private NotificationDelivery send(
             UUID eventId,
             String eventType,
             Instant now,
@@ -118,35 +120,37 @@ public class HandleEmailChangeCommittedService implements HandleEmailChangeCommi
 
             EmailSenderPort.EmailSendResult res = emailSenderPort.sendTemplate(cmd);
 
-            notificationDeliveryRepositoryPort.save(
-                    NotificationDelivery.sent(
-                            eventId,
-                            eventType,
-                            CHANNEL,
-                            templateKey,
-                            recipientEmail,
-                            res.provider(),
-                            res.providerMsgId(),
-                            now
-                    )
-            );
-
-            log.info("[OK] email-change email sent+persisted template={} to={} provider={} msgId={}",
+            log.info("[OK] email-change email sent template={} to={} provider={} msgId={}",
                     templateKey, recipientEmail, res.provider(), res.providerMsgId());
 
-        } catch (Exception ex) {
-            notificationDeliveryRepositoryPort.save(
-                    NotificationDelivery.failed(
-                            eventId,
-                            eventType,
-                            CHANNEL,
-                            templateKey,
-                            recipientEmail,
-                            "BREVO",
-                            safeMsg(ex),
-                            now
-                    )
+            return NotificationDelivery.sent(
+                    eventId,
+                    eventType,
+                    CHANNEL,
+                    templateKey,
+                    recipientEmail,
+                    res.provider(),
+                    res.providerMsgId(),
+                    now
             );
+
+        } catch (Exception ex) {
+            if (ex instanceof NotificationSendFailedException failed && !failed.isRetryable()) {
+                // 다시 보내도 같은 결과 → FAILED 로 기록 (재시도 안 함)
+                log.warn("[DROP] non-retryable send failure eventId={} template={} to={} reason={}",
+                        eventId, templateKey, recipientEmail, failed.getMessage());
+                return NotificationDelivery.failed(
+                        eventId,
+                        eventType,
+                        CHANNEL,
+                        templateKey,
+                        recipientEmail,
+                        "BREVO",
+                        safeMsg(ex),
+                        now
+                );
+            }
+            // retryable → 아무것도 기록 안 함 (processed 아님), listener 가 retry topic 으로 넘김
             throw ex;
         }
     }
@@ -1,24 +1,27 @@
 package com.timeeconomy.notification.application.integration.service;
 
 import com.timeeconomy.contracts.auth.v1.VerificationLinkDeliveryRequestedV1;
+import com.timeeconomy.contracts.auth.v2.VerificationLinkDeliveryRequestedV2;
 import com.timeeconomy.notification.adapter.in.kafka.dto.ConsumerContext;
 import com.timeeconomy.notification.application.integration.port.in.HandleVerificationLinkDeliveryRequestedUseCase;
 import com.timeeconomy.notification.application.integration.port.out.AuthInternalLinkClientPort;
+import com.timeeconomy.notification.application.integration.port.out.SecretEnvelopeOpenerPort;
+import com.timeeconomy.notification.application.notification.exception.NotificationSendFailedException;
 import com.timeeconomy.notification.application.notification.port.out.EmailSenderPort;
 import com.timeeconomy.notification.domain.inbox.model.ProcessedEvent;
-import com.timeeconomy.notification.domain.inbox.port.out.ProcessedEventRepositoryPort;
 import com.timeeconomy.notification.domain.notification.model.NotificationChannel;
 import com.timeeconomy.notification.domain.notification.model.NotificationDelivery;
-import com.timeeconomy.notification.domain.notification.port.out.NotificationDeliveryRepositoryPort;
+import com.timeeconomy.notification.domain.notification.port.out.DeliveryAuditWriterPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -32,21 +35,69 @@ public class HandleVerificationLinkDeliveryRequestedService
     // You can refine this mapping later (per purpose/channel)
     private static final String TEMPLATE_KEY = "LINK_EMAIL";
 
-    private final ProcessedEventRepositoryPort processedEventRepositoryPort;
-    private final NotificationDeliveryRepositoryPort notificationDeliveryRepositoryPort;
+    private final DeliveryAuditWriterPort deliveryAuditWriterPort;
 
     private final AuthInternalLinkClientPort authInternalLinkClientPort;
+    private final SecretEnvelopeOpenerPort secretEnvelopeOpenerPort;
     private final EmailSenderPort emailSenderPort;
 
     @Override
-    @Transactional
     public void handle(VerificationLinkDeliveryRequestedV1 event, ConsumerContext ctx) {
-        final Instant now = Instant.now();
-
         final UUID eventId = UUID.fromString(event.getEventId());
+        final String purpose = toStr(event.getPurpose());
+
+        deliver(
+                eventId,
+                ctx,
+                event.getVerificationChallengeId(),
+                purpose,
+                toStr(event.getDestinationNorm()),
+                Instant.ofEpochMilli(event.getOccurredAtEpochMillis()),
+                event.getTtlSeconds(),
+                // v1: fetch Link URL once (internal HTTP), 발송 직전에만
+                challengeId -> authInternalLinkClientPort.getLinkUrlOnce(challengeId, purpose, eventId),
+                "AUTH_INTERNAL",
+                "LINK_URL_NOT_FOUND_OR_ALREADY_CONSUMED",
+                false
+        );
+    }
+
+    @Override
+    public void handle(VerificationLinkDeliveryRequestedV2 event, ConsumerContext ctx) {
+        deliver(
+                UUID.fromString(event.getEventId()),
+                ctx,
+                event.getVerificationChallengeId(),
+                toStr(event.getPurpose()),
+                toStr(event.getDestinationNorm()),
+                Instant.ofEpochMilli(event.getOccurredAtEpochMillis()),
+                event.getTtlSeconds(),
+                // v2: link URL 이 이벤트 안에 암호화되어 옴 (AAD = challengeId)
+                challengeId -> secretEnvelopeOpenerPort.open(event.getEncryptedLinkUrl(), event.getVerificationChallengeId()),
+                "EVENT_ENVELOPE",
+                "LINK_URL_ENVELOPE_UNREADABLE",
+                true
+        );
+    }
+
+    private void deliver(
+            UUID eventId,
+            ConsumerContext ctx,
+            String rawChallengeId,
+            String purpose,
+            String recipientEmail,
+            Instant occurredAt,
+            int ttlSeconds,
+            Function<UUID, Optional<String>> linkUrlSource,
+            String linkUrlSourceName,
+            String linkUrlMissingReason,
+            boolean secretReplayable
+    ) {
+        final Instant now = Instant.now();
         final String eventType = ctx.eventType(); // from header
 
-        // 1) idempotency gate
+        // processed 마킹은 audit row 와 함께 배치 flush 때 기록 (offset commit 전)
+        // 중복 전달은 listener 의 배치 prefilter(processed_events 조회)가 걸러냄
         ProcessedEvent processed = ProcessedEvent.newProcessed(
                 ctx.consumerGroup(),
                 eventId,
@@ -57,44 +108,79 @@ public class HandleVerificationLinkDeliveryRequestedService
                 now
         );
 
-        if (!processedEventRepositoryPort.markProcessed(processed)) {
-            log.info("[SKIP] duplicate eventId={} group={} topic={} p={} o={}",
-                    eventId, ctx.consumerGroup(), ctx.topic(), ctx.partition(), ctx.offset());
+        // 0) challengeId 가 깨졌으면 link 를 찾을 수도 없음 → 이 레코드만 FAILED 로 끝냄
+        final UUID challengeId = parseUuid(rawChallengeId);
+        if (challengeId == null) {
+            deliveryAuditWriterPort.append(processed, List.of(
+                    NotificationDelivery.failed(
+                            eventId,
+                            eventType,
+                            CHANNEL,
+                            TEMPLATE_KEY,
+                            recipientEmail,
+                            null,
+                            "INVALID_CHALLENGE_ID",
+                            now
+                    )
+            ));
+            log.warn("[DROP] invalid challengeId eventId={} challengeId={}", eventId, rawChallengeId);
             return;
         }
 
-        // 2) fetch Link URL once (internal HTTP)
-        final UUID challengeId = UUID.fromString(event.getVerificationChallengeId());
-        final String purpose = toStr(event.getPurpose());
+        // 1) 이미 만료된 link 는 눌러도 실패 → FAILED 기록 후 종료 (link URL 조회/발송 안 함)
+        final Instant expiresAt = occurredAt.plusSeconds(ttlSeconds);
+        if (!now.isBefore(expiresAt)) {
+            deliveryAuditWriterPort.append(processed, List.of(
+                    NotificationDelivery.failed(
+                            eventId,
+                            eventType,
+                            CHANNEL,
+                            TEMPLATE_KEY,
+                            recipientEmail,
+                            null,
+                            "LINK_EXPIRED_BEFORE_DELIVERY",
+                            now
+                    )
+            ));
+            log.warn("[DROP] link expired before delivery eventId={} challengeId={} expiredAt={}",
+                    eventId, challengeId, expiresAt);
+            return;
+        }
 
-        Optional<String> linkUrlOpt = authInternalLinkClientPort.getLinkUrlOnce(challengeId, purpose, eventId);
+        // 2) v1 은 GETDEL 로 꺼내는 순간 되돌릴 수 없음 → provider 가 안 받을 상태면 꺼내지 않고 retry tier 로
+        if (!secretReplayable && !emailSenderPort.isCallPermitted()) {
+            log.warn("[DEFER] email provider not admitting calls → v1 link left unconsumed eventId={} challengeId={}",
+                    eventId, challengeId);
+            throw new NotificationSendFailedException(
+                    "email provider not admitting calls, v1 link not fetched", null, true);
+        }
+
+        // 3) resolve Link URL (internal HTTP or event envelope)
+        Optional<String> linkUrlOpt = linkUrlSource.apply(challengeId);
 
         if (linkUrlOpt.isEmpty()) {
-            // NON-retryable: token already consumed/expired; user must request a new link
-            notificationDeliveryRepositoryPort.save(
+            // NON-retryable: token already consumed/expired (or unreadable); user must request a new link
+            deliveryAuditWriterPort.append(processed, List.of(
                     NotificationDelivery.failed(
                             eventId,
                             eventType,
                             CHANNEL,
                             TEMPLATE_KEY,
-                            toStr(event.getDestinationNorm()),
-                            "AUTH_INTERNAL",
-                            "LINK_URL_NOT_FOUND_OR_ALREADY_CONSUMED",
+                            recipientEmail,
+                            linkUrlSourceName,
+                            linkUrlMissingReason,
                             now
                     )
-            );
+            ));
 
-            log.warn("[SKIP] linkUrl missing (non-retryable). eventId={} challengeId={}",
-                    eventId, challengeId);
+            log.warn("[SKIP] linkUrl missing (non-retryable). eventId={} challengeId={} source={}",
+                    eventId, challengeId, linkUrlSourceName);
             return;
         }
 
         final String linkUrl = linkUrlOpt.get();
 
-        // 3) send email
-        final String recipientEmail = toStr(event.getDestinationNorm());
-        final int ttlSeconds = event.getTtlSeconds();
-
+        // 4) send email
         try {
             var cmd = new EmailSenderPort.EmailSendCommand(
                     TEMPLATE_KEY,
@@ -110,7 +196,7 @@ public class HandleVerificationLinkDeliveryRequestedService
 
             EmailSenderPort.EmailSendResult res = emailSenderPort.sendTemplate(cmd);
 
-            notificationDeliveryRepositoryPort.save(
+            deliveryAuditWriterPort.append(processed, List.of(
                     NotificationDelivery.sent(
                             eventId,
                             eventType,
@@ -121,25 +207,60 @@ public class HandleVerificationLinkDeliveryRequestedService
                             res.providerMsgId(),
                             now
                     )
-            );
+            ));
 
             log.info("[OK] link email sent+persisted template={} to={} provider={} msgId={} challengeId={}",
                     TEMPLATE_KEY, recipientEmail, res.provider(), res.providerMsgId(), challengeId);
 
         } catch (Exception ex) {
-            notificationDeliveryRepositoryPort.save(
-                    NotificationDelivery.failed(
-                            eventId,
-                            eventType,
-                            CHANNEL,
-                            TEMPLATE_KEY,
-                            recipientEmail,
-                            "BREVO",
-                            safeMsg(ex),
-                            now
-                    )
-            );
-            throw ex; // retryable
+            if (ex instanceof NotificationSendFailedException failed && failed.isRetryable() && !secretReplayable) {
+                // v1: 비밀값은 이미 GETDEL 로 소비됨 → retry tier 에서 다시 보내도 찾을 게 없음. 바로 FAILED
+                deliveryAuditWriterPort.append(processed, List.of(
+                        NotificationDelivery.failed(
+                                eventId,
+                                eventType,
+                                CHANNEL,
+                                TEMPLATE_KEY,
+                                recipientEmail,
+                                "BREVO",
+                                "V1_SECRET_CONSUMED_NOT_RETRYABLE",
+                                now
+                        )
+                ));
+                log.warn("[DROP] retryable send failure on v1 (secret already consumed, use v2 embed-secret to retry) "
+                        + "eventId={} template={} to={} reason={}",
+                        eventId, TEMPLATE_KEY, recipientEmail, failed.getMessage());
+                return;
+            }
+            if (ex instanceof NotificationSendFailedException failed && !failed.isRetryable()) {
+                // 다시 보내도 같은 결과 → FAILED 기록 후 종료 (재시도 안 함)
+                deliveryAuditWriterPort.append(processed, List.of(
+                        NotificationDelivery.failed(
+                                eventId,
+                                eventType,
+                                CHANNEL,
+                                TEMPLATE_KEY,
+                                recipientEmail,
+                                "BREVO",
+                                safeMsg(ex),
+                                now
+                        )
+                ));
+                log.warn("[DROP] non-retryable send failure eventId={} template={} to={} reason={}",
+                        eventId, TEMPLATE_KEY, recipientEmail, failed.getMessage());
+                return;
+            }
+            // retryable (v2) → 아무것도 기록 안 함 (processed 아님), listener 가 retry topic 으로 넘김
+            // (envelope 이 이벤트에 그대로 있으니 retry tier 에서 다시 열 수 있음)
+            throw ex;
+        }
+    }
+
+    private static UUID parseUuid(String raw) {
+        try {
+            return raw == null ? null : UUID.fromString(raw);
+        } catch (IllegalArgumentException e) {
+            return null;
         }
     }
 
@@ -1,25 +1,28 @@
 package com.timeeconomy.notification.application.integration.service;
 
 import com.timeeconomy.contracts.auth.v1.VerificationOtpDeliveryRequestedV1;
+import com.timeeconomy.contracts.auth.v2.VerificationOtpDeliveryRequestedV2;
 import com.timeeconomy.notification.adapter.in.kafka.dto.ConsumerContext;
 import com.timeeconomy.notification.application.integration.port.in.HandleVerificationOtpDeliveryRequestedUseCase;
 import com.timeeconomy.notification.application.integration.port.out.AuthInternalOtpClientPort;
+import com.timeeconomy.notification.application.integration.port.out.SecretEnvelopeOpenerPort;
+import com.timeeconomy.notification.application.notification.exception.NotificationSendFailedException;
 import com.timeeconomy.notification.application.notification.port.out.EmailSenderPort;
 import com.timeeconomy.notification.application.notification.port.out.SmsSenderPort;
 import com.timeeconomy.notification.domain.inbox.model.ProcessedEvent;
-import com.timeeconomy.notification.domain.inbox.port.out.ProcessedEventRepositoryPort;
 import com.timeeconomy.notification.domain.notification.model.NotificationChannel;
 import com.timeeconomy.notification.domain.notification.model.NotificationDelivery;
-import com.timeeconomy.notification.domain.notification.port.out.NotificationDeliveryRepositoryPort;
+import com.timeeconomy.notification.domain.notification.port.out.DeliveryAuditWriterPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -27,23 +30,71 @@ import java.util.UUID;
 public class HandleVerificationOtpDeliveryRequestedService
         implements HandleVerificationOtpDeliveryRequestedUseCase {
 
-    private final ProcessedEventRepositoryPort processedEventRepositoryPort;
-    private final NotificationDeliveryRepositoryPort notificationDeliveryRepositoryPort;
+    private final DeliveryAuditWriterPort deliveryAuditWriterPort;
 
     private final AuthInternalOtpClientPort authInternalOtpClientPort;
+    private final SecretEnvelopeOpenerPort secretEnvelopeOpenerPort;
 
     private final EmailSenderPort emailSenderPort;
     private final SmsSenderPort smsSenderPort;
 
     @Override
-    @Transactional
     public void handle(VerificationOtpDeliveryRequestedV1 event, ConsumerContext ctx) {
-        final Instant now = Instant.now();
+        deliver(
+                UUID.fromString(event.getEventId()),
+                ctx,
+                event.getVerificationChallengeId(),
+                event.getChannel(),
+                toStr(event.getDestinationNorm()),
+                toStr(event.getPurpose()),
+                Instant.ofEpochMilli(event.getOccurredAtEpochMillis()),
+                event.getTtlSeconds(),
+                // v1: fetch OTP once (internal HTTP → auth Redis GETDEL), 발송 직전에만
+                authInternalOtpClientPort::getOtpOnce,
+                "AUTH_INTERNAL",
+                "OTP_NOT_FOUND_OR_ALREADY_CONSUMED",
+                false
+        );
+    }
+
+    @Override
+    public void handle(VerificationOtpDeliveryRequestedV2 event, ConsumerContext ctx) {
+        deliver(
+                UUID.fromString(event.getEventId()),
+                ctx,
+                event.getVerificationChallengeId(),
+                event.getChannel(),
+                toStr(event.getDestinationNorm()),
+                toStr(event.getPurpose()),
+                Instant.ofEpochMilli(event.getOccurredAtEpochMillis()),
+                event.getTtlSeconds(),
+                // v2: OTP 가 이벤트 안에 암호화되어 옴 → auth 콜백 없음 (AAD = challengeId)
+                challengeId -> secretEnvelopeOpenerPort.open(event.getEncryptedOtp(), event.getVerificationChallengeId()),
+                "EVENT_ENVELOPE",
+                "OTP_ENVELOPE_UNREADABLE",
+                true
+        );
+    }
 
-        final UUID eventId = UUID.fromString(event.getEventId());
+    private void deliver(
+            UUID eventId,
+            ConsumerContext ctx,
+            String rawChallengeId,
+            Object rawChannel,
+            String destination,
+            String purpose,
+            Instant occurredAt,
+            int ttlSeconds,
+            Function<UUID, Optional<String>> otpSource,
+            String otpSourceName,
+            String otpMissingReason,
+            boolean secretReplayable
+    ) {
+        final Instant now = Instant.now();
         final String eventType = ctx.eventType();
 
-        // 1) idempotency gate
+        // processed 마킹은 audit row 와 함께 배치 flush 때 기록 (offset commit 전)
+        // 중복 전달은 listener 의 배치 prefilter(processed_events 조회)가 걸러냄
         ProcessedEvent processed = ProcessedEvent.newProcessed(
                 ctx.consumerGroup(),
                 eventId,
@@ -54,43 +105,83 @@ public class HandleVerificationOtpDeliveryRequestedService
                 now
         );
 
-        if (!processedEventRepositoryPort.markProcessed(processed)) {
-            log.info("[SKIP] duplicate eventId={} group={} topic={} p={} o={}",
-                    eventId, ctx.consumerGroup(), ctx.topic(), ctx.partition(), ctx.offset());
+        // 0) challengeId 가 깨졌으면 OTP 를 찾을 수도 없음 → 이 레코드만 FAILED 로 끝냄
+        final UUID challengeId = parseUuid(rawChallengeId);
+        if (challengeId == null) {
+            NotificationChannel channel = mapChannel(rawChannel);
+            deliveryAuditWriterPort.append(processed, List.of(
+                    NotificationDelivery.failed(
+                            eventId,
+                            eventType,
+                            channel,
+                            templateKeyFor(channel),
+                            destination,
+                            null,
+                            "INVALID_CHALLENGE_ID",
+                            now
+                    )
+            ));
+            log.warn("[DROP] invalid challengeId eventId={} challengeId={}", eventId, rawChallengeId);
+            return;
+        }
+
+        // 1) 이미 만료된 OTP 는 보내봐야 못 씀 → FAILED 기록 후 종료 (OTP 조회/발송 안 함)
+        final Instant expiresAt = occurredAt.plusSeconds(ttlSeconds);
+        if (!now.isBefore(expiresAt)) {
+            NotificationChannel channel = mapChannel(rawChannel);
+            deliveryAuditWriterPort.append(processed, List.of(
+                    NotificationDelivery.failed(
+                            eventId,
+                            eventType,
+                            channel,
+                            templateKeyFor(channel),
+                            destination,
+                            null,
+                            "OTP_EXPIRED_BEFORE_DELIVERY",
+                            now
+                    )
+            ));
+            log.warn("[DROP] otp expired before delivery eventId={} challengeId={} expiredAt={} lag={}ms",
+                    eventId, challengeId, expiresAt, now.toEpochMilli() - occurredAt.toEpochMilli());
             return;
         }
 
-        // 2) fetch OTP once (internal HTTP)
-        final UUID challengeId = UUID.fromString(event.getVerificationChallengeId());
-        Optional<String> otpOpt = authInternalOtpClientPort.getOtpOnce(challengeId);
+        // 2) v1 은 GETDEL 로 꺼내는 순간 되돌릴 수 없음 → provider 가 안 받을 상태면 꺼내지 않고 retry tier 로
+        //    (circuit open / bulkhead full 이면 꺼낸 뒤 발송 거절 → V1_SECRET_CONSUMED_NOT_RETRYABLE 로 버려짐)
+        if (!secretReplayable && !isCallPermitted(mapChannel(rawChannel))) {
+            log.warn("[DEFER] provider not admitting calls → v1 otp left unconsumed eventId={} challengeId={}",
+                    eventId, challengeId);
+            throw new NotificationSendFailedException(
+                    "provider not admitting calls (" + mapChannel(rawChannel) + "), v1 otp not fetched", null, true);
+        }
+
+        // 3) resolve OTP (internal HTTP or event envelope)
+        Optional<String> otpOpt = otpSource.apply(challengeId);
 
         if (otpOpt.isEmpty()) {
-            notificationDeliveryRepositoryPort.save(
+            deliveryAuditWriterPort.append(processed, List.of(
                     NotificationDelivery.failed(
                             eventId,
                             eventType,
-                            mapChannel(event.getChannel()),
-                            templateKeyFor(mapChannel(event.getChannel())),
-                            toStr(event.getDestinationNorm()),
-                            "AUTH_INTERNAL",
-                            "OTP_NOT_FOUND_OR_ALREADY_CONSUMED",
+                            mapChannel(rawChannel),
+                            templateKeyFor(mapChannel(rawChannel)),
+                            destination,
+                            otpSourceName,
+                            otpMissingReason,
                             now
                     )
-            );
-            log.warn("[SKIP] otp missing (non-retryable). eventId={} challengeId={}", eventId, challengeId);
+            ));
+            log.warn("[SKIP] otp missing (non-retryable). eventId={} challengeId={} source={}",
+                    eventId, challengeId, otpSourceName);
             return;
         }
 
         final String otp = otpOpt.get();
 
-        // 3) send via channel
-        final NotificationChannel channel = mapChannel(event.getChannel());
+        // 4) send via channel
+        final NotificationChannel channel = mapChannel(rawChannel);
         final String templateKey = templateKeyFor(channel);
 
-        final String destination = toStr(event.getDestinationNorm());
-        final String purpose = toStr(event.getPurpose());
-        final int ttlSeconds = event.getTtlSeconds();
-
         try {
             if (channel == NotificationChannel.EMAIL) {
                 var cmd = new EmailSenderPort.EmailSendCommand(
@@ -107,12 +198,12 @@ public class HandleVerificationOtpDeliveryRequestedService
 
                 EmailSenderPort.EmailSendResult res = emailSenderPort.sendTemplate(cmd);
 
-                notificationDeliveryRepositoryPort.save(
+                deliveryAuditWriterPort.append(processed, List.of(
                         NotificationDelivery.sent(
                                 eventId, eventType, channel, templateKey, destination,
                                 res.provider(), res.providerMsgId(), now
                         )
-                );
+                ));
 
                 log.info("[OK] otp email sent template={} to={} provider={} msgId={}",
                         templateKey, destination, res.provider(), res.providerMsgId());
@@ -131,12 +222,12 @@ public class HandleVerificationOtpDeliveryRequestedService
 
                 SmsSenderPort.SmsSendResult res = smsSenderPort.sendTemplate(cmd);
 
-                notificationDeliveryRepositoryPort.save(
+                deliveryAuditWriterPort.append(processed, List.of(
                         NotificationDelivery.sent(
                                 eventId, eventType, channel, templateKey, destination,
                                 res.provider(), res.providerMsgId(), now
                         )
-                );
+                ));
 
                 log.info("[OK] otp sms sent template={} to={} provider={} msgId={}",
                         templateKey, destination, res.provider(), res.providerMsgId());
@@ -146,22 +237,57 @@ public class HandleVerificationOtpDeliveryRequestedService
             }
 
         } catch (Exception ex) {
-            notificationDeliveryRepositoryPort.save(
-                    NotificationDelivery.failed(
-                            eventId,
-                            eventType,
-                            channel,
-                            templateKey,
-                            destination,
-                            channel == NotificationChannel.SMS ? "LOG" : "BREVO",
-                            safeMsg(ex),
-                            now
-                    )
-            );
-            throw ex; // retryable (unless you choose to treat some failures as non-retryable)
+            if (ex instanceof NotificationSendFailedException failed && failed.isRetryable() && !secretReplayable) {
+                // v1: 비밀값은 이미 GETDEL 로 소비됨 → retry tier 에서 다시 보내도 찾을 게 없음. 바로 FAILED
+                deliveryAuditWriterPort.append(processed, List.of(
+                        NotificationDelivery.failed(
+                                eventId,
+                                eventType,
+                                channel,
+                                templateKey,
+                                destination,
+                                channel == NotificationChannel.SMS ? "LOG" : "BREVO",
+                                "V1_SECRET_CONSUMED_NOT_RETRYABLE",
+                                now
+                        )
+                ));
+                log.warn("[DROP] retryable send failure on v1 (secret already consumed, use v2 embed-secret to retry) "
+                        + "eventId={} template={} to={} reason={}",
+                        eventId, templateKey, destination, failed.getMessage());
+                return;
+            }
+            if (ex instanceof NotificationSendFailedException failed && !failed.isRetryable()) {
+                // 다시 보내도 같은 결과 → FAILED 기록 후 종료 (재시도 안 함)
+                deliveryAuditWriterPort.append(processed, List.of(
+                        NotificationDelivery.failed(
+                                eventId,
+                                eventType,
+                                channel,
+                                templateKey,
+                                destination,
+                                channel == NotificationChannel.SMS ? "LOG" : "BREVO",
+                                safeMsg(ex),
+                                now
+                        )
+                ));
+                log.warn("[DROP] non-retryable send failure eventId={} template={} to={} reason={}",
+                        eventId, templateKey, destination, failed.getMessage());
+                return;
+            }
+            // retryable (v2) → 아무것도 기록 안 함 (processed 아님), listener 가 retry topic 으로 넘김
+            // (envelope 이 이벤트에 그대로 있으니 retry tier 에서 다시 열 수 있음)
+            throw ex;
         }
     }
 
+    private boolean isCallPermitted(NotificationChannel channel) {
+        return switch (channel) {
+            case EMAIL -> emailSenderPort.isCallPermitted();
+            case SMS -> smsSenderPort.isCallPermitted();
+            default -> true;
+        };
+    }
+
     private static NotificationChannel mapChannel(Object raw) {
         // event.getChannel() is usually a CharSequence/Utf8/String depending on Avro config
         String s = raw == null ? "" : raw.toString().trim().toUpperCase();
@@ -176,6 +302,14 @@ public class HandleVerificationOtpDeliveryRequestedService
         };
     }
 
+    private static UUID parseUuid(String raw) {
+        try {
+            return raw == null ? null : UUID.fromString(raw);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     private static String toStr(Object v) {
         return v == null ? null : v.toString();
     }
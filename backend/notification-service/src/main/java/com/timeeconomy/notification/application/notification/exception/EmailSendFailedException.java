@@ -1,6 +1,7 @@
 package com.timeeconomy.notification.application.notification.exception;
 
-public class EmailSendFailedException extends RuntimeException {
-    public EmailSendFailedException(String message) { super(message); }
-    public EmailSendFailedException(String message, Throwable cause) { super(message, cause); }
-}
\ No newline at end of file
+public class EmailSendFailedException extends NotificationSendFailedException {
+    public EmailSendFailedException(String message) { super(message, null, true); }
+    public EmailSendFailedException(String message, Throwable cause) { super(message, cause, true); }
+    public EmailSendFailedException(String message, Throwable cause, boolean retryable) { super(message, cause, retryable); }
+}
@@ -0,0 +1,21 @@
+package com.timeeconomy.notification.application.notification.exception;
+
+/**
+ * provider 발송 실패 공통 타입.
+ *
+ * retryable = true  : 일시 장애 (5xx, 429, timeout, circuit open, bulkhead full) → retry topic 으로 지연 재시도
+ * retryable = false : 다시 보내도 같은 결과 (잘못된 주소, 4xx) → FAILED 기록 후 종료
+ */
+public class NotificationSendFailedException extends RuntimeException {
+
+    private final boolean retryable;
+
+    public NotificationSendFailedException(String message, Throwable cause, boolean retryable) {
+        super(message, cause);
+        this.retryable = retryable;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
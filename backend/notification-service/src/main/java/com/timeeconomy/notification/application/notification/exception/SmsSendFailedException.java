@@ -0,0 +1,7 @@
+package com.timeeconomy.notification.application.notification.exception;
+
+public class SmsSendFailedException extends NotificationSendFailedException {
+    public SmsSendFailedException(String message) { super(message, null, true); }
+    public SmsSendFailedException(String message, Throwable cause) { super(message, cause, true); }
+    public SmsSendFailedException(String message, Throwable cause, boolean retryable) { super(message, cause, retryable); }
+}
@@ -0,0 +1,9 @@
+package com.timeeconomy.notification.application.notification.port.in;
+
+public interface MaintainDeliveryPartitionsUseCase {
+
+    /**
+     * 다음 달들 파티션 미리 생성 + retention 지난 월 파티션 drop.
+     */
+    void maintain();
+}
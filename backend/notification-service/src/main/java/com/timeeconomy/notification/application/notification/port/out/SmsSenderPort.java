@@ -16,4 +16,12 @@ public interface SmsSenderPort {
     ) {}
 
     SmsSendResult sendTemplate(SmsSendCommand command);
+
+    /**
+     * 지금 호출하면 provider 쪽으로 넘어갈 수 있는지 (circuit 이 닫혀 있고 bulkhead 에 자리가 있는지).
+     * 거절되면 되돌릴 수 없는 준비 작업 (v1 비밀값 GETDEL) 전에 확인용. 자리를 잡지는 않으므로 sendTemplate 이 여전히 거절할 수 있음.
+     */
+    default boolean isCallPermitted() {
+        return true;
+    }
 }
\ No newline at end of file
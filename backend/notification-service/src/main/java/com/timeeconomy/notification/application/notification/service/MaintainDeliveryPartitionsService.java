@@ -0,0 +1,58 @@
+package com.timeeconomy.notification.application.notification.service;
+
+import com.timeeconomy.notification.application.notification.port.in.MaintainDeliveryPartitionsUseCase;
+import com.timeeconomy.notification.domain.notification.port.out.NotificationDeliveryRetentionPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * notification_deliveries 보관 정책: 월 파티션 단위로 retentionMonths 개월 유지.
+ * 지난 이력은 DROP PARTITION 으로 버림 (대량 DELETE / vacuum 부담 없음).
+ */
+@Slf4j
+@Service
+public class MaintainDeliveryPartitionsService implements MaintainDeliveryPartitionsUseCase {
+
+    private final NotificationDeliveryRetentionPort retentionPort;
+    private final Clock clock;
+
+    private final int retentionMonths;
+    private final int monthsAhead;
+
+    public MaintainDeliveryPartitionsService(
+            NotificationDeliveryRetentionPort retentionPort,
+            Clock clock,
+            @Value("${notification.deliveries.retention-months:6}") int retentionMonths,
+            @Value("${notification.deliveries.partitions-ahead:2}") int monthsAhead
+    ) {
+        this.retentionPort = retentionPort;
+        this.clock = clock;
+        this.retentionMonths = retentionMonths;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Override
+    public void maintain() {
+        YearMonth current = YearMonth.now(clock.withZone(ZoneOffset.UTC));
+
+        // 이번 달 + 앞으로 monthsAhead 개월 (default 파티션으로 새는 row 가 없게)
+        retentionPort.ensureMonthlyPartitions(current, monthsAhead + 1);
+
+        YearMonth cutoff = current.minusMonths(retentionMonths);
+        List<String> dropped = retentionPort.dropMonthlyPartitionsBefore(cutoff);
+        int deleted = retentionPort.deleteFromDefaultPartitionBefore(
+                cutoff.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant());
+
+        if (!dropped.isEmpty() || deleted > 0) {
+            log.info("[DELIVERIES] retention cutoff={} droppedPartitions={} defaultRowsDeleted={}",
+                    cutoff, dropped, deleted);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.timeeconomy.notification.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * v2 verification 이벤트 복호화용 KEK 목록 (kid → base64 256-bit key).
+ * rotation 중에는 옛 kid 와 새 kid 를 같이 둔다.
+ */
+@ConfigurationProperties(prefix = "notification.envelope")
+public record EnvelopeKeyProperties(Map<String, String> keys) {
+
+    public EnvelopeKeyProperties {
+        keys = (keys == null) ? Map.of() : Map.copyOf(keys);
+    }
+}
@@ -0,0 +1,27 @@
+package com.timeeconomy.notification.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class NotificationDispatchConfig {
+
+    /**
+     * 배치 리스너가 poll 한 레코드들을 동시에 처리할 때 쓰는 executor.
+     * (리스너 스레드는 배치 전체가 끝날 때까지 기다렸다가 한 번만 ack)
+     *
+     * 작업은 대부분 HTTP 대기라서 레코드(lane)당 가상 스레드 하나.
+     * 동시에 도는 lane 수는 dispatcher 의 우선순위별 semaphore (verification = provider bulkhead 크기,
+     * informational = notification.lanes.informational.max-parallel-lanes) 가,
+     * 실제 소켓 수는 RestClientConfig 의 커넥션 풀이 묶어줌.
+     * provider 호출 중에는 트랜잭션 / DB 커넥션을 잡지 않음: 결과는 audit 버퍼에 쌓였다가 ack 직전 flush 로 기록.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService notificationDispatchExecutor() {
+        return Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("notification-dispatch-", 0).factory());
+    }
+}
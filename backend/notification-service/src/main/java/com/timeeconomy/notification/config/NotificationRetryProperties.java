@@ -0,0 +1,45 @@
+package com.timeeconomy.notification.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 발송 실패(retryable) 지연 재시도용 retry topic 설정.
+ *
+ * delays[i] 마다 tier topic 하나: {topicPrefix}-{i+1}
+ * tier 별 지연이 고정이라 partition 안에서 due 시각이 offset 순서와 같음 → 앞에서부터 due 된 것만 처리.
+ * 마지막 tier 에서도 실패하면 deadLetterTopic.
+ */
+@ConfigurationProperties(prefix = "notification.retry")
+public record NotificationRetryProperties(
+        String topicPrefix,
+        List<Duration> delays,
+        String deadLetterTopic
+) {
+
+    public NotificationRetryProperties {
+        topicPrefix = (topicPrefix == null || topicPrefix.isBlank()) ? "notification.auth-events.retry" : topicPrefix;
+        delays = (delays == null || delays.isEmpty())
+                ? List.of(Duration.ofSeconds(30), Duration.ofMinutes(2), Duration.ofMinutes(10))
+                : List.copyOf(delays);
+        deadLetterTopic = (deadLetterTopic == null || deadLetterTopic.isBlank())
+                ? "notification.auth-events.dlt" : deadLetterTopic;
+    }
+
+    public int maxAttempts() {
+        return delays.size();
+    }
+
+    /**
+     * @param attempt 1-based
+     */
+    public String tierTopic(int attempt) {
+        return topicPrefix + "-" + attempt;
+    }
+
+    public Duration delay(int attempt) {
+        return delays.get(attempt - 1);
+    }
+}
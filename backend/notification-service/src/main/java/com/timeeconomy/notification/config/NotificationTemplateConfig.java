@@ -0,0 +1,9 @@
+package com.timeeconomy.notification.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(NotificationTemplateProperties.class)
+public class NotificationTemplateConfig {
+}
@@ -0,0 +1,24 @@
+package com.timeeconomy.notification.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Locale;
+
+/**
+ * 로컬 템플릿 (adapter/out/template).
+ *
+ * - SMS 는 항상 로컬 렌더 (provider 는 완성된 본문만 받음)
+ * - email 은 emailLocalRender=true 이고 subject/html 템플릿이 있는 key 만 로컬 렌더, 나머지는 Brevo templateId
+ */
+@ConfigurationProperties(prefix = "notification.templates")
+public record NotificationTemplateProperties(
+        String location,
+        Locale defaultLocale,
+        boolean emailLocalRender
+) {
+
+    public NotificationTemplateProperties {
+        location = (location == null || location.isBlank()) ? "classpath*:notification-templates/" : location;
+        defaultLocale = (defaultLocale == null) ? Locale.KOREAN : defaultLocale;
+    }
+}
@@ -1,29 +1,75 @@
 // src/main/java/com/timeeconomy/notification/config/RestClientConfig.java
 package com.timeeconomy.notification.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
 @Configuration
 public class RestClientConfig {
 
+    // 풀에서 커넥션을 못 받으면 오래 기다리지 말고 실패 → Kafka 재시도로 넘김
+    private static final Timeout POOL_ACQUIRE_TIMEOUT = Timeout.ofSeconds(2);
+    private static final TimeValue CONNECTION_TTL = TimeValue.ofMinutes(5);
+    private static final TimeValue IDLE_EVICT = TimeValue.ofSeconds(30);
+    private static final TimeValue VALIDATE_AFTER_INACTIVITY = TimeValue.ofSeconds(10);
+
+    private static final Duration BREVO_CONNECT_TIMEOUT = Duration.ofSeconds(3);
+    private static final Duration BREVO_READ_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * Brevo 는 JDK HttpClient: HTTPS 에서 ALPN 으로 HTTP/2 협상 → 커넥션 하나에 요청 multiplexing,
+     * 서버가 h2 를 안 주면 HTTP/1.1 keep-alive 풀로 fallback.
+     * (로컬 stub 처럼 평문 서버는 brevo.http.version=HTTP_1_1 로 h2c upgrade 생략)
+     * 동시 요청 수 상한은 BrevoEmailSenderAdapter 의 in-flight semaphore.
+     */
+    @Bean(destroyMethod = "close")
+    public HttpClient brevoHttpClient(
+            @Value("${brevo.http.version:HTTP_2}") HttpClient.Version version
+    ) {
+        return HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(BREVO_CONNECT_TIMEOUT)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient authInternalHttpClient(
+            @Value("${auth.internal.http.max-connections:200}") int maxConnections
+    ) {
+        return pooledHttpClient(2_000, 5_000, maxConnections);
+    }
+
     @Bean
     @Qualifier("brevoRestClient")
     public RestClient brevoRestClient(
-            @Value("${brevo.base-url}") String baseUrl
+            @Value("${brevo.base-url}") String baseUrl,
+            @Qualifier("brevoHttpClient") HttpClient httpClient
     ) {
-        var rf = new SimpleClientHttpRequestFactory();
-        rf.setConnectTimeout(3_000);
-        rf.setReadTimeout(10_000);
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(BREVO_READ_TIMEOUT);
 
         return RestClient.builder()
-                .baseUrl(baseUrl)
-                .requestFactory(rf)
+                .baseUrl(baseUrl) // 로컬 stub: BREVO_BASE_URL=http://localhost:8089
+                .requestFactory(requestFactory)
                 .build();
     }
 
@@ -31,17 +77,41 @@ public class RestClientConfig {
     @Qualifier("authInternalRestClient")
     public RestClient authInternalRestClient(
             @Value("${auth.internal.base-url}") String baseUrl,
-            @Value("${auth.internal.token}") String internalToken
+            @Value("${auth.internal.token}") String internalToken,
+            @Qualifier("authInternalHttpClient") CloseableHttpClient httpClient
     ) {
-        var rf = new SimpleClientHttpRequestFactory();
-        rf.setConnectTimeout(2_000);
-        rf.setReadTimeout(5_000);
-
         return RestClient.builder()
                 .baseUrl(baseUrl) // MUST be like http://auth-service:8080
                 .defaultHeader("X-Internal-Token", internalToken)
                 .defaultHeader(HttpHeaders.ACCEPT, "application/json")
-                .requestFactory(rf)
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+
+    /**
+     * keep-alive 커넥션 풀 (upstream 이 하나라 total == per-route).
+     * 가상 스레드 수백 개가 동시에 보내도 소켓 수는 maxConnections 로 묶임.
+     */
+    private static CloseableHttpClient pooledHttpClient(int connectTimeoutMs, int readTimeoutMs, int maxConnections) {
+        PoolingHttpClientConnectionManager cm = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(CONNECTION_TTL)
+                        .setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY)
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(cm)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(POOL_ACQUIRE_TIMEOUT)
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(IDLE_EVICT)
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package com.timeeconomy.notification.config;
+
+import com.timeeconomy.notification.adapter.out.resilience.ProviderGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(SenderResilienceProperties.class)
+public class SenderResilienceConfig {
+
+    @Bean
+    @Qualifier("emailProviderGuard")
+    public ProviderGuard emailProviderGuard(SenderResilienceProperties props, MeterRegistry registry) {
+        return new ProviderGuard("brevo", props.email(), registry);
+    }
+
+    @Bean
+    @Qualifier("smsProviderGuard")
+    public ProviderGuard smsProviderGuard(SenderResilienceProperties props, MeterRegistry registry) {
+        return new ProviderGuard("sms", props.sms(), registry);
+    }
+}
@@ -0,0 +1,43 @@
+package com.timeeconomy.notification.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * provider 별 bulkhead + circuit breaker 설정 (notification.resilience.email / .sms).
+ */
+@ConfigurationProperties(prefix = "notification.resilience")
+public record SenderResilienceProperties(Provider email, Provider sms) {
+
+    public SenderResilienceProperties {
+        email = (email == null) ? Provider.defaults() : email;
+        sms = (sms == null) ? Provider.defaults() : sms;
+    }
+
+    public record Provider(
+            Integer maxConcurrent,          // bulkhead: 동시 호출 상한
+            Duration maxWait,               // bulkhead 자리 대기 상한
+            Integer slidingWindowSize,      // breaker: 최근 N 건
+            Integer minimumCalls,           // breaker: 판단 시작 최소 건수
+            Integer failureRateThreshold,   // breaker: 실패율(%) 이상이면 OPEN
+            Duration slowCallThreshold,     // 이보다 오래 걸리면 실패로 셈
+            Duration openDuration,          // OPEN 유지 시간
+            Integer halfOpenCalls           // HALF_OPEN 시험 호출 수
+    ) {
+        public Provider {
+            maxConcurrent = (maxConcurrent == null) ? 32 : maxConcurrent;
+            maxWait = (maxWait == null) ? Duration.ofMillis(200) : maxWait;
+            slidingWindowSize = (slidingWindowSize == null) ? 50 : slidingWindowSize;
+            minimumCalls = (minimumCalls == null) ? 20 : minimumCalls;
+            failureRateThreshold = (failureRateThreshold == null) ? 50 : failureRateThreshold;
+            slowCallThreshold = (slowCallThreshold == null) ? Duration.ofSeconds(3) : slowCallThreshold;
+            openDuration = (openDuration == null) ? Duration.ofSeconds(30) : openDuration;
+            halfOpenCalls = (halfOpenCalls == null) ? 3 : halfOpenCalls;
+        }
+
+        static Provider defaults() {
+            return new Provider(null, null, null, null, null, null, null, null);
+        }
+    }
+}
@@ -2,10 +2,39 @@ package com.timeeconomy.notification.domain.inbox.port.out;
 
 import com.timeeconomy.notification.domain.inbox.model.ProcessedEvent;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * processed_events: consumer group 별 "이 이벤트는 처리 끝남" 기록.
+ *
+ * 중복 처리 판정은 두 군데:
+ * - poll 시작: findProcessedEventIds 로 이미 처리된 이벤트를 발송 전에 제외
+ * - flush    : markProcessedAll 의 ON CONFLICT (uq_processed_events) → 기록은 이벤트당 정확히 한 번,
+ *              새로 들어간 eventId 의 delivery audit 만 같이 insert
+ * 발송 자체는 at-least-once: 발송 후 flush 전에 죽거나, rebalance 로 두 consumer 가 같은 이벤트를
+ * 동시에 잡으면 두 번 나갈 수 있음 (notification_deliveries 의 unique 제약은 created_at 이 달라 이걸 못 막음)
+ */
 public interface ProcessedEventRepositoryPort {
 
     /**
-     * @return true = 처음 처리(삽입 성공), false = 이미 처리됨(중복)
+     * 배치 idempotency gate: 한 번의 INSERT 로 전부 기록 시도.
+     * @return 이번에 새로 삽입된 eventId 들 (나머지는 이미 처리됨)
+     */
+    Set<UUID> markProcessedAll(List<ProcessedEvent> processedEvents);
+
+    /**
+     * 배치 단위 사전 필터: 주어진 eventId 중 이미 처리된 것만 한 번의 쿼리로 반환.
+     * (최종 판정은 flush 때 markProcessedAll 의 unique 제약)
+     */
+    Set<UUID> findProcessedEventIds(String consumerGroup, Collection<UUID> eventIds);
+
+    /**
+     * processedAt < cutoff 인 row 를 최대 limit 건 삭제.
+     * @return 삭제된 건수 (limit 보다 작으면 더 지울 게 없음)
      */
-    boolean markProcessed(ProcessedEvent processedEvent);
-}
\ No newline at end of file
+    int deleteProcessedBefore(Instant cutoff, int limit);
+}
@@ -0,0 +1,25 @@
+package com.timeeconomy.notification.domain.notification.port.out;
+
+import com.timeeconomy.notification.domain.inbox.model.ProcessedEvent;
+import com.timeeconomy.notification.domain.notification.model.NotificationDelivery;
+
+import java.util.List;
+
+/**
+ * 처리 끝난 이벤트의 결과 기록 (processed 마킹 + delivery audit rows).
+ *
+ * append 는 메모리 버퍼에 적재만 하고, flush 가 쌓인 것을 한 트랜잭션/JDBC batch 로 기록.
+ * listener 는 offset commit 전에 flush → 기록이 commit 보다 먼저 (at-least-once).
+ * flush 전에 죽으면 processed 도 안 남았으니 재전달 시 다시 처리되어 다시 기록됨.
+ * → 기록은 이벤트당 한 번 (processed_events 의 unique 제약), 발송은 at-least-once
+ */
+public interface DeliveryAuditWriterPort {
+
+    void append(ProcessedEvent processed, List<NotificationDelivery> deliveries);
+
+    /**
+     * 지금까지 append 된 것 전부 기록. 정상 반환 = durable.
+     * 실패하면 예외 (버퍼 내용은 유지되어 다음 flush 에서 다시 시도)
+     */
+    void flush();
+}
@@ -2,6 +2,13 @@ package com.timeeconomy.notification.domain.notification.port.out;
 
 import com.timeeconomy.notification.domain.notification.model.NotificationDelivery;
 
+import java.util.List;
+
 public interface NotificationDeliveryRepositoryPort {
     NotificationDelivery save(NotificationDelivery delivery);
-}
\ No newline at end of file
+
+    /**
+     * JDBC batch insert (audit flush 용). 호출 측 트랜잭션에 참여.
+     */
+    void saveAll(List<NotificationDelivery> deliveries);
+}
@@ -0,0 +1,28 @@
+package com.timeeconomy.notification.domain.notification.port.out;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * notification_deliveries 월 단위 파티션 관리 (created_at 기준, UTC).
+ */
+public interface NotificationDeliveryRetentionPort {
+
+    /**
+     * from 부터 count 개월 파티션이 없으면 생성.
+     */
+    void ensureMonthlyPartitions(YearMonth from, int count);
+
+    /**
+     * cutoff 보다 이전 월의 파티션을 통째로 DROP (row 단위 DELETE 없음).
+     * @return drop 된 파티션 이름
+     */
+    List<String> dropMonthlyPartitionsBefore(YearMonth cutoff);
+
+    /**
+     * default 파티션(이관된 옛 row, 범위 밖 row)에서 cutoff 이전 row 삭제.
+     * @return 삭제 건수
+     */
+    int deleteFromDefaultPartitionBefore(Instant cutoff);
+}
@@ -0,0 +1,5 @@
+-- V2__processed_events_purge_index.sql
+-- TTL purge (processed_at < cutoff) 를 consumer_group 과 무관하게 빠르게 찾기 위한 인덱스
+
+CREATE INDEX idx_processed_events_processed_at
+    ON processed_events (processed_at);
@@ -0,0 +1,81 @@
+-- V3__partition_notification_deliveries.sql
+-- notification_deliveries → created_at 월 단위 RANGE 파티션
+-- 오래된 이력은 DROP PARTITION 으로 버림 (DeliveryPartitionMaintenanceWorker)
+-- 파티션 키가 PK / UNIQUE 에 포함되어야 해서 (id, created_at), (event_id, template, created_at)
+-- 중복 기록 방지는 processed_events (flush 시 새로 마킹된 이벤트만 audit insert)
+
+-- 1) 기존 테이블 비켜두기 (인덱스/제약 이름도 새 테이블이 쓰도록)
+ALTER TABLE notification_deliveries RENAME TO notification_deliveries_legacy;
+ALTER TABLE notification_deliveries_legacy RENAME CONSTRAINT notification_deliveries_pkey TO notification_deliveries_legacy_pkey;
+ALTER TABLE notification_deliveries_legacy RENAME CONSTRAINT uq_notification_delivery TO uq_notification_delivery_legacy;
+ALTER INDEX idx_notification_deliveries_event RENAME TO idx_notification_deliveries_legacy_event;
+ALTER INDEX idx_notification_deliveries_created_at RENAME TO idx_notification_deliveries_legacy_created_at;
+
+-- 2) 파티션 테이블 (id 는 기존 sequence 그대로 이어서)
+CREATE TABLE notification_deliveries (
+    id               BIGINT NOT NULL DEFAULT nextval('notification_deliveries_id_seq'),
+
+    event_id         UUID NOT NULL,
+    event_type       VARCHAR(200) NOT NULL,
+
+    channel          VARCHAR(30)  NOT NULL,
+    template         VARCHAR(100) NOT NULL,
+
+    recipient        VARCHAR(320) NOT NULL,
+
+    status           VARCHAR(20)  NOT NULL,
+    provider         VARCHAR(50),
+    provider_msg_id  VARCHAR(200),
+
+    error_message    VARCHAR(500),
+
+    created_at       TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT notification_deliveries_pkey PRIMARY KEY (id, created_at),
+
+    CONSTRAINT chk_notification_status
+      CHECK (status IN ('SENT','FAILED')),
+
+    CONSTRAINT chk_notification_channel
+      CHECK (channel IN ('EMAIL','SMS','PUSH')),
+
+    CONSTRAINT uq_notification_delivery UNIQUE (event_id, template, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX idx_notification_deliveries_event
+    ON notification_deliveries (event_id, event_type);
+
+CREATE INDEX idx_notification_deliveries_created_at
+    ON notification_deliveries (created_at DESC);
+
+-- 범위 밖 row (이관된 옛 이력, 파티션 생성 전 row) 용
+CREATE TABLE notification_deliveries_default PARTITION OF notification_deliveries DEFAULT;
+
+-- 3) 지난달 ~ 2개월 뒤까지 월 파티션 (이후는 worker 가 미리 생성)
+DO $$
+DECLARE
+    m DATE;
+BEGIN
+    FOR i IN -1..2 LOOP
+        m := (date_trunc('month', NOW() AT TIME ZONE 'UTC') + make_interval(months => i))::DATE;
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF notification_deliveries FOR VALUES FROM (%L) TO (%L)',
+            'notification_deliveries_' || to_char(m, 'YYYYMM'),
+            (m::TIMESTAMP AT TIME ZONE 'UTC'),
+            ((m + INTERVAL '1 month')::TIMESTAMP AT TIME ZONE 'UTC')
+        );
+    END LOOP;
+END $$;
+
+-- 4) 이관 후 옛 테이블 제거
+INSERT INTO notification_deliveries (
+    id, event_id, event_type, channel, template, recipient,
+    status, provider, provider_msg_id, error_message, created_at
+)
+SELECT id, event_id, event_type, channel, template, recipient,
+       status, provider, provider_msg_id, error_message, created_at
+  FROM notification_deliveries_legacy;
+
+ALTER SEQUENCE notification_deliveries_id_seq OWNED BY notification_deliveries.id;
+
+DROP TABLE notification_deliveries_legacy;
@@ -0,0 +1,186 @@
+package com.timeeconomy.notification.adapter.out.brevo;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.timeeconomy.notification.adapter.out.metrics.NotificationProviderMetrics;
+import com.timeeconomy.notification.adapter.out.template.LocalTemplateEngine;
+import com.timeeconomy.notification.application.notification.exception.EmailSendFailedException;
+import com.timeeconomy.notification.application.notification.port.out.EmailSenderPort.EmailSendCommand;
+import com.timeeconomy.notification.application.notification.port.out.EmailSenderPort.EmailSendResult;
+import com.timeeconomy.notification.config.NotificationTemplateProperties;
+import com.timeeconomy.notification.config.RestClientConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.status;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BrevoEmailSenderAdapter + BrevoTemplateBatcher 를 로컬 Brevo stub (WireMock, infra/brevo-stub mapping) 에 붙여서
+ * 실제 HTTP 요청 모양과 실패 매핑을 확인.
+ */
+class BrevoEmailSenderAdapterTest {
+
+    private static final String SEND_PATH = "/v3/smtp/email";
+    private static final String API_KEY = "test-api-key";
+    private static final int OTP_TEMPLATE_ID = 5;
+    private static final Path STUB_MAPPINGS = Path.of("../../infra/brevo-stub/mappings");
+
+    private WireMockServer brevo;
+    private HttpClient httpClient;
+    private SimpleMeterRegistry registry;
+    private BrevoEmailSenderAdapter adapter;
+
+    @TempDir
+    Path stubRoot;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // docker compose --profile stub 의 brevo-stub 과 같은 mapping / templating.
+        // 복사본을 씀: resetMappings() 는 mapping 파일까지 지움
+        Path mappings = Files.createDirectories(stubRoot.resolve("mappings"));
+        try (Stream<Path> files = Files.list(STUB_MAPPINGS)) {
+            for (Path f : files.toList()) {
+                Files.copy(f, mappings.resolve(f.getFileName()));
+            }
+        }
+        brevo = new WireMockServer(WireMockConfiguration.options()
+                .dynamicPort()
+                .usingFilesUnderDirectory(stubRoot.toString())
+                .globalTemplating(true));
+        brevo.start();
+
+        RestClientConfig restClientConfig = new RestClientConfig();
+        httpClient = restClientConfig.brevoHttpClient(HttpClient.Version.HTTP_1_1);
+        registry = new SimpleMeterRegistry();
+
+        NotificationTemplateProperties templateProperties = new NotificationTemplateProperties(null, null, false);
+        adapter = new BrevoEmailSenderAdapter(
+                restClientConfig.brevoRestClient(brevo.baseUrl(), httpClient),
+                new NotificationProviderMetrics(registry),
+                new LocalTemplateEngine(templateProperties),
+                templateProperties,
+                API_KEY,
+                "no-reply@timeeconomy.test",
+                "TimeEconomy",
+                2, 3, 4, OTP_TEMPLATE_ID, 6,
+                64,
+                Duration.ofSeconds(2),
+                true,
+                50,
+                Duration.ofMillis(500) // 동시에 보낸 요청이 확실히 한 그룹이 되게
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.stop();
+        httpClient.close();
+        brevo.stop();
+    }
+
+    @Test
+    void sameTemplateSendsGoOutAsOneMessageVersionsCall() {
+        List<CompletableFuture<EmailSendResult>> results =
+                sendOtpConcurrently("a@example.com", "b@example.com", "c@example.com");
+
+        List<String> messageIds = results.stream().map(CompletableFuture::join).map(EmailSendResult::providerMsgId).toList();
+        assertThat(messageIds).hasSize(3).doesNotHaveDuplicates().allMatch(id -> id.startsWith("<stub-"));
+        assertThat(results).allSatisfy(r -> assertThat(r.join().provider()).isEqualTo("BREVO"));
+
+        brevo.verify(1, postRequestedFor(urlPathEqualTo(SEND_PATH)));
+        brevo.verify(1, postRequestedFor(urlPathEqualTo(SEND_PATH))
+                .withHeader("api-key", equalTo(API_KEY))
+                .withRequestBody(matchingJsonPath("$.templateId", equalTo(String.valueOf(OTP_TEMPLATE_ID))))
+                .withRequestBody(matchingJsonPath("$.messageVersions.length()", equalTo("3")))
+                .withRequestBody(matchingJsonPath("$.messageVersions[*].to[?(@.email == 'b@example.com')]"))
+                .withRequestBody(matchingJsonPath("$.messageVersions[0].params.otp", equalTo("123456"))));
+
+        assertThat(registry.get("notification.provider.request")
+                .tags("provider", "brevo", "operation", "send_batch", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("notification.provider.batch.size")
+                .tags("provider", "brevo", "operation", "send_batch")
+                .summary().totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    void serverErrorFailsTheWholeGroupAsRetryable() {
+        brevo.resetMappings();
+        brevo.stubFor(post(urlPathEqualTo(SEND_PATH)).willReturn(status(503).withBody("{\"code\":\"unavailable\"}")));
+
+        List<CompletableFuture<EmailSendResult>> results = sendOtpConcurrently("a@example.com", "b@example.com");
+
+        assertThat(results).allSatisfy(r -> assertThatThrownBy(r::join)
+                .cause()
+                .isInstanceOfSatisfying(EmailSendFailedException.class, e -> assertThat(e.isRetryable()).isTrue()));
+
+        // 5xx 는 단건 fallback 없이 그룹 전체 실패 → retry topic
+        brevo.verify(1, postRequestedFor(urlPathEqualTo(SEND_PATH)));
+        assertThat(registry.get("notification.provider.request")
+                .tags("operation", "send_batch", "outcome", "server_error")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void clientErrorOnBatchFallsBackToSingleSends() {
+        brevo.resetMappings();
+        brevo.stubFor(post(urlPathEqualTo(SEND_PATH)).atPriority(1)
+                .withRequestBody(matchingJsonPath("$.messageVersions"))
+                .willReturn(status(400).withBody("{\"code\":\"invalid_parameter\"}")));
+        brevo.stubFor(post(urlPathEqualTo(SEND_PATH)).atPriority(2)
+                .withRequestBody(matchingJsonPath("$.to[?(@.email == 'bad@example.com')]"))
+                .willReturn(status(400).withBody("{\"code\":\"invalid_parameter\"}")));
+        brevo.stubFor(post(urlPathEqualTo(SEND_PATH)).atPriority(3)
+                .willReturn(status(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"messageId\":\"<single@brevo.local>\"}")));
+
+        List<CompletableFuture<EmailSendResult>> results =
+                sendOtpConcurrently("good1@example.com", "bad@example.com", "good2@example.com");
+
+        // 잘못된 수신자 하나 때문에 나머지가 같이 실패하지 않음
+        assertThat(results.get(0).join().providerMsgId()).isEqualTo("<single@brevo.local>");
+        assertThat(results.get(2).join().providerMsgId()).isEqualTo("<single@brevo.local>");
+        assertThatThrownBy(results.get(1)::join)
+                .cause()
+                .isInstanceOfSatisfying(EmailSendFailedException.class, e -> assertThat(e.isRetryable()).isFalse());
+
+        brevo.verify(1, postRequestedFor(urlPathEqualTo(SEND_PATH)).withRequestBody(matchingJsonPath("$.messageVersions")));
+        brevo.verify(3, postRequestedFor(urlPathEqualTo(SEND_PATH)).withRequestBody(matchingJsonPath("$.to")));
+    }
+
+    private List<CompletableFuture<EmailSendResult>> sendOtpConcurrently(String... emails) {
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            return Stream.of(emails)
+                    .map(email -> CompletableFuture.supplyAsync(() -> adapter.sendTemplate(new EmailSendCommand(
+                            "OTP_EMAIL",
+                            email,
+                            null,
+                            Map.of("otp", "123456", "ttlSeconds", 300)
+                    )), callers))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.timeeconomy.user.adapter.in.kafka;
+
+import com.timeeconomy.user.application.userprofile.port.in.ProjectUserProfileEventsUseCase;
+import com.timeeconomy.user.application.userprofile.port.in.ProjectUserProfileEventsUseCase.ProfileEvent;
+import com.timeeconomy.user.application.userprofile.port.in.ProjectUserProfileEventsUseCase.Result;
+import com.timeeconomy.user.domain.exception.ProfileEventProjectionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * user_profile projection: 가입(v1/v2) + 이메일 변경 topic 을 한 batch listener 로.
+ *
+ * poll 한 묶음을 한 트랜잭션으로 반영 → ack (offset 은 배치 단위).
+ * 캐시 무효화는 repository (CachingUserProfileRepositoryAdapter) 가 upsert 된 id 에 대해 커밋 직후 처리.
+ * 이벤트 하나가 실패하면 그 레코드 index 로 BatchListenerFailedException
+ * → 앞부분은 커밋, error handler (KafkaConsumerConfig) 가 그 레코드부터 재시도하다가 끝내 안 되면 그 레코드만 건너뜀.
+ * 그 외 예외는 배치 전체 재전달 (processed_events + event-time guard 로 재적용해도 같은 결과).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserProfileProjectionBatchListener {
+
+    private final ProjectUserProfileEventsUseCase useCase;
+
+    @KafkaListener(
+            id = "user-profile-projection",
+            topics = {
+                    "${topics.auth.user-registered}",
+                    "${topics.auth.user-registered-v2}",
+                    "${topics.auth.email-changed}"
+            },
+            groupId = "${spring.kafka.consumer.group-id}",
+            properties = "max.poll.records=${user-profile.projection.max-poll-records:500}",
+            batch = "true"
+    )
+    public void onBatch(List<ConsumerRecord<String, SpecificRecord>> records, Acknowledgment ack) {
+
+        List<ProfileEvent> events = new ArrayList<>(records.size());
+        List<Integer> recordIndexes = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, SpecificRecord> r = records.get(i);
+            if (r.value() == null) {
+                // tombstone → 건너뜀
+                log.warn("Skipping null value topic={} partition={} offset={}", r.topic(), r.partition(), r.offset());
+                continue;
+            }
+            events.add(new ProfileEvent(r.topic(), r.partition(), r.offset(), r.value()));
+            recordIndexes.add(i);
+        }
+
+        Result result;
+        try {
+            result = useCase.project(events);
+        } catch (ProfileEventProjectionException e) {
+            int index = recordIndexes.get(e.getEventIndex());
+            log.error("Projection failed at index={} → earlier records committed. {}", index, e.getMessage(), e.getCause());
+            throw new BatchListenerFailedException(e.getMessage(), e.getCause(), index);
+        }
+
+        ack.acknowledge();
+
+        log.info("Consumed batch size={} duplicates={} upserted={}",
+                records.size(), result.duplicates(), result.upserted());
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import com.timeeconomy.user.adapter.in.web.dto.ApiErrorResponse;
 import com.timeeconomy.user.domain.exception.AuthenticationRequiredException;
 import com.timeeconomy.user.domain.exception.InvalidUserProfileException;
+import com.timeeconomy.user.domain.exception.ProjectionRebuildInProgressException;
 import com.timeeconomy.user.domain.exception.UserProfileNotFoundException;
 
 import java.time.Instant;
@@ -82,6 +83,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(body);
     }
 
+    @ExceptionHandler(ProjectionRebuildInProgressException.class)
+    public ResponseEntity<ApiErrorResponse> handleRebuildInProgress(
+            ProjectionRebuildInProgressException ex,
+            HttpServletRequest request
+    ) {
+        HttpStatus status = HttpStatus.CONFLICT;
+        ApiErrorResponse body = build(
+                status,
+                "PROJECTION_REBUILD_IN_PROGRESS",
+                ex.getMessage(),
+                request
+        );
+        return ResponseEntity.status(status).body(body);
+    }
+
     // (선택) 예측 못한 예외 공통 처리
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiErrorResponse> handleGeneric(
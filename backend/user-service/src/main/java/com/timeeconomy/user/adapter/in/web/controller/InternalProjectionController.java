@@ -0,0 +1,43 @@
+package com.timeeconomy.user.adapter.in.web.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.timeeconomy.user.adapter.in.web.dto.RebuildProjectionRequest;
+import com.timeeconomy.user.adapter.in.web.dto.RebuildProjectionStatusResponse;
+import com.timeeconomy.user.application.userprofile.port.in.RebuildUserProfileProjectionUseCase;
+
+/**
+ * 운영용: user_profile projection 재구축.
+ * POST 로 시작 (202) → GET 으로 진행률 / ETA 확인 → 필요하면 DELETE 로 중단.
+ */
+@RestController
+@RequestMapping("/internal/projection/user-profile/rebuild")
+@RequiredArgsConstructor
+public class InternalProjectionController {
+
+    private final RebuildUserProfileProjectionUseCase rebuildUseCase;
+
+    @PostMapping
+    public ResponseEntity<RebuildProjectionStatusResponse> start(@RequestBody(required = false) RebuildProjectionRequest request) {
+        RebuildUserProfileProjectionUseCase.Command command = (request == null)
+                ? new RebuildUserProfileProjectionUseCase.Command(null, null, true)
+                : new RebuildUserProfileProjectionUseCase.Command(
+                        request.fromTimestamp(),
+                        request.fromOffsets(),
+                        request.swap() == null || request.swap()
+                );
+        return ResponseEntity.accepted().body(RebuildProjectionStatusResponse.from(rebuildUseCase.start(command)));
+    }
+
+    @GetMapping
+    public ResponseEntity<RebuildProjectionStatusResponse> status() {
+        return ResponseEntity.ok(RebuildProjectionStatusResponse.from(rebuildUseCase.status()));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<RebuildProjectionStatusResponse> cancel() {
+        return ResponseEntity.ok(RebuildProjectionStatusResponse.from(rebuildUseCase.cancel()));
+    }
+}
@@ -1,13 +1,24 @@
 package com.timeeconomy.user.adapter.in.web.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.json.JsonMapper;
 
+import com.timeeconomy.user.adapter.in.web.dto.BulkUserProfileRequest;
 import com.timeeconomy.user.adapter.in.web.dto.CreateUserRequest;
 import com.timeeconomy.user.adapter.in.web.dto.UserProfileResponse;
+import com.timeeconomy.user.domain.userprofile.model.UserProfile;
 import com.timeeconomy.user.domain.userprofile.port.in.CreateUserProfileUseCase;
 import com.timeeconomy.user.domain.userprofile.port.in.GetUserProfileByIdUseCase;
+import com.timeeconomy.user.domain.userprofile.port.in.GetUserProfilesByIdsUseCase;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/internal/users")
@@ -16,6 +27,8 @@ public class InternalUserController {
 
     private final CreateUserProfileUseCase createUserProfileUseCase;
     private final GetUserProfileByIdUseCase getUserProfileByIdUseCase;
+    private final GetUserProfilesByIdsUseCase getUserProfilesByIdsUseCase;
+    private final JsonMapper jsonMapper;
 
     // 회원가입 이후 auth-service가 호출할 API
     @PostMapping
@@ -39,4 +52,45 @@ public class InternalUserController {
         var profile = getUserProfileByIdUseCase.getById(userId);
         return ResponseEntity.ok(UserProfileResponse.from(profile));
     }
-}
\ No newline at end of file
+
+    /**
+     * 목록 화면용 bulk 조회: id N 개 → 프로필 (캐시 + WHERE id = ANY 한 번).
+     * 응답은 전체를 문자열로 만들지 않고 프로필 단위로 바로 써서 내보냄.
+     *
+     * {"profiles":[...], "missingIds":[...]}
+     */
+    @PostMapping(value = "/bulk", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getUsers(@RequestBody BulkUserProfileRequest request) {
+        List<Long> ids = (request.ids() == null) ? List.of() : request.ids();
+        List<UserProfile> profiles = getUserProfilesByIdsUseCase.getByIds(ids);
+
+        StreamingResponseBody body = out -> {
+            Set<Long> found = new HashSet<>();
+            try (JsonGenerator g = jsonMapper.createGenerator(out)) {
+                g.writeStartObject();
+
+                g.writeName("profiles");
+                g.writeStartArray();
+                for (UserProfile p : profiles) {
+                    found.add(p.getId());
+                    jsonMapper.writeValue(g, UserProfileResponse.from(p));
+                }
+                g.writeEndArray();
+
+                g.writeName("missingIds");
+                g.writeStartArray();
+                Set<Long> written = new HashSet<>();
+                for (Long id : ids) {
+                    if (id != null && !found.contains(id) && written.add(id)) g.writeNumber(id);
+                }
+                g.writeEndArray();
+
+                g.writeEndObject();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
@@ -0,0 +1,7 @@
+package com.timeeconomy.user.adapter.in.web.dto;
+
+import java.util.List;
+
+public record BulkUserProfileRequest(
+        List<Long> ids
+) {}
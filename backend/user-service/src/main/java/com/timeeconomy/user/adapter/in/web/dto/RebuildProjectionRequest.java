@@ -0,0 +1,14 @@
+package com.timeeconomy.user.adapter.in.web.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 둘 다 비우면 earliest 부터. fromOffsets 의 key 는 "topic-partition" (예: auth.user.registered.v2-0).
+ * swap 을 생략하면 true.
+ */
+public record RebuildProjectionRequest(
+        Instant fromTimestamp,
+        Map<String, Long> fromOffsets,
+        Boolean swap
+) {}
@@ -0,0 +1,35 @@
+package com.timeeconomy.user.adapter.in.web.dto;
+
+import java.time.Instant;
+
+import com.timeeconomy.user.application.userprofile.port.in.RebuildUserProfileProjectionUseCase.Phase;
+import com.timeeconomy.user.application.userprofile.port.in.RebuildUserProfileProjectionUseCase.Status;
+
+public record RebuildProjectionStatusResponse(
+        Phase phase,
+        Instant startedAt,
+        Instant finishedAt,
+        long eventsApplied,
+        long rowsUpserted,
+        long unresolved,
+        long remaining,
+        long eventsPerSecond,
+        Long etaSeconds,
+        String error
+) {
+
+    public static RebuildProjectionStatusResponse from(Status status) {
+        return new RebuildProjectionStatusResponse(
+                status.phase(),
+                status.startedAt(),
+                status.finishedAt(),
+                status.eventsApplied(),
+                status.rowsUpserted(),
+                status.unresolved(),
+                status.remaining(),
+                Math.round(status.eventsPerSecond()),
+                status.eta() == null ? null : status.eta().toSeconds(),
+                status.error()
+        );
+    }
+}
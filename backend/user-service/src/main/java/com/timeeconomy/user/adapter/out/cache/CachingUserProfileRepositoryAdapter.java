@@ -0,0 +1,174 @@
+package com.timeeconomy.user.adapter.out.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.timeeconomy.user.adapter.out.jpa.UserProfileJpaAdapter;
+import com.timeeconomy.user.domain.userprofile.model.UserProfile;
+import com.timeeconomy.user.domain.userprofile.model.UserProfileProjection;
+import com.timeeconomy.user.domain.userprofile.port.out.UserProfileCachePort;
+import com.timeeconomy.user.domain.userprofile.port.out.UserProfileRepositoryPort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * UserProfileRepositoryPort 의 read-through 캐시 (L1 인스턴스 로컬 → L2 Redis(선택) → Postgres).
+ *
+ * - 조회(findById / findAllByIds): 상위 tier 부터, miss 는 아래에서 읽고 위로 채움
+ * - 쓰기(save / upsertProjections): 해당 id 를 모든 tier 에서 지움 + 트랜잭션 커밋 직후 한 번 더
+ *   evict 는 tombstone (user-profile.cache.tombstone-ttl) 을 남김 → 커밋 전 row 를 읽은 조회가
+ *   커밋 뒤에 put 해도 무시됨. 조회가 tombstone-ttl 보다 오래 멈춰 있다가 put 하면 옛 값이 남을 수 있고,
+ *   그 경우도 캐시 ttl 이 상한
+ * - user.profile.cache.gets{tier, result=hit|miss}
+ *
+ * findByEmail / existsByEmail 은 캐시 안 함 (중복 검사용이라 항상 DB).
+ */
+@Primary
+@Component
+public class CachingUserProfileRepositoryAdapter implements UserProfileRepositoryPort {
+
+    private final UserProfileRepositoryPort db;
+    private final UserProfileCachePort local;
+    private final UserProfileCachePort remote; // null = Redis 비활성
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    public CachingUserProfileRepositoryAdapter(
+            UserProfileJpaAdapter db,
+            InMemoryUserProfileCacheAdapter local,
+            ObjectProvider<RedisUserProfileCacheAdapter> remote,
+            MeterRegistry meterRegistry
+    ) {
+        this.db = db;
+        this.local = local;
+        this.remote = remote.getIfAvailable();
+        this.localHits = getsCounter(meterRegistry, "local", "hit");
+        this.localMisses = getsCounter(meterRegistry, "local", "miss");
+        this.remoteHits = getsCounter(meterRegistry, "redis", "hit");
+        this.remoteMisses = getsCounter(meterRegistry, "redis", "miss");
+    }
+
+    private static Counter getsCounter(MeterRegistry registry, String tier, String result) {
+        return Counter.builder("user.profile.cache.gets")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    @Override
+    public Optional<UserProfile> findById(Long id) {
+        Optional<UserProfile> cached = local.get(id);
+        if (cached.isPresent()) {
+            localHits.increment();
+            return cached;
+        }
+        localMisses.increment();
+
+        if (remote != null) {
+            cached = remote.get(id);
+            if (cached.isPresent()) {
+                remoteHits.increment();
+                local.put(cached.get());
+                return cached;
+            }
+            remoteMisses.increment();
+        }
+
+        Optional<UserProfile> loaded = db.findById(id);
+        loaded.ifPresent(p -> {
+            if (remote != null) remote.put(p);
+            local.put(p);
+        });
+        return loaded;
+    }
+
+    @Override
+    public List<UserProfile> findAllByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+
+        Map<Long, UserProfile> found = new HashMap<>(local.getAll(ids));
+        localHits.increment(found.size());
+        List<Long> misses = missing(ids, found);
+        localMisses.increment(misses.size());
+
+        if (remote != null && !misses.isEmpty()) {
+            Map<Long, UserProfile> remoteFound = remote.getAll(misses);
+            remoteHits.increment(remoteFound.size());
+            remoteMisses.increment(misses.size() - remoteFound.size());
+            local.putAll(remoteFound.values());
+            found.putAll(remoteFound);
+            misses = missing(ids, found);
+        }
+
+        if (!misses.isEmpty()) {
+            List<UserProfile> loaded = db.findAllByIds(misses);
+            if (remote != null) remote.putAll(loaded);
+            local.putAll(loaded);
+            for (UserProfile p : loaded) found.put(p.getId(), p);
+        }
+
+        return new ArrayList<>(found.values());
+    }
+
+    @Override
+    public Optional<UserProfile> findByEmail(String email) {
+        return db.findByEmail(email);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return db.existsByEmail(email);
+    }
+
+    @Override
+    public UserProfile save(UserProfile userProfile) {
+        UserProfile saved = db.save(userProfile);
+        invalidate(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public List<Long> upsertProjections(Collection<UserProfileProjection> projections) {
+        List<Long> touched = db.upsertProjections(projections);
+        touched.forEach(this::invalidate);
+        return touched;
+    }
+
+    private void invalidate(Long id) {
+        evictAll(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAll(id);
+                }
+            });
+        }
+    }
+
+    private void evictAll(Long id) {
+        local.evict(id);
+        if (remote != null) remote.evict(id);
+    }
+
+    private static List<Long> missing(Collection<Long> ids, Map<Long, UserProfile> found) {
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids) {
+            if (!found.containsKey(id)) misses.add(id);
+        }
+        return misses;
+    }
+}
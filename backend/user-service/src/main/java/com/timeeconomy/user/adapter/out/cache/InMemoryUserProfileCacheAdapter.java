@@ -0,0 +1,198 @@
+package com.timeeconomy.user.adapter.out.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.timeeconomy.user.domain.userprofile.model.UserProfile;
+import com.timeeconomy.user.domain.userprofile.port.out.UserProfileCachePort;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 인스턴스 로컬 LRU + TTL 프로필 캐시 (CachingUserProfileRepositoryAdapter 의 L1).
+ *
+ * - 최대 maxSize 개 (access-order LRU), 각 항목은 ttl 이후 만료
+ * - 도메인 객체는 mutable 이므로 put / get 모두 복사본으로 주고받는다
+ * - evict 는 tombstoneTtl 동안 tombstone 을 남김 → 그 사이 put 은 무시
+ *   (tombstone 은 모두 같은 수명이라 삽입 순서 = 만료 순서, 앞에서부터 정리)
+ * - eviction 은 원인별로 user.profile.cache.evictions{tier=local, cause=size|expired|invalidated}
+ */
+@Slf4j
+@Component
+public class InMemoryUserProfileCacheAdapter implements UserProfileCachePort {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long tombstoneTtlNanos;
+    private final Map<Long, Entry> entries;
+    private final LinkedHashMap<Long, Long> tombstones = new LinkedHashMap<>(); // userId → 만료 nanos (entries 잠금 아래)
+
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter invalidations;
+
+    public InMemoryUserProfileCacheAdapter(
+            @Value("${user-profile.cache.max-size:10000}") int maxSize,
+            @Value("${user-profile.cache.ttl:5m}") Duration ttl,
+            @Value("${user-profile.cache.tombstone-ttl:10s}") Duration tombstoneTtl,
+            MeterRegistry meterRegistry
+    ) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.tombstoneTtlNanos = tombstoneTtl.toNanos();
+        this.sizeEvictions = evictionCounter(meterRegistry, "size");
+        this.expiredEvictions = evictionCounter(meterRegistry, "expired");
+        this.invalidations = evictionCounter(meterRegistry, "invalidated");
+        this.entries = new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                boolean evict = size() > InMemoryUserProfileCacheAdapter.this.maxSize;
+                if (evict) sizeEvictions.increment();
+                return evict;
+            }
+        };
+
+        Gauge.builder("user.profile.cache.size", this, InMemoryUserProfileCacheAdapter::size)
+                .tag("tier", "local")
+                .register(meterRegistry);
+    }
+
+    private static Counter evictionCounter(MeterRegistry registry, String cause) {
+        return Counter.builder("user.profile.cache.evictions")
+                .tag("tier", "local")
+                .tag("cause", cause)
+                .register(registry);
+    }
+
+    @Override
+    public Optional<UserProfile> get(Long userId) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry e = entries.get(userId);
+            if (e == null) {
+                return Optional.empty();
+            }
+            if (now - e.expiresAtNanos() > 0) {
+                entries.remove(userId);
+                expiredEvictions.increment();
+                return Optional.empty();
+            }
+            return Optional.of(copy(e.profile()));
+        }
+    }
+
+    @Override
+    public Map<Long, UserProfile> getAll(Collection<Long> userIds) {
+        long now = System.nanoTime();
+        Map<Long, UserProfile> hits = new HashMap<>();
+        synchronized (entries) {
+            for (Long userId : userIds) {
+                Entry e = entries.get(userId);
+                if (e == null) continue;
+                if (now - e.expiresAtNanos() > 0) {
+                    entries.remove(userId);
+                    expiredEvictions.increment();
+                    continue;
+                }
+                hits.put(userId, copy(e.profile()));
+            }
+        }
+        return hits;
+    }
+
+    @Override
+    public void put(UserProfile profile) {
+        if (profile == null || profile.getId() == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        Entry e = new Entry(copy(profile), now + ttlNanos);
+        synchronized (entries) {
+            if (tombstoned(profile.getId(), now)) return;
+            entries.put(profile.getId(), e);
+        }
+    }
+
+    @Override
+    public void putAll(Collection<UserProfile> profiles) {
+        long now = System.nanoTime();
+        long expiresAt = now + ttlNanos;
+        synchronized (entries) {
+            for (UserProfile p : profiles) {
+                if (p == null || p.getId() == null || tombstoned(p.getId(), now)) continue;
+                entries.put(p.getId(), new Entry(copy(p), expiresAt));
+            }
+        }
+    }
+
+    @Override
+    public void evict(Long userId) {
+        long now = System.nanoTime();
+        boolean removed;
+        synchronized (entries) {
+            removed = entries.remove(userId) != null;
+            // 다시 넣어서 맨 뒤로 (만료 순서 유지)
+            purgeTombstones(now);
+            tombstones.remove(userId);
+            tombstones.put(userId, now + tombstoneTtlNanos);
+        }
+        if (removed) invalidations.increment();
+        log.debug("[PROFILE-CACHE] evicted userId={}", userId);
+    }
+
+    @Override
+    public void clear() {
+        int removed;
+        synchronized (entries) {
+            removed = entries.size();
+            entries.clear();
+        }
+        invalidations.increment(removed);
+        log.info("[PROFILE-CACHE] cleared entries={}", removed);
+    }
+
+    // entries 잠금 아래에서만 호출
+    private boolean tombstoned(Long userId, long now) {
+        purgeTombstones(now);
+        return tombstones.containsKey(userId);
+    }
+
+    private void purgeTombstones(long now) {
+        Iterator<Map.Entry<Long, Long>> it = tombstones.entrySet().iterator();
+        while (it.hasNext() && now - it.next().getValue() > 0) {
+            it.remove();
+        }
+    }
+
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static UserProfile copy(UserProfile p) {
+        return new UserProfile(
+                p.getId(),
+                p.getEmail(),
+                p.getName(),
+                p.getPhoneNumber(),
+                p.getStatus(),
+                p.getBirthDate(),
+                p.getGender(),
+                p.getCreatedAt(),
+                p.getUpdatedAt()
+        );
+    }
+
+    private record Entry(UserProfile profile, long expiresAtNanos) {}
+}
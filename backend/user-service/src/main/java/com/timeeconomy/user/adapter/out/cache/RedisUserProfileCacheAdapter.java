@@ -0,0 +1,220 @@
+package com.timeeconomy.user.adapter.out.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import com.timeeconomy.user.domain.userprofile.model.UserProfile;
+import com.timeeconomy.user.domain.userprofile.model.UserStatus;
+import com.timeeconomy.user.domain.userprofile.port.out.UserProfileCachePort;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 인스턴스 간 공유 L2 (user-profile.cache.redis.enabled=true 일 때만).
+ *
+ * - user-profile:{id} → JSON, TTL = user-profile.cache.redis.ttl
+ * - evict = 값 DEL + user-profile-tomb:{id} (TTL = user-profile.cache.tombstone-ttl)
+ *   put 은 tombstone 이 없을 때만 SET (script 한 번, 확인과 쓰기 사이에 끼어들 틈 없음)
+ * - getAll 은 MGET 한 번, putAll 은 pipeline 한 번
+ * - Redis 장애는 캐시 miss 로 취급 (조회는 DB 로 계속 진행)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "user-profile.cache.redis.enabled", havingValue = "true")
+public class RedisUserProfileCacheAdapter implements UserProfileCachePort {
+
+    private static final String KEY_PREFIX = "user-profile:";
+    private static final String TOMBSTONE_PREFIX = "user-profile-tomb:"; // clear() 의 SCAN 에 안 걸리게 다른 prefix
+
+    /**
+     * KEYS: 1=값, 2=tombstone
+     * ARGV: 1=JSON, 2=TTL millis
+     */
+    private static final String PUT_UNLESS_TOMBSTONED = """
+            if redis.call('EXISTS', KEYS[2]) == 1 then return 0 end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return 1
+            """;
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(PUT_UNLESS_TOMBSTONED, Long.class);
+    private static final int CLEAR_BATCH = 500;
+
+    private final StringRedisTemplate redis;
+    private final JsonMapper jsonMapper;
+    private final Duration ttl;
+    private final Duration tombstoneTtl;
+
+    public RedisUserProfileCacheAdapter(
+            StringRedisTemplate redis,
+            JsonMapper jsonMapper,
+            @Value("${user-profile.cache.redis.ttl:30m}") Duration ttl,
+            @Value("${user-profile.cache.tombstone-ttl:10s}") Duration tombstoneTtl
+    ) {
+        this.redis = redis;
+        this.jsonMapper = jsonMapper;
+        this.ttl = ttl;
+        this.tombstoneTtl = tombstoneTtl;
+    }
+
+    record CachedUserProfile(
+            Long id,
+            String email,
+            String name,
+            String phoneNumber,
+            UserStatus status,
+            LocalDate birthDate,
+            String gender,
+            Instant createdAt,
+            Instant updatedAt
+    ) {
+        static CachedUserProfile from(UserProfile p) {
+            return new CachedUserProfile(p.getId(), p.getEmail(), p.getName(), p.getPhoneNumber(),
+                    p.getStatus(), p.getBirthDate(), p.getGender(), p.getCreatedAt(), p.getUpdatedAt());
+        }
+
+        UserProfile toDomain() {
+            return new UserProfile(id, email, name, phoneNumber, status, birthDate, gender, createdAt, updatedAt);
+        }
+    }
+
+    @Override
+    public Optional<UserProfile> get(Long userId) {
+        try {
+            return Optional.ofNullable(decode(redis.opsForValue().get(key(userId))));
+        } catch (RuntimeException e) {
+            log.warn("[PROFILE-CACHE][REDIS] get failed userId={} → miss: {}", userId, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Map<Long, UserProfile> getAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return Map.of();
+
+        List<Long> ids = new ArrayList<>(userIds);
+        try {
+            List<String> values = redis.opsForValue().multiGet(ids.stream().map(RedisUserProfileCacheAdapter::key).toList());
+            Map<Long, UserProfile> hits = new HashMap<>();
+            if (values == null) return hits;
+            for (int i = 0; i < ids.size(); i++) {
+                UserProfile p = decode(values.get(i));
+                if (p != null) hits.put(ids.get(i), p);
+            }
+            return hits;
+        } catch (RuntimeException e) {
+            log.warn("[PROFILE-CACHE][REDIS] mget failed size={} → miss: {}", ids.size(), e.toString());
+            return Map.of();
+        }
+    }
+
+    @Override
+    public void put(UserProfile profile) {
+        if (profile == null || profile.getId() == null) return;
+        try {
+            redis.execute(PUT_SCRIPT, List.of(key(profile.getId()), tombstoneKey(profile.getId())),
+                    encode(profile), String.valueOf(ttl.toMillis()));
+        } catch (RuntimeException e) {
+            log.warn("[PROFILE-CACHE][REDIS] set failed userId={}: {}", profile.getId(), e.toString());
+        }
+    }
+
+    @Override
+    public void putAll(Collection<UserProfile> profiles) {
+        if (profiles.isEmpty()) return;
+
+        Map<Long, String> encoded = new HashMap<>();
+        for (UserProfile p : profiles) {
+            if (p == null || p.getId() == null) continue;
+            encoded.put(p.getId(), encode(p));
+        }
+        try {
+            String ttlMillis = String.valueOf(ttl.toMillis());
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection c = (StringRedisConnection) connection;
+                encoded.forEach((id, v) -> c.eval(PUT_UNLESS_TOMBSTONED, ReturnType.INTEGER, 2,
+                        key(id), tombstoneKey(id), v, ttlMillis));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("[PROFILE-CACHE][REDIS] pipelined set failed size={}: {}", encoded.size(), e.toString());
+        }
+    }
+
+    @Override
+    public void evict(Long userId) {
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection c = (StringRedisConnection) connection;
+                c.del(key(userId));
+                c.pSetEx(tombstoneKey(userId), tombstoneTtl.toMillis(), "1");
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 못 지우면 최대 ttl 동안 stale → 경고만
+            log.warn("[PROFILE-CACHE][REDIS] delete failed userId={} (stale up to {}): {}", userId, ttl, e.toString());
+        }
+    }
+
+    @Override
+    public void clear() {
+        // KEYS 대신 SCAN + UNLINK (작은 묶음씩, 서버 블로킹 없음)
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1_000).build();
+        long removed = 0;
+        try (Cursor<String> cursor = redis.scan(options)) {
+            List<String> batch = new ArrayList<>(CLEAR_BATCH);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == CLEAR_BATCH) {
+                    removed += unlink(batch);
+                    batch.clear();
+                }
+            }
+            removed += unlink(batch);
+            log.info("[PROFILE-CACHE][REDIS] cleared keys={}", removed);
+        } catch (RuntimeException e) {
+            log.warn("[PROFILE-CACHE][REDIS] clear failed after keys={} (stale up to {}): {}", removed, ttl, e.toString());
+        }
+    }
+
+    private long unlink(List<String> keys) {
+        if (keys.isEmpty()) return 0;
+        Long n = redis.unlink(keys);
+        return n == null ? 0 : n;
+    }
+
+    // {id} hash tag: 값과 tombstone 이 같은 slot → cluster 에서도 script 한 번
+    private static String key(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}";
+    }
+
+    private static String tombstoneKey(Long userId) {
+        return TOMBSTONE_PREFIX + "{" + userId + "}";
+    }
+
+    private String encode(UserProfile p) {
+        return jsonMapper.writeValueAsString(CachedUserProfile.from(p));
+    }
+
+    private UserProfile decode(String json) {
+        if (json == null) return null;
+        return jsonMapper.readValue(json, CachedUserProfile.class).toDomain();
+    }
+}
@@ -0,0 +1,58 @@
+package com.timeeconomy.user.adapter.out.jpa;
+
+import com.timeeconomy.user.adapter.out.jpa.repository.ProcessedEventJpaRepository;
+import com.timeeconomy.user.domain.inbox.model.ProcessedEvent;
+import com.timeeconomy.user.domain.inbox.port.out.ProcessedEventRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class ProcessedEventJpaAdapter implements ProcessedEventRepositoryPort {
+
+    private final ProcessedEventJpaRepository repo;
+
+    @Override
+    @Transactional
+    public Set<UUID> markProcessedAll(List<ProcessedEvent> processedEvents) {
+        if (processedEvents == null || processedEvents.isEmpty()) return Set.of();
+
+        int n = processedEvents.size();
+        String[] consumerGroups = new String[n];
+        UUID[] eventIds = new UUID[n];
+        String[] eventTypes = new String[n];
+        String[] topics = new String[n];
+        Integer[] partitions = new Integer[n];
+        Long[] offsets = new Long[n];
+        Instant[] processedAts = new Instant[n];
+
+        for (int i = 0; i < n; i++) {
+            ProcessedEvent e = processedEvents.get(i);
+            consumerGroups[i] = e.consumerGroup();
+            eventIds[i] = e.eventId();
+            eventTypes[i] = e.eventType();
+            topics[i] = e.topic();
+            partitions[i] = e.kafkaPartition();
+            offsets[i] = e.kafkaOffset();
+            processedAts[i] = e.processedAt();
+        }
+
+        return new HashSet<>(repo.insertAllIfAbsent(
+                consumerGroups, eventIds, eventTypes, topics, partitions, offsets, processedAts));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<UUID> findProcessedEventIds(String consumerGroup, Collection<UUID> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) return Set.of();
+        return new HashSet<>(repo.findProcessedEventIds(consumerGroup, eventIds));
+    }
+}
@@ -0,0 +1,45 @@
+package com.timeeconomy.user.adapter.out.jpa;
+
+import com.timeeconomy.user.domain.userprofile.model.UserProfileProjection;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * UPSERT_PROJECTIONS_BODY 의 unnest 파라미터 (컬럼별 배열, 같은 index = 같은 row).
+ */
+record ProjectionArrays(
+        Long[] ids,
+        String[] emails,
+        String[] names,
+        String[] phoneNumbers,
+        LocalDate[] birthDates,
+        String[] genders,
+        Instant[] createdAts,
+        Instant[] registeredAts,
+        Instant[] emailEventAts
+) {
+
+    static ProjectionArrays of(Collection<UserProfileProjection> projections) {
+        int n = projections.size();
+        ProjectionArrays a = new ProjectionArrays(
+                new Long[n], new String[n], new String[n], new String[n], new LocalDate[n],
+                new String[n], new Instant[n], new Instant[n], new Instant[n]);
+
+        int i = 0;
+        for (UserProfileProjection p : projections) {
+            a.ids[i] = p.userId();
+            a.emails[i] = p.email();
+            a.names[i] = p.name();
+            a.phoneNumbers[i] = p.phoneNumber();
+            a.birthDates[i] = p.birthDate();
+            a.genders[i] = p.gender();
+            a.createdAts[i] = p.createdAt();
+            a.registeredAts[i] = p.registeredAt();
+            a.emailEventAts[i] = p.emailEventAt();
+            i++;
+        }
+        return a;
+    }
+}
@@ -2,13 +2,17 @@ package com.timeeconomy.user.adapter.out.jpa;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.timeeconomy.user.adapter.out.jpa.entity.UserProfileEntity;
 import com.timeeconomy.user.adapter.out.jpa.mapper.UserProfileMapper;
 import com.timeeconomy.user.adapter.out.jpa.repository.UserProfileJpaRepository;
 import com.timeeconomy.user.domain.userprofile.model.UserProfile;
+import com.timeeconomy.user.domain.userprofile.model.UserProfileProjection;
 import com.timeeconomy.user.domain.userprofile.port.out.UserProfileRepositoryPort;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -24,6 +28,14 @@ public class UserProfileJpaAdapter implements UserProfileRepositoryPort {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<UserProfile> findAllByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+        return jpaRepository.findAllByIdArray(ids.toArray(Long[]::new)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<UserProfile> findByEmail(String email) {
         return jpaRepository.findByEmail(email)
@@ -41,4 +53,15 @@ public class UserProfileJpaAdapter implements UserProfileRepositoryPort {
         UserProfileEntity saved = jpaRepository.save(entity);
         return mapper.toDomain(saved);
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional
+    public List<Long> upsertProjections(Collection<UserProfileProjection> projections) {
+        if (projections == null || projections.isEmpty()) return List.of();
+
+        ProjectionArrays a = ProjectionArrays.of(projections);
+        return jpaRepository.upsertProjections(
+                a.ids(), a.emails(), a.names(), a.phoneNumbers(), a.birthDates(), a.genders(),
+                a.createdAts(), a.registeredAts(), a.emailEventAts());
+    }
+}
@@ -0,0 +1,136 @@
+package com.timeeconomy.user.adapter.out.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.timeeconomy.user.adapter.out.jpa.repository.UserProfileJpaRepository;
+import com.timeeconomy.user.domain.userprofile.model.UserProfileProjection;
+import com.timeeconomy.user.domain.userprofile.port.out.UserProfileRebuildPort;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * shadow 테이블 DDL / swap 은 JdbcTemplate, upsert 는 live 와 같은 native SQL (배열 바인딩은 Hibernate).
+ * 테이블 / 제약 이름은 모두 코드 상수 (외부 입력 없음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserProfileRebuildJdbcAdapter implements UserProfileRebuildPort {
+
+    private static final String LIVE = "user_profile";
+    private static final String SHADOW = "user_profile_rebuild";
+    private static final String REPLACED = "user_profile_replaced";
+
+    private static final String SWAP_LOCK_TIMEOUT = "5s";
+
+    private static final String UPSERT_SHADOW_SQL =
+            "INSERT INTO " + SHADOW + " " + UserProfileJpaRepository.UPSERT_PROJECTIONS_BODY;
+
+    /**
+     * live 에만 있는 것을 shadow 로:
+     * - 이벤트로 못 만든 row (API 로 생성, v1 session 만료, topic retention 밖) → 통째로
+     * - 가입 이벤트를 못 받은 row → 가입 정보 그룹만
+     * - status 는 이벤트 projection 대상이 아니므로 항상 live 값
+     */
+    private static final String CARRY_OVER_SQL = """
+            INSERT INTO user_profile_rebuild AS r
+                  (id, email, name, phone_number, birth_date, gender, status,
+                   created_at, updated_at, registered_at, email_event_at)
+            SELECT l.id, l.email, l.name, l.phone_number, l.birth_date, l.gender, l.status,
+                   l.created_at, l.updated_at, l.registered_at, l.email_event_at
+              FROM user_profile l
+             WHERE l.updated_at >= ?
+            ON CONFLICT (id) DO UPDATE SET
+                  status = EXCLUDED.status,
+                  name = CASE WHEN r.registered_at IS NULL THEN EXCLUDED.name ELSE r.name END,
+                  phone_number = CASE WHEN r.registered_at IS NULL THEN EXCLUDED.phone_number ELSE r.phone_number END,
+                  birth_date = CASE WHEN r.registered_at IS NULL THEN EXCLUDED.birth_date ELSE r.birth_date END,
+                  gender = CASE WHEN r.registered_at IS NULL THEN EXCLUDED.gender ELSE r.gender END,
+                  registered_at = COALESCE(r.registered_at, EXCLUDED.registered_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public void prepareShadow() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + SHADOW);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + REPLACED);
+        // 적재 중에는 WAL 안 씀 + email unique 없음 (topic 간 순서 차이로 잠깐 겹칠 수 있음)
+        jdbcTemplate.execute("CREATE UNLOGGED TABLE " + SHADOW + " (LIKE " + LIVE + " INCLUDING DEFAULTS)");
+        jdbcTemplate.execute("ALTER TABLE " + SHADOW + " ADD CONSTRAINT pk_" + SHADOW + " PRIMARY KEY (id)");
+    }
+
+    @Override
+    @Transactional
+    public int upsertShadow(Collection<UserProfileProjection> projections) {
+        if (projections == null || projections.isEmpty()) return 0;
+
+        ProjectionArrays a = ProjectionArrays.of(projections);
+        Query q = entityManager.createNativeQuery(UPSERT_SHADOW_SQL)
+                .setParameter("ids", a.ids())
+                .setParameter("emails", a.emails())
+                .setParameter("names", a.names())
+                .setParameter("phoneNumbers", a.phoneNumbers())
+                .setParameter("birthDates", a.birthDates())
+                .setParameter("genders", a.genders())
+                .setParameter("createdAts", a.createdAts())
+                .setParameter("registeredAts", a.registeredAts())
+                .setParameter("emailEventAts", a.emailEventAts());
+        return q.getResultList().size();
+    }
+
+    @Override
+    public Instant prepareSwap() {
+        jdbcTemplate.execute("ALTER TABLE " + SHADOW + " SET LOGGED");
+        jdbcTemplate.execute("ALTER TABLE " + SHADOW + " ADD CONSTRAINT uq_" + SHADOW + "_email UNIQUE (email)");
+
+        Instant since = jdbcTemplate.queryForObject("SELECT clock_timestamp()", Timestamp.class).toInstant();
+        int carried = jdbcTemplate.update(CARRY_OVER_SQL, Timestamp.from(Instant.EPOCH));
+        log.info("[PROJECTION-REBUILD] carried over rows={} from {}", carried, LIVE);
+        return since;
+    }
+
+    @Override
+    @Transactional
+    public void swapIn(Instant carriedOverSince) {
+        // 오래 걸리는 트랜잭션 뒤에 줄 서서 조회를 다 막지 않도록 lock 대기 상한
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '" + SWAP_LOCK_TIMEOUT + "'");
+        jdbcTemplate.execute("LOCK TABLE " + LIVE + " IN ACCESS EXCLUSIVE MODE");
+
+        int carried = jdbcTemplate.update(CARRY_OVER_SQL, Timestamp.from(carriedOverSince));
+
+        jdbcTemplate.execute("ALTER TABLE " + LIVE + " RENAME TO " + REPLACED);
+        jdbcTemplate.execute("ALTER TABLE " + REPLACED + " RENAME CONSTRAINT pk_" + LIVE + " TO pk_" + REPLACED);
+        jdbcTemplate.execute("ALTER TABLE " + REPLACED + " RENAME CONSTRAINT uq_" + LIVE + "_email TO uq_" + REPLACED + "_email");
+        jdbcTemplate.execute("DROP TRIGGER IF EXISTS trg_" + LIVE + "_updated_at ON " + REPLACED);
+
+        jdbcTemplate.execute("ALTER TABLE " + SHADOW + " RENAME TO " + LIVE);
+        jdbcTemplate.execute("ALTER TABLE " + LIVE + " RENAME CONSTRAINT pk_" + SHADOW + " TO pk_" + LIVE);
+        jdbcTemplate.execute("ALTER TABLE " + LIVE + " RENAME CONSTRAINT uq_" + SHADOW + "_email TO uq_" + LIVE + "_email");
+        jdbcTemplate.execute("CREATE TRIGGER trg_" + LIVE + "_updated_at BEFORE UPDATE ON " + LIVE
+                + " FOR EACH ROW EXECUTE FUNCTION set_updated_at()");
+
+        log.info("[PROJECTION-REBUILD] swapped {} → {} (carried over under lock rows={}, previous kept as {})",
+                SHADOW, LIVE, carried, REPLACED);
+    }
+
+    @Override
+    public void dropShadow() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + SHADOW);
+    }
+
+    @Override
+    public long shadowRowCount() {
+        Long n = jdbcTemplate.queryForObject("SELECT count(*) FROM " + SHADOW, Long.class);
+        return n == null ? 0 : n;
+    }
+}
@@ -0,0 +1,52 @@
+package com.timeeconomy.user.adapter.out.jpa.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(
+        name = "processed_events",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uq_processed_events", columnNames = {"consumer_group", "event_id"})
+        }
+)
+public class ProcessedEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "consumer_group", nullable = false, length = 200)
+    private String consumerGroup;
+
+    @Column(name = "event_id", nullable = false, columnDefinition = "uuid")
+    private UUID eventId;
+
+    @Column(name = "event_type", nullable = false, length = 200)
+    private String eventType;
+
+    @Column(name = "topic", nullable = false, length = 300)
+    private String topic;
+
+    @Column(name = "kafka_partition", nullable = false)
+    private int kafkaPartition;
+
+    @Column(name = "kafka_offset", nullable = false)
+    private long kafkaOffset;
+
+    @Column(name = "processed_at", nullable = false)
+    private Instant processedAt;
+
+    protected ProcessedEventEntity() {}
+
+    public Long getId() { return id; }
+    public String getConsumerGroup() { return consumerGroup; }
+    public UUID getEventId() { return eventId; }
+    public String getEventType() { return eventType; }
+    public String getTopic() { return topic; }
+    public int getKafkaPartition() { return kafkaPartition; }
+    public long getKafkaOffset() { return kafkaOffset; }
+    public Instant getProcessedAt() { return processedAt; }
+}
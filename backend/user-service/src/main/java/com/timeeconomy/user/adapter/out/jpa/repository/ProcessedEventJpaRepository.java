@@ -0,0 +1,51 @@
+package com.timeeconomy.user.adapter.out.jpa.repository;
+
+import com.timeeconomy.user.adapter.out.jpa.entity.ProcessedEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ProcessedEventJpaRepository extends JpaRepository<ProcessedEventEntity, Long> {
+
+    @Query("""
+            select e.eventId from ProcessedEventEntity e
+            where e.consumerGroup = :consumerGroup
+              and e.eventId in :eventIds
+            """)
+    List<UUID> findProcessedEventIds(
+            @Param("consumerGroup") String consumerGroup,
+            @Param("eventIds") Collection<UUID> eventIds
+    );
+
+    // 컬럼별 배열을 unnest 로 펼쳐 한 번에 INSERT, 새로 들어간 event_id 만 반환
+    @Query(value = """
+        INSERT INTO processed_events
+              (consumer_group, event_id, event_type, topic, kafka_partition, kafka_offset, processed_at)
+        SELECT *
+          FROM unnest(
+                CAST(:consumerGroups AS varchar[]),
+                CAST(:eventIds AS uuid[]),
+                CAST(:eventTypes AS varchar[]),
+                CAST(:topics AS varchar[]),
+                CAST(:kafkaPartitions AS int[]),
+                CAST(:kafkaOffsets AS bigint[]),
+                CAST(:processedAts AS timestamptz[])
+          )
+        ON CONFLICT ON CONSTRAINT uq_processed_events DO NOTHING
+        RETURNING event_id
+        """, nativeQuery = true)
+    List<UUID> insertAllIfAbsent(
+            @Param("consumerGroups") String[] consumerGroups,
+            @Param("eventIds") UUID[] eventIds,
+            @Param("eventTypes") String[] eventTypes,
+            @Param("topics") String[] topics,
+            @Param("kafkaPartitions") Integer[] kafkaPartitions,
+            @Param("kafkaOffsets") Long[] kafkaOffsets,
+            @Param("processedAts") Instant[] processedAts
+    );
+}
@@ -1,14 +1,83 @@
 package com.timeeconomy.user.adapter.out.jpa.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.timeeconomy.user.adapter.out.jpa.entity.UserProfileEntity;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserProfileJpaRepository extends JpaRepository<UserProfileEntity, Long> {
 
     Optional<UserProfileEntity> findByEmail(String email);
 
+    // IN (...) 대신 배열 파라미터 하나 → id 개수와 무관하게 같은 prepared statement
+    @Query(value = "SELECT * FROM user_profile WHERE id = ANY(CAST(:ids AS bigint[]))", nativeQuery = true)
+    List<UserProfileEntity> findAllByIdArray(@Param("ids") Long[] ids);
+
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * 컬럼별 배열을 unnest 로 펼쳐 한 번에 upsert. 앞에 "INSERT INTO {table} " 를 붙여 씀
+     * (live = user_profile, rebuild = user_profile_rebuild → UserProfileRebuildJdbcAdapter).
+     * - email 그룹은 email_event_at, 가입 정보 그룹은 registered_at 이 DB 값보다 새로울 때만 덮어씀
+     * - 둘 다 오래된 이벤트면 WHERE 에서 걸러져 row 를 건드리지 않음 (RETURNING 에도 안 나옴)
+     */
+    String UPSERT_PROJECTIONS_BODY = """
+        AS p
+              (id, email, name, phone_number, birth_date, gender, status,
+               created_at, updated_at, registered_at, email_event_at)
+        SELECT u.id, u.email, u.name, u.phone_number, u.birth_date, u.gender, 'ACTIVE',
+               u.created_at, u.created_at, u.registered_at, u.email_event_at
+          FROM unnest(
+                CAST(:ids AS bigint[]),
+                CAST(:emails AS varchar[]),
+                CAST(:names AS varchar[]),
+                CAST(:phoneNumbers AS varchar[]),
+                CAST(:birthDates AS date[]),
+                CAST(:genders AS varchar[]),
+                CAST(:createdAts AS timestamptz[]),
+                CAST(:registeredAts AS timestamptz[]),
+                CAST(:emailEventAts AS timestamptz[])
+          ) AS u(id, email, name, phone_number, birth_date, gender, created_at, registered_at, email_event_at)
+        ON CONFLICT (id) DO UPDATE SET
+              email = CASE WHEN p.email_event_at IS NULL OR p.email_event_at < EXCLUDED.email_event_at
+                           THEN EXCLUDED.email ELSE p.email END,
+              email_event_at = GREATEST(p.email_event_at, EXCLUDED.email_event_at),
+              name = CASE WHEN EXCLUDED.registered_at IS NOT NULL
+                               AND (p.registered_at IS NULL OR p.registered_at < EXCLUDED.registered_at)
+                          THEN EXCLUDED.name ELSE p.name END,
+              phone_number = CASE WHEN EXCLUDED.registered_at IS NOT NULL
+                                       AND (p.registered_at IS NULL OR p.registered_at < EXCLUDED.registered_at)
+                                  THEN EXCLUDED.phone_number ELSE p.phone_number END,
+              birth_date = CASE WHEN EXCLUDED.registered_at IS NOT NULL
+                                     AND (p.registered_at IS NULL OR p.registered_at < EXCLUDED.registered_at)
+                                THEN EXCLUDED.birth_date ELSE p.birth_date END,
+              gender = CASE WHEN EXCLUDED.registered_at IS NOT NULL
+                                 AND (p.registered_at IS NULL OR p.registered_at < EXCLUDED.registered_at)
+                            THEN EXCLUDED.gender ELSE p.gender END,
+              registered_at = GREATEST(p.registered_at, EXCLUDED.registered_at)
+        WHERE p.email_event_at IS NULL
+           OR p.email_event_at < EXCLUDED.email_event_at
+           OR (EXCLUDED.registered_at IS NOT NULL
+               AND (p.registered_at IS NULL OR p.registered_at < EXCLUDED.registered_at))
+        RETURNING p.id
+        """;
+
+    @Query(value = "INSERT INTO user_profile " + UPSERT_PROJECTIONS_BODY, nativeQuery = true)
+    List<Long> upsertProjections(
+            @Param("ids") Long[] ids,
+            @Param("emails") String[] emails,
+            @Param("names") String[] names,
+            @Param("phoneNumbers") String[] phoneNumbers,
+            @Param("birthDates") LocalDate[] birthDates,
+            @Param("genders") String[] genders,
+            @Param("createdAts") Instant[] createdAts,
+            @Param("registeredAts") Instant[] registeredAts,
+            @Param("emailEventAts") Instant[] emailEventAts
+    );
+}
@@ -0,0 +1,154 @@
+package com.timeeconomy.user.adapter.out.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import com.timeeconomy.user.application.userprofile.port.in.ProjectUserProfileEventsUseCase.ProfileEvent;
+import com.timeeconomy.user.application.userprofile.port.out.ProfileEventReplayPort;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * replay 전용 consumer: 세 topic 의 모든 partition 을 assign (group rebalance 없음, commit 안 함).
+ * 처리량 위주로 poll 크기 / fetch 크기를 live listener 보다 크게 잡음.
+ */
+@Slf4j
+@Component
+public class KafkaProfileEventReplayAdapter implements ProfileEventReplayPort {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration METADATA_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ConsumerFactory<String, SpecificRecord> consumerFactory;
+    private final List<String> topics;
+    private final int maxPollRecords;
+
+    public KafkaProfileEventReplayAdapter(
+            ConsumerFactory<String, SpecificRecord> consumerFactory,
+            @Value("${topics.auth.user-registered}") String userRegistered,
+            @Value("${topics.auth.user-registered-v2}") String userRegisteredV2,
+            @Value("${topics.auth.email-changed}") String emailChanged,
+            @Value("${user-profile.rebuild.max-poll-records:5000}") int maxPollRecords
+    ) {
+        this.consumerFactory = consumerFactory;
+        this.topics = List.of(userRegistered, userRegisteredV2, emailChanged);
+        this.maxPollRecords = maxPollRecords;
+    }
+
+    @Override
+    public ReplayCursor open(StartPosition from) {
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxPollRecords));
+        overrides.put(ConsumerConfig.FETCH_MAX_BYTES_CONFIG, String.valueOf(64 * 1024 * 1024));
+        overrides.put(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG, String.valueOf(8 * 1024 * 1024));
+
+        // 실행마다 새 group id (assign 이라 rebalance 없음, commit 도 안 하므로 남는 offset 없음)
+        Consumer<String, SpecificRecord> consumer = consumerFactory.createConsumer(
+                "user-profile-rebuild-" + UUID.randomUUID(), "user-profile-rebuild", null, overrides);
+        try {
+            List<TopicPartition> partitions = new ArrayList<>();
+            for (String topic : topics) {
+                List<PartitionInfo> infos = consumer.partitionsFor(topic, METADATA_TIMEOUT);
+                if (infos == null) continue; // topic 없음 (예: v2 미사용 환경)
+                for (PartitionInfo p : infos) partitions.add(new TopicPartition(p.topic(), p.partition()));
+            }
+            consumer.assign(partitions);
+            seek(consumer, partitions, from);
+
+            log.info("[PROJECTION-REBUILD] replay consumer assigned partitions={} from={}", partitions, from);
+            return new Cursor(consumer, partitions);
+        } catch (RuntimeException e) {
+            consumer.close();
+            throw e;
+        }
+    }
+
+    private static void seek(Consumer<?, ?> consumer, List<TopicPartition> partitions, StartPosition from) {
+        if (from.fromTimestamp() != null) {
+            Map<TopicPartition, Long> query = new HashMap<>();
+            for (TopicPartition tp : partitions) query.put(tp, from.fromTimestamp().toEpochMilli());
+
+            Map<TopicPartition, OffsetAndTimestamp> found = consumer.offsetsForTimes(query, METADATA_TIMEOUT);
+            List<TopicPartition> noneAfter = new ArrayList<>();
+            for (TopicPartition tp : partitions) {
+                OffsetAndTimestamp o = found.get(tp);
+                if (o != null) consumer.seek(tp, o.offset());
+                else noneAfter.add(tp);
+            }
+            consumer.seekToEnd(noneAfter);
+            return;
+        }
+
+        List<TopicPartition> fromBeginning = new ArrayList<>();
+        for (TopicPartition tp : partitions) {
+            Long offset = (from.fromOffsets() == null) ? null : from.fromOffsets().get(tp.toString());
+            if (offset != null) consumer.seek(tp, offset);
+            else fromBeginning.add(tp);
+        }
+        consumer.seekToBeginning(fromBeginning);
+    }
+
+    private static final class Cursor implements ReplayCursor {
+
+        private final Consumer<String, SpecificRecord> consumer;
+        private final List<TopicPartition> partitions;
+
+        private Cursor(Consumer<String, SpecificRecord> consumer, List<TopicPartition> partitions) {
+            this.consumer = consumer;
+            this.partitions = partitions;
+        }
+
+        @Override
+        public List<ProfileEvent> poll() {
+            ConsumerRecords<String, SpecificRecord> records = consumer.poll(POLL_TIMEOUT);
+            List<ProfileEvent> events = new ArrayList<>(records.count());
+            for (ConsumerRecord<String, SpecificRecord> r : records) {
+                if (r.value() == null) continue;
+                events.add(new ProfileEvent(r.topic(), r.partition(), r.offset(), r.value()));
+            }
+            return events;
+        }
+
+        @Override
+        public long remaining() {
+            // fetch 응답에 실려 온 lag 를 먼저 쓰고, 아직 없는 partition 만 end offset 조회
+            long remaining = 0;
+            List<TopicPartition> unknown = new ArrayList<>();
+            for (TopicPartition tp : partitions) {
+                OptionalLong lag = consumer.currentLag(tp);
+                if (lag.isPresent()) remaining += lag.getAsLong();
+                else unknown.add(tp);
+            }
+            if (!unknown.isEmpty()) {
+                Map<TopicPartition, Long> ends = consumer.endOffsets(unknown, METADATA_TIMEOUT);
+                for (TopicPartition tp : unknown) {
+                    remaining += Math.max(0, ends.getOrDefault(tp, 0L) - consumer.position(tp, METADATA_TIMEOUT));
+                }
+            }
+            return remaining;
+        }
+
+        @Override
+        public void close() {
+            consumer.close();
+        }
+    }
+}
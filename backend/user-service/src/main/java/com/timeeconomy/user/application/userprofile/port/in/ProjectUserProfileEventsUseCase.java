@@ -0,0 +1,32 @@
+package com.timeeconomy.user.application.userprofile.port.in;
+
+import org.apache.avro.specific.SpecificRecord;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * auth 이벤트 (AuthUserRegistered v1/v2, EmailChangeCommitted v1) 를 poll 단위로 user_profile 에 반영.
+ */
+public interface ProjectUserProfileEventsUseCase {
+
+    record ProfileEvent(
+            String topic,
+            int partition,
+            long offset,
+            SpecificRecord value
+    ) {}
+
+    /**
+     * @param touchedUserIds 실제로 row 가 바뀐 userId (캐시 evict 대상)
+     */
+    record Result(int received, int duplicates, int upserted, Set<Long> touchedUserIds) {}
+
+    /**
+     * 한 트랜잭션으로 processed_events 기록 + upsert (unique 충돌이면 이벤트 하나씩 다시).
+     *
+     * @throws com.timeeconomy.user.domain.exception.ProfileEventProjectionException
+     *         이벤트 하나를 반영 못 함 → 그 앞 이벤트는 커밋됨, getEventIndex() 부터는 미반영
+     */
+    Result project(List<ProfileEvent> events);
+}
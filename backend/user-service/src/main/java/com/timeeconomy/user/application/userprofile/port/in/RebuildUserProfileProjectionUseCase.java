@@ -0,0 +1,55 @@
+package com.timeeconomy.user.application.userprofile.port.in;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * user_profile projection 을 Kafka 에서 다시 만들어 통째로 교체 (잘못된 projection 배포 복구용).
+ *
+ * shadow 테이블로 replay → end offset 따라잡으면 한 트랜잭션으로 swap → swap 사이에 들어온 이벤트를 live 에 한 번 더.
+ * 인스턴스 하나에서만 실행할 것 (shadow 테이블은 하나).
+ */
+public interface RebuildUserProfileProjectionUseCase {
+
+    enum Phase { IDLE, REPLAYING, SWAPPING, CATCHING_UP, COMPLETED, FAILED, CANCELLED }
+
+    /**
+     * @param fromTimestamp / fromOffsets 둘 다 null = earliest (ProfileEventReplayPort.StartPosition)
+     * @param swap false 면 shadow 만 채우고 멈춤 (검증용)
+     */
+    record Command(Instant fromTimestamp, Map<String, Long> fromOffsets, boolean swap) {}
+
+    /**
+     * @param remaining       현재 end offset 까지 남은 레코드 수
+     * @param eventsPerSecond 최근 처리율 (progress 주기마다 EWMA)
+     * @param eta             remaining / eventsPerSecond (처리율 모르면 null)
+     * @param unresolved      v1 가입 이벤트 중 auth 콜백 실패로 못 만든 건 (swap 때 live 에서 carry-over)
+     */
+    record Status(
+            Phase phase,
+            Instant startedAt,
+            Instant finishedAt,
+            long eventsApplied,
+            long rowsUpserted,
+            long unresolved,
+            long remaining,
+            double eventsPerSecond,
+            Duration eta,
+            String error
+    ) {
+        public static Status idle() {
+            return new Status(Phase.IDLE, null, null, 0, 0, 0, 0, 0, null, null);
+        }
+    }
+
+    /**
+     * 백그라운드로 시작하고 바로 반환. 이미 실행 중이면 ProjectionRebuildInProgressException.
+     */
+    Status start(Command command);
+
+    Status status();
+
+    // 다음 poll 경계에서 멈춤 (swap 전이면 shadow 삭제)
+    Status cancel();
+}
@@ -0,0 +1,41 @@
+package com.timeeconomy.user.application.userprofile.port.out;
+
+import com.timeeconomy.user.application.userprofile.port.in.ProjectUserProfileEventsUseCase.ProfileEvent;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * projection 입력 topic 을 처음부터 (또는 지정 위치부터) 다시 읽는 cursor.
+ * live listener 의 consumer group 과 무관 (offset commit 안 함).
+ */
+public interface ProfileEventReplayPort {
+
+    /**
+     * 시작 위치. 둘 다 null = 각 partition 의 earliest.
+     *
+     * @param fromTimestamp 이 시각 이후 첫 레코드부터 (없으면 그 partition 은 끝에서 시작)
+     * @param fromOffsets   "topic-partition" → offset (지정 안 된 partition 은 earliest)
+     */
+    record StartPosition(Instant fromTimestamp, Map<String, Long> fromOffsets) {
+
+        public static StartPosition earliest() {
+            return new StartPosition(null, null);
+        }
+    }
+
+    ReplayCursor open(StartPosition from);
+
+    interface ReplayCursor extends AutoCloseable {
+
+        // tombstone 은 빠져 있음
+        List<ProfileEvent> poll();
+
+        // 지금 end offset 까지 남은 레코드 수 (0 = 따라잡음)
+        long remaining();
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,85 @@
+package com.timeeconomy.user.application.userprofile.service;
+
+import com.timeeconomy.contracts.auth.v1.AuthUserRegisteredV1;
+import com.timeeconomy.contracts.auth.v1.EmailChangeCommittedV1;
+import com.timeeconomy.contracts.auth.v2.AuthUserRegisteredV2;
+import com.timeeconomy.user.adapter.out.authclient.dto.CompletedSignupSessionResponse;
+import com.timeeconomy.user.application.userprofile.port.out.SignupSessionInternalClientPort;
+import com.timeeconomy.user.domain.userprofile.model.UserProfileProjection;
+import lombok.RequiredArgsConstructor;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * auth 이벤트 한 건 → UserProfileProjection.
+ * live projection (ProjectUserProfileEventsService) 과 rebuild (RebuildUserProfileProjectionService) 가 같이 씀.
+ */
+@Component
+@RequiredArgsConstructor
+class ProfileEventProjector {
+
+    private final SignupSessionInternalClientPort signupSessionClient;
+
+    // v1 가입 이벤트만 auth internal HTTP 콜백이 필요함
+    static boolean needsCallback(SpecificRecord value) {
+        return value instanceof AuthUserRegisteredV1;
+    }
+
+    UserProfileProjection toProjection(SpecificRecord value) {
+        return switch (value) {
+            case AuthUserRegisteredV2 e -> UserProfileProjection.registered(
+                    Long.parseLong(e.getUserId()),
+                    e.getEmail(),
+                    e.getName(),
+                    e.getPhoneNumber(),
+                    e.getBirthDate() == null ? null : LocalDate.parse(e.getBirthDate()),
+                    e.getGender(),
+                    Instant.ofEpochMilli(e.getOccurredAtEpochMillis())
+            );
+            case AuthUserRegisteredV1 e -> fromSignupSession(e);
+            case EmailChangeCommittedV1 e -> UserProfileProjection.emailChanged(
+                    Long.parseLong(e.getUserId()),
+                    e.getNewEmail(),
+                    Instant.ofEpochMilli(e.getOccurredAtEpochMillis())
+            );
+            default -> throw new IllegalArgumentException(
+                    "Unsupported event payload: " + value.getClass().getName());
+        };
+    }
+
+    // v1: 이벤트에 signupSessionId 만 있음 → auth internal API 로 프로필 조회
+    private UserProfileProjection fromSignupSession(AuthUserRegisteredV1 e) {
+        UUID signupSessionId = UUID.fromString(e.getSignupSessionId());
+
+        CompletedSignupSessionResponse s = signupSessionClient.getCompletedSession(signupSessionId);
+
+        if (!"COMPLETED".equals(s.state())) {
+            // defensive; ideally auth-service endpoint guarantees COMPLETED only
+            throw new IllegalStateException("Signup session is not COMPLETED. sessionId=" + signupSessionId + " state=" + s.state());
+        }
+
+        return UserProfileProjection.registered(
+                Long.parseLong(e.getUserId()),
+                s.email(),
+                s.name(),
+                s.phoneNumber(),
+                s.birthDate(),
+                s.gender(),
+                Instant.ofEpochMilli(e.getOccurredAtEpochMillis())
+        );
+    }
+
+    static UUID eventIdOf(SpecificRecord value) {
+        return UUID.fromString(switch (value) {
+            case AuthUserRegisteredV1 e -> e.getEventId();
+            case AuthUserRegisteredV2 e -> e.getEventId();
+            case EmailChangeCommittedV1 e -> e.getEventId();
+            default -> throw new IllegalArgumentException(
+                    "Unsupported event payload: " + value.getClass().getName());
+        });
+    }
+}
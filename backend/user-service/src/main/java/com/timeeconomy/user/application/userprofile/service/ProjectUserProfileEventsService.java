@@ -0,0 +1,153 @@
+package com.timeeconomy.user.application.userprofile.service;
+
+import com.timeeconomy.user.application.userprofile.port.in.ProjectUserProfileEventsUseCase;
+import com.timeeconomy.user.domain.exception.ProfileEventProjectionException;
+import com.timeeconomy.user.domain.inbox.model.ProcessedEvent;
+import com.timeeconomy.user.domain.inbox.port.out.ProcessedEventRepositoryPort;
+import com.timeeconomy.user.domain.userprofile.model.UserProfileProjection;
+import com.timeeconomy.user.domain.userprofile.port.out.UserProfileRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class ProjectUserProfileEventsService implements ProjectUserProfileEventsUseCase {
+
+    private final UserProfileRepositoryPort userProfileRepositoryPort;
+    private final ProcessedEventRepositoryPort processedEventRepositoryPort;
+    private final ProfileEventProjector projector;
+    private final TransactionTemplate tx;
+    private final String consumerGroup;
+
+    public ProjectUserProfileEventsService(
+            UserProfileRepositoryPort userProfileRepositoryPort,
+            ProcessedEventRepositoryPort processedEventRepositoryPort,
+            ProfileEventProjector projector,
+            TransactionTemplate transactionTemplate,
+            @Value("${spring.kafka.consumer.group-id}") String consumerGroup
+    ) {
+        this.userProfileRepositoryPort = userProfileRepositoryPort;
+        this.processedEventRepositoryPort = processedEventRepositoryPort;
+        this.projector = projector;
+        this.tx = transactionTemplate;
+        this.consumerGroup = consumerGroup;
+    }
+
+    private record Parsed(int index, UUID eventId, ProcessedEvent processed, UserProfileProjection projection) {}
+
+    private record Written(int fresh, List<Long> touched) {}
+
+    @Override
+    public Result project(List<ProfileEvent> events) {
+        if (events.isEmpty()) return new Result(0, 0, 0, Set.of());
+
+        Instant now = Instant.now();
+
+        // 이벤트 하나가 실패하면 (eventId 깨짐, v1 session 만료/미완료 등) 그 앞까지만 반영하고 그 index 로 예외
+        int failedIndex = -1;
+        RuntimeException failure = null;
+
+        // 1) 이미 처리된 이벤트는 미리 제외 (v1 가입 이벤트의 auth 콜백도 안 탐 → replay 시 만료된 session 조회 없음)
+        List<UUID> ids = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            try {
+                ids.add(ProfileEventProjector.eventIdOf(events.get(i).value()));
+            } catch (IllegalArgumentException ex) {
+                failedIndex = i;
+                failure = ex;
+                break;
+            }
+        }
+        Set<UUID> alreadyProcessed = ids.isEmpty()
+                ? Set.of()
+                : processedEventRepositoryPort.findProcessedEventIds(consumerGroup, ids);
+
+        // 2) 트랜잭션 밖에서 projection 생성 (v1 만 internal HTTP 콜백)
+        List<Parsed> parsed = new ArrayList<>(ids.size());
+        Set<UUID> seen = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            UUID eventId = ids.get(i);
+            if (alreadyProcessed.contains(eventId) || !seen.add(eventId)) continue;
+
+            ProfileEvent e = events.get(i);
+            UserProfileProjection projection;
+            try {
+                projection = projector.toProjection(e.value());
+            } catch (RuntimeException ex) {
+                failedIndex = i;
+                failure = ex;
+                break;
+            }
+            ProcessedEvent processed = new ProcessedEvent(
+                    consumerGroup, eventId, e.value().getClass().getSimpleName(),
+                    e.topic(), e.partition(), e.offset(), now);
+            parsed.add(new Parsed(i, eventId, processed, projection));
+        }
+
+        int considered = failedIndex >= 0 ? failedIndex : events.size();
+        Written written = parsed.isEmpty() ? new Written(0, List.of()) : write(parsed);
+
+        int duplicates = considered - written.fresh();
+        log.info("[PROJECTION] received={} considered={} duplicates={} upserted={}",
+                events.size(), considered, duplicates, written.touched().size());
+
+        if (failure != null) {
+            ProfileEvent e = events.get(failedIndex);
+            throw new ProfileEventProjectionException(failedIndex,
+                    "projection failed topic=" + e.topic() + " p=" + e.partition() + " o=" + e.offset(), failure);
+        }
+        return new Result(events.size(), duplicates, written.touched().size(), Set.copyOf(written.touched()));
+    }
+
+    private Written write(List<Parsed> parsed) {
+        try {
+            return tx.execute(status -> writeInTx(parsed));
+        } catch (DataIntegrityViolationException ex) {
+            // 한 statement 라 어느 줄(uq_user_profile_email 충돌 등)인지 모름 → 이벤트 순서대로 하나씩 다시
+            log.warn("[PROJECTION] batch upsert rejected, retrying one event at a time: {}", ex.getMostSpecificCause().getMessage());
+        }
+
+        int fresh = 0;
+        List<Long> touched = new ArrayList<>();
+        for (Parsed p : parsed) {
+            Written one;
+            try {
+                one = tx.execute(status -> writeInTx(List.of(p)));
+            } catch (DataIntegrityViolationException ex) {
+                // 앞 이벤트들은 각자 커밋됨 → 이 이벤트부터 재전달 (error handler 가 재시도 후 이 이벤트만 건너뜀)
+                throw new ProfileEventProjectionException(p.index(),
+                        "projection rejected eventId=" + p.eventId() + " userId=" + p.projection().userId(), ex);
+            }
+            fresh += one.fresh();
+            touched.addAll(one.touched());
+        }
+        return new Written(fresh, touched);
+    }
+
+    // processed 기록 + upsert 를 한 트랜잭션으로 (그 사이 다른 consumer 가 먼저 기록한 건 여기서 빠짐)
+    private Written writeInTx(List<Parsed> parsed) {
+        Set<UUID> fresh = processedEventRepositoryPort.markProcessedAll(
+                parsed.stream().map(Parsed::processed).toList());
+
+        // poll 안에서 userId 별로 합침 → 한 statement 에 userId 당 한 줄
+        Map<Long, UserProfileProjection> byUser = new LinkedHashMap<>();
+        for (Parsed p : parsed) {
+            if (!fresh.contains(p.eventId())) continue;
+            byUser.merge(p.projection().userId(), p.projection(), UserProfileProjection::merge);
+        }
+
+        return new Written(fresh.size(), userProfileRepositoryPort.upsertProjections(byUser.values()));
+    }
+}
@@ -0,0 +1,280 @@
+package com.timeeconomy.user.application.userprofile.service;
+
+import com.timeeconomy.user.application.userprofile.port.in.ProjectUserProfileEventsUseCase.ProfileEvent;
+import com.timeeconomy.user.application.userprofile.port.in.RebuildUserProfileProjectionUseCase;
+import com.timeeconomy.user.application.userprofile.port.out.ProfileEventReplayPort;
+import com.timeeconomy.user.application.userprofile.port.out.ProfileEventReplayPort.ReplayCursor;
+import com.timeeconomy.user.application.userprofile.port.out.ProfileEventReplayPort.StartPosition;
+import com.timeeconomy.user.domain.exception.ProjectionRebuildInProgressException;
+import com.timeeconomy.user.domain.userprofile.model.UserProfileProjection;
+import com.timeeconomy.user.domain.userprofile.port.out.UserProfileCachePort;
+import com.timeeconomy.user.domain.userprofile.port.out.UserProfileRebuildPort;
+import com.timeeconomy.user.domain.userprofile.port.out.UserProfileRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToIntFunction;
+
+/**
+ * projection 재구축 (RebuildUserProfileProjectionUseCase).
+ *
+ * 1) REPLAYING   : 빈 shadow 에 poll 단위 multi-row upsert (processed_events 안 봄 → event-time guard 만으로 수렴)
+ * 2) SWAPPING    : LOGGED / unique / carry-over 는 lock 없이, 그 뒤 lock → 변경분 carry-over → rename
+ * 3) CATCHING_UP : 마지막 drain 이후 live listener 가 옛 테이블에 반영한 이벤트를 새 live 에 다시 upsert
+ *
+ * v1 가입 이벤트는 auth 콜백이 필요해서 poll 마다 가상 스레드로 병렬 (callback-concurrency 로 상한).
+ * 진행률은 progress-interval 마다 로그 + status().
+ */
+@Slf4j
+@Service
+public class RebuildUserProfileProjectionService implements RebuildUserProfileProjectionUseCase {
+
+    private final UserProfileRebuildPort rebuildPort;
+    private final UserProfileRepositoryPort userProfileRepositoryPort;
+    private final ProfileEventReplayPort replayPort;
+    private final ProfileEventProjector projector;
+    private final List<UserProfileCachePort> caches;
+    private final long progressIntervalNanos;
+    private final int callbackConcurrency;
+
+    private final AtomicReference<Run> current = new AtomicReference<>();
+
+    public RebuildUserProfileProjectionService(
+            UserProfileRebuildPort rebuildPort,
+            UserProfileRepositoryPort userProfileRepositoryPort,
+            ProfileEventReplayPort replayPort,
+            ProfileEventProjector projector,
+            List<UserProfileCachePort> caches,
+            @Value("${user-profile.rebuild.progress-interval:5s}") Duration progressInterval,
+            @Value("${user-profile.rebuild.callback-concurrency:16}") int callbackConcurrency
+    ) {
+        this.rebuildPort = rebuildPort;
+        this.userProfileRepositoryPort = userProfileRepositoryPort;
+        this.replayPort = replayPort;
+        this.projector = projector;
+        this.caches = caches;
+        this.progressIntervalNanos = progressInterval.toNanos();
+        this.callbackConcurrency = callbackConcurrency;
+    }
+
+    @Override
+    public Status start(Command command) {
+        Run run = new Run();
+        Run prev = current.get();
+        if ((prev != null && prev.active()) || !current.compareAndSet(prev, run)) {
+            throw new ProjectionRebuildInProgressException("Projection rebuild already running phase=" + current.get().phase);
+        }
+
+        Thread.ofVirtual().name("user-profile-rebuild").start(() -> execute(run, command));
+        return run.snapshot();
+    }
+
+    @Override
+    public Status status() {
+        Run run = current.get();
+        return run == null ? Status.idle() : run.snapshot();
+    }
+
+    @Override
+    public Status cancel() {
+        Run run = current.get();
+        if (run == null) return Status.idle();
+        run.cancelRequested = true;
+        return run.snapshot();
+    }
+
+    private void execute(Run run, Command command) {
+        boolean swapped = false;
+        log.info("[PROJECTION-REBUILD] start fromTimestamp={} fromOffsets={} swap={}",
+                command.fromTimestamp(), command.fromOffsets(), command.swap());
+        try {
+            rebuildPort.prepareShadow();
+
+            try (ReplayCursor cursor = replayPort.open(new StartPosition(command.fromTimestamp(), command.fromOffsets()))) {
+                run.phase = Phase.REPLAYING;
+                drain(run, cursor, rebuildPort::upsertShadow);
+
+                if (!command.swap()) {
+                    run.finish(Phase.COMPLETED, null);
+                    log.info("[PROJECTION-REBUILD] shadow ready (no swap) rows={} {}", rebuildPort.shadowRowCount(), run.snapshot());
+                    return;
+                }
+
+                run.phase = Phase.SWAPPING;
+                Instant carriedOverSince = rebuildPort.prepareSwap();
+                drain(run, cursor, rebuildPort::upsertShadow); // prepareSwap 동안 쌓인 것
+                rebuildPort.swapIn(carriedOverSince);
+                swapped = true;
+                caches.forEach(UserProfileCachePort::clear);
+
+                run.phase = Phase.CATCHING_UP;
+                drain(run, cursor, projections -> userProfileRepositoryPort.upsertProjections(projections).size());
+            }
+
+            run.finish(Phase.COMPLETED, null);
+            log.info("[PROJECTION-REBUILD] completed {}", run.snapshot());
+
+        } catch (CancellationException e) {
+            run.finish(Phase.CANCELLED, null);
+            log.warn("[PROJECTION-REBUILD] cancelled swapped={} {}", swapped, run.snapshot());
+            if (!swapped) dropShadowQuietly();
+
+        } catch (RuntimeException e) {
+            run.finish(Phase.FAILED, e.toString());
+            log.error("[PROJECTION-REBUILD] failed swapped={} {}", swapped, run.snapshot(), e);
+            if (!swapped) dropShadowQuietly();
+        }
+    }
+
+    /**
+     * end offset 까지 (빈 poll + remaining 0) 읽으면서 poll 마다 sink 로 한 번에 upsert.
+     */
+    private void drain(Run run, ReplayCursor cursor, ToIntFunction<Collection<UserProfileProjection>> sink) {
+        while (true) {
+            if (run.cancelRequested) throw new CancellationException();
+
+            List<ProfileEvent> events = cursor.poll();
+            if (!events.isEmpty()) {
+                Collection<UserProfileProjection> projections = project(run, events);
+                run.rowsUpserted += sink.applyAsInt(projections);
+                run.eventsApplied += events.size();
+            }
+
+            long now = System.nanoTime();
+            boolean report = now - run.lastReportNanos >= progressIntervalNanos;
+            if (events.isEmpty() || report) {
+                run.remaining = cursor.remaining();
+                if (report) {
+                    run.sampleRate(now);
+                    log.info("[PROJECTION-REBUILD] {}", run.snapshot());
+                }
+                if (events.isEmpty() && run.remaining == 0) return;
+            }
+        }
+    }
+
+    // poll 안에서 userId 별로 합침 → statement 하나에 userId 당 한 줄
+    private Collection<UserProfileProjection> project(Run run, List<ProfileEvent> events) {
+        Map<Long, UserProfileProjection> byUser = new LinkedHashMap<>();
+        List<ProfileEvent> callbacks = new ArrayList<>();
+
+        for (ProfileEvent e : events) {
+            if (ProfileEventProjector.needsCallback(e.value())) {
+                callbacks.add(e);
+                continue;
+            }
+            UserProfileProjection p = projector.toProjection(e.value());
+            byUser.merge(p.userId(), p, UserProfileProjection::merge);
+        }
+
+        for (UserProfileProjection p : resolveCallbacks(run, callbacks)) {
+            byUser.merge(p.userId(), p, UserProfileProjection::merge);
+        }
+        return byUser.values();
+    }
+
+    // 실패한 건 unresolved 로 세고 건너뜀 (오래된 signup session 은 이미 없을 수 있음 → swap 때 carry-over)
+    private List<UserProfileProjection> resolveCallbacks(Run run, List<ProfileEvent> events) {
+        if (events.isEmpty()) return List.of();
+
+        Semaphore permits = new Semaphore(callbackConcurrency);
+        List<Future<UserProfileProjection>> futures = new ArrayList<>(events.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (ProfileEvent e : events) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return projector.toProjection(e.value());
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        } // close() = 전부 끝날 때까지 대기
+
+        List<UserProfileProjection> resolved = new ArrayList<>(events.size());
+        for (int i = 0; i < futures.size(); i++) {
+            Future<UserProfileProjection> f = futures.get(i);
+            if (f.state() == Future.State.SUCCESS) {
+                resolved.add(f.resultNow());
+            } else {
+                run.unresolved++;
+                ProfileEvent e = events.get(i);
+                log.debug("[PROJECTION-REBUILD] unresolved v1 registration topic={} partition={} offset={}: {}",
+                        e.topic(), e.partition(), e.offset(),
+                        f.state() == Future.State.FAILED ? f.exceptionNow().toString() : f.state());
+            }
+        }
+        return resolved;
+    }
+
+    private void dropShadowQuietly() {
+        try {
+            rebuildPort.dropShadow();
+        } catch (RuntimeException e) {
+            log.warn("[PROJECTION-REBUILD] drop shadow failed: {}", e.toString());
+        }
+    }
+
+    /**
+     * 실행 한 번의 진행 상태. 쓰는 쪽은 rebuild 스레드 하나, 읽는 쪽은 status() (volatile 로 충분).
+     */
+    private static final class Run {
+
+        private static final double RATE_SMOOTHING = 0.3;
+
+        private final Instant startedAt = Instant.now();
+        private volatile Instant finishedAt;
+        private volatile Phase phase = Phase.REPLAYING;
+        private volatile boolean cancelRequested;
+        private volatile String error;
+
+        private volatile long eventsApplied;
+        private volatile long rowsUpserted;
+        private volatile long unresolved;
+        private volatile long remaining;
+        private volatile double eventsPerSecond;
+
+        private volatile long lastReportNanos = System.nanoTime();
+        private long lastReportEvents;
+
+        boolean active() {
+            return finishedAt == null;
+        }
+
+        void sampleRate(long now) {
+            double seconds = (now - lastReportNanos) / 1e9;
+            double sample = (eventsApplied - lastReportEvents) / seconds;
+            eventsPerSecond = (eventsPerSecond == 0) ? sample : RATE_SMOOTHING * sample + (1 - RATE_SMOOTHING) * eventsPerSecond;
+            lastReportNanos = now;
+            lastReportEvents = eventsApplied;
+        }
+
+        void finish(Phase phase, String error) {
+            this.error = error;
+            this.phase = phase;
+            this.finishedAt = Instant.now();
+        }
+
+        Status snapshot() {
+            long left = remaining;
+            double rate = eventsPerSecond;
+            Duration eta = (rate > 0) ? Duration.ofSeconds((long) Math.ceil(left / rate)) : null;
+            return new Status(phase, startedAt, finishedAt, eventsApplied, rowsUpserted, unresolved, left, rate, eta, error);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.timeeconomy.user.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.time.Duration;
+
+@Configuration
+@Slf4j
+public class KafkaConsumerConfig {
+
+    /**
+     * listener container 공통 error handler (Boot 가 기본 container factory 에 붙임).
+     *
+     * BatchListenerFailedException(index) → 그 앞 offset 커밋, index 부터 다시 poll.
+     * interval 간격으로 attempts 번 더 해보고 (auth internal 일시 장애 등) 그래도 실패하면 그 레코드만 로그 남기고 건너뜀.
+     * 나머지 예외는 배치 전체를 같은 방식으로 재시도.
+     */
+    @Bean
+    public DefaultErrorHandler kafkaErrorHandler(
+            @Value("${user-profile.projection.retry-interval:2s}") Duration retryInterval,
+            @Value("${user-profile.projection.retry-attempts:5}") long retryAttempts
+    ) {
+        return new DefaultErrorHandler(
+                (record, ex) -> log.error("[PROJECTION] giving up on record topic={} p={} o={} key={}",
+                        record.topic(), record.partition(), record.offset(), record.key(), ex),
+                new FixedBackOff(retryInterval.toMillis(), retryAttempts));
+    }
+}
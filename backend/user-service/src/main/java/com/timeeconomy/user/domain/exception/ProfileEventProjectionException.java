@@ -0,0 +1,19 @@
+package com.timeeconomy.user.domain.exception;
+
+/**
+ * projection 배치 중 한 이벤트를 반영하지 못함.
+ * eventIndex 앞의 이벤트는 이미 커밋됨, eventIndex 부터는 반영 안 됨.
+ */
+public class ProfileEventProjectionException extends RuntimeException {
+
+    private final int eventIndex;
+
+    public ProfileEventProjectionException(int eventIndex, String message, Throwable cause) {
+        super(message, cause);
+        this.eventIndex = eventIndex;
+    }
+
+    public int getEventIndex() {
+        return eventIndex;
+    }
+}
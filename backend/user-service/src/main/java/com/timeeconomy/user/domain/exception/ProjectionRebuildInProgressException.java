@@ -0,0 +1,7 @@
+package com.timeeconomy.user.domain.exception;
+
+public class ProjectionRebuildInProgressException extends RuntimeException {
+    public ProjectionRebuildInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,27 @@
+package com.timeeconomy.user.domain.inbox.model;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * consumer 별 처리 완료 이벤트 (outbox eventId 기준 idempotency).
+ */
+public record ProcessedEvent(
+        String consumerGroup,
+        UUID eventId,
+        String eventType,
+        String topic,
+        int kafkaPartition,
+        long kafkaOffset,
+        Instant processedAt
+) {
+
+    public ProcessedEvent {
+        Objects.requireNonNull(consumerGroup, "consumerGroup");
+        Objects.requireNonNull(eventId, "eventId");
+        Objects.requireNonNull(eventType, "eventType");
+        Objects.requireNonNull(topic, "topic");
+        processedAt = (processedAt != null) ? processedAt : Instant.now();
+    }
+}
@@ -0,0 +1,23 @@
+package com.timeeconomy.user.domain.inbox.port.out;
+
+import com.timeeconomy.user.domain.inbox.model.ProcessedEvent;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ProcessedEventRepositoryPort {
+
+    /**
+     * 배치 idempotency gate: 한 번의 INSERT 로 전부 기록 시도.
+     * @return 이번에 새로 삽입된 eventId 들 (나머지는 이미 처리됨)
+     */
+    Set<UUID> markProcessedAll(List<ProcessedEvent> processedEvents);
+
+    /**
+     * 배치 단위 사전 필터: 주어진 eventId 중 이미 처리된 것만 한 번의 쿼리로 반환.
+     * (최종 판정은 markProcessedAll 의 unique 제약)
+     */
+    Set<UUID> findProcessedEventIds(String consumerGroup, Collection<UUID> eventIds);
+}
@@ -0,0 +1,79 @@
+package com.timeeconomy.user.domain.userprofile.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Kafka 이벤트 → user_profile upsert 한 줄.
+ *
+ * 필드 그룹마다 "마지막으로 반영한 이벤트 시각"이 따로 있음:
+ * - registeredAt : name / phoneNumber / birthDate / gender (AuthUserRegistered)
+ * - emailEventAt : email (AuthUserRegistered, EmailChangeCommitted)
+ * DB 쪽 값보다 새 이벤트일 때만 그 그룹을 덮어씀 → replay / 순서 뒤바뀜에도 결과 동일.
+ */
+public record UserProfileProjection(
+        Long userId,
+        String email,
+        Instant emailEventAt,
+        String name,
+        String phoneNumber,
+        LocalDate birthDate,
+        String gender,
+        Instant registeredAt // null = 이 줄에는 가입 정보 없음 (email 변경만)
+) {
+
+    public UserProfileProjection {
+        Objects.requireNonNull(userId, "userId must not be null");
+        Objects.requireNonNull(email, "email must not be null");
+        Objects.requireNonNull(emailEventAt, "emailEventAt must not be null");
+    }
+
+    public static UserProfileProjection registered(
+            Long userId,
+            String email,
+            String name,
+            String phoneNumber,
+            LocalDate birthDate,
+            String gender,
+            Instant occurredAt
+    ) {
+        return new UserProfileProjection(userId, email, occurredAt, name, phoneNumber, birthDate, gender, occurredAt);
+    }
+
+    public static UserProfileProjection emailChanged(Long userId, String newEmail, Instant occurredAt) {
+        return new UserProfileProjection(userId, newEmail, occurredAt, null, null, null, null, null);
+    }
+
+    /**
+     * 같은 userId 의 두 줄을 하나로 (poll 안에서 coalesce). 그룹별로 더 새 이벤트 쪽을 택함.
+     */
+    public UserProfileProjection merge(UserProfileProjection other) {
+        if (!userId.equals(other.userId)) {
+            throw new IllegalArgumentException("Cannot merge projections of different users " + userId + " / " + other.userId);
+        }
+
+        boolean otherEmailNewer = other.emailEventAt.isAfter(emailEventAt);
+        boolean otherRegistrationNewer = other.registeredAt != null
+                && (registeredAt == null || other.registeredAt.isAfter(registeredAt));
+
+        UserProfileProjection reg = otherRegistrationNewer ? other : this;
+        UserProfileProjection mail = otherEmailNewer ? other : this;
+
+        return new UserProfileProjection(
+                userId,
+                mail.email,
+                mail.emailEventAt,
+                reg.name,
+                reg.phoneNumber,
+                reg.birthDate,
+                reg.gender,
+                reg.registeredAt
+        );
+    }
+
+    // 신규 row 의 created_at
+    public Instant createdAt() {
+        return registeredAt != null ? registeredAt : emailEventAt;
+    }
+}
@@ -0,0 +1,15 @@
+package com.timeeconomy.user.domain.userprofile.port.in;
+
+import com.timeeconomy.user.domain.userprofile.model.UserProfile;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface GetUserProfilesByIdsUseCase {
+
+    /**
+     * 요청 순서대로 (중복 id 는 한 번), 없는 id 는 결과에서 빠짐.
+     * @throws com.timeeconomy.user.domain.exception.InvalidUserProfileException id 개수가 상한 초과
+     */
+    List<UserProfile> getByIds(Collection<Long> userIds);
+}
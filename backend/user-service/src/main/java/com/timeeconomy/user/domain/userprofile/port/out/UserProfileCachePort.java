@@ -0,0 +1,33 @@
+package com.timeeconomy.user.domain.userprofile.port.out;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import com.timeeconomy.user.domain.userprofile.model.UserProfile;
+
+/**
+ * 프로필 조회 캐시 (userId = X-User-Id 기준).
+ * 원본은 항상 UserProfileRepositoryPort 이고, 캐시는 TTL 내에서만 유효한 복사본이다.
+ *
+ * evict 는 짧은 tombstone 을 남기고, tombstone 이 살아 있는 동안 그 id 의 put / putAll 은 무시된다.
+ * (커밋 전 row 를 읽은 조회가 afterCommit evict 뒤에 옛 값을 다시 채우는 경우 방지)
+ */
+public interface UserProfileCachePort {
+
+    Optional<UserProfile> get(Long userId);
+
+    // hit 만 담아서 반환 (miss 는 key 없음)
+    Map<Long, UserProfile> getAll(Collection<Long> userIds);
+
+    // tombstone 이 있는 id 는 건너뜀
+    void put(UserProfile profile);
+
+    void putAll(Collection<UserProfile> profiles);
+
+    // 값 삭제 + tombstone
+    void evict(Long userId);
+
+    // 전체 비움 (projection rebuild 로 테이블이 통째로 바뀐 뒤)
+    void clear();
+}
@@ -0,0 +1,42 @@
+package com.timeeconomy.user.domain.userprofile.port.out;
+
+import java.time.Instant;
+import java.util.Collection;
+
+import com.timeeconomy.user.domain.userprofile.model.UserProfileProjection;
+
+/**
+ * user_profile projection 재구축용 shadow 테이블 (user_profile_rebuild).
+ *
+ * prepareShadow → upsertShadow (반복) → prepareSwap → swapIn 순서로 호출.
+ */
+public interface UserProfileRebuildPort {
+
+    /**
+     * 이전 shadow / 교체된 옛 테이블을 지우고 빈 shadow 를 만듦 (UNLOGGED, PK 만).
+     */
+    void prepareShadow();
+
+    /**
+     * live 와 같은 event-time guard upsert 를 shadow 에 (userId 당 한 줄).
+     * @return insert / update 된 row 수
+     */
+    int upsertShadow(Collection<UserProfileProjection> projections);
+
+    /**
+     * swap 전 무거운 작업을 lock 없이: LOGGED 전환, email unique 생성,
+     * 이벤트로 만들 수 없었던 row / 컬럼을 live 에서 복사 (carry-over).
+     * @return carry-over 를 시작한 DB 시각 (swapIn 에서 이후 변경분만 다시 복사)
+     */
+    Instant prepareSwap();
+
+    /**
+     * 한 트랜잭션: live lock → since 이후 바뀐 row carry-over → rename 으로 교체.
+     * 옛 테이블은 user_profile_replaced 로 남김 (다음 prepareShadow 때 삭제).
+     */
+    void swapIn(Instant carriedOverSince);
+
+    void dropShadow();
+
+    long shadowRowCount();
+}
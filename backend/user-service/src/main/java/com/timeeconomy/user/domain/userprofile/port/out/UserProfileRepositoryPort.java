@@ -1,16 +1,29 @@
 package com.timeeconomy.user.domain.userprofile.port.out;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import com.timeeconomy.user.domain.userprofile.model.UserProfile;
+import com.timeeconomy.user.domain.userprofile.model.UserProfileProjection;
 
 public interface UserProfileRepositoryPort {
 
     Optional<UserProfile> findById(Long id);
 
+    // WHERE id = ANY(:ids) 한 번 (없는 id 는 결과에 없음, 순서 보장 안 함)
+    List<UserProfile> findAllByIds(Collection<Long> ids);
+
     Optional<UserProfile> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
     UserProfile save(UserProfile userProfile);
+
+    /**
+     * 이벤트 projection 을 한 번의 multi-row INSERT ... ON CONFLICT (id) DO UPDATE 로 반영.
+     * userId 당 한 줄이어야 함 (같은 statement 안에서 같은 row 를 두 번 갱신 불가).
+     * @return 실제로 insert / update 된 userId (event-time guard 로 건너뛴 건 제외)
+     */
+    List<Long> upsertProjections(Collection<UserProfileProjection> projections);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.timeeconomy.user.domain.userprofile.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.timeeconomy.user.domain.exception.InvalidUserProfileException;
@@ -9,18 +10,31 @@ import com.timeeconomy.user.domain.userprofile.model.UserProfile;
 import com.timeeconomy.user.domain.userprofile.model.UserStatus;
 import com.timeeconomy.user.domain.userprofile.port.in.CreateUserProfileUseCase;
 import com.timeeconomy.user.domain.userprofile.port.in.GetUserProfileByIdUseCase;
+import com.timeeconomy.user.domain.userprofile.port.in.GetUserProfilesByIdsUseCase;
 import com.timeeconomy.user.domain.userprofile.port.out.UserProfileRepositoryPort;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class UserProfileService implements
         CreateUserProfileUseCase,
-        GetUserProfileByIdUseCase {
+        GetUserProfileByIdUseCase,
+        GetUserProfilesByIdsUseCase {
 
     private final UserProfileRepositoryPort userProfileRepositoryPort;
 
+    // bulk 조회 한 번에 받는 최대 id 수 (쿼리 1회 + 응답 크기 상한)
+    @Value("${user-profile.bulk.max-ids:500}")
+    private int bulkMaxIds;
+
     @Override
     public void createProfile(Command command) {
 
@@ -55,7 +69,34 @@ public class UserProfileService implements
 
     @Override
     public UserProfile getById(Long userId) {
+        // read-through 캐시는 repository port 뒤 (CachingUserProfileRepositoryAdapter)
         return userProfileRepositoryPort.findById(userId)
                 .orElseThrow(() -> new UserProfileNotFoundException(userId));
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<UserProfile> getByIds(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> ids = new LinkedHashSet<>(userIds);
+        ids.remove(null);
+        if (ids.size() > bulkMaxIds) {
+            throw new InvalidUserProfileException("Too many user ids: " + ids.size() + " (max " + bulkMaxIds + ")");
+        }
+
+        // 캐시 hit 먼저, miss 만 WHERE id = ANY(...) 한 번 (repository port 뒤 캐시가 처리)
+        Map<Long, UserProfile> found = new HashMap<>();
+        for (UserProfile p : userProfileRepositoryPort.findAllByIds(ids)) {
+            found.put(p.getId(), p);
+        }
+
+        List<UserProfile> result = new ArrayList<>(found.size());
+        for (Long id : ids) {
+            UserProfile p = found.get(id);
+            if (p != null) result.add(p);
+        }
+        return result;
+    }
+}
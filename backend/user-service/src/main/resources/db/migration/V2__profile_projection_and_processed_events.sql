@@ -0,0 +1,36 @@
+-- =========================================================
+-- 1) user_profile: event-time guard columns for the Kafka projection
+--    registered_at  : last AuthUserRegistered applied (name/phone/birth/gender)
+--    email_event_at : last event that set email (registration or email change)
+-- =========================================================
+ALTER TABLE user_profile
+    ADD COLUMN registered_at  TIMESTAMPTZ NULL,
+    ADD COLUMN email_event_at TIMESTAMPTZ NULL;
+
+-- existing rows: treat current values as already projected (older replays must not overwrite)
+UPDATE user_profile
+   SET registered_at  = created_at,
+       email_event_at = updated_at;
+
+
+-- =========================================================
+-- 2) processed_events: consumer idempotency (outbox eventId)
+-- =========================================================
+CREATE TABLE processed_events (
+    id              BIGSERIAL PRIMARY KEY,
+
+    consumer_group  VARCHAR(200) NOT NULL,
+    event_id        UUID NOT NULL,
+    event_type      VARCHAR(200) NOT NULL,
+
+    topic           VARCHAR(300) NOT NULL,
+    kafka_partition INT NOT NULL,
+    kafka_offset    BIGINT NOT NULL,
+
+    processed_at    TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT uq_processed_events UNIQUE (consumer_group, event_id)
+);
+
+CREATE INDEX idx_processed_events_group_processed_at
+    ON processed_events (consumer_group, processed_at DESC);